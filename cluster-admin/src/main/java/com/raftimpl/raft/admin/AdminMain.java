@@ -21,12 +21,26 @@ public class AdminMain {
         String servers = args[0];
         String cmd = args[1];
         String subCmd = args[2];
-        Validate.isTrue(cmd.equals("conf"));
-        Validate.isTrue(subCmd.equals("get")
-                || subCmd.equals("add")
-                || subCmd.equals("del"));
+        Validate.isTrue(cmd.equals("conf") || cmd.equals("leader"));
+        if (cmd.equals("conf")) {
+            Validate.isTrue(subCmd.equals("get")
+                    || subCmd.equals("add")
+                    || subCmd.equals("del"));
+        } else {
+            Validate.isTrue(subCmd.equals("transfer") && args.length > 3);
+        }
         RaftClientService client = new RaftClientServiceProxy(servers);
-        if (subCmd.equals("get")) {
+        if (cmd.equals("leader")) {
+            // args[3] is the id of the server to hand leadership over to
+            RaftProto.TransferLeadershipRequest request = RaftProto.TransferLeadershipRequest.newBuilder()
+                    .setServerId(Integer.parseInt(args[3])).build();
+            RaftProto.TransferLeadershipResponse response = client.transferLeadership(request);
+            if (response != null) {
+                System.out.println(response.getResCode());
+            } else {
+                System.out.printf("response == null");
+            }
+        } else if (subCmd.equals("get")) {
             RaftProto.GetConfigurationRequest request = RaftProto.GetConfigurationRequest.newBuilder().build();
             RaftProto.GetConfigurationResponse response = client.getConfig(request);
             if (response != null) {
@@ -67,9 +81,11 @@ public class AdminMain {
             RaftProto.Endpoint endPoint = RaftProto.Endpoint.newBuilder()
                     .setHost(splitArray2[0])
                     .setPort(Integer.parseInt(splitArray2[1])).build();
+            // "host:port:serverId:learner" adds a learner
             RaftProto.Server server = RaftProto.Server.newBuilder()
                     .setEndpoint(endPoint)
-                    .setServerId(Integer.parseInt(splitArray2[2])).build();
+                    .setServerId(Integer.parseInt(splitArray2[2]))
+                    .setIsLearner(splitArray2.length > 3 && "learner".equals(splitArray2[3])).build();
             serverList.add(server);
         }
         return serverList;
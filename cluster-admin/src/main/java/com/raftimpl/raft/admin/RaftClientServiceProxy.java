@@ -66,6 +66,16 @@ public class RaftClientServiceProxy implements RaftClientService {
         return response;
     }
 
+    @Override
+    public RaftProto.TransferLeadershipResponse transferLeadership(RaftProto.TransferLeadershipRequest request) {
+        RaftProto.TransferLeadershipResponse response = leaderRaftClientService.transferLeadership(request);
+        if (response != null && response.getResCode() == RaftProto.ResCode.RES_CODE_NOT_LEADER) {
+            updateConfig();
+            response = leaderRaftClientService.transferLeadership(request);
+        }
+        return response;
+    }
+
     public void stop() {
         if (leaderRPCClient != null) {
             leaderRPCClient.stop();
@@ -1,6 +1,6 @@
 #!/bin/bash
-if [ $# -ne 3 ]; then
-    echo "Usage: ./run_server.sh DATA_PATH CLUSTER CURRENT_NODE"
+if [ $# -ne 3 ] && [ $# -ne 4 ]; then
+    echo "Usage: ./run_server.sh DATA_PATH CLUSTER CURRENT_NODE [region]"
     exit
 fi
 
@@ -19,6 +19,8 @@ fi
 DATA_PATH=$1
 CLUSTER=$2
 CURRENT_NODE=$3
+# optional, "region" splits the keyspace into regions with a raft group each
+MODE=$4
 
 JMX_PORT=18050
 GC_LOG=./logs/gc.log
@@ -51,4 +53,4 @@ JAVA_OPTS=" $JAVA_BASE_OPTS $JAVA_MEM_OPTS $JAVA_JMX_OPTS $JAVA_GC_OPTS $JAVA_CP
 
 RUNJAVA="$JAVA_HOME/bin/java"
 MAIN_CLASS=com.raftimpl.raft.example.server.ServerMain
-$RUNJAVA $JAVA_CP $MAIN_CLASS $DATA_PATH $CLUSTER $CURRENT_NODE
+$RUNJAVA $JAVA_CP $MAIN_CLASS $DATA_PATH $CLUSTER $CURRENT_NODE $MODE
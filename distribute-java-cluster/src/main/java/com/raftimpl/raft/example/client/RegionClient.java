@@ -0,0 +1,125 @@
+package com.raftimpl.raft.example.client;
+
+import com.baidu.brpc.client.BrpcProxy;
+import com.baidu.brpc.client.RpcClient;
+import com.baidu.brpc.client.instance.Endpoint;
+import com.raftimpl.raft.example.server.machine.RegionStateMachine;
+import com.raftimpl.raft.example.server.service.ExampleProto;
+import com.raftimpl.raft.example.server.service.ExampleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Client of servers running with regions, it caches the routes of the regions
+ * and sends every request straight to the leader of the key's region.
+ * The routes are fetched again whenever a write fails, a server which is not the leader forwards writes,
+ * so stale routes cost a hop or a retry only.
+ */
+public class RegionClient {
+    private static final Logger LOG = LoggerFactory.getLogger(RegionClient.class);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Comparator<String> KEY_COMPARATOR = new Comparator<String>() {
+        @Override
+        public int compare(String key1, String key2) {
+            return RegionStateMachine.compareKeys(key1, key2);
+        }
+    };
+
+    // any of the servers, for routes and for keys without a known leader
+    private final RpcClient seedRpcClient;
+    private final ExampleService seedService;
+    // one client per leader, by "host:port"
+    private final ConcurrentMap<String, RpcClient> rpcClients = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ExampleService> services = new ConcurrentHashMap<>();
+    private volatile TreeMap<String, ExampleProto.RegionRoute> routes = new TreeMap<>(KEY_COMPARATOR);
+
+    /**
+     * @param ipPorts servers, format is "list://host:port,host2:port2"
+     */
+    public RegionClient(String ipPorts) {
+        seedRpcClient = new RpcClient(ipPorts);
+        seedService = BrpcProxy.getProxy(seedRpcClient, ExampleService.class);
+        refreshRoutes();
+    }
+
+    public boolean set(String key, String value) {
+        ExampleProto.SetRequest request = ExampleProto.SetRequest.newBuilder().setKey(key).setValue(value).build();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            try {
+                if (getService(key).set(request).getSuccess()) {
+                    return true;
+                }
+            } catch (RuntimeException ex) {
+                LOG.warn("set {} meet exception, msg={}", key, ex.getMessage());
+            }
+            refreshRoutes();
+        }
+        return false;
+    }
+
+    /**
+     * @return null if the key has no value
+     */
+    public String get(String key) {
+        ExampleProto.GetRequest request = ExampleProto.GetRequest.newBuilder().setKey(key).build();
+        ExampleProto.GetResponse response;
+        try {
+            response = getService(key).get(request);
+        } catch (RuntimeException ex) {
+            LOG.warn("get {} meet exception, msg={}", key, ex.getMessage());
+            refreshRoutes();
+            response = seedService.get(request);
+        }
+        return response.hasValue() ? response.getValue() : null;
+    }
+
+    public void refreshRoutes() {
+        TreeMap<String, ExampleProto.RegionRoute> newRoutes = new TreeMap<>(KEY_COMPARATOR);
+        try {
+            ExampleProto.GetRegionsResponse response =
+                    seedService.getRegions(ExampleProto.GetRegionsRequest.newBuilder().build());
+            for (ExampleProto.RegionRoute route : response.getRoutesList()) {
+                newRoutes.put(route.getRegion().getStartKey(), route);
+            }
+            routes = newRoutes;
+        } catch (RuntimeException ex) {
+            LOG.warn("get regions meet exception, msg={}", ex.getMessage());
+        }
+    }
+
+    public void stop() {
+        seedRpcClient.stop();
+        for (RpcClient rpcClient : rpcClients.values()) {
+            rpcClient.stop();
+        }
+    }
+
+    private ExampleService getService(String key) {
+        Map.Entry<String, ExampleProto.RegionRoute> entry = routes.floorEntry(key);
+        if (entry == null || !entry.getValue().hasLeaderHost()
+                || !RegionStateMachine.containsKey(entry.getValue().getRegion(), key)) {
+            return seedService;
+        }
+        ExampleProto.RegionRoute route = entry.getValue();
+        String address = route.getLeaderHost() + ":" + route.getLeaderPort();
+        ExampleService service = services.get(address);
+        if (service == null) {
+            synchronized (this) {
+                service = services.get(address);
+                if (service == null) {
+                    RpcClient rpcClient = new RpcClient(new Endpoint(route.getLeaderHost(), route.getLeaderPort()));
+                    rpcClients.put(address, rpcClient);
+                    service = BrpcProxy.getProxy(rpcClient, ExampleService.class);
+                    services.put(address, service);
+                }
+            }
+        }
+        return service;
+    }
+}
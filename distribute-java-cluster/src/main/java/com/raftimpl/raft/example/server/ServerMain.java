@@ -2,15 +2,21 @@ package com.raftimpl.raft.example.server;
 
 import com.baidu.brpc.server.RpcServer;
 import com.baidu.brpc.server.RpcServerOptions;
+import com.raftimpl.raft.RaftGroupHost;
 import com.raftimpl.raft.RaftNode;
 import com.raftimpl.raft.RaftOptions;
 import com.raftimpl.raft.StateMachine;
 import com.raftimpl.raft.example.server.machine.LevelDBStateMachine;
+import com.raftimpl.raft.example.server.region.RegionManager;
+import com.raftimpl.raft.example.server.region.RegionOptions;
 import com.raftimpl.raft.example.server.service.ExampleService;
 import com.raftimpl.raft.example.server.service.impl.ExampleServiceImpl;
+import com.raftimpl.raft.example.server.service.impl.RegionServiceImpl;
 import com.raftimpl.raft.proto.RaftProto;
 import com.raftimpl.raft.service.RaftClientService;
 import com.raftimpl.raft.service.RaftConsensusService;
+import com.raftimpl.raft.service.impl.MultiRaftClientServiceImpl;
+import com.raftimpl.raft.service.impl.MultiRaftConsensusServiceImpl;
 import com.raftimpl.raft.service.impl.RaftClientServiceImpl;
 import com.raftimpl.raft.service.impl.RaftConsensusServiceImpl;
 
@@ -19,15 +25,15 @@ import java.util.List;
 
 public class ServerMain {
     public static void main(String[] args) {
-        if (args.length != 3) {
-            System.out.printf("Usage: ./run_server.sh DATA_PATH CLUSTER CURRENT_NODE\n");
+        if (args.length != 3 && args.length != 4) {
+            System.out.printf("Usage: ./run_server.sh DATA_PATH CLUSTER CURRENT_NODE [region]\n");
             System.exit(-1);
         }
         // parse args
         // raft data dir
         System.out.print(args);
         String dataPath = args[0];
-        // peers, format is "host:port:serverId,host2:port2:serverId2"
+        // peers, format is "host:port:serverId,host2:port2:serverId2", "host:port:serverId:learner" for a learner
         String servers = args[1];
         String[] splitArray = servers.split(",");
         List<RaftProto.Server> serverList = new ArrayList<>();
@@ -43,13 +49,12 @@ public class ServerMain {
         options.setIoThreadNum(Runtime.getRuntime().availableProcessors() * 10);
         options.setWorkThreadNum(Runtime.getRuntime().availableProcessors() * 10);
         RpcServer server = new RpcServer(localServer.getEndpoint().getPort(), options);
-        // 设置Raft选项，比如：
-        // just for test snapshot
-        RaftOptions RaftOptions = new RaftOptions();
-        RaftOptions.setDataDir(dataPath);
-        RaftOptions.setSnapshotMinLogSize(10 * 1024);
-        RaftOptions.setSnapshotPeriodSeconds(30);
-        RaftOptions.setMaxSegmentFileSize(1024 * 1024);
+        if (args.length == 4 && "region".equals(args[3])) {
+            // keyspace按范围分成多个region，每个region由一个raft group负责，所有group共享RPCServer和线程
+            startRegions(server, dataPath, serverList, localServer);
+            return;
+        }
+        RaftOptions RaftOptions = newRaftOptions(dataPath);
         // 应用状态机
         StateMachine stateMachine =
                 //    new HashMapStateMachine(RaftOptions.getDataDir());
@@ -72,6 +77,38 @@ public class ServerMain {
         raftNode.init();
     }
 
+    private static RaftOptions newRaftOptions(String dataPath) {
+        // 设置Raft选项，比如：
+        // just for test snapshot
+        RaftOptions raftOptions = new RaftOptions();
+        raftOptions.setDataDir(dataPath);
+        raftOptions.setSnapshotMinLogSize(10 * 1024);
+        raftOptions.setSnapshotPeriodSeconds(30);
+        raftOptions.setMaxSegmentFileSize(1024 * 1024);
+        return raftOptions;
+    }
+
+    /**
+     * Start with a single region covering the keyspace, or the regions left by the last run,
+     * regions split and merge by their size and load, see RegionManager
+     */
+    private static void startRegions(RpcServer server, String dataPath, List<RaftProto.Server> serverList,
+                                     RaftProto.Server localServer) {
+        RaftGroupHost host = new RaftGroupHost(new RaftOptions());
+        RegionManager regionManager = new RegionManager(host, dataPath, serverList, localServer,
+                new RegionOptions(), new RegionManager.RaftOptionsFactory() {
+                    @Override
+                    public RaftOptions create(String dataDir) {
+                        return newRaftOptions(dataDir);
+                    }
+                });
+        server.registerService(new MultiRaftConsensusServiceImpl(host));
+        server.registerService(new MultiRaftClientServiceImpl(host));
+        server.registerService(new RegionServiceImpl(regionManager));
+        server.start();
+        regionManager.start();
+    }
+
     private static RaftProto.Server parseServer(String serverString) {
         String[] splitServer = serverString.split(":");
         String host = splitServer[0];
@@ -80,7 +117,9 @@ public class ServerMain {
         RaftProto.Endpoint endPoint = RaftProto.Endpoint.newBuilder()
                 .setHost(host).setPort(port).build();
         RaftProto.Server.Builder serverBuilder = RaftProto.Server.newBuilder();
-        RaftProto.Server server = serverBuilder.setServerId(serverId).setEndpoint(endPoint).build();
+        boolean isLearner = splitServer.length > 3 && "learner".equals(splitServer[3]);
+        RaftProto.Server server = serverBuilder.setServerId(serverId).setEndpoint(endPoint)
+                .setIsLearner(isLearner).build();
         return server;
     }
 }
@@ -10,16 +10,18 @@ import org.apache.commons.io.FileUtils;
 import org.iq80.leveldb.DB;
 import org.iq80.leveldb.DBException;
 import org.iq80.leveldb.Options;
+import org.iq80.leveldb.WriteBatch;
 import org.iq80.leveldb.impl.Iq80DBFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.List;
 
 public class LevelDBStateMachine implements StateMachine {
     private static final Logger LOG = LoggerFactory.getLogger(LevelDBStateMachine.class);
-    private DB db;
-    private final String raftDataDir;
+    protected DB db;
+    protected final String raftDataDir;
 
     public LevelDBStateMachine(String raftDataDir) {
         this.raftDataDir = raftDataDir;
@@ -90,6 +92,33 @@ public class LevelDBStateMachine implements StateMachine {
         }
     }
 
+    @Override
+    public void applyBatch(List<byte[]> entries, long lastIndex) {
+        WriteBatch batch = null;
+        try {
+            if (db == null) {
+                throw new DBException("database is closed, please wait for reopen");
+            }
+            batch = db.createWriteBatch();
+            for (byte[] dataBytes : entries) {
+                ExampleProto.SetRequest request = ExampleProto.SetRequest.parseFrom(dataBytes);
+                batch.put(request.getKey().getBytes(), request.getValue().getBytes());
+            }
+            db.write(batch);
+        } catch (Exception e) {
+            LOG.warn("apply batch ending at index {} meet exception, msg={}", lastIndex, e.getMessage());
+            throw new RuntimeException("apply batch ending at index " + lastIndex + " error", e);
+        } finally {
+            if (batch != null) {
+                try {
+                    batch.close();
+                } catch (Exception e) {
+                    LOG.warn("close write batch meet exception, msg={}", e.getMessage());
+                }
+            }
+        }
+    }
+
     @Override
     public byte[] get(byte[] dataBytes) {
         byte[] result = null;
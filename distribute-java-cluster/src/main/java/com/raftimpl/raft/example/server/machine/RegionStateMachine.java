@@ -0,0 +1,485 @@
+package com.raftimpl.raft.example.server.machine;
+
+import com.raftimpl.raft.RaftNode;
+import com.raftimpl.raft.example.server.service.ExampleProto;
+import com.raftimpl.raft.proto.RaftProto;
+import com.raftimpl.raft.storage.SegmentedLog;
+import com.raftimpl.raft.storage.Snapshot;
+import org.apache.commons.io.FileUtils;
+import org.iq80.leveldb.DB;
+import org.iq80.leveldb.DBException;
+import org.iq80.leveldb.DBIterator;
+import org.iq80.leveldb.Options;
+import org.iq80.leveldb.ReadOptions;
+import org.iq80.leveldb.WriteBatch;
+import org.iq80.leveldb.impl.Iq80DBFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State machine of a region, a key range served by a raft group of its own.
+ * Besides the writes its log carries the commands changing the region:
+ * a split hands the upper part of the range to a new region, a merge moves the whole range into the left neighbour.
+ * The region is kept in leveldb under a reserved key, so snapshots carry it along with the data.
+ */
+public class RegionStateMachine extends LevelDBStateMachine {
+    private static final Logger LOG = LoggerFactory.getLogger(RegionStateMachine.class);
+    // sorts before every user key, user keys must not start with \0
+    private static final byte[] REGION_KEY = "\0region".getBytes();
+    private static final int COPY_BATCH_SIZE = 1000;
+    private static final int SNAPSHOT_READ_BATCH_SIZE = 1000;
+
+    /**
+     * Called on the apply thread of the region, or on the thread creating its raft node
+     */
+    public interface Listener {
+        // the region changed, or became known after a snapshot was loaded
+        void onRegionChanged(RegionStateMachine stateMachine);
+    }
+
+    public static class RegionStats {
+        public long keyCount;
+        public long byteCount;
+    }
+
+    private final int regionId;
+    private final String regionsDir;
+    private final List<RaftProto.Server> servers;
+    private final Listener listener;
+    // null while a new replica waits for the first snapshot of its region
+    private volatile ExampleProto.Region region;
+
+    /**
+     * @param regionsDir parent of the data directories of all regions, a split creates the new region's there
+     * @param servers configuration of the regions created by a split
+     */
+    public RegionStateMachine(int regionId, String regionsDir, List<RaftProto.Server> servers, Listener listener) {
+        super(getRegionDataDir(regionsDir, regionId));
+        this.regionId = regionId;
+        this.regionsDir = regionsDir;
+        this.servers = servers;
+        this.listener = listener;
+    }
+
+    public static String getRegionDataDir(String regionsDir, int regionId) {
+        return regionsDir + File.separator + "region" + regionId;
+    }
+
+    /**
+     * Keys compare bytewise like leveldb orders them
+     */
+    public static int compareKeys(String key1, String key2) {
+        return compareKeys(key1.getBytes(), key2.getBytes());
+    }
+
+    public static boolean containsKey(ExampleProto.Region region, String key) {
+        return compareKeys(key, region.getStartKey()) >= 0
+                && (region.getEndKey().isEmpty() || compareKeys(key, region.getEndKey()) < 0);
+    }
+
+    public int getRegionId() {
+        return regionId;
+    }
+
+    public ExampleProto.Region getRegion() {
+        return region;
+    }
+
+    /**
+     * Replay the entries applied since the last snapshot onto a copy of it.
+     * Fails the snapshot by throwing, a half built snapshot must not replace the last one.
+     */
+    @Override
+    public void writeSnap(String snapshotDir, String tmpSnapshotDataDir, RaftNode raftNode, long localLastAppliedIndex) {
+        try {
+            File snapshotData = new File(snapshotDir + File.separator + "data");
+            File tmpSnapshotData = new File(tmpSnapshotDataDir);
+            // a failed snapshot may have left its files behind
+            FileUtils.deleteDirectory(tmpSnapshotData);
+            FileUtils.copyDirectory(snapshotData, tmpSnapshotData);
+
+            Options options = new Options();
+            DB tmpDB = Iq80DBFactory.factory.open(tmpSnapshotData, options);
+            try {
+                ExampleProto.Region current = readRegion(tmpDB);
+                long index = raftNode.getSnapshot().getMeta().getLastIncludedIndex() + 1;
+                while (index <= localLastAppliedIndex) {
+                    long toIndex = Math.min(index + SNAPSHOT_READ_BATCH_SIZE - 1, localLastAppliedIndex);
+                    for (RaftProto.LogEntry entry : readEntries(raftNode, index, toIndex)) {
+                        if (entry.getType() != RaftProto.EntryType.ENTRY_TYPE_DATA) {
+                            continue;
+                        }
+                        ExampleProto.RegionCommand command =
+                                ExampleProto.RegionCommand.parseFrom(entry.getData().toByteArray());
+                        if (!isRegionCommand(command)) {
+                            if (isWritable(current, command.getKey())) {
+                                tmpDB.put(command.getKey().getBytes(), command.getValue().getBytes());
+                            }
+                        } else {
+                            current = applyRegionCommand(tmpDB, current, command, false);
+                        }
+                    }
+                    index = toIndex + 1;
+                }
+            } finally {
+                tmpDB.close();
+            }
+        } catch (IOException e) {
+            LOG.warn("writeSnapshot of region {} meet exception, msg={}", regionId, e.getMessage());
+            throw new RuntimeException("write snapshot of region " + regionId + " error", e);
+        }
+    }
+
+    /**
+     * The log is changed under the raft node lock only, entries are read in batches so appends wait for one batch
+     */
+    private static List<RaftProto.LogEntry> readEntries(RaftNode raftNode, long fromIndex, long toIndex) {
+        List<RaftProto.LogEntry> entries = new ArrayList<>((int) (toIndex - fromIndex + 1));
+        raftNode.getLock().lock();
+        try {
+            SegmentedLog raftLog = raftNode.getRaftLog();
+            for (long index = fromIndex; index <= toIndex; index++) {
+                RaftProto.LogEntry entry = raftLog.getEntry(index);
+                if (entry == null) {
+                    throw new IllegalStateException("log entry " + index + " is not available");
+                }
+                entries.add(entry);
+            }
+        } finally {
+            raftNode.getLock().unlock();
+        }
+        return entries;
+    }
+
+    @Override
+    public void readSnap(String snapshotDir) {
+        super.readSnap(snapshotDir);
+        try {
+            region = db == null ? null : readRegion(db);
+        } catch (IOException e) {
+            LOG.warn("read region {} meet exception, msg={}", regionId, e.getMessage());
+        }
+        listener.onRegionChanged(this);
+    }
+
+    @Override
+    public void applyData(byte[] dataBytes) {
+        applyBatch(Collections.singletonList(dataBytes), 0);
+    }
+
+    @Override
+    public void applyBatch(List<byte[]> entries, long lastIndex) {
+        WriteBatch batch = null;
+        try {
+            if (db == null) {
+                throw new DBException("database is closed, please wait for reopen");
+            }
+            batch = db.createWriteBatch();
+            for (byte[] dataBytes : entries) {
+                ExampleProto.RegionCommand command = ExampleProto.RegionCommand.parseFrom(dataBytes);
+                if (!isRegionCommand(command)) {
+                    // writes proposed before the region changed may fall outside of it now, they are dropped
+                    if (isWritable(region, command.getKey())) {
+                        batch.put(command.getKey().getBytes(), command.getValue().getBytes());
+                    }
+                    continue;
+                }
+                // a region command sees the writes before it
+                db.write(batch);
+                batch.close();
+                batch = db.createWriteBatch();
+                ExampleProto.Region changed = applyRegionCommand(db, region, command, true);
+                if (changed != region) {
+                    LOG.info("region {} changed to {}", regionId, changed);
+                    region = changed;
+                    listener.onRegionChanged(this);
+                }
+            }
+            db.write(batch);
+        } catch (Exception e) {
+            LOG.warn("apply batch of region {} ending at index {} meet exception, msg={}",
+                    regionId, lastIndex, e.getMessage());
+            // the batch may be applied in part, the apply thread stops until a snapshot replaces the region
+            throw new RuntimeException("apply batch of region " + regionId + " ending at index " + lastIndex
+                    + " error", e);
+        } finally {
+            if (batch != null) {
+                try {
+                    batch.close();
+                } catch (Exception e) {
+                    LOG.warn("close write batch meet exception, msg={}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Count the keys and bytes of the region, it scans the whole region
+     */
+    public RegionStats getStats() {
+        RegionStats stats = new RegionStats();
+        ExampleProto.Region current = region;
+        if (current == null || db == null) {
+            return stats;
+        }
+        try (org.iq80.leveldb.Snapshot readSnapshot = db.getSnapshot();
+             DBIterator iterator = db.iterator(new ReadOptions().snapshot(readSnapshot))) {
+            for (iterator.seek(current.getStartKey().getBytes()); iterator.hasNext(); iterator.next()) {
+                Map.Entry<byte[], byte[]> entry = iterator.peekNext();
+                if (!isUserKey(entry.getKey())) {
+                    continue;
+                }
+                if (!beforeEnd(entry.getKey(), current.getEndKey())) {
+                    break;
+                }
+                stats.keyCount++;
+                stats.byteCount += entry.getKey().length + entry.getValue().length;
+            }
+        } catch (Exception e) {
+            LOG.warn("scan region {} meet exception, msg={}", regionId, e.getMessage());
+        }
+        return stats;
+    }
+
+    /**
+     * @param byteCount bytes of the region, as counted by getStats
+     * @return the first key after half of the bytes, null if there is no key to split at
+     */
+    public String getSplitKey(long byteCount) {
+        ExampleProto.Region current = region;
+        if (current == null || db == null) {
+            return null;
+        }
+        long bytes = 0;
+        try (org.iq80.leveldb.Snapshot readSnapshot = db.getSnapshot();
+             DBIterator iterator = db.iterator(new ReadOptions().snapshot(readSnapshot))) {
+            for (iterator.seek(current.getStartKey().getBytes()); iterator.hasNext(); iterator.next()) {
+                Map.Entry<byte[], byte[]> entry = iterator.peekNext();
+                if (!isUserKey(entry.getKey())) {
+                    continue;
+                }
+                if (!beforeEnd(entry.getKey(), current.getEndKey())) {
+                    break;
+                }
+                String key = new String(entry.getKey());
+                if (bytes >= byteCount / 2 && !key.equals(current.getStartKey())) {
+                    return key;
+                }
+                bytes += entry.getKey().length + entry.getValue().length;
+            }
+        } catch (Exception e) {
+            LOG.warn("scan region {} meet exception, msg={}", regionId, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * All data of the region, for the region it is merged into
+     */
+    public List<ExampleProto.SetRequest> getEntries() {
+        List<ExampleProto.SetRequest> entries = new ArrayList<>();
+        ExampleProto.Region current = region;
+        if (current == null || db == null) {
+            return entries;
+        }
+        try (org.iq80.leveldb.Snapshot readSnapshot = db.getSnapshot();
+             DBIterator iterator = db.iterator(new ReadOptions().snapshot(readSnapshot))) {
+            for (iterator.seek(current.getStartKey().getBytes()); iterator.hasNext(); iterator.next()) {
+                Map.Entry<byte[], byte[]> entry = iterator.peekNext();
+                if (!isUserKey(entry.getKey())) {
+                    continue;
+                }
+                if (!beforeEnd(entry.getKey(), current.getEndKey())) {
+                    break;
+                }
+                entries.add(ExampleProto.SetRequest.newBuilder()
+                        .setKey(new String(entry.getKey())).setValue(new String(entry.getValue())).build());
+            }
+        } catch (Exception e) {
+            LOG.warn("scan region {} meet exception, msg={}", regionId, e.getMessage());
+        }
+        return entries;
+    }
+
+    private ExampleProto.Region readRegion(DB db) throws IOException {
+        byte[] regionBytes = db.get(REGION_KEY);
+        if (regionBytes == null) {
+            // region 0 covers the whole keyspace from the start, the others are created by a split
+            return regionId == 0 ? ExampleProto.Region.newBuilder().setRegionId(0).build() : null;
+        }
+        return ExampleProto.Region.parseFrom(regionBytes);
+    }
+
+    /**
+     * Apply a region command to db, the same way to the live db and to a snapshot being written
+     * @param live also create the data directory of a region split off
+     * @return the region afterwards, current itself if the command does not apply to it any more
+     */
+    private ExampleProto.Region applyRegionCommand(DB db, ExampleProto.Region current,
+                                                   ExampleProto.RegionCommand command, boolean live)
+            throws IOException {
+        if (current == null) {
+            return null;
+        }
+        ExampleProto.Region.Builder builder = current.toBuilder().setEpoch(current.getEpoch() + 1);
+        if (command.hasSplit()) {
+            String splitKey = command.getSplit().getSplitKey();
+            // proposed for an older range of the region
+            if (current.getMerging() || !containsKey(current, splitKey) || splitKey.equals(current.getStartKey())) {
+                return current;
+            }
+            ExampleProto.Region child = ExampleProto.Region.newBuilder()
+                    .setRegionId(command.getSplit().getNewRegionId())
+                    .setStartKey(splitKey)
+                    .setEndKey(current.getEndKey())
+                    .setEpoch(current.getEpoch() + 1).build();
+            if (live) {
+                createRegion(db, child);
+            }
+            deleteRange(db, splitKey, current.getEndKey());
+            builder.setEndKey(splitKey).addChildRegionIds(child.getRegionId());
+        } else if (command.hasPrepareMerge()) {
+            if (current.getMerging()) {
+                return current;
+            }
+            builder.setMerging(true)
+                    .setMergeTargetId(command.getPrepareMerge().getTargetRegionId())
+                    .setMergeTargetEpoch(command.getPrepareMerge().getTargetEpoch());
+        } else if (command.hasRollbackMerge()) {
+            if (!current.getMerging()) {
+                return current;
+            }
+            builder.setMerging(false).clearMergeTargetId().clearMergeTargetEpoch();
+        } else {
+            ExampleProto.Region source = command.getCommitMerge().getSource();
+            // the source has to be frozen for this region as it is now, else it may have rolled back
+            if (current.getMerging() || !source.getMerging()
+                    || source.getMergeTargetId() != regionId
+                    || source.getMergeTargetEpoch() != current.getEpoch()
+                    || current.getEndKey().isEmpty()
+                    || !current.getEndKey().equals(source.getStartKey())) {
+                return current;
+            }
+            WriteBatch batch = db.createWriteBatch();
+            try {
+                for (ExampleProto.SetRequest entry : command.getCommitMerge().getEntriesList()) {
+                    batch.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+                }
+                db.write(batch);
+            } finally {
+                batch.close();
+            }
+            builder.setEndKey(source.getEndKey())
+                    .setEpoch(Math.max(current.getEpoch(), source.getEpoch()) + 1)
+                    .addMergedRegionIds(source.getRegionId());
+        }
+        ExampleProto.Region changed = builder.build();
+        db.put(REGION_KEY, changed.toByteArray());
+        return changed;
+    }
+
+    /**
+     * Create the data directory of a region split off: its data and a snapshot at index 1 of its raft group,
+     * a replica joining the group later gets the data by InstallSnapshot.
+     */
+    private void createRegion(DB db, ExampleProto.Region child) throws IOException {
+        File regionDir = new File(getRegionDataDir(regionsDir, child.getRegionId()));
+        if (regionDir.exists()) {
+            // created before a restart, or this replica joined the new region as an empty one
+            return;
+        }
+        File tmpDir = new File(regionDir.getPath() + ".tmp");
+        FileUtils.deleteDirectory(tmpDir);
+        Snapshot snapshot = new Snapshot(tmpDir.getPath());
+        DB childDB = Iq80DBFactory.factory.open(
+                new File(snapshot.getSnapshotDir() + File.separator + "data"), new Options());
+        try {
+            copyRange(db, childDB, child.getStartKey(), child.getEndKey());
+            childDB.put(REGION_KEY, child.toByteArray());
+        } finally {
+            childDB.close();
+        }
+        RaftProto.Configuration configuration = RaftProto.Configuration.newBuilder()
+                .addAllServers(servers).build();
+        snapshot.updateMeta(snapshot.getSnapshotDir(), 1L, 0L, configuration);
+        FileUtils.moveDirectory(tmpDir, regionDir);
+    }
+
+    private static void copyRange(DB from, DB to, String startKey, String endKey) throws IOException {
+        WriteBatch batch = to.createWriteBatch();
+        try (DBIterator iterator = from.iterator()) {
+            int count = 0;
+            for (iterator.seek(startKey.getBytes()); iterator.hasNext(); iterator.next()) {
+                Map.Entry<byte[], byte[]> entry = iterator.peekNext();
+                if (!isUserKey(entry.getKey())) {
+                    continue;
+                }
+                if (!beforeEnd(entry.getKey(), endKey)) {
+                    break;
+                }
+                batch.put(entry.getKey(), entry.getValue());
+                if (++count % COPY_BATCH_SIZE == 0) {
+                    to.write(batch);
+                    batch.close();
+                    batch = to.createWriteBatch();
+                }
+            }
+            to.write(batch);
+        } finally {
+            batch.close();
+        }
+    }
+
+    private static void deleteRange(DB db, String startKey, String endKey) throws IOException {
+        WriteBatch batch = db.createWriteBatch();
+        try (DBIterator iterator = db.iterator()) {
+            for (iterator.seek(startKey.getBytes()); iterator.hasNext(); iterator.next()) {
+                byte[] key = iterator.peekNext().getKey();
+                if (!beforeEnd(key, endKey)) {
+                    break;
+                }
+                if (isUserKey(key)) {
+                    batch.delete(key);
+                }
+            }
+            db.write(batch);
+        } finally {
+            batch.close();
+        }
+    }
+
+    private static boolean isRegionCommand(ExampleProto.RegionCommand command) {
+        return command.hasSplit() || command.hasPrepareMerge()
+                || command.hasCommitMerge() || command.hasRollbackMerge();
+    }
+
+    private static boolean isWritable(ExampleProto.Region region, String key) {
+        return region != null && !region.getMerging() && containsKey(region, key);
+    }
+
+    private static boolean isUserKey(byte[] key) {
+        return key.length == 0 || key[0] != 0;
+    }
+
+    private static boolean beforeEnd(byte[] key, String endKey) {
+        return endKey.isEmpty() || compareKeys(key, endKey.getBytes()) < 0;
+    }
+
+    private static int compareKeys(byte[] key1, byte[] key2) {
+        int length = Math.min(key1.length, key2.length);
+        for (int i = 0; i < length; i++) {
+            int diff = (key1[i] & 0xff) - (key2[i] & 0xff);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return key1.length - key2.length;
+    }
+}
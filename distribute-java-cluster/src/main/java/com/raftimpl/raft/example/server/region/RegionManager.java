@@ -0,0 +1,441 @@
+package com.raftimpl.raft.example.server.region;
+
+import com.raftimpl.raft.RaftGroupHost;
+import com.raftimpl.raft.RaftNode;
+import com.raftimpl.raft.RaftOptions;
+import com.raftimpl.raft.example.server.machine.RegionStateMachine;
+import com.raftimpl.raft.example.server.service.ExampleProto;
+import com.raftimpl.raft.example.server.service.impl.ExampleServiceImpl;
+import com.raftimpl.raft.proto.RaftProto;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits the keyspace into regions, key ranges each served by a raft group of its own, all hosted by one RaftGroupHost.
+ * Every node hosts a replica of every region and keeps a routing table from key to region.
+ * The leader of a region splits it in the middle when it grows past splitBytes or splitQps,
+ * and merges it into its left neighbour when it is small and cold. Splits and merges are raft log entries
+ * of the regions involved, see RegionStateMachine, so every replica changes the region at the same log index.
+ * The regions created by splits spread their leaders over the nodes through the host's leader balancing.
+ * <p>
+ * A merge takes two steps: the source region freezes itself for the target's current epoch,
+ * then the target's leader commits the frozen data of its local source replica into the target.
+ * The commit only applies while the target still has that epoch, the source rolls back once it has not.
+ * A merged region stays hosted until the next restart, it only leaves the routing table.
+ */
+public class RegionManager implements RegionStateMachine.Listener {
+    private static final Logger LOG = LoggerFactory.getLogger(RegionManager.class);
+    private static final Pattern REGION_DIR_PATTERN = Pattern.compile("region(\\d+)");
+    // marks the data directory of a region merged into another one
+    private static final String MERGED_FILE = "merged";
+    // the next sequence number for ids of regions split off by this node
+    private static final String REGION_SEQ_FILE = "next_region_seq";
+    private static final Comparator<String> KEY_COMPARATOR = new Comparator<String>() {
+        @Override
+        public int compare(String key1, String key2) {
+            return RegionStateMachine.compareKeys(key1, key2);
+        }
+    };
+
+    /**
+     * Creates the raft options of a region from its data directory
+     */
+    public interface RaftOptionsFactory {
+        RaftOptions create(String dataDir);
+    }
+
+    public static class RegionReplica {
+        private final RaftNode raftNode;
+        private final RegionStateMachine stateMachine;
+        private final ExampleServiceImpl service;
+        // requests routed to the region through this node, for its qps
+        private final AtomicLong requestCount = new AtomicLong(0);
+        private long lastRequestCount;
+
+        RegionReplica(RaftNode raftNode, RegionStateMachine stateMachine, ExampleServiceImpl service) {
+            this.raftNode = raftNode;
+            this.stateMachine = stateMachine;
+            this.service = service;
+        }
+
+        public RaftNode getRaftNode() {
+            return raftNode;
+        }
+
+        public RegionStateMachine getStateMachine() {
+            return stateMachine;
+        }
+
+        public ExampleServiceImpl getService() {
+            return service;
+        }
+
+        public void countRequest() {
+            requestCount.incrementAndGet();
+        }
+    }
+
+    private final RaftGroupHost host;
+    private final String regionsDir;
+    private final List<RaftProto.Server> servers;
+    private final RaftProto.Server localServer;
+    private final RegionOptions regionOptions;
+    private final RaftOptionsFactory raftOptionsFactory;
+    private final ConcurrentMap<Integer, RegionReplica> replicas = new ConcurrentHashMap<>();
+    // routable regions by start key, replaced as a whole whenever a region changes
+    private volatile TreeMap<String, ExampleProto.Region> routes = new TreeMap<>(KEY_COMPARATOR);
+    private volatile Set<Integer> mergedRegionIds = new HashSet<>();
+    private final Object routesLock = new Object();
+    private int nextRegionSeq = 1;
+    private volatile boolean started;
+
+    /**
+     * @param regionsDir parent of the data directories of all regions
+     * @param servers servers of every region, their ids have to be below 256 since they are part of the region ids
+     */
+    public RegionManager(RaftGroupHost host, String regionsDir, List<RaftProto.Server> servers,
+                         RaftProto.Server localServer, RegionOptions regionOptions,
+                         RaftOptionsFactory raftOptionsFactory) {
+        for (RaftProto.Server server : servers) {
+            if (server.getServerId() <= 0 || server.getServerId() > 255) {
+                throw new IllegalArgumentException("server id " + server.getServerId() + " is not in [1, 255]");
+            }
+        }
+        // a merged region must stay well below the size splitting it again
+        if (regionOptions.getMergeBytes() > regionOptions.getSplitBytes() / 2) {
+            throw new IllegalArgumentException("mergeBytes has to be at most half of splitBytes");
+        }
+        this.host = host;
+        this.regionsDir = regionsDir;
+        this.servers = servers;
+        this.localServer = localServer;
+        this.regionOptions = regionOptions;
+        this.raftOptionsFactory = raftOptionsFactory;
+    }
+
+    /**
+     * Load the regions under regionsDir, region 0 covering the whole keyspace if there are none,
+     * then start their raft nodes and the periodic split and merge checks
+     */
+    public void start() {
+        File dir = new File(regionsDir);
+        dir.mkdirs();
+        try {
+            File seqFile = new File(dir, REGION_SEQ_FILE);
+            if (seqFile.exists()) {
+                nextRegionSeq = Math.max(nextRegionSeq, Integer.parseInt(FileUtils.readFileToString(seqFile).trim()));
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        addRegion(0);
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Matcher matcher = REGION_DIR_PATTERN.matcher(file.getName());
+                if (file.isDirectory() && matcher.matches()) {
+                    addRegion(Integer.parseInt(matcher.group(1)));
+                }
+            }
+        }
+        addChildRegions();
+        host.start();
+        started = true;
+        refresh();
+        host.getScheduledExecutorService().scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                host.getExecutorService().submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        checkRegions();
+                    }
+                });
+            }
+        }, regionOptions.getCheckPeriodSeconds(), regionOptions.getCheckPeriodSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * @return the region holding key, null if no region known here holds it
+     */
+    public ExampleProto.Region getRegion(String key) {
+        Map.Entry<String, ExampleProto.Region> entry = routes.floorEntry(key);
+        if (entry == null || !RegionStateMachine.containsKey(entry.getValue(), key)) {
+            return null;
+        }
+        return entry.getValue();
+    }
+
+    public RegionReplica getReplica(int regionId) {
+        return replicas.get(regionId);
+    }
+
+    public List<ExampleProto.RegionRoute> getRoutes() {
+        List<ExampleProto.RegionRoute> regionRoutes = new ArrayList<>();
+        for (ExampleProto.Region region : routes.values()) {
+            regionRoutes.add(replicas.get(region.getRegionId()).getService().getRoute(region));
+        }
+        return regionRoutes;
+    }
+
+    public RegionOptions getRegionOptions() {
+        return regionOptions;
+    }
+
+    @Override
+    public void onRegionChanged(RegionStateMachine stateMachine) {
+        // the routes change before the command changing the region completes
+        rebuildRoutes();
+        if (!started) {
+            return;
+        }
+        final ExampleProto.Region region = stateMachine.getRegion();
+        if (region == null) {
+            return;
+        }
+        // a region split off is hosted before the split completes, so its keys stay routable
+        addChildRegions(region);
+        host.getExecutorService().submit(new Runnable() {
+            @Override
+            public void run() {
+                refresh();
+                // commit a merge right away instead of at the next check, the source rejects writes until then
+                RegionReplica targetReplica = region.getMerging() ? replicas.get(region.getMergeTargetId()) : null;
+                ExampleProto.Region target = targetReplica == null
+                        ? null : targetReplica.getStateMachine().getRegion();
+                if (target != null && targetReplica.getRaftNode().getState() == RaftNode.NodeState.STATE_LEADER) {
+                    commitMerges(targetReplica, target);
+                }
+            }
+        });
+    }
+
+    private synchronized void addRegion(int regionId) {
+        String dataDir = RegionStateMachine.getRegionDataDir(regionsDir, regionId);
+        nextRegionSeq = Math.max(nextRegionSeq, (regionId >>> 8) + 1);
+        if (replicas.containsKey(regionId) || new File(dataDir, MERGED_FILE).exists()) {
+            return;
+        }
+        RegionStateMachine stateMachine = new RegionStateMachine(regionId, regionsDir, servers, this);
+        RaftNode raftNode = host.addGroup(regionId, raftOptionsFactory.create(dataDir),
+                servers, localServer, stateMachine);
+        replicas.put(regionId, new RegionReplica(raftNode, stateMachine, new ExampleServiceImpl(raftNode, stateMachine)));
+        rebuildRoutes();
+    }
+
+    /**
+     * Host the regions split off the hosted ones, a replica which got its parent by snapshot has missed the split,
+     * its replica of the new region starts empty and gets the data from the region's leader
+     */
+    private synchronized void addChildRegions() {
+        int hostedCount;
+        do {
+            hostedCount = replicas.size();
+            for (RegionReplica replica : new ArrayList<>(replicas.values())) {
+                ExampleProto.Region region = replica.getStateMachine().getRegion();
+                if (region != null) {
+                    addChildRegions(region);
+                }
+            }
+        } while (replicas.size() > hostedCount);
+    }
+
+    private synchronized void addChildRegions(ExampleProto.Region region) {
+        for (int childId : region.getChildRegionIdsList()) {
+            if (!replicas.containsKey(childId) && !mergedRegionIds.contains(childId)) {
+                addRegion(childId);
+            }
+        }
+    }
+
+    private synchronized void refresh() {
+        addChildRegions();
+        for (int regionId : mergedRegionIds) {
+            File regionDir = new File(RegionStateMachine.getRegionDataDir(regionsDir, regionId));
+            try {
+                if (regionDir.exists()) {
+                    new File(regionDir, MERGED_FILE).createNewFile();
+                }
+            } catch (IOException ex) {
+                LOG.warn("mark region {} merged failed, msg={}", regionId, ex.getMessage());
+            }
+        }
+    }
+
+    private void rebuildRoutes() {
+        synchronized (routesLock) {
+            List<ExampleProto.Region> regions = new ArrayList<>();
+            Set<Integer> merged = new HashSet<>();
+            for (RegionReplica replica : replicas.values()) {
+                ExampleProto.Region region = replica.getStateMachine().getRegion();
+                if (region != null) {
+                    regions.add(region);
+                    merged.addAll(region.getMergedRegionIdsList());
+                }
+            }
+            // a replica which has not applied a split or merge yet may overlap the regions which have,
+            // the newer region wins
+            Collections.sort(regions, new Comparator<ExampleProto.Region>() {
+                @Override
+                public int compare(ExampleProto.Region region1, ExampleProto.Region region2) {
+                    return Long.compare(region2.getEpoch(), region1.getEpoch());
+                }
+            });
+            TreeMap<String, ExampleProto.Region> newRoutes = new TreeMap<>(KEY_COMPARATOR);
+            for (ExampleProto.Region region : regions) {
+                if (!merged.contains(region.getRegionId()) && !overlaps(newRoutes, region)) {
+                    newRoutes.put(region.getStartKey(), region);
+                }
+            }
+            mergedRegionIds = merged;
+            routes = newRoutes;
+        }
+    }
+
+    private static boolean overlaps(TreeMap<String, ExampleProto.Region> regions, ExampleProto.Region region) {
+        Map.Entry<String, ExampleProto.Region> lower = regions.floorEntry(region.getStartKey());
+        if (lower != null && (lower.getValue().getEndKey().isEmpty()
+                || KEY_COMPARATOR.compare(lower.getValue().getEndKey(), region.getStartKey()) > 0)) {
+            return true;
+        }
+        Map.Entry<String, ExampleProto.Region> higher = regions.higherEntry(region.getStartKey());
+        return higher != null && (region.getEndKey().isEmpty()
+                || KEY_COMPARATOR.compare(higher.getKey(), region.getEndKey()) < 0);
+    }
+
+    private void checkRegions() {
+        for (RegionReplica replica : replicas.values()) {
+            try {
+                checkRegion(replica);
+            } catch (Exception ex) {
+                LOG.warn("check region {} meet exception, msg={}",
+                        replica.getStateMachine().getRegionId(), ex.getMessage());
+            }
+        }
+    }
+
+    private void checkRegion(RegionReplica replica) throws IOException {
+        long requestCount = replica.requestCount.get();
+        long qps = (requestCount - replica.lastRequestCount) / regionOptions.getCheckPeriodSeconds();
+        replica.lastRequestCount = requestCount;
+        ExampleProto.Region region = replica.getStateMachine().getRegion();
+        if (region == null || replica.getRaftNode().getState() != RaftNode.NodeState.STATE_LEADER
+                || mergedRegionIds.contains(region.getRegionId())) {
+            return;
+        }
+        if (region.getMerging()) {
+            checkMerging(replica, region);
+            return;
+        }
+        commitMerges(replica, region);
+
+        RegionStateMachine.RegionStats stats = replica.getStateMachine().getStats();
+        if (stats.byteCount > regionOptions.getSplitBytes() || qps > regionOptions.getSplitQps()) {
+            String splitKey = replica.getStateMachine().getSplitKey(stats.byteCount);
+            if (splitKey != null) {
+                int newRegionId = allocateRegionId();
+                LOG.info("split region {} of {} bytes and {} qps at {} off to region {}",
+                        region.getRegionId(), stats.byteCount, qps, splitKey, newRegionId);
+                propose(replica, ExampleProto.RegionCommand.newBuilder()
+                        .setSplit(ExampleProto.SplitCommand.newBuilder()
+                                .setSplitKey(splitKey).setNewRegionId(newRegionId))
+                        .build());
+            }
+            return;
+        }
+        if (region.getStartKey().isEmpty() || qps >= regionOptions.getMergeQps()
+                || stats.byteCount >= regionOptions.getMergeBytes()) {
+            return;
+        }
+        Map.Entry<String, ExampleProto.Region> left = routes.lowerEntry(region.getStartKey());
+        if (left == null || left.getValue().getMerging()
+                || !left.getValue().getEndKey().equals(region.getStartKey())) {
+            return;
+        }
+        ExampleProto.Region target = left.getValue();
+        RegionStateMachine.RegionStats targetStats =
+                replicas.get(target.getRegionId()).getStateMachine().getStats();
+        if (stats.byteCount + targetStats.byteCount < regionOptions.getMergeBytes()) {
+            LOG.info("merge region {} of {} bytes and {} qps into region {}",
+                    region.getRegionId(), stats.byteCount, qps, target.getRegionId());
+            propose(replica, ExampleProto.RegionCommand.newBuilder()
+                    .setPrepareMerge(ExampleProto.PrepareMergeCommand.newBuilder()
+                            .setTargetRegionId(target.getRegionId()).setTargetEpoch(target.getEpoch()))
+                    .build());
+        }
+    }
+
+    /**
+     * Roll a frozen region back once the merge can not be committed any more:
+     * its target moved past the epoch it was frozen for, or was merged itself, without taking it in
+     */
+    private void checkMerging(RegionReplica replica, ExampleProto.Region region) {
+        RegionReplica targetReplica = replicas.get(region.getMergeTargetId());
+        ExampleProto.Region target = targetReplica == null ? null : targetReplica.getStateMachine().getRegion();
+        if (target == null || target.getMergedRegionIdsList().contains(region.getRegionId())) {
+            return;
+        }
+        if (target.getEpoch() > region.getMergeTargetEpoch() || mergedRegionIds.contains(target.getRegionId())) {
+            LOG.info("roll back merge of region {} into region {}", region.getRegionId(), target.getRegionId());
+            propose(replica, ExampleProto.RegionCommand.newBuilder()
+                    .setRollbackMerge(ExampleProto.RollbackMergeCommand.newBuilder())
+                    .build());
+        }
+    }
+
+    /**
+     * Commit the regions frozen for this region into it, the local replica of a frozen region
+     * has applied everything its region accepted before freezing
+     */
+    private void commitMerges(RegionReplica replica, ExampleProto.Region region) {
+        for (RegionReplica sourceReplica : replicas.values()) {
+            ExampleProto.Region source = sourceReplica.getStateMachine().getRegion();
+            if (source == null || !source.getMerging() || source.getMergeTargetId() != region.getRegionId()
+                    || source.getMergeTargetEpoch() != region.getEpoch()
+                    || mergedRegionIds.contains(source.getRegionId())
+                    || !source.getStartKey().equals(region.getEndKey())) {
+                continue;
+            }
+            LOG.info("commit merge of region {} into region {}", source.getRegionId(), region.getRegionId());
+            propose(replica, ExampleProto.RegionCommand.newBuilder()
+                    .setCommitMerge(ExampleProto.CommitMergeCommand.newBuilder()
+                            .setSource(source)
+                            .addAllEntries(sourceReplica.getStateMachine().getEntries()))
+                    .build());
+            return;
+        }
+    }
+
+    private void propose(RegionReplica replica, ExampleProto.RegionCommand command) {
+        if (!replica.getRaftNode().replicate(command.toByteArray(), RaftProto.EntryType.ENTRY_TYPE_DATA)) {
+            LOG.warn("propose command of region {} failed", replica.getStateMachine().getRegionId());
+        }
+    }
+
+    /**
+     * Ids of regions split off by this node end with its server id, so nodes never hand out the same id
+     */
+    private synchronized int allocateRegionId() throws IOException {
+        int seq = nextRegionSeq++;
+        FileUtils.writeStringToFile(new File(regionsDir, REGION_SEQ_FILE), String.valueOf(nextRegionSeq));
+        return (seq << 8) | localServer.getServerId();
+    }
+}
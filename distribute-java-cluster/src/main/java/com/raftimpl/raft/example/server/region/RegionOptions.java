@@ -0,0 +1,68 @@
+package com.raftimpl.raft.example.server.region;
+
+public class RegionOptions {
+
+    // the leader of every region checks whether to split or merge it this often
+    private int checkPeriodSeconds = 10;
+
+    // a region larger than splitBytes, or serving more than splitQps requests per second, splits in two
+    private long splitBytes = 64 * 1024 * 1024;
+    private long splitQps = 2000;
+
+    // a region smaller than mergeBytes and serving less than mergeQps requests per second
+    // merges into its left neighbour, if they stay below mergeBytes together,
+    // the data moves in a single log entry
+    private long mergeBytes = 4 * 1024 * 1024;
+    private long mergeQps = 10;
+
+    // a read retries this many times when the region of its key changes under it
+    private int maxReadAttempts = 3;
+
+    public int getCheckPeriodSeconds() {
+        return checkPeriodSeconds;
+    }
+
+    public void setCheckPeriodSeconds(int checkPeriodSeconds) {
+        this.checkPeriodSeconds = checkPeriodSeconds;
+    }
+
+    public long getSplitBytes() {
+        return splitBytes;
+    }
+
+    public void setSplitBytes(long splitBytes) {
+        this.splitBytes = splitBytes;
+    }
+
+    public long getSplitQps() {
+        return splitQps;
+    }
+
+    public void setSplitQps(long splitQps) {
+        this.splitQps = splitQps;
+    }
+
+    public long getMergeBytes() {
+        return mergeBytes;
+    }
+
+    public void setMergeBytes(long mergeBytes) {
+        this.mergeBytes = mergeBytes;
+    }
+
+    public long getMergeQps() {
+        return mergeQps;
+    }
+
+    public void setMergeQps(long mergeQps) {
+        this.mergeQps = mergeQps;
+    }
+
+    public int getMaxReadAttempts() {
+        return maxReadAttempts;
+    }
+
+    public void setMaxReadAttempts(int maxReadAttempts) {
+        this.maxReadAttempts = maxReadAttempts;
+    }
+}
@@ -1,5 +1,5 @@
 // Generated by the protocol buffer compiler.  DO NOT EDIT!
-// source: example.proto
+// source: com/raftimpl/raft/example/server/service/example.proto
 
 package com.raftimpl.raft.example.server.service;
 
@@ -1973,6 +1973,7065 @@ public final class ExampleProto {
     // @@protoc_insertion_point(class_scope:service.GetResponse)
   }
 
+  public interface RegionOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint32 region_id = 1;
+    /**
+     * <code>optional uint32 region_id = 1;</code>
+     */
+    boolean hasRegionId();
+    /**
+     * <code>optional uint32 region_id = 1;</code>
+     */
+    int getRegionId();
+
+    // optional string start_key = 2;
+    /**
+     * <code>optional string start_key = 2;</code>
+     *
+     * <pre>
+     * 包含，空串表示keyspace的起点
+     * </pre>
+     */
+    boolean hasStartKey();
+    /**
+     * <code>optional string start_key = 2;</code>
+     *
+     * <pre>
+     * 包含，空串表示keyspace的起点
+     * </pre>
+     */
+    java.lang.String getStartKey();
+    /**
+     * <code>optional string start_key = 2;</code>
+     *
+     * <pre>
+     * 包含，空串表示keyspace的起点
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getStartKeyBytes();
+
+    // optional string end_key = 3;
+    /**
+     * <code>optional string end_key = 3;</code>
+     *
+     * <pre>
+     * 不包含，空串表示keyspace的终点
+     * </pre>
+     */
+    boolean hasEndKey();
+    /**
+     * <code>optional string end_key = 3;</code>
+     *
+     * <pre>
+     * 不包含，空串表示keyspace的终点
+     * </pre>
+     */
+    java.lang.String getEndKey();
+    /**
+     * <code>optional string end_key = 3;</code>
+     *
+     * <pre>
+     * 不包含，空串表示keyspace的终点
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getEndKeyBytes();
+
+    // optional uint64 epoch = 4;
+    /**
+     * <code>optional uint64 epoch = 4;</code>
+     *
+     * <pre>
+     * 每次分裂、合并都会增加，路由信息按epoch判断新旧
+     * </pre>
+     */
+    boolean hasEpoch();
+    /**
+     * <code>optional uint64 epoch = 4;</code>
+     *
+     * <pre>
+     * 每次分裂、合并都会增加，路由信息按epoch判断新旧
+     * </pre>
+     */
+    long getEpoch();
+
+    // optional bool merging = 5;
+    /**
+     * <code>optional bool merging = 5;</code>
+     *
+     * <pre>
+     * 正在合并到merge_target_id，期间不再写入
+     * </pre>
+     */
+    boolean hasMerging();
+    /**
+     * <code>optional bool merging = 5;</code>
+     *
+     * <pre>
+     * 正在合并到merge_target_id，期间不再写入
+     * </pre>
+     */
+    boolean getMerging();
+
+    // optional uint32 merge_target_id = 6;
+    /**
+     * <code>optional uint32 merge_target_id = 6;</code>
+     */
+    boolean hasMergeTargetId();
+    /**
+     * <code>optional uint32 merge_target_id = 6;</code>
+     */
+    int getMergeTargetId();
+
+    // repeated uint32 child_region_ids = 7;
+    /**
+     * <code>repeated uint32 child_region_ids = 7;</code>
+     *
+     * <pre>
+     * 从该region分裂出去的region
+     * </pre>
+     */
+    java.util.List<java.lang.Integer> getChildRegionIdsList();
+    /**
+     * <code>repeated uint32 child_region_ids = 7;</code>
+     *
+     * <pre>
+     * 从该region分裂出去的region
+     * </pre>
+     */
+    int getChildRegionIdsCount();
+    /**
+     * <code>repeated uint32 child_region_ids = 7;</code>
+     *
+     * <pre>
+     * 从该region分裂出去的region
+     * </pre>
+     */
+    int getChildRegionIds(int index);
+
+    // optional uint64 merge_target_epoch = 8;
+    /**
+     * <code>optional uint64 merge_target_epoch = 8;</code>
+     *
+     * <pre>
+     * 只有target仍是这个epoch时才能完成合并
+     * </pre>
+     */
+    boolean hasMergeTargetEpoch();
+    /**
+     * <code>optional uint64 merge_target_epoch = 8;</code>
+     *
+     * <pre>
+     * 只有target仍是这个epoch时才能完成合并
+     * </pre>
+     */
+    long getMergeTargetEpoch();
+
+    // repeated uint32 merged_region_ids = 9;
+    /**
+     * <code>repeated uint32 merged_region_ids = 9;</code>
+     *
+     * <pre>
+     * 已经并入该region的region
+     * </pre>
+     */
+    java.util.List<java.lang.Integer> getMergedRegionIdsList();
+    /**
+     * <code>repeated uint32 merged_region_ids = 9;</code>
+     *
+     * <pre>
+     * 已经并入该region的region
+     * </pre>
+     */
+    int getMergedRegionIdsCount();
+    /**
+     * <code>repeated uint32 merged_region_ids = 9;</code>
+     *
+     * <pre>
+     * 已经并入该region的region
+     * </pre>
+     */
+    int getMergedRegionIds(int index);
+  }
+  /**
+   * Protobuf type {@code service.Region}
+   *
+   * <pre>
+   * 一段连续的key范围，由一个raft group负责，region_id就是它的group id
+   * </pre>
+   */
+  public static final class Region extends
+      com.google.protobuf.GeneratedMessage
+      implements RegionOrBuilder {
+    // Use Region.newBuilder() to construct.
+    private Region(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Region(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Region defaultInstance;
+    public static Region getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Region getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Region(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              regionId_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              startKey_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              endKey_ = input.readBytes();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              epoch_ = input.readUInt64();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              merging_ = input.readBool();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              mergeTargetId_ = input.readUInt32();
+              break;
+            }
+            case 56: {
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                childRegionIds_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              childRegionIds_.add(input.readUInt32());
+              break;
+            }
+            case 58: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040) && input.getBytesUntilLimit() > 0) {
+                childRegionIds_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                childRegionIds_.add(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000040;
+              mergeTargetEpoch_ = input.readUInt64();
+              break;
+            }
+            case 72: {
+              if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+                mergedRegionIds_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              mergedRegionIds_.add(input.readUInt32());
+              break;
+            }
+            case 74: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000100) == 0x00000100) && input.getBytesUntilLimit() > 0) {
+                mergedRegionIds_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                mergedRegionIds_.add(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+          childRegionIds_ = java.util.Collections.unmodifiableList(childRegionIds_);
+        }
+        if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+          mergedRegionIds_ = java.util.Collections.unmodifiableList(mergedRegionIds_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_Region_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_Region_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.example.server.service.ExampleProto.Region.class, com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Region> PARSER =
+        new com.google.protobuf.AbstractParser<Region>() {
+      public Region parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Region(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Region> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional uint32 region_id = 1;
+    public static final int REGION_ID_FIELD_NUMBER = 1;
+    private int regionId_;
+    /**
+     * <code>optional uint32 region_id = 1;</code>
+     */
+    public boolean hasRegionId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint32 region_id = 1;</code>
+     */
+    public int getRegionId() {
+      return regionId_;
+    }
+
+    // optional string start_key = 2;
+    public static final int START_KEY_FIELD_NUMBER = 2;
+    private java.lang.Object startKey_;
+    /**
+     * <code>optional string start_key = 2;</code>
+     *
+     * <pre>
+     * 包含，空串表示keyspace的起点
+     * </pre>
+     */
+    public boolean hasStartKey() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string start_key = 2;</code>
+     *
+     * <pre>
+     * 包含，空串表示keyspace的起点
+     * </pre>
+     */
+    public java.lang.String getStartKey() {
+      java.lang.Object ref = startKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          startKey_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string start_key = 2;</code>
+     *
+     * <pre>
+     * 包含，空串表示keyspace的起点
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getStartKeyBytes() {
+      java.lang.Object ref = startKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        startKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string end_key = 3;
+    public static final int END_KEY_FIELD_NUMBER = 3;
+    private java.lang.Object endKey_;
+    /**
+     * <code>optional string end_key = 3;</code>
+     *
+     * <pre>
+     * 不包含，空串表示keyspace的终点
+     * </pre>
+     */
+    public boolean hasEndKey() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string end_key = 3;</code>
+     *
+     * <pre>
+     * 不包含，空串表示keyspace的终点
+     * </pre>
+     */
+    public java.lang.String getEndKey() {
+      java.lang.Object ref = endKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          endKey_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string end_key = 3;</code>
+     *
+     * <pre>
+     * 不包含，空串表示keyspace的终点
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getEndKeyBytes() {
+      java.lang.Object ref = endKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        endKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional uint64 epoch = 4;
+    public static final int EPOCH_FIELD_NUMBER = 4;
+    private long epoch_;
+    /**
+     * <code>optional uint64 epoch = 4;</code>
+     *
+     * <pre>
+     * 每次分裂、合并都会增加，路由信息按epoch判断新旧
+     * </pre>
+     */
+    public boolean hasEpoch() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional uint64 epoch = 4;</code>
+     *
+     * <pre>
+     * 每次分裂、合并都会增加，路由信息按epoch判断新旧
+     * </pre>
+     */
+    public long getEpoch() {
+      return epoch_;
+    }
+
+    // optional bool merging = 5;
+    public static final int MERGING_FIELD_NUMBER = 5;
+    private boolean merging_;
+    /**
+     * <code>optional bool merging = 5;</code>
+     *
+     * <pre>
+     * 正在合并到merge_target_id，期间不再写入
+     * </pre>
+     */
+    public boolean hasMerging() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional bool merging = 5;</code>
+     *
+     * <pre>
+     * 正在合并到merge_target_id，期间不再写入
+     * </pre>
+     */
+    public boolean getMerging() {
+      return merging_;
+    }
+
+    // optional uint32 merge_target_id = 6;
+    public static final int MERGE_TARGET_ID_FIELD_NUMBER = 6;
+    private int mergeTargetId_;
+    /**
+     * <code>optional uint32 merge_target_id = 6;</code>
+     */
+    public boolean hasMergeTargetId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional uint32 merge_target_id = 6;</code>
+     */
+    public int getMergeTargetId() {
+      return mergeTargetId_;
+    }
+
+    // repeated uint32 child_region_ids = 7;
+    public static final int CHILD_REGION_IDS_FIELD_NUMBER = 7;
+    private java.util.List<java.lang.Integer> childRegionIds_;
+    /**
+     * <code>repeated uint32 child_region_ids = 7;</code>
+     *
+     * <pre>
+     * 从该region分裂出去的region
+     * </pre>
+     */
+    public java.util.List<java.lang.Integer>
+        getChildRegionIdsList() {
+      return childRegionIds_;
+    }
+    /**
+     * <code>repeated uint32 child_region_ids = 7;</code>
+     *
+     * <pre>
+     * 从该region分裂出去的region
+     * </pre>
+     */
+    public int getChildRegionIdsCount() {
+      return childRegionIds_.size();
+    }
+    /**
+     * <code>repeated uint32 child_region_ids = 7;</code>
+     *
+     * <pre>
+     * 从该region分裂出去的region
+     * </pre>
+     */
+    public int getChildRegionIds(int index) {
+      return childRegionIds_.get(index);
+    }
+
+    // optional uint64 merge_target_epoch = 8;
+    public static final int MERGE_TARGET_EPOCH_FIELD_NUMBER = 8;
+    private long mergeTargetEpoch_;
+    /**
+     * <code>optional uint64 merge_target_epoch = 8;</code>
+     *
+     * <pre>
+     * 只有target仍是这个epoch时才能完成合并
+     * </pre>
+     */
+    public boolean hasMergeTargetEpoch() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional uint64 merge_target_epoch = 8;</code>
+     *
+     * <pre>
+     * 只有target仍是这个epoch时才能完成合并
+     * </pre>
+     */
+    public long getMergeTargetEpoch() {
+      return mergeTargetEpoch_;
+    }
+
+    // repeated uint32 merged_region_ids = 9;
+    public static final int MERGED_REGION_IDS_FIELD_NUMBER = 9;
+    private java.util.List<java.lang.Integer> mergedRegionIds_;
+    /**
+     * <code>repeated uint32 merged_region_ids = 9;</code>
+     *
+     * <pre>
+     * 已经并入该region的region
+     * </pre>
+     */
+    public java.util.List<java.lang.Integer>
+        getMergedRegionIdsList() {
+      return mergedRegionIds_;
+    }
+    /**
+     * <code>repeated uint32 merged_region_ids = 9;</code>
+     *
+     * <pre>
+     * 已经并入该region的region
+     * </pre>
+     */
+    public int getMergedRegionIdsCount() {
+      return mergedRegionIds_.size();
+    }
+    /**
+     * <code>repeated uint32 merged_region_ids = 9;</code>
+     *
+     * <pre>
+     * 已经并入该region的region
+     * </pre>
+     */
+    public int getMergedRegionIds(int index) {
+      return mergedRegionIds_.get(index);
+    }
+
+    private void initFields() {
+      regionId_ = 0;
+      startKey_ = "";
+      endKey_ = "";
+      epoch_ = 0L;
+      merging_ = false;
+      mergeTargetId_ = 0;
+      childRegionIds_ = java.util.Collections.emptyList();
+      mergeTargetEpoch_ = 0L;
+      mergedRegionIds_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, regionId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getStartKeyBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getEndKeyBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeUInt64(4, epoch_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBool(5, merging_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeUInt32(6, mergeTargetId_);
+      }
+      for (int i = 0; i < childRegionIds_.size(); i++) {
+        output.writeUInt32(7, childRegionIds_.get(i));
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeUInt64(8, mergeTargetEpoch_);
+      }
+      for (int i = 0; i < mergedRegionIds_.size(); i++) {
+        output.writeUInt32(9, mergedRegionIds_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, regionId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getStartKeyBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getEndKeyBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, epoch_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, merging_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, mergeTargetId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < childRegionIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(childRegionIds_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getChildRegionIdsList().size();
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(8, mergeTargetEpoch_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < mergedRegionIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(mergedRegionIds_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getMergedRegionIdsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.example.server.service.ExampleProto.Region parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.Region parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.Region parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.Region parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.Region parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.Region parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.Region parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.Region parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.Region parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.Region parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.example.server.service.ExampleProto.Region prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code service.Region}
+     *
+     * <pre>
+     * 一段连续的key范围，由一个raft group负责，region_id就是它的group id
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_Region_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_Region_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.example.server.service.ExampleProto.Region.class, com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.example.server.service.ExampleProto.Region.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        regionId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startKey_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        endKey_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        epoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        merging_ = false;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        mergeTargetId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        childRegionIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        mergeTargetEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        mergedRegionIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_Region_descriptor;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.Region getDefaultInstanceForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.Region build() {
+        com.raftimpl.raft.example.server.service.ExampleProto.Region result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.Region buildPartial() {
+        com.raftimpl.raft.example.server.service.ExampleProto.Region result = new com.raftimpl.raft.example.server.service.ExampleProto.Region(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.regionId_ = regionId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.startKey_ = startKey_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.endKey_ = endKey_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.epoch_ = epoch_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.merging_ = merging_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.mergeTargetId_ = mergeTargetId_;
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          childRegionIds_ = java.util.Collections.unmodifiableList(childRegionIds_);
+          bitField0_ = (bitField0_ & ~0x00000040);
+        }
+        result.childRegionIds_ = childRegionIds_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.mergeTargetEpoch_ = mergeTargetEpoch_;
+        if (((bitField0_ & 0x00000100) == 0x00000100)) {
+          mergedRegionIds_ = java.util.Collections.unmodifiableList(mergedRegionIds_);
+          bitField0_ = (bitField0_ & ~0x00000100);
+        }
+        result.mergedRegionIds_ = mergedRegionIds_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.example.server.service.ExampleProto.Region) {
+          return mergeFrom((com.raftimpl.raft.example.server.service.ExampleProto.Region)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.example.server.service.ExampleProto.Region other) {
+        if (other == com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance()) return this;
+        if (other.hasRegionId()) {
+          setRegionId(other.getRegionId());
+        }
+        if (other.hasStartKey()) {
+          bitField0_ |= 0x00000002;
+          startKey_ = other.startKey_;
+          onChanged();
+        }
+        if (other.hasEndKey()) {
+          bitField0_ |= 0x00000004;
+          endKey_ = other.endKey_;
+          onChanged();
+        }
+        if (other.hasEpoch()) {
+          setEpoch(other.getEpoch());
+        }
+        if (other.hasMerging()) {
+          setMerging(other.getMerging());
+        }
+        if (other.hasMergeTargetId()) {
+          setMergeTargetId(other.getMergeTargetId());
+        }
+        if (!other.childRegionIds_.isEmpty()) {
+          if (childRegionIds_.isEmpty()) {
+            childRegionIds_ = other.childRegionIds_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+          } else {
+            ensureChildRegionIdsIsMutable();
+            childRegionIds_.addAll(other.childRegionIds_);
+          }
+          onChanged();
+        }
+        if (other.hasMergeTargetEpoch()) {
+          setMergeTargetEpoch(other.getMergeTargetEpoch());
+        }
+        if (!other.mergedRegionIds_.isEmpty()) {
+          if (mergedRegionIds_.isEmpty()) {
+            mergedRegionIds_ = other.mergedRegionIds_;
+            bitField0_ = (bitField0_ & ~0x00000100);
+          } else {
+            ensureMergedRegionIdsIsMutable();
+            mergedRegionIds_.addAll(other.mergedRegionIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.example.server.service.ExampleProto.Region parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.example.server.service.ExampleProto.Region) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional uint32 region_id = 1;
+      private int regionId_ ;
+      /**
+       * <code>optional uint32 region_id = 1;</code>
+       */
+      public boolean hasRegionId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint32 region_id = 1;</code>
+       */
+      public int getRegionId() {
+        return regionId_;
+      }
+      /**
+       * <code>optional uint32 region_id = 1;</code>
+       */
+      public Builder setRegionId(int value) {
+        bitField0_ |= 0x00000001;
+        regionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 region_id = 1;</code>
+       */
+      public Builder clearRegionId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        regionId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional string start_key = 2;
+      private java.lang.Object startKey_ = "";
+      /**
+       * <code>optional string start_key = 2;</code>
+       *
+       * <pre>
+       * 包含，空串表示keyspace的起点
+       * </pre>
+       */
+      public boolean hasStartKey() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string start_key = 2;</code>
+       *
+       * <pre>
+       * 包含，空串表示keyspace的起点
+       * </pre>
+       */
+      public java.lang.String getStartKey() {
+        java.lang.Object ref = startKey_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          startKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string start_key = 2;</code>
+       *
+       * <pre>
+       * 包含，空串表示keyspace的起点
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getStartKeyBytes() {
+        java.lang.Object ref = startKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          startKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string start_key = 2;</code>
+       *
+       * <pre>
+       * 包含，空串表示keyspace的起点
+       * </pre>
+       */
+      public Builder setStartKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        startKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string start_key = 2;</code>
+       *
+       * <pre>
+       * 包含，空串表示keyspace的起点
+       * </pre>
+       */
+      public Builder clearStartKey() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        startKey_ = getDefaultInstance().getStartKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string start_key = 2;</code>
+       *
+       * <pre>
+       * 包含，空串表示keyspace的起点
+       * </pre>
+       */
+      public Builder setStartKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        startKey_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string end_key = 3;
+      private java.lang.Object endKey_ = "";
+      /**
+       * <code>optional string end_key = 3;</code>
+       *
+       * <pre>
+       * 不包含，空串表示keyspace的终点
+       * </pre>
+       */
+      public boolean hasEndKey() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string end_key = 3;</code>
+       *
+       * <pre>
+       * 不包含，空串表示keyspace的终点
+       * </pre>
+       */
+      public java.lang.String getEndKey() {
+        java.lang.Object ref = endKey_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          endKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string end_key = 3;</code>
+       *
+       * <pre>
+       * 不包含，空串表示keyspace的终点
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getEndKeyBytes() {
+        java.lang.Object ref = endKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          endKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string end_key = 3;</code>
+       *
+       * <pre>
+       * 不包含，空串表示keyspace的终点
+       * </pre>
+       */
+      public Builder setEndKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        endKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string end_key = 3;</code>
+       *
+       * <pre>
+       * 不包含，空串表示keyspace的终点
+       * </pre>
+       */
+      public Builder clearEndKey() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        endKey_ = getDefaultInstance().getEndKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string end_key = 3;</code>
+       *
+       * <pre>
+       * 不包含，空串表示keyspace的终点
+       * </pre>
+       */
+      public Builder setEndKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        endKey_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional uint64 epoch = 4;
+      private long epoch_ ;
+      /**
+       * <code>optional uint64 epoch = 4;</code>
+       *
+       * <pre>
+       * 每次分裂、合并都会增加，路由信息按epoch判断新旧
+       * </pre>
+       */
+      public boolean hasEpoch() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional uint64 epoch = 4;</code>
+       *
+       * <pre>
+       * 每次分裂、合并都会增加，路由信息按epoch判断新旧
+       * </pre>
+       */
+      public long getEpoch() {
+        return epoch_;
+      }
+      /**
+       * <code>optional uint64 epoch = 4;</code>
+       *
+       * <pre>
+       * 每次分裂、合并都会增加，路由信息按epoch判断新旧
+       * </pre>
+       */
+      public Builder setEpoch(long value) {
+        bitField0_ |= 0x00000008;
+        epoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 epoch = 4;</code>
+       *
+       * <pre>
+       * 每次分裂、合并都会增加，路由信息按epoch判断新旧
+       * </pre>
+       */
+      public Builder clearEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        epoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional bool merging = 5;
+      private boolean merging_ ;
+      /**
+       * <code>optional bool merging = 5;</code>
+       *
+       * <pre>
+       * 正在合并到merge_target_id，期间不再写入
+       * </pre>
+       */
+      public boolean hasMerging() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional bool merging = 5;</code>
+       *
+       * <pre>
+       * 正在合并到merge_target_id，期间不再写入
+       * </pre>
+       */
+      public boolean getMerging() {
+        return merging_;
+      }
+      /**
+       * <code>optional bool merging = 5;</code>
+       *
+       * <pre>
+       * 正在合并到merge_target_id，期间不再写入
+       * </pre>
+       */
+      public Builder setMerging(boolean value) {
+        bitField0_ |= 0x00000010;
+        merging_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool merging = 5;</code>
+       *
+       * <pre>
+       * 正在合并到merge_target_id，期间不再写入
+       * </pre>
+       */
+      public Builder clearMerging() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        merging_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional uint32 merge_target_id = 6;
+      private int mergeTargetId_ ;
+      /**
+       * <code>optional uint32 merge_target_id = 6;</code>
+       */
+      public boolean hasMergeTargetId() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional uint32 merge_target_id = 6;</code>
+       */
+      public int getMergeTargetId() {
+        return mergeTargetId_;
+      }
+      /**
+       * <code>optional uint32 merge_target_id = 6;</code>
+       */
+      public Builder setMergeTargetId(int value) {
+        bitField0_ |= 0x00000020;
+        mergeTargetId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 merge_target_id = 6;</code>
+       */
+      public Builder clearMergeTargetId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        mergeTargetId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // repeated uint32 child_region_ids = 7;
+      private java.util.List<java.lang.Integer> childRegionIds_ = java.util.Collections.emptyList();
+      private void ensureChildRegionIdsIsMutable() {
+        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+          childRegionIds_ = new java.util.ArrayList<java.lang.Integer>(childRegionIds_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+      /**
+       * <code>repeated uint32 child_region_ids = 7;</code>
+       *
+       * <pre>
+       * 从该region分裂出去的region
+       * </pre>
+       */
+      public java.util.List<java.lang.Integer>
+          getChildRegionIdsList() {
+        return java.util.Collections.unmodifiableList(childRegionIds_);
+      }
+      /**
+       * <code>repeated uint32 child_region_ids = 7;</code>
+       *
+       * <pre>
+       * 从该region分裂出去的region
+       * </pre>
+       */
+      public int getChildRegionIdsCount() {
+        return childRegionIds_.size();
+      }
+      /**
+       * <code>repeated uint32 child_region_ids = 7;</code>
+       *
+       * <pre>
+       * 从该region分裂出去的region
+       * </pre>
+       */
+      public int getChildRegionIds(int index) {
+        return childRegionIds_.get(index);
+      }
+      /**
+       * <code>repeated uint32 child_region_ids = 7;</code>
+       *
+       * <pre>
+       * 从该region分裂出去的region
+       * </pre>
+       */
+      public Builder setChildRegionIds(
+          int index, int value) {
+        ensureChildRegionIdsIsMutable();
+        childRegionIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 child_region_ids = 7;</code>
+       *
+       * <pre>
+       * 从该region分裂出去的region
+       * </pre>
+       */
+      public Builder addChildRegionIds(int value) {
+        ensureChildRegionIdsIsMutable();
+        childRegionIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 child_region_ids = 7;</code>
+       *
+       * <pre>
+       * 从该region分裂出去的region
+       * </pre>
+       */
+      public Builder addAllChildRegionIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureChildRegionIdsIsMutable();
+        super.addAll(values, childRegionIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 child_region_ids = 7;</code>
+       *
+       * <pre>
+       * 从该region分裂出去的region
+       * </pre>
+       */
+      public Builder clearChildRegionIds() {
+        childRegionIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+
+      // optional uint64 merge_target_epoch = 8;
+      private long mergeTargetEpoch_ ;
+      /**
+       * <code>optional uint64 merge_target_epoch = 8;</code>
+       *
+       * <pre>
+       * 只有target仍是这个epoch时才能完成合并
+       * </pre>
+       */
+      public boolean hasMergeTargetEpoch() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional uint64 merge_target_epoch = 8;</code>
+       *
+       * <pre>
+       * 只有target仍是这个epoch时才能完成合并
+       * </pre>
+       */
+      public long getMergeTargetEpoch() {
+        return mergeTargetEpoch_;
+      }
+      /**
+       * <code>optional uint64 merge_target_epoch = 8;</code>
+       *
+       * <pre>
+       * 只有target仍是这个epoch时才能完成合并
+       * </pre>
+       */
+      public Builder setMergeTargetEpoch(long value) {
+        bitField0_ |= 0x00000080;
+        mergeTargetEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 merge_target_epoch = 8;</code>
+       *
+       * <pre>
+       * 只有target仍是这个epoch时才能完成合并
+       * </pre>
+       */
+      public Builder clearMergeTargetEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        mergeTargetEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // repeated uint32 merged_region_ids = 9;
+      private java.util.List<java.lang.Integer> mergedRegionIds_ = java.util.Collections.emptyList();
+      private void ensureMergedRegionIdsIsMutable() {
+        if (!((bitField0_ & 0x00000100) == 0x00000100)) {
+          mergedRegionIds_ = new java.util.ArrayList<java.lang.Integer>(mergedRegionIds_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+      /**
+       * <code>repeated uint32 merged_region_ids = 9;</code>
+       *
+       * <pre>
+       * 已经并入该region的region
+       * </pre>
+       */
+      public java.util.List<java.lang.Integer>
+          getMergedRegionIdsList() {
+        return java.util.Collections.unmodifiableList(mergedRegionIds_);
+      }
+      /**
+       * <code>repeated uint32 merged_region_ids = 9;</code>
+       *
+       * <pre>
+       * 已经并入该region的region
+       * </pre>
+       */
+      public int getMergedRegionIdsCount() {
+        return mergedRegionIds_.size();
+      }
+      /**
+       * <code>repeated uint32 merged_region_ids = 9;</code>
+       *
+       * <pre>
+       * 已经并入该region的region
+       * </pre>
+       */
+      public int getMergedRegionIds(int index) {
+        return mergedRegionIds_.get(index);
+      }
+      /**
+       * <code>repeated uint32 merged_region_ids = 9;</code>
+       *
+       * <pre>
+       * 已经并入该region的region
+       * </pre>
+       */
+      public Builder setMergedRegionIds(
+          int index, int value) {
+        ensureMergedRegionIdsIsMutable();
+        mergedRegionIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 merged_region_ids = 9;</code>
+       *
+       * <pre>
+       * 已经并入该region的region
+       * </pre>
+       */
+      public Builder addMergedRegionIds(int value) {
+        ensureMergedRegionIdsIsMutable();
+        mergedRegionIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 merged_region_ids = 9;</code>
+       *
+       * <pre>
+       * 已经并入该region的region
+       * </pre>
+       */
+      public Builder addAllMergedRegionIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureMergedRegionIdsIsMutable();
+        super.addAll(values, mergedRegionIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 merged_region_ids = 9;</code>
+       *
+       * <pre>
+       * 已经并入该region的region
+       * </pre>
+       */
+      public Builder clearMergedRegionIds() {
+        mergedRegionIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:service.Region)
+    }
+
+    static {
+      defaultInstance = new Region(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:service.Region)
+  }
+
+  public interface SplitCommandOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional string split_key = 1;
+    /**
+     * <code>optional string split_key = 1;</code>
+     */
+    boolean hasSplitKey();
+    /**
+     * <code>optional string split_key = 1;</code>
+     */
+    java.lang.String getSplitKey();
+    /**
+     * <code>optional string split_key = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getSplitKeyBytes();
+
+    // optional uint32 new_region_id = 2;
+    /**
+     * <code>optional uint32 new_region_id = 2;</code>
+     */
+    boolean hasNewRegionId();
+    /**
+     * <code>optional uint32 new_region_id = 2;</code>
+     */
+    int getNewRegionId();
+  }
+  /**
+   * Protobuf type {@code service.SplitCommand}
+   *
+   * <pre>
+   * [split_key, end_key)分给新的region
+   * </pre>
+   */
+  public static final class SplitCommand extends
+      com.google.protobuf.GeneratedMessage
+      implements SplitCommandOrBuilder {
+    // Use SplitCommand.newBuilder() to construct.
+    private SplitCommand(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SplitCommand(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SplitCommand defaultInstance;
+    public static SplitCommand getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SplitCommand getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SplitCommand(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              splitKey_ = input.readBytes();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              newRegionId_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_SplitCommand_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_SplitCommand_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.class, com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SplitCommand> PARSER =
+        new com.google.protobuf.AbstractParser<SplitCommand>() {
+      public SplitCommand parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SplitCommand(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SplitCommand> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional string split_key = 1;
+    public static final int SPLIT_KEY_FIELD_NUMBER = 1;
+    private java.lang.Object splitKey_;
+    /**
+     * <code>optional string split_key = 1;</code>
+     */
+    public boolean hasSplitKey() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string split_key = 1;</code>
+     */
+    public java.lang.String getSplitKey() {
+      java.lang.Object ref = splitKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          splitKey_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string split_key = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSplitKeyBytes() {
+      java.lang.Object ref = splitKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        splitKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional uint32 new_region_id = 2;
+    public static final int NEW_REGION_ID_FIELD_NUMBER = 2;
+    private int newRegionId_;
+    /**
+     * <code>optional uint32 new_region_id = 2;</code>
+     */
+    public boolean hasNewRegionId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional uint32 new_region_id = 2;</code>
+     */
+    public int getNewRegionId() {
+      return newRegionId_;
+    }
+
+    private void initFields() {
+      splitKey_ = "";
+      newRegionId_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getSplitKeyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt32(2, newRegionId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getSplitKeyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, newRegionId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code service.SplitCommand}
+     *
+     * <pre>
+     * [split_key, end_key)分给新的region
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.example.server.service.ExampleProto.SplitCommandOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_SplitCommand_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_SplitCommand_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.class, com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        splitKey_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        newRegionId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_SplitCommand_descriptor;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand getDefaultInstanceForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand build() {
+        com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand buildPartial() {
+        com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand result = new com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.splitKey_ = splitKey_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.newRegionId_ = newRegionId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand) {
+          return mergeFrom((com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand other) {
+        if (other == com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.getDefaultInstance()) return this;
+        if (other.hasSplitKey()) {
+          bitField0_ |= 0x00000001;
+          splitKey_ = other.splitKey_;
+          onChanged();
+        }
+        if (other.hasNewRegionId()) {
+          setNewRegionId(other.getNewRegionId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional string split_key = 1;
+      private java.lang.Object splitKey_ = "";
+      /**
+       * <code>optional string split_key = 1;</code>
+       */
+      public boolean hasSplitKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string split_key = 1;</code>
+       */
+      public java.lang.String getSplitKey() {
+        java.lang.Object ref = splitKey_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          splitKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string split_key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSplitKeyBytes() {
+        java.lang.Object ref = splitKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          splitKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string split_key = 1;</code>
+       */
+      public Builder setSplitKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        splitKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string split_key = 1;</code>
+       */
+      public Builder clearSplitKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        splitKey_ = getDefaultInstance().getSplitKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string split_key = 1;</code>
+       */
+      public Builder setSplitKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        splitKey_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional uint32 new_region_id = 2;
+      private int newRegionId_ ;
+      /**
+       * <code>optional uint32 new_region_id = 2;</code>
+       */
+      public boolean hasNewRegionId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint32 new_region_id = 2;</code>
+       */
+      public int getNewRegionId() {
+        return newRegionId_;
+      }
+      /**
+       * <code>optional uint32 new_region_id = 2;</code>
+       */
+      public Builder setNewRegionId(int value) {
+        bitField0_ |= 0x00000002;
+        newRegionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 new_region_id = 2;</code>
+       */
+      public Builder clearNewRegionId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        newRegionId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:service.SplitCommand)
+    }
+
+    static {
+      defaultInstance = new SplitCommand(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:service.SplitCommand)
+  }
+
+  public interface PrepareMergeCommandOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint32 target_region_id = 1;
+    /**
+     * <code>optional uint32 target_region_id = 1;</code>
+     */
+    boolean hasTargetRegionId();
+    /**
+     * <code>optional uint32 target_region_id = 1;</code>
+     */
+    int getTargetRegionId();
+
+    // optional uint64 target_epoch = 2;
+    /**
+     * <code>optional uint64 target_epoch = 2;</code>
+     */
+    boolean hasTargetEpoch();
+    /**
+     * <code>optional uint64 target_epoch = 2;</code>
+     */
+    long getTargetEpoch();
+  }
+  /**
+   * Protobuf type {@code service.PrepareMergeCommand}
+   *
+   * <pre>
+   * 冻结region，准备并入左侧相邻的target_region_id
+   * </pre>
+   */
+  public static final class PrepareMergeCommand extends
+      com.google.protobuf.GeneratedMessage
+      implements PrepareMergeCommandOrBuilder {
+    // Use PrepareMergeCommand.newBuilder() to construct.
+    private PrepareMergeCommand(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private PrepareMergeCommand(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final PrepareMergeCommand defaultInstance;
+    public static PrepareMergeCommand getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public PrepareMergeCommand getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PrepareMergeCommand(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              targetRegionId_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              targetEpoch_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_PrepareMergeCommand_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_PrepareMergeCommand_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.class, com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<PrepareMergeCommand> PARSER =
+        new com.google.protobuf.AbstractParser<PrepareMergeCommand>() {
+      public PrepareMergeCommand parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PrepareMergeCommand(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PrepareMergeCommand> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional uint32 target_region_id = 1;
+    public static final int TARGET_REGION_ID_FIELD_NUMBER = 1;
+    private int targetRegionId_;
+    /**
+     * <code>optional uint32 target_region_id = 1;</code>
+     */
+    public boolean hasTargetRegionId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint32 target_region_id = 1;</code>
+     */
+    public int getTargetRegionId() {
+      return targetRegionId_;
+    }
+
+    // optional uint64 target_epoch = 2;
+    public static final int TARGET_EPOCH_FIELD_NUMBER = 2;
+    private long targetEpoch_;
+    /**
+     * <code>optional uint64 target_epoch = 2;</code>
+     */
+    public boolean hasTargetEpoch() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional uint64 target_epoch = 2;</code>
+     */
+    public long getTargetEpoch() {
+      return targetEpoch_;
+    }
+
+    private void initFields() {
+      targetRegionId_ = 0;
+      targetEpoch_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, targetRegionId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, targetEpoch_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, targetRegionId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, targetEpoch_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code service.PrepareMergeCommand}
+     *
+     * <pre>
+     * 冻结region，准备并入左侧相邻的target_region_id
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommandOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_PrepareMergeCommand_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_PrepareMergeCommand_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.class, com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        targetRegionId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        targetEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_PrepareMergeCommand_descriptor;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand getDefaultInstanceForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand build() {
+        com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand buildPartial() {
+        com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand result = new com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.targetRegionId_ = targetRegionId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.targetEpoch_ = targetEpoch_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand) {
+          return mergeFrom((com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand other) {
+        if (other == com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.getDefaultInstance()) return this;
+        if (other.hasTargetRegionId()) {
+          setTargetRegionId(other.getTargetRegionId());
+        }
+        if (other.hasTargetEpoch()) {
+          setTargetEpoch(other.getTargetEpoch());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional uint32 target_region_id = 1;
+      private int targetRegionId_ ;
+      /**
+       * <code>optional uint32 target_region_id = 1;</code>
+       */
+      public boolean hasTargetRegionId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint32 target_region_id = 1;</code>
+       */
+      public int getTargetRegionId() {
+        return targetRegionId_;
+      }
+      /**
+       * <code>optional uint32 target_region_id = 1;</code>
+       */
+      public Builder setTargetRegionId(int value) {
+        bitField0_ |= 0x00000001;
+        targetRegionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 target_region_id = 1;</code>
+       */
+      public Builder clearTargetRegionId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        targetRegionId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional uint64 target_epoch = 2;
+      private long targetEpoch_ ;
+      /**
+       * <code>optional uint64 target_epoch = 2;</code>
+       */
+      public boolean hasTargetEpoch() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint64 target_epoch = 2;</code>
+       */
+      public long getTargetEpoch() {
+        return targetEpoch_;
+      }
+      /**
+       * <code>optional uint64 target_epoch = 2;</code>
+       */
+      public Builder setTargetEpoch(long value) {
+        bitField0_ |= 0x00000002;
+        targetEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 target_epoch = 2;</code>
+       */
+      public Builder clearTargetEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        targetEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:service.PrepareMergeCommand)
+    }
+
+    static {
+      defaultInstance = new PrepareMergeCommand(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:service.PrepareMergeCommand)
+  }
+
+  public interface RollbackMergeCommandOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code service.RollbackMergeCommand}
+   */
+  public static final class RollbackMergeCommand extends
+      com.google.protobuf.GeneratedMessage
+      implements RollbackMergeCommandOrBuilder {
+    // Use RollbackMergeCommand.newBuilder() to construct.
+    private RollbackMergeCommand(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private RollbackMergeCommand(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final RollbackMergeCommand defaultInstance;
+    public static RollbackMergeCommand getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public RollbackMergeCommand getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RollbackMergeCommand(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RollbackMergeCommand_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RollbackMergeCommand_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.class, com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<RollbackMergeCommand> PARSER =
+        new com.google.protobuf.AbstractParser<RollbackMergeCommand>() {
+      public RollbackMergeCommand parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RollbackMergeCommand(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RollbackMergeCommand> getParserForType() {
+      return PARSER;
+    }
+
+    private void initFields() {
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code service.RollbackMergeCommand}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommandOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RollbackMergeCommand_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RollbackMergeCommand_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.class, com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RollbackMergeCommand_descriptor;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand getDefaultInstanceForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand build() {
+        com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand buildPartial() {
+        com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand result = new com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand(this);
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand) {
+          return mergeFrom((com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand other) {
+        if (other == com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:service.RollbackMergeCommand)
+    }
+
+    static {
+      defaultInstance = new RollbackMergeCommand(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:service.RollbackMergeCommand)
+  }
+
+  public interface CommitMergeCommandOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .service.Region source = 1;
+    /**
+     * <code>optional .service.Region source = 1;</code>
+     */
+    boolean hasSource();
+    /**
+     * <code>optional .service.Region source = 1;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.Region getSource();
+    /**
+     * <code>optional .service.Region source = 1;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder getSourceOrBuilder();
+
+    // repeated .service.SetRequest entries = 2;
+    /**
+     * <code>repeated .service.SetRequest entries = 2;</code>
+     */
+    java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.SetRequest> 
+        getEntriesList();
+    /**
+     * <code>repeated .service.SetRequest entries = 2;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.SetRequest getEntries(int index);
+    /**
+     * <code>repeated .service.SetRequest entries = 2;</code>
+     */
+    int getEntriesCount();
+    /**
+     * <code>repeated .service.SetRequest entries = 2;</code>
+     */
+    java.util.List<? extends com.raftimpl.raft.example.server.service.ExampleProto.SetRequestOrBuilder> 
+        getEntriesOrBuilderList();
+    /**
+     * <code>repeated .service.SetRequest entries = 2;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.SetRequestOrBuilder getEntriesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code service.CommitMergeCommand}
+   *
+   * <pre>
+   * 由左侧region提交，带上被合并region冻结后的全部数据
+   * </pre>
+   */
+  public static final class CommitMergeCommand extends
+      com.google.protobuf.GeneratedMessage
+      implements CommitMergeCommandOrBuilder {
+    // Use CommitMergeCommand.newBuilder() to construct.
+    private CommitMergeCommand(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private CommitMergeCommand(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final CommitMergeCommand defaultInstance;
+    public static CommitMergeCommand getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public CommitMergeCommand getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CommitMergeCommand(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = source_.toBuilder();
+              }
+              source_ = input.readMessage(com.raftimpl.raft.example.server.service.ExampleProto.Region.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(source_);
+                source_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                entries_ = new java.util.ArrayList<com.raftimpl.raft.example.server.service.ExampleProto.SetRequest>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              entries_.add(input.readMessage(com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_CommitMergeCommand_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_CommitMergeCommand_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.class, com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<CommitMergeCommand> PARSER =
+        new com.google.protobuf.AbstractParser<CommitMergeCommand>() {
+      public CommitMergeCommand parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CommitMergeCommand(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CommitMergeCommand> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional .service.Region source = 1;
+    public static final int SOURCE_FIELD_NUMBER = 1;
+    private com.raftimpl.raft.example.server.service.ExampleProto.Region source_;
+    /**
+     * <code>optional .service.Region source = 1;</code>
+     */
+    public boolean hasSource() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .service.Region source = 1;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.Region getSource() {
+      return source_;
+    }
+    /**
+     * <code>optional .service.Region source = 1;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder getSourceOrBuilder() {
+      return source_;
+    }
+
+    // repeated .service.SetRequest entries = 2;
+    public static final int ENTRIES_FIELD_NUMBER = 2;
+    private java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.SetRequest> entries_;
+    /**
+     * <code>repeated .service.SetRequest entries = 2;</code>
+     */
+    public java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.SetRequest> getEntriesList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .service.SetRequest entries = 2;</code>
+     */
+    public java.util.List<? extends com.raftimpl.raft.example.server.service.ExampleProto.SetRequestOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .service.SetRequest entries = 2;</code>
+     */
+    public int getEntriesCount() {
+      return entries_.size();
+    }
+    /**
+     * <code>repeated .service.SetRequest entries = 2;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.SetRequest getEntries(int index) {
+      return entries_.get(index);
+    }
+    /**
+     * <code>repeated .service.SetRequest entries = 2;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.SetRequestOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
+    }
+
+    private void initFields() {
+      source_ = com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance();
+      entries_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, source_);
+      }
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(2, entries_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, source_);
+      }
+      for (int i = 0; i < entries_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, entries_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code service.CommitMergeCommand}
+     *
+     * <pre>
+     * 由左侧region提交，带上被合并region冻结后的全部数据
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommandOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_CommitMergeCommand_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_CommitMergeCommand_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.class, com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getSourceFieldBuilder();
+          getEntriesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (sourceBuilder_ == null) {
+          source_ = com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance();
+        } else {
+          sourceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_CommitMergeCommand_descriptor;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand getDefaultInstanceForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand build() {
+        com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand buildPartial() {
+        com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand result = new com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (sourceBuilder_ == null) {
+          result.source_ = source_;
+        } else {
+          result.source_ = sourceBuilder_.build();
+        }
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.entries_ = entries_;
+        } else {
+          result.entries_ = entriesBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand) {
+          return mergeFrom((com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand other) {
+        if (other == com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.getDefaultInstance()) return this;
+        if (other.hasSource()) {
+          mergeSource(other.getSource());
+        }
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              entriesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional .service.Region source = 1;
+      private com.raftimpl.raft.example.server.service.ExampleProto.Region source_ = com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.Region, com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder> sourceBuilder_;
+      /**
+       * <code>optional .service.Region source = 1;</code>
+       */
+      public boolean hasSource() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .service.Region source = 1;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.Region getSource() {
+        if (sourceBuilder_ == null) {
+          return source_;
+        } else {
+          return sourceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .service.Region source = 1;</code>
+       */
+      public Builder setSource(com.raftimpl.raft.example.server.service.ExampleProto.Region value) {
+        if (sourceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          source_ = value;
+          onChanged();
+        } else {
+          sourceBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .service.Region source = 1;</code>
+       */
+      public Builder setSource(
+          com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder builderForValue) {
+        if (sourceBuilder_ == null) {
+          source_ = builderForValue.build();
+          onChanged();
+        } else {
+          sourceBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .service.Region source = 1;</code>
+       */
+      public Builder mergeSource(com.raftimpl.raft.example.server.service.ExampleProto.Region value) {
+        if (sourceBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              source_ != com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance()) {
+            source_ =
+              com.raftimpl.raft.example.server.service.ExampleProto.Region.newBuilder(source_).mergeFrom(value).buildPartial();
+          } else {
+            source_ = value;
+          }
+          onChanged();
+        } else {
+          sourceBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .service.Region source = 1;</code>
+       */
+      public Builder clearSource() {
+        if (sourceBuilder_ == null) {
+          source_ = com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance();
+          onChanged();
+        } else {
+          sourceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>optional .service.Region source = 1;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder getSourceBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getSourceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .service.Region source = 1;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder getSourceOrBuilder() {
+        if (sourceBuilder_ != null) {
+          return sourceBuilder_.getMessageOrBuilder();
+        } else {
+          return source_;
+        }
+      }
+      /**
+       * <code>optional .service.Region source = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.Region, com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder> 
+          getSourceFieldBuilder() {
+        if (sourceBuilder_ == null) {
+          sourceBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.raftimpl.raft.example.server.service.ExampleProto.Region, com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder>(
+                  source_,
+                  getParentForChildren(),
+                  isClean());
+          source_ = null;
+        }
+        return sourceBuilder_;
+      }
+
+      // repeated .service.SetRequest entries = 2;
+      private java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.SetRequest> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          entries_ = new java.util.ArrayList<com.raftimpl.raft.example.server.service.ExampleProto.SetRequest>(entries_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.SetRequest, com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.Builder, com.raftimpl.raft.example.server.service.ExampleProto.SetRequestOrBuilder> entriesBuilder_;
+
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.SetRequest> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.SetRequest getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public Builder setEntries(
+          int index, com.raftimpl.raft.example.server.service.ExampleProto.SetRequest value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public Builder setEntries(
+          int index, com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public Builder addEntries(com.raftimpl.raft.example.server.service.ExampleProto.SetRequest value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public Builder addEntries(
+          int index, com.raftimpl.raft.example.server.service.ExampleProto.SetRequest value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public Builder addEntries(
+          com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public Builder addEntries(
+          int index, com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends com.raftimpl.raft.example.server.service.ExampleProto.SetRequest> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          super.addAll(values, entries_);
+          onChanged();
+        } else {
+          entriesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
+          onChanged();
+        } else {
+          entriesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.SetRequestOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public java.util.List<? extends com.raftimpl.raft.example.server.service.ExampleProto.SetRequestOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entries_);
+        }
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.SetRequest entries = 2;</code>
+       */
+      public java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.SetRequest, com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.Builder, com.raftimpl.raft.example.server.service.ExampleProto.SetRequestOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.raftimpl.raft.example.server.service.ExampleProto.SetRequest, com.raftimpl.raft.example.server.service.ExampleProto.SetRequest.Builder, com.raftimpl.raft.example.server.service.ExampleProto.SetRequestOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          entries_ = null;
+        }
+        return entriesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:service.CommitMergeCommand)
+    }
+
+    static {
+      defaultInstance = new CommitMergeCommand(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:service.CommitMergeCommand)
+  }
+
+  public interface RegionCommandOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional string key = 1;
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    boolean hasKey();
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    java.lang.String getKey();
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    // optional string value = 2;
+    /**
+     * <code>optional string value = 2;</code>
+     */
+    boolean hasValue();
+    /**
+     * <code>optional string value = 2;</code>
+     */
+    java.lang.String getValue();
+    /**
+     * <code>optional string value = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getValueBytes();
+
+    // optional .service.SplitCommand split = 3;
+    /**
+     * <code>optional .service.SplitCommand split = 3;</code>
+     */
+    boolean hasSplit();
+    /**
+     * <code>optional .service.SplitCommand split = 3;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand getSplit();
+    /**
+     * <code>optional .service.SplitCommand split = 3;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.SplitCommandOrBuilder getSplitOrBuilder();
+
+    // optional .service.PrepareMergeCommand prepare_merge = 4;
+    /**
+     * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+     */
+    boolean hasPrepareMerge();
+    /**
+     * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand getPrepareMerge();
+    /**
+     * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommandOrBuilder getPrepareMergeOrBuilder();
+
+    // optional .service.CommitMergeCommand commit_merge = 5;
+    /**
+     * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+     */
+    boolean hasCommitMerge();
+    /**
+     * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand getCommitMerge();
+    /**
+     * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommandOrBuilder getCommitMergeOrBuilder();
+
+    // optional .service.RollbackMergeCommand rollback_merge = 6;
+    /**
+     * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+     */
+    boolean hasRollbackMerge();
+    /**
+     * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand getRollbackMerge();
+    /**
+     * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommandOrBuilder getRollbackMergeOrBuilder();
+  }
+  /**
+   * Protobuf type {@code service.RegionCommand}
+   *
+   * <pre>
+   * region的raft日志条目，key、value与SetRequest的字段号相同，写入仍按SetRequest编码
+   * </pre>
+   */
+  public static final class RegionCommand extends
+      com.google.protobuf.GeneratedMessage
+      implements RegionCommandOrBuilder {
+    // Use RegionCommand.newBuilder() to construct.
+    private RegionCommand(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private RegionCommand(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final RegionCommand defaultInstance;
+    public static RegionCommand getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public RegionCommand getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RegionCommand(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              key_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              value_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = split_.toBuilder();
+              }
+              split_ = input.readMessage(com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(split_);
+                split_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            case 34: {
+              com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = prepareMerge_.toBuilder();
+              }
+              prepareMerge_ = input.readMessage(com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(prepareMerge_);
+                prepareMerge_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+            case 42: {
+              com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000010) == 0x00000010)) {
+                subBuilder = commitMerge_.toBuilder();
+              }
+              commitMerge_ = input.readMessage(com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(commitMerge_);
+                commitMerge_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000010;
+              break;
+            }
+            case 50: {
+              com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000020) == 0x00000020)) {
+                subBuilder = rollbackMerge_.toBuilder();
+              }
+              rollbackMerge_ = input.readMessage(com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(rollbackMerge_);
+                rollbackMerge_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000020;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RegionCommand_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RegionCommand_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand.class, com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<RegionCommand> PARSER =
+        new com.google.protobuf.AbstractParser<RegionCommand>() {
+      public RegionCommand parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RegionCommand(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RegionCommand> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional string key = 1;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private java.lang.Object key_;
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          key_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string value = 2;
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private java.lang.Object value_;
+    /**
+     * <code>optional string value = 2;</code>
+     */
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string value = 2;</code>
+     */
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          value_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string value = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional .service.SplitCommand split = 3;
+    public static final int SPLIT_FIELD_NUMBER = 3;
+    private com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand split_;
+    /**
+     * <code>optional .service.SplitCommand split = 3;</code>
+     */
+    public boolean hasSplit() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .service.SplitCommand split = 3;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand getSplit() {
+      return split_;
+    }
+    /**
+     * <code>optional .service.SplitCommand split = 3;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.SplitCommandOrBuilder getSplitOrBuilder() {
+      return split_;
+    }
+
+    // optional .service.PrepareMergeCommand prepare_merge = 4;
+    public static final int PREPARE_MERGE_FIELD_NUMBER = 4;
+    private com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand prepareMerge_;
+    /**
+     * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+     */
+    public boolean hasPrepareMerge() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand getPrepareMerge() {
+      return prepareMerge_;
+    }
+    /**
+     * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommandOrBuilder getPrepareMergeOrBuilder() {
+      return prepareMerge_;
+    }
+
+    // optional .service.CommitMergeCommand commit_merge = 5;
+    public static final int COMMIT_MERGE_FIELD_NUMBER = 5;
+    private com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand commitMerge_;
+    /**
+     * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+     */
+    public boolean hasCommitMerge() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand getCommitMerge() {
+      return commitMerge_;
+    }
+    /**
+     * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommandOrBuilder getCommitMergeOrBuilder() {
+      return commitMerge_;
+    }
+
+    // optional .service.RollbackMergeCommand rollback_merge = 6;
+    public static final int ROLLBACK_MERGE_FIELD_NUMBER = 6;
+    private com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand rollbackMerge_;
+    /**
+     * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+     */
+    public boolean hasRollbackMerge() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand getRollbackMerge() {
+      return rollbackMerge_;
+    }
+    /**
+     * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommandOrBuilder getRollbackMergeOrBuilder() {
+      return rollbackMerge_;
+    }
+
+    private void initFields() {
+      key_ = "";
+      value_ = "";
+      split_ = com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.getDefaultInstance();
+      prepareMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.getDefaultInstance();
+      commitMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.getDefaultInstance();
+      rollbackMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getKeyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getValueBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, split_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, prepareMerge_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(5, commitMerge_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeMessage(6, rollbackMerge_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getKeyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getValueBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, split_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, prepareMerge_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, commitMerge_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, rollbackMerge_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code service.RegionCommand}
+     *
+     * <pre>
+     * region的raft日志条目，key、value与SetRequest的字段号相同，写入仍按SetRequest编码
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.example.server.service.ExampleProto.RegionCommandOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RegionCommand_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RegionCommand_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand.class, com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getSplitFieldBuilder();
+          getPrepareMergeFieldBuilder();
+          getCommitMergeFieldBuilder();
+          getRollbackMergeFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        key_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        value_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (splitBuilder_ == null) {
+          split_ = com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.getDefaultInstance();
+        } else {
+          splitBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (prepareMergeBuilder_ == null) {
+          prepareMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.getDefaultInstance();
+        } else {
+          prepareMergeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (commitMergeBuilder_ == null) {
+          commitMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.getDefaultInstance();
+        } else {
+          commitMergeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (rollbackMergeBuilder_ == null) {
+          rollbackMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.getDefaultInstance();
+        } else {
+          rollbackMergeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RegionCommand_descriptor;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand getDefaultInstanceForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand build() {
+        com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand buildPartial() {
+        com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand result = new com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.key_ = key_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.value_ = value_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (splitBuilder_ == null) {
+          result.split_ = split_;
+        } else {
+          result.split_ = splitBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (prepareMergeBuilder_ == null) {
+          result.prepareMerge_ = prepareMerge_;
+        } else {
+          result.prepareMerge_ = prepareMergeBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        if (commitMergeBuilder_ == null) {
+          result.commitMerge_ = commitMerge_;
+        } else {
+          result.commitMerge_ = commitMergeBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        if (rollbackMergeBuilder_ == null) {
+          result.rollbackMerge_ = rollbackMerge_;
+        } else {
+          result.rollbackMerge_ = rollbackMergeBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand) {
+          return mergeFrom((com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand other) {
+        if (other == com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          bitField0_ |= 0x00000001;
+          key_ = other.key_;
+          onChanged();
+        }
+        if (other.hasValue()) {
+          bitField0_ |= 0x00000002;
+          value_ = other.value_;
+          onChanged();
+        }
+        if (other.hasSplit()) {
+          mergeSplit(other.getSplit());
+        }
+        if (other.hasPrepareMerge()) {
+          mergePrepareMerge(other.getPrepareMerge());
+        }
+        if (other.hasCommitMerge()) {
+          mergeCommitMerge(other.getCommitMerge());
+        }
+        if (other.hasRollbackMerge()) {
+          mergeRollbackMerge(other.getRollbackMerge());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.example.server.service.ExampleProto.RegionCommand) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional string key = 1;
+      private java.lang.Object key_ = "";
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public Builder clearKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        key_ = getDefaultInstance().getKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string value = 2;
+      private java.lang.Object value_ = "";
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          value_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public Builder setValue(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public Builder setValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional .service.SplitCommand split = 3;
+      private com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand split_ = com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand, com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.SplitCommandOrBuilder> splitBuilder_;
+      /**
+       * <code>optional .service.SplitCommand split = 3;</code>
+       */
+      public boolean hasSplit() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .service.SplitCommand split = 3;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand getSplit() {
+        if (splitBuilder_ == null) {
+          return split_;
+        } else {
+          return splitBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .service.SplitCommand split = 3;</code>
+       */
+      public Builder setSplit(com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand value) {
+        if (splitBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          split_ = value;
+          onChanged();
+        } else {
+          splitBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .service.SplitCommand split = 3;</code>
+       */
+      public Builder setSplit(
+          com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.Builder builderForValue) {
+        if (splitBuilder_ == null) {
+          split_ = builderForValue.build();
+          onChanged();
+        } else {
+          splitBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .service.SplitCommand split = 3;</code>
+       */
+      public Builder mergeSplit(com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand value) {
+        if (splitBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              split_ != com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.getDefaultInstance()) {
+            split_ =
+              com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.newBuilder(split_).mergeFrom(value).buildPartial();
+          } else {
+            split_ = value;
+          }
+          onChanged();
+        } else {
+          splitBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .service.SplitCommand split = 3;</code>
+       */
+      public Builder clearSplit() {
+        if (splitBuilder_ == null) {
+          split_ = com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.getDefaultInstance();
+          onChanged();
+        } else {
+          splitBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .service.SplitCommand split = 3;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.Builder getSplitBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getSplitFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .service.SplitCommand split = 3;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.SplitCommandOrBuilder getSplitOrBuilder() {
+        if (splitBuilder_ != null) {
+          return splitBuilder_.getMessageOrBuilder();
+        } else {
+          return split_;
+        }
+      }
+      /**
+       * <code>optional .service.SplitCommand split = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand, com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.SplitCommandOrBuilder> 
+          getSplitFieldBuilder() {
+        if (splitBuilder_ == null) {
+          splitBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand, com.raftimpl.raft.example.server.service.ExampleProto.SplitCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.SplitCommandOrBuilder>(
+                  split_,
+                  getParentForChildren(),
+                  isClean());
+          split_ = null;
+        }
+        return splitBuilder_;
+      }
+
+      // optional .service.PrepareMergeCommand prepare_merge = 4;
+      private com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand prepareMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand, com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommandOrBuilder> prepareMergeBuilder_;
+      /**
+       * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+       */
+      public boolean hasPrepareMerge() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand getPrepareMerge() {
+        if (prepareMergeBuilder_ == null) {
+          return prepareMerge_;
+        } else {
+          return prepareMergeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+       */
+      public Builder setPrepareMerge(com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand value) {
+        if (prepareMergeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          prepareMerge_ = value;
+          onChanged();
+        } else {
+          prepareMergeBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+       */
+      public Builder setPrepareMerge(
+          com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.Builder builderForValue) {
+        if (prepareMergeBuilder_ == null) {
+          prepareMerge_ = builderForValue.build();
+          onChanged();
+        } else {
+          prepareMergeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+       */
+      public Builder mergePrepareMerge(com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand value) {
+        if (prepareMergeBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              prepareMerge_ != com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.getDefaultInstance()) {
+            prepareMerge_ =
+              com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.newBuilder(prepareMerge_).mergeFrom(value).buildPartial();
+          } else {
+            prepareMerge_ = value;
+          }
+          onChanged();
+        } else {
+          prepareMergeBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+       */
+      public Builder clearPrepareMerge() {
+        if (prepareMergeBuilder_ == null) {
+          prepareMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.getDefaultInstance();
+          onChanged();
+        } else {
+          prepareMergeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.Builder getPrepareMergeBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getPrepareMergeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommandOrBuilder getPrepareMergeOrBuilder() {
+        if (prepareMergeBuilder_ != null) {
+          return prepareMergeBuilder_.getMessageOrBuilder();
+        } else {
+          return prepareMerge_;
+        }
+      }
+      /**
+       * <code>optional .service.PrepareMergeCommand prepare_merge = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand, com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommandOrBuilder> 
+          getPrepareMergeFieldBuilder() {
+        if (prepareMergeBuilder_ == null) {
+          prepareMergeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand, com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.PrepareMergeCommandOrBuilder>(
+                  prepareMerge_,
+                  getParentForChildren(),
+                  isClean());
+          prepareMerge_ = null;
+        }
+        return prepareMergeBuilder_;
+      }
+
+      // optional .service.CommitMergeCommand commit_merge = 5;
+      private com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand commitMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand, com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommandOrBuilder> commitMergeBuilder_;
+      /**
+       * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+       */
+      public boolean hasCommitMerge() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand getCommitMerge() {
+        if (commitMergeBuilder_ == null) {
+          return commitMerge_;
+        } else {
+          return commitMergeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+       */
+      public Builder setCommitMerge(com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand value) {
+        if (commitMergeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          commitMerge_ = value;
+          onChanged();
+        } else {
+          commitMergeBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+       */
+      public Builder setCommitMerge(
+          com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.Builder builderForValue) {
+        if (commitMergeBuilder_ == null) {
+          commitMerge_ = builderForValue.build();
+          onChanged();
+        } else {
+          commitMergeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+       */
+      public Builder mergeCommitMerge(com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand value) {
+        if (commitMergeBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              commitMerge_ != com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.getDefaultInstance()) {
+            commitMerge_ =
+              com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.newBuilder(commitMerge_).mergeFrom(value).buildPartial();
+          } else {
+            commitMerge_ = value;
+          }
+          onChanged();
+        } else {
+          commitMergeBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+       */
+      public Builder clearCommitMerge() {
+        if (commitMergeBuilder_ == null) {
+          commitMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.getDefaultInstance();
+          onChanged();
+        } else {
+          commitMergeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.Builder getCommitMergeBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getCommitMergeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommandOrBuilder getCommitMergeOrBuilder() {
+        if (commitMergeBuilder_ != null) {
+          return commitMergeBuilder_.getMessageOrBuilder();
+        } else {
+          return commitMerge_;
+        }
+      }
+      /**
+       * <code>optional .service.CommitMergeCommand commit_merge = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand, com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommandOrBuilder> 
+          getCommitMergeFieldBuilder() {
+        if (commitMergeBuilder_ == null) {
+          commitMergeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand, com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.CommitMergeCommandOrBuilder>(
+                  commitMerge_,
+                  getParentForChildren(),
+                  isClean());
+          commitMerge_ = null;
+        }
+        return commitMergeBuilder_;
+      }
+
+      // optional .service.RollbackMergeCommand rollback_merge = 6;
+      private com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand rollbackMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand, com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommandOrBuilder> rollbackMergeBuilder_;
+      /**
+       * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+       */
+      public boolean hasRollbackMerge() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand getRollbackMerge() {
+        if (rollbackMergeBuilder_ == null) {
+          return rollbackMerge_;
+        } else {
+          return rollbackMergeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+       */
+      public Builder setRollbackMerge(com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand value) {
+        if (rollbackMergeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          rollbackMerge_ = value;
+          onChanged();
+        } else {
+          rollbackMergeBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+       */
+      public Builder setRollbackMerge(
+          com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.Builder builderForValue) {
+        if (rollbackMergeBuilder_ == null) {
+          rollbackMerge_ = builderForValue.build();
+          onChanged();
+        } else {
+          rollbackMergeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+       */
+      public Builder mergeRollbackMerge(com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand value) {
+        if (rollbackMergeBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020) &&
+              rollbackMerge_ != com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.getDefaultInstance()) {
+            rollbackMerge_ =
+              com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.newBuilder(rollbackMerge_).mergeFrom(value).buildPartial();
+          } else {
+            rollbackMerge_ = value;
+          }
+          onChanged();
+        } else {
+          rollbackMergeBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+       */
+      public Builder clearRollbackMerge() {
+        if (rollbackMergeBuilder_ == null) {
+          rollbackMerge_ = com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.getDefaultInstance();
+          onChanged();
+        } else {
+          rollbackMergeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+      /**
+       * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.Builder getRollbackMergeBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getRollbackMergeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommandOrBuilder getRollbackMergeOrBuilder() {
+        if (rollbackMergeBuilder_ != null) {
+          return rollbackMergeBuilder_.getMessageOrBuilder();
+        } else {
+          return rollbackMerge_;
+        }
+      }
+      /**
+       * <code>optional .service.RollbackMergeCommand rollback_merge = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand, com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommandOrBuilder> 
+          getRollbackMergeFieldBuilder() {
+        if (rollbackMergeBuilder_ == null) {
+          rollbackMergeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand, com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommand.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RollbackMergeCommandOrBuilder>(
+                  rollbackMerge_,
+                  getParentForChildren(),
+                  isClean());
+          rollbackMerge_ = null;
+        }
+        return rollbackMergeBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:service.RegionCommand)
+    }
+
+    static {
+      defaultInstance = new RegionCommand(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:service.RegionCommand)
+  }
+
+  public interface RegionRouteOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .service.Region region = 1;
+    /**
+     * <code>optional .service.Region region = 1;</code>
+     */
+    boolean hasRegion();
+    /**
+     * <code>optional .service.Region region = 1;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.Region getRegion();
+    /**
+     * <code>optional .service.Region region = 1;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder getRegionOrBuilder();
+
+    // optional string leader_host = 2;
+    /**
+     * <code>optional string leader_host = 2;</code>
+     *
+     * <pre>
+     * leader未知时为空
+     * </pre>
+     */
+    boolean hasLeaderHost();
+    /**
+     * <code>optional string leader_host = 2;</code>
+     *
+     * <pre>
+     * leader未知时为空
+     * </pre>
+     */
+    java.lang.String getLeaderHost();
+    /**
+     * <code>optional string leader_host = 2;</code>
+     *
+     * <pre>
+     * leader未知时为空
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getLeaderHostBytes();
+
+    // optional uint32 leader_port = 3;
+    /**
+     * <code>optional uint32 leader_port = 3;</code>
+     */
+    boolean hasLeaderPort();
+    /**
+     * <code>optional uint32 leader_port = 3;</code>
+     */
+    int getLeaderPort();
+  }
+  /**
+   * Protobuf type {@code service.RegionRoute}
+   */
+  public static final class RegionRoute extends
+      com.google.protobuf.GeneratedMessage
+      implements RegionRouteOrBuilder {
+    // Use RegionRoute.newBuilder() to construct.
+    private RegionRoute(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private RegionRoute(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final RegionRoute defaultInstance;
+    public static RegionRoute getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public RegionRoute getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RegionRoute(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = region_.toBuilder();
+              }
+              region_ = input.readMessage(com.raftimpl.raft.example.server.service.ExampleProto.Region.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(region_);
+                region_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              leaderHost_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              leaderPort_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RegionRoute_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RegionRoute_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.class, com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<RegionRoute> PARSER =
+        new com.google.protobuf.AbstractParser<RegionRoute>() {
+      public RegionRoute parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RegionRoute(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RegionRoute> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional .service.Region region = 1;
+    public static final int REGION_FIELD_NUMBER = 1;
+    private com.raftimpl.raft.example.server.service.ExampleProto.Region region_;
+    /**
+     * <code>optional .service.Region region = 1;</code>
+     */
+    public boolean hasRegion() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .service.Region region = 1;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.Region getRegion() {
+      return region_;
+    }
+    /**
+     * <code>optional .service.Region region = 1;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder getRegionOrBuilder() {
+      return region_;
+    }
+
+    // optional string leader_host = 2;
+    public static final int LEADER_HOST_FIELD_NUMBER = 2;
+    private java.lang.Object leaderHost_;
+    /**
+     * <code>optional string leader_host = 2;</code>
+     *
+     * <pre>
+     * leader未知时为空
+     * </pre>
+     */
+    public boolean hasLeaderHost() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string leader_host = 2;</code>
+     *
+     * <pre>
+     * leader未知时为空
+     * </pre>
+     */
+    public java.lang.String getLeaderHost() {
+      java.lang.Object ref = leaderHost_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          leaderHost_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string leader_host = 2;</code>
+     *
+     * <pre>
+     * leader未知时为空
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getLeaderHostBytes() {
+      java.lang.Object ref = leaderHost_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        leaderHost_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional uint32 leader_port = 3;
+    public static final int LEADER_PORT_FIELD_NUMBER = 3;
+    private int leaderPort_;
+    /**
+     * <code>optional uint32 leader_port = 3;</code>
+     */
+    public boolean hasLeaderPort() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional uint32 leader_port = 3;</code>
+     */
+    public int getLeaderPort() {
+      return leaderPort_;
+    }
+
+    private void initFields() {
+      region_ = com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance();
+      leaderHost_ = "";
+      leaderPort_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, region_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getLeaderHostBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt32(3, leaderPort_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, region_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getLeaderHostBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, leaderPort_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code service.RegionRoute}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.example.server.service.ExampleProto.RegionRouteOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RegionRoute_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RegionRoute_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.class, com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRegionFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (regionBuilder_ == null) {
+          region_ = com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance();
+        } else {
+          regionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        leaderHost_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        leaderPort_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_RegionRoute_descriptor;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute getDefaultInstanceForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute build() {
+        com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute buildPartial() {
+        com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute result = new com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (regionBuilder_ == null) {
+          result.region_ = region_;
+        } else {
+          result.region_ = regionBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.leaderHost_ = leaderHost_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.leaderPort_ = leaderPort_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute) {
+          return mergeFrom((com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute other) {
+        if (other == com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.getDefaultInstance()) return this;
+        if (other.hasRegion()) {
+          mergeRegion(other.getRegion());
+        }
+        if (other.hasLeaderHost()) {
+          bitField0_ |= 0x00000002;
+          leaderHost_ = other.leaderHost_;
+          onChanged();
+        }
+        if (other.hasLeaderPort()) {
+          setLeaderPort(other.getLeaderPort());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional .service.Region region = 1;
+      private com.raftimpl.raft.example.server.service.ExampleProto.Region region_ = com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.Region, com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder> regionBuilder_;
+      /**
+       * <code>optional .service.Region region = 1;</code>
+       */
+      public boolean hasRegion() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .service.Region region = 1;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.Region getRegion() {
+        if (regionBuilder_ == null) {
+          return region_;
+        } else {
+          return regionBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .service.Region region = 1;</code>
+       */
+      public Builder setRegion(com.raftimpl.raft.example.server.service.ExampleProto.Region value) {
+        if (regionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          region_ = value;
+          onChanged();
+        } else {
+          regionBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .service.Region region = 1;</code>
+       */
+      public Builder setRegion(
+          com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder builderForValue) {
+        if (regionBuilder_ == null) {
+          region_ = builderForValue.build();
+          onChanged();
+        } else {
+          regionBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .service.Region region = 1;</code>
+       */
+      public Builder mergeRegion(com.raftimpl.raft.example.server.service.ExampleProto.Region value) {
+        if (regionBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              region_ != com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance()) {
+            region_ =
+              com.raftimpl.raft.example.server.service.ExampleProto.Region.newBuilder(region_).mergeFrom(value).buildPartial();
+          } else {
+            region_ = value;
+          }
+          onChanged();
+        } else {
+          regionBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .service.Region region = 1;</code>
+       */
+      public Builder clearRegion() {
+        if (regionBuilder_ == null) {
+          region_ = com.raftimpl.raft.example.server.service.ExampleProto.Region.getDefaultInstance();
+          onChanged();
+        } else {
+          regionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>optional .service.Region region = 1;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder getRegionBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getRegionFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .service.Region region = 1;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder getRegionOrBuilder() {
+        if (regionBuilder_ != null) {
+          return regionBuilder_.getMessageOrBuilder();
+        } else {
+          return region_;
+        }
+      }
+      /**
+       * <code>optional .service.Region region = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.Region, com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder> 
+          getRegionFieldBuilder() {
+        if (regionBuilder_ == null) {
+          regionBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.raftimpl.raft.example.server.service.ExampleProto.Region, com.raftimpl.raft.example.server.service.ExampleProto.Region.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RegionOrBuilder>(
+                  region_,
+                  getParentForChildren(),
+                  isClean());
+          region_ = null;
+        }
+        return regionBuilder_;
+      }
+
+      // optional string leader_host = 2;
+      private java.lang.Object leaderHost_ = "";
+      /**
+       * <code>optional string leader_host = 2;</code>
+       *
+       * <pre>
+       * leader未知时为空
+       * </pre>
+       */
+      public boolean hasLeaderHost() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string leader_host = 2;</code>
+       *
+       * <pre>
+       * leader未知时为空
+       * </pre>
+       */
+      public java.lang.String getLeaderHost() {
+        java.lang.Object ref = leaderHost_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          leaderHost_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string leader_host = 2;</code>
+       *
+       * <pre>
+       * leader未知时为空
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getLeaderHostBytes() {
+        java.lang.Object ref = leaderHost_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          leaderHost_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string leader_host = 2;</code>
+       *
+       * <pre>
+       * leader未知时为空
+       * </pre>
+       */
+      public Builder setLeaderHost(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        leaderHost_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string leader_host = 2;</code>
+       *
+       * <pre>
+       * leader未知时为空
+       * </pre>
+       */
+      public Builder clearLeaderHost() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        leaderHost_ = getDefaultInstance().getLeaderHost();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string leader_host = 2;</code>
+       *
+       * <pre>
+       * leader未知时为空
+       * </pre>
+       */
+      public Builder setLeaderHostBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        leaderHost_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional uint32 leader_port = 3;
+      private int leaderPort_ ;
+      /**
+       * <code>optional uint32 leader_port = 3;</code>
+       */
+      public boolean hasLeaderPort() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional uint32 leader_port = 3;</code>
+       */
+      public int getLeaderPort() {
+        return leaderPort_;
+      }
+      /**
+       * <code>optional uint32 leader_port = 3;</code>
+       */
+      public Builder setLeaderPort(int value) {
+        bitField0_ |= 0x00000004;
+        leaderPort_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 leader_port = 3;</code>
+       */
+      public Builder clearLeaderPort() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        leaderPort_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:service.RegionRoute)
+    }
+
+    static {
+      defaultInstance = new RegionRoute(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:service.RegionRoute)
+  }
+
+  public interface GetRegionsRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code service.GetRegionsRequest}
+   */
+  public static final class GetRegionsRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements GetRegionsRequestOrBuilder {
+    // Use GetRegionsRequest.newBuilder() to construct.
+    private GetRegionsRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private GetRegionsRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final GetRegionsRequest defaultInstance;
+    public static GetRegionsRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public GetRegionsRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetRegionsRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_GetRegionsRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_GetRegionsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest.class, com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<GetRegionsRequest> PARSER =
+        new com.google.protobuf.AbstractParser<GetRegionsRequest>() {
+      public GetRegionsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetRegionsRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetRegionsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private void initFields() {
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code service.GetRegionsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_GetRegionsRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_GetRegionsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest.class, com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_GetRegionsRequest_descriptor;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest getDefaultInstanceForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest build() {
+        com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest buildPartial() {
+        com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest result = new com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest(this);
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest) {
+          return mergeFrom((com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest other) {
+        if (other == com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:service.GetRegionsRequest)
+    }
+
+    static {
+      defaultInstance = new GetRegionsRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:service.GetRegionsRequest)
+  }
+
+  public interface GetRegionsResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .service.RegionRoute routes = 1;
+    /**
+     * <code>repeated .service.RegionRoute routes = 1;</code>
+     */
+    java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute> 
+        getRoutesList();
+    /**
+     * <code>repeated .service.RegionRoute routes = 1;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute getRoutes(int index);
+    /**
+     * <code>repeated .service.RegionRoute routes = 1;</code>
+     */
+    int getRoutesCount();
+    /**
+     * <code>repeated .service.RegionRoute routes = 1;</code>
+     */
+    java.util.List<? extends com.raftimpl.raft.example.server.service.ExampleProto.RegionRouteOrBuilder> 
+        getRoutesOrBuilderList();
+    /**
+     * <code>repeated .service.RegionRoute routes = 1;</code>
+     */
+    com.raftimpl.raft.example.server.service.ExampleProto.RegionRouteOrBuilder getRoutesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code service.GetRegionsResponse}
+   */
+  public static final class GetRegionsResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements GetRegionsResponseOrBuilder {
+    // Use GetRegionsResponse.newBuilder() to construct.
+    private GetRegionsResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private GetRegionsResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final GetRegionsResponse defaultInstance;
+    public static GetRegionsResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public GetRegionsResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetRegionsResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                routes_ = new java.util.ArrayList<com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              routes_.add(input.readMessage(com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          routes_ = java.util.Collections.unmodifiableList(routes_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_GetRegionsResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_GetRegionsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse.class, com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<GetRegionsResponse> PARSER =
+        new com.google.protobuf.AbstractParser<GetRegionsResponse>() {
+      public GetRegionsResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetRegionsResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetRegionsResponse> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .service.RegionRoute routes = 1;
+    public static final int ROUTES_FIELD_NUMBER = 1;
+    private java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute> routes_;
+    /**
+     * <code>repeated .service.RegionRoute routes = 1;</code>
+     */
+    public java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute> getRoutesList() {
+      return routes_;
+    }
+    /**
+     * <code>repeated .service.RegionRoute routes = 1;</code>
+     */
+    public java.util.List<? extends com.raftimpl.raft.example.server.service.ExampleProto.RegionRouteOrBuilder> 
+        getRoutesOrBuilderList() {
+      return routes_;
+    }
+    /**
+     * <code>repeated .service.RegionRoute routes = 1;</code>
+     */
+    public int getRoutesCount() {
+      return routes_.size();
+    }
+    /**
+     * <code>repeated .service.RegionRoute routes = 1;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute getRoutes(int index) {
+      return routes_.get(index);
+    }
+    /**
+     * <code>repeated .service.RegionRoute routes = 1;</code>
+     */
+    public com.raftimpl.raft.example.server.service.ExampleProto.RegionRouteOrBuilder getRoutesOrBuilder(
+        int index) {
+      return routes_.get(index);
+    }
+
+    private void initFields() {
+      routes_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < routes_.size(); i++) {
+        output.writeMessage(1, routes_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < routes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, routes_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code service.GetRegionsResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_GetRegionsResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_GetRegionsResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse.class, com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRoutesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (routesBuilder_ == null) {
+          routes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          routesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.internal_static_service_GetRegionsResponse_descriptor;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse getDefaultInstanceForType() {
+        return com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse build() {
+        com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse buildPartial() {
+        com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse result = new com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (routesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            routes_ = java.util.Collections.unmodifiableList(routes_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.routes_ = routes_;
+        } else {
+          result.routes_ = routesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse) {
+          return mergeFrom((com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse other) {
+        if (other == com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse.getDefaultInstance()) return this;
+        if (routesBuilder_ == null) {
+          if (!other.routes_.isEmpty()) {
+            if (routes_.isEmpty()) {
+              routes_ = other.routes_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRoutesIsMutable();
+              routes_.addAll(other.routes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.routes_.isEmpty()) {
+            if (routesBuilder_.isEmpty()) {
+              routesBuilder_.dispose();
+              routesBuilder_ = null;
+              routes_ = other.routes_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              routesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRoutesFieldBuilder() : null;
+            } else {
+              routesBuilder_.addAllMessages(other.routes_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.example.server.service.ExampleProto.GetRegionsResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .service.RegionRoute routes = 1;
+      private java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute> routes_ =
+        java.util.Collections.emptyList();
+      private void ensureRoutesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          routes_ = new java.util.ArrayList<com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute>(routes_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute, com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RegionRouteOrBuilder> routesBuilder_;
+
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute> getRoutesList() {
+        if (routesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(routes_);
+        } else {
+          return routesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public int getRoutesCount() {
+        if (routesBuilder_ == null) {
+          return routes_.size();
+        } else {
+          return routesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute getRoutes(int index) {
+        if (routesBuilder_ == null) {
+          return routes_.get(index);
+        } else {
+          return routesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public Builder setRoutes(
+          int index, com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute value) {
+        if (routesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRoutesIsMutable();
+          routes_.set(index, value);
+          onChanged();
+        } else {
+          routesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public Builder setRoutes(
+          int index, com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder builderForValue) {
+        if (routesBuilder_ == null) {
+          ensureRoutesIsMutable();
+          routes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          routesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public Builder addRoutes(com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute value) {
+        if (routesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRoutesIsMutable();
+          routes_.add(value);
+          onChanged();
+        } else {
+          routesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public Builder addRoutes(
+          int index, com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute value) {
+        if (routesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRoutesIsMutable();
+          routes_.add(index, value);
+          onChanged();
+        } else {
+          routesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public Builder addRoutes(
+          com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder builderForValue) {
+        if (routesBuilder_ == null) {
+          ensureRoutesIsMutable();
+          routes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          routesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public Builder addRoutes(
+          int index, com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder builderForValue) {
+        if (routesBuilder_ == null) {
+          ensureRoutesIsMutable();
+          routes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          routesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public Builder addAllRoutes(
+          java.lang.Iterable<? extends com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute> values) {
+        if (routesBuilder_ == null) {
+          ensureRoutesIsMutable();
+          super.addAll(values, routes_);
+          onChanged();
+        } else {
+          routesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public Builder clearRoutes() {
+        if (routesBuilder_ == null) {
+          routes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          routesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public Builder removeRoutes(int index) {
+        if (routesBuilder_ == null) {
+          ensureRoutesIsMutable();
+          routes_.remove(index);
+          onChanged();
+        } else {
+          routesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder getRoutesBuilder(
+          int index) {
+        return getRoutesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionRouteOrBuilder getRoutesOrBuilder(
+          int index) {
+        if (routesBuilder_ == null) {
+          return routes_.get(index);  } else {
+          return routesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public java.util.List<? extends com.raftimpl.raft.example.server.service.ExampleProto.RegionRouteOrBuilder> 
+           getRoutesOrBuilderList() {
+        if (routesBuilder_ != null) {
+          return routesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(routes_);
+        }
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder addRoutesBuilder() {
+        return getRoutesFieldBuilder().addBuilder(
+            com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder addRoutesBuilder(
+          int index) {
+        return getRoutesFieldBuilder().addBuilder(
+            index, com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .service.RegionRoute routes = 1;</code>
+       */
+      public java.util.List<com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder> 
+           getRoutesBuilderList() {
+        return getRoutesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute, com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RegionRouteOrBuilder> 
+          getRoutesFieldBuilder() {
+        if (routesBuilder_ == null) {
+          routesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute, com.raftimpl.raft.example.server.service.ExampleProto.RegionRoute.Builder, com.raftimpl.raft.example.server.service.ExampleProto.RegionRouteOrBuilder>(
+                  routes_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          routes_ = null;
+        }
+        return routesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:service.GetRegionsResponse)
+    }
+
+    static {
+      defaultInstance = new GetRegionsResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:service.GetRegionsResponse)
+  }
+
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_service_SetRequest_descriptor;
   private static
@@ -1993,6 +9052,51 @@ public final class ExampleProto {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_service_GetResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_Region_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_service_Region_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_SplitCommand_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_service_SplitCommand_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_PrepareMergeCommand_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_service_PrepareMergeCommand_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_RollbackMergeCommand_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_service_RollbackMergeCommand_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_CommitMergeCommand_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_service_CommitMergeCommand_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_RegionCommand_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_service_RegionCommand_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_RegionRoute_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_service_RegionRoute_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_GetRegionsRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_service_GetRegionsRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_service_GetRegionsResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_service_GetRegionsResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -2002,12 +9106,34 @@ public final class ExampleProto {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\rexample.proto\022\007service\"(\n\nSetRequest\022\013" +
-      "\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t\"\036\n\013SetRespons" +
-      "e\022\017\n\007success\030\001 \001(\010\"\031\n\nGetRequest\022\013\n\003key\030" +
-      "\001 \001(\t\"\034\n\013GetResponse\022\r\n\005value\030\001 \001(\tB8\n(c" +
-      "om.raftimpl.raft.example.server.serviceB" +
-      "\014ExampleProto"
+      "\n6com/raftimpl/raft/example/server/servi" +
+      "ce/example.proto\022\007service\"(\n\nSetRequest\022" +
+      "\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t\"\036\n\013SetRespon" +
+      "se\022\017\n\007success\030\001 \001(\010\"\031\n\nGetRequest\022\013\n\003key" +
+      "\030\001 \001(\t\"\034\n\013GetResponse\022\r\n\005value\030\001 \001(\t\"\311\001\n" +
+      "\006Region\022\021\n\tregion_id\030\001 \001(\r\022\021\n\tstart_key\030" +
+      "\002 \001(\t\022\017\n\007end_key\030\003 \001(\t\022\r\n\005epoch\030\004 \001(\004\022\017\n" +
+      "\007merging\030\005 \001(\010\022\027\n\017merge_target_id\030\006 \001(\r\022" +
+      "\030\n\020child_region_ids\030\007 \003(\r\022\032\n\022merge_targe" +
+      "t_epoch\030\010 \001(\004\022\031\n\021merged_region_ids\030\t \003(\r",
+      "\"8\n\014SplitCommand\022\021\n\tsplit_key\030\001 \001(\t\022\025\n\rn" +
+      "ew_region_id\030\002 \001(\r\"E\n\023PrepareMergeComman" +
+      "d\022\030\n\020target_region_id\030\001 \001(\r\022\024\n\014target_ep" +
+      "och\030\002 \001(\004\"\026\n\024RollbackMergeCommand\"[\n\022Com" +
+      "mitMergeCommand\022\037\n\006source\030\001 \001(\0132\017.servic" +
+      "e.Region\022$\n\007entries\030\002 \003(\0132\023.service.SetR" +
+      "equest\"\360\001\n\rRegionCommand\022\013\n\003key\030\001 \001(\t\022\r\n" +
+      "\005value\030\002 \001(\t\022$\n\005split\030\003 \001(\0132\025.service.Sp" +
+      "litCommand\0223\n\rprepare_merge\030\004 \001(\0132\034.serv" +
+      "ice.PrepareMergeCommand\0221\n\014commit_merge\030",
+      "\005 \001(\0132\033.service.CommitMergeCommand\0225\n\016ro" +
+      "llback_merge\030\006 \001(\0132\035.service.RollbackMer" +
+      "geCommand\"X\n\013RegionRoute\022\037\n\006region\030\001 \001(\013" +
+      "2\017.service.Region\022\023\n\013leader_host\030\002 \001(\t\022\023" +
+      "\n\013leader_port\030\003 \001(\r\"\023\n\021GetRegionsRequest" +
+      "\":\n\022GetRegionsResponse\022$\n\006routes\030\001 \003(\0132\024" +
+      ".service.RegionRouteB8\n(com.raftimpl.raf" +
+      "t.example.server.serviceB\014ExampleProto"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -2038,6 +9164,60 @@ public final class ExampleProto {
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_service_GetResponse_descriptor,
               new java.lang.String[] { "Value", });
+          internal_static_service_Region_descriptor =
+            getDescriptor().getMessageTypes().get(4);
+          internal_static_service_Region_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_service_Region_descriptor,
+              new java.lang.String[] { "RegionId", "StartKey", "EndKey", "Epoch", "Merging", "MergeTargetId", "ChildRegionIds", "MergeTargetEpoch", "MergedRegionIds", });
+          internal_static_service_SplitCommand_descriptor =
+            getDescriptor().getMessageTypes().get(5);
+          internal_static_service_SplitCommand_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_service_SplitCommand_descriptor,
+              new java.lang.String[] { "SplitKey", "NewRegionId", });
+          internal_static_service_PrepareMergeCommand_descriptor =
+            getDescriptor().getMessageTypes().get(6);
+          internal_static_service_PrepareMergeCommand_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_service_PrepareMergeCommand_descriptor,
+              new java.lang.String[] { "TargetRegionId", "TargetEpoch", });
+          internal_static_service_RollbackMergeCommand_descriptor =
+            getDescriptor().getMessageTypes().get(7);
+          internal_static_service_RollbackMergeCommand_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_service_RollbackMergeCommand_descriptor,
+              new java.lang.String[] { });
+          internal_static_service_CommitMergeCommand_descriptor =
+            getDescriptor().getMessageTypes().get(8);
+          internal_static_service_CommitMergeCommand_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_service_CommitMergeCommand_descriptor,
+              new java.lang.String[] { "Source", "Entries", });
+          internal_static_service_RegionCommand_descriptor =
+            getDescriptor().getMessageTypes().get(9);
+          internal_static_service_RegionCommand_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_service_RegionCommand_descriptor,
+              new java.lang.String[] { "Key", "Value", "Split", "PrepareMerge", "CommitMerge", "RollbackMerge", });
+          internal_static_service_RegionRoute_descriptor =
+            getDescriptor().getMessageTypes().get(10);
+          internal_static_service_RegionRoute_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_service_RegionRoute_descriptor,
+              new java.lang.String[] { "Region", "LeaderHost", "LeaderPort", });
+          internal_static_service_GetRegionsRequest_descriptor =
+            getDescriptor().getMessageTypes().get(11);
+          internal_static_service_GetRegionsRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_service_GetRegionsRequest_descriptor,
+              new java.lang.String[] { });
+          internal_static_service_GetRegionsResponse_descriptor =
+            getDescriptor().getMessageTypes().get(12);
+          internal_static_service_GetRegionsResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_service_GetRegionsResponse_descriptor,
+              new java.lang.String[] { "Routes", });
           return null;
         }
       };
@@ -6,4 +6,7 @@ public interface ExampleService {
     ExampleProto.SetResponse set(ExampleProto.SetRequest request);
 
     ExampleProto.GetResponse get(ExampleProto.GetRequest request);
+
+    // 返回每个region的key范围和leader，客户端缓存后直接把请求发给key所在region的leader
+    ExampleProto.GetRegionsResponse getRegions(ExampleProto.GetRegionsRequest request);
 }
@@ -4,6 +4,7 @@ import com.baidu.brpc.client.BrpcProxy;
 import com.baidu.brpc.client.RpcClient;
 import com.baidu.brpc.client.RpcClientOptions;
 import com.baidu.brpc.client.instance.Endpoint;
+import com.raftimpl.raft.ApplyResult;
 import com.raftimpl.raft.Peer;
 import com.raftimpl.raft.RaftNode;
 import com.raftimpl.raft.StateMachine;
@@ -14,6 +15,8 @@ import com.googlecode.protobuf.format.JsonFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -24,9 +27,9 @@ public class ExampleServiceImpl implements ExampleService {
 
     private RaftNode raftNode;
     private StateMachine stateMachine;
-    private int leaderId = -1;
+    private volatile int leaderId = -1;
     private RpcClient leaderRpcClient = null;
-    private ExampleService leaderService = null;
+    private volatile ExampleService leaderService = null;
     private Lock leaderLock = new ReentrantLock();
 
     public ExampleServiceImpl(RaftNode raftNode, StateMachine stateMachine) {
@@ -35,24 +38,32 @@ public class ExampleServiceImpl implements ExampleService {
     }
 
     private void onLeaderChangeEvent() {
-        if (raftNode.getLeaderId() != -1
-                && raftNode.getLeaderId() != raftNode.getLocalServer().getServerId()
-                && leaderId != raftNode.getLeaderId()) {
+        int currentLeaderId = raftNode.getLeaderId();
+        if (currentLeaderId != -1
+                && currentLeaderId != raftNode.getLocalServer().getServerId()
+                && leaderId != currentLeaderId) {
             leaderLock.lock();
-            if (leaderId != -1 && leaderRpcClient != null) {
-                leaderRpcClient.stop();
-                leaderRpcClient = null;
-                leaderId = -1;
+            try {
+                // 其他请求可能已经切换到了新leader
+                if (leaderId == currentLeaderId) {
+                    return;
+                }
+                if (leaderRpcClient != null) {
+                    leaderRpcClient.stop();
+                    leaderRpcClient = null;
+                }
+                Peer peer = raftNode.getPeerMap().get(currentLeaderId);
+                Endpoint endpoint = new Endpoint(peer.getStorageServer().getEndpoint().getHost(),
+                        peer.getStorageServer().getEndpoint().getPort());
+                RpcClientOptions rpcClientOptions = new RpcClientOptions();
+                rpcClientOptions.setGlobalThreadPoolSharing(true);
+                leaderRpcClient = new RpcClient(endpoint, rpcClientOptions);
+                leaderService = BrpcProxy.getProxy(leaderRpcClient, ExampleService.class);
+                // leaderService准备好之后再更新leaderId，看到新leaderId的请求一定能拿到它的leaderService
+                leaderId = currentLeaderId;
+            } finally {
+                leaderLock.unlock();
             }
-            leaderId = raftNode.getLeaderId();
-            Peer peer = raftNode.getPeerMap().get(leaderId);
-            Endpoint endpoint = new Endpoint(peer.getStorageServer().getEndpoint().getHost(),
-                    peer.getStorageServer().getEndpoint().getPort());
-            RpcClientOptions rpcClientOptions = new RpcClientOptions();
-            rpcClientOptions.setGlobalThreadPoolSharing(true);
-            leaderRpcClient = new RpcClient(endpoint, rpcClientOptions);
-            leaderService = BrpcProxy.getProxy(leaderRpcClient, ExampleService.class);
-            leaderLock.unlock();
         }
     }
 
@@ -63,19 +74,14 @@ public class ExampleServiceImpl implements ExampleService {
         if (raftNode.getLeaderId() <= 0) {
             responseBuilder.setSuccess(false);
         } else if (raftNode.getLeaderId() != raftNode.getLocalServer().getServerId()) {
-            if (this.leaderRpcClient == null) {
-                RpcClient rpcClient = raftNode.getPeerMap().get(raftNode.getLeaderId()).createClient();
-                this.leaderRpcClient = BrpcProxy.getProxy(rpcClient, ExampleService.class);
-            }
             onLeaderChangeEvent();
             ExampleProto.SetResponse responseFromLeader = leaderService.set(request);
             responseBuilder.mergeFrom(responseFromLeader);
         } else {
-            // 数据同步写入raft集群
+            // 数据同步写入raft集群，由提案的future给出结果
             byte[] data = request.toByteArray();
-            boolean success = raftNode.replicate(data, RaftProto.EntryType.ENTRY_TYPE_DATA);
-
-            responseBuilder.setSuccess(success);
+            CompletableFuture<ApplyResult> future = raftNode.propose(data, RaftProto.EntryType.ENTRY_TYPE_DATA);
+            responseBuilder.setSuccess(awaitApplied(future));
         }
 
         ExampleProto.SetResponse response = responseBuilder.build();
@@ -84,6 +90,47 @@ public class ExampleServiceImpl implements ExampleService {
         return response;
     }
 
+    /**
+     * brpc只能在worker线程上返回响应，所以这里等待提案的future，不持有raft锁，超时由future自身控制
+     */
+    private boolean awaitApplied(CompletableFuture<ApplyResult> future) {
+        if (raftNode.getRaftOptions().isAsyncWrite()) {
+            return !future.isCompletedExceptionally();
+        }
+        try {
+            ApplyResult result = future.get();
+            LOG.debug("set applied, index={}, term={}", result.getIndex(), result.getTerm());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            LOG.warn("set failed, msg={}", ex.getCause().getMessage());
+        }
+        return false;
+    }
+
+    @Override
+    public ExampleProto.GetRegionsResponse getRegions(ExampleProto.GetRegionsRequest request) {
+        // 整个keyspace由一个raft group负责
+        ExampleProto.Region region = ExampleProto.Region.newBuilder().setRegionId(raftNode.getGroupId()).build();
+        return ExampleProto.GetRegionsResponse.newBuilder().addRoutes(getRoute(region)).build();
+    }
+
+    /**
+     * The route of a region served by this raft group, with the leader this node knows of
+     */
+    public ExampleProto.RegionRoute getRoute(ExampleProto.Region region) {
+        ExampleProto.RegionRoute.Builder routeBuilder = ExampleProto.RegionRoute.newBuilder().setRegion(region);
+        int currentLeaderId = raftNode.getLeaderId();
+        for (RaftProto.Server server : raftNode.getConfiguration().getServersList()) {
+            if (server.getServerId() == currentLeaderId) {
+                routeBuilder.setLeaderHost(server.getEndpoint().getHost())
+                        .setLeaderPort(server.getEndpoint().getPort());
+            }
+        }
+        return routeBuilder.build();
+    }
+
     /*@Override
     public ExampleProto.GetResponse get(ExampleProto.GetRequest request) {
         // Follower-read 最终一致性
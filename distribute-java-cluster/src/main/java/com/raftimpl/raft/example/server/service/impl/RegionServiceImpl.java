@@ -0,0 +1,72 @@
+package com.raftimpl.raft.example.server.service.impl;
+
+import com.raftimpl.raft.example.server.machine.RegionStateMachine;
+import com.raftimpl.raft.example.server.region.RegionManager;
+import com.raftimpl.raft.example.server.service.ExampleProto;
+import com.raftimpl.raft.example.server.service.ExampleService;
+
+/**
+ * Serves every request with the region holding its key, see RegionManager.
+ * A write racing with a split or merge of its region fails even if it was applied, writes can be sent again,
+ * clients refresh their routes with getRegions and retry.
+ */
+public class RegionServiceImpl implements ExampleService {
+
+    private final RegionManager regionManager;
+
+    public RegionServiceImpl(RegionManager regionManager) {
+        this.regionManager = regionManager;
+    }
+
+    @Override
+    public ExampleProto.SetResponse set(ExampleProto.SetRequest request) {
+        ExampleProto.SetResponse failure = ExampleProto.SetResponse.newBuilder().setSuccess(false).build();
+        String key = request.getKey();
+        // keys starting with \0 are reserved for the region itself
+        if (key.startsWith("\0")) {
+            return failure;
+        }
+        ExampleProto.Region region = regionManager.getRegion(key);
+        if (region == null || region.getMerging()) {
+            return failure;
+        }
+        RegionManager.RegionReplica replica = regionManager.getReplica(region.getRegionId());
+        replica.countRequest();
+        // only key and value go to the log, region commands are never taken from clients
+        ExampleProto.SetRequest setRequest = ExampleProto.SetRequest.newBuilder()
+                .setKey(key).setValue(request.getValue()).build();
+        ExampleProto.SetResponse response = replica.getService().set(setRequest);
+        // the region may have changed before the write was applied, then the write was dropped if the key moved
+        ExampleProto.Region current = replica.getStateMachine().getRegion();
+        if (response.getSuccess() && (current == null || current.getEpoch() != region.getEpoch())) {
+            return failure;
+        }
+        return response;
+    }
+
+    @Override
+    public ExampleProto.GetResponse get(ExampleProto.GetRequest request) {
+        String key = request.getKey();
+        for (int attempt = 0; attempt < regionManager.getRegionOptions().getMaxReadAttempts(); attempt++) {
+            ExampleProto.Region region = regionManager.getRegion(key);
+            if (region == null) {
+                break;
+            }
+            RegionManager.RegionReplica replica = regionManager.getReplica(region.getRegionId());
+            replica.countRequest();
+            ExampleProto.GetResponse response = replica.getService().get(request);
+            // the key belonged to the region for the whole read only if the region did not change
+            ExampleProto.Region current = replica.getStateMachine().getRegion();
+            if (current != null && current.getEpoch() == region.getEpoch()
+                    && RegionStateMachine.containsKey(current, key)) {
+                return response;
+            }
+        }
+        return ExampleProto.GetResponse.newBuilder().build();
+    }
+
+    @Override
+    public ExampleProto.GetRegionsResponse getRegions(ExampleProto.GetRegionsRequest request) {
+        return ExampleProto.GetRegionsResponse.newBuilder().addAllRoutes(regionManager.getRoutes()).build();
+    }
+}
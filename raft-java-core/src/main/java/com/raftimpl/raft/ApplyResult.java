@@ -0,0 +1,17 @@
+package com.raftimpl.raft;
+
+import lombok.Getter;
+
+/**
+ * Result of a proposal, the log position it was applied to the state machine at
+ */
+@Getter
+public class ApplyResult {
+    private final long index;
+    private final long term;
+
+    public ApplyResult(long index, long term) {
+        this.index = index;
+        this.term = term;
+    }
+}
@@ -0,0 +1,269 @@
+package com.raftimpl.raft;
+
+import com.raftimpl.raft.proto.RaftProto;
+import com.raftimpl.raft.util.SerialExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies committed log entries to the state machine on a single thread of its own,
+ * so a slow state machine never holds the raft node lock.
+ * The raft node hands over committed entries in log order, this thread applies them,
+ * publishes lastAppliedIndex and completes whoever waits for an index, all without the raft node lock.
+ * Snapshot loading and failing proposals run on the same thread, ordered with the entries.
+ * A state machine failing to apply entries stops the applying, the state may be half written,
+ * proposals and reads fail until a snapshot replaces the state.
+ * Raft groups hosted together share an apply pool instead, each group still applies in order.
+ */
+public class FSMCaller {
+    private static final Logger LOG = LoggerFactory.getLogger(FSMCaller.class);
+
+    private static class ProposalWaiter {
+        private final long term;
+        private final CompletableFuture<ApplyResult> future;
+
+        ProposalWaiter(long term, CompletableFuture<ApplyResult> future) {
+            this.term = term;
+            this.future = future;
+        }
+    }
+
+    private final StateMachine stateMachine;
+    private final Executor applyExecutor;
+    // the last log index that applied to state machine
+    private volatile long lastAppliedIndex;
+    // proposals waiting to be applied, by log index
+    private final ConcurrentNavigableMap<Long, ProposalWaiter> proposalWaiters = new ConcurrentSkipListMap<>();
+    // reads waiting for an index to be applied
+    private final ConcurrentNavigableMap<Long, Queue<CompletableFuture<Long>>> readWaiters
+            = new ConcurrentSkipListMap<>();
+    // bumped by every snapshot load, tasks queued before a newer load are dropped since the load replaces them
+    private final AtomicLong snapshotGeneration = new AtomicLong();
+    // set when the state machine failed to apply entries, cleared by loading a snapshot
+    private volatile RuntimeException applyError;
+
+    public FSMCaller(StateMachine stateMachine, long lastAppliedIndex) {
+        this.stateMachine = stateMachine;
+        this.lastAppliedIndex = lastAppliedIndex;
+        this.applyExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fsm-caller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param sharedExecutor pool shared by the raft groups of this process, tasks of this group run one at a time
+     */
+    public FSMCaller(StateMachine stateMachine, long lastAppliedIndex, Executor sharedExecutor) {
+        this.stateMachine = stateMachine;
+        this.lastAppliedIndex = lastAppliedIndex;
+        this.applyExecutor = new SerialExecutor(sharedExecutor);
+    }
+
+    public long getLastAppliedIndex() {
+        return lastAppliedIndex;
+    }
+
+    /**
+     * Apply committed entries in the background, entries must be handed over in log order.
+     * Contiguous data entries go to the state machine in one applyBatch call,
+     * configuration entries are skipped, the raft node applies them itself.
+     */
+    public void apply(final List<RaftProto.LogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        final long generation = snapshotGeneration.get();
+        applyExecutor.execute(() -> {
+            if (generation == snapshotGeneration.get() && applyError == null) {
+                doApply(entries);
+            }
+        });
+    }
+
+    /**
+     * Complete the future once the entry at index is applied, fail it if another entry is applied there
+     */
+    public void addProposal(long index, long term, CompletableFuture<ApplyResult> future) {
+        final ProposalWaiter waiter = new ProposalWaiter(term, future);
+        proposalWaiters.put(index, waiter);
+        if (applyError != null) {
+            failWaiters(applyError);
+        }
+        // timed out proposals leave the map, applied ones are removed when completed
+        future.whenComplete((result, ex) -> {
+            if (ex != null) {
+                proposalWaiters.remove(index, waiter);
+            }
+        });
+    }
+
+    /**
+     * Fail the proposals of a term up to maxTerm which are not applied by the entries handed over so far
+     */
+    public void failProposals(final long maxTerm, final String message) {
+        applyExecutor.execute(() -> {
+            IllegalStateException ex = new IllegalStateException(message);
+            Iterator<ProposalWaiter> iterator = proposalWaiters.values().iterator();
+            while (iterator.hasNext()) {
+                ProposalWaiter waiter = iterator.next();
+                if (waiter.term <= maxTerm) {
+                    iterator.remove();
+                    waiter.future.completeExceptionally(ex);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return future completed with lastAppliedIndex once index is applied, failed if the state machine failed
+     */
+    public CompletableFuture<Long> waitApplied(long index) {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        RuntimeException error = applyError;
+        if (error != null) {
+            future.completeExceptionally(new IllegalStateException("state machine failed to apply entries", error));
+            return future;
+        }
+        if (lastAppliedIndex >= index) {
+            future.complete(lastAppliedIndex);
+            return future;
+        }
+        readWaiters.computeIfAbsent(index, key -> new ConcurrentLinkedQueue<>()).offer(future);
+        // the apply thread may have passed index or failed before the future was added
+        if (lastAppliedIndex >= index) {
+            future.complete(lastAppliedIndex);
+        } else if (applyError != null) {
+            failWaiters(applyError);
+        }
+        return future;
+    }
+
+    /**
+     * Replace the state machine with a snapshot in the background, entries handed over before are dropped.
+     * lastAppliedIndex is lastIncludedIndex afterwards even if it was greater,
+     * the caller has to hand over the committed entries after lastIncludedIndex again.
+     * Must be called in the raft node lock, so no entry is handed over between the load and the entries after it.
+     * @return future completed once the snapshot is loaded, or skipped for a newer one
+     */
+    public CompletableFuture<Void> loadSnapshot(final String snapshotDataDir, final long lastIncludedIndex) {
+        final long generation = snapshotGeneration.incrementAndGet();
+        return CompletableFuture.runAsync(() -> {
+            if (generation != snapshotGeneration.get()) {
+                LOG.info("skip loading snapshot {}, a newer one is queued", snapshotDataDir);
+                return;
+            }
+            stateMachine.readSnap(snapshotDataDir);
+            lastAppliedIndex = lastIncludedIndex;
+            applyError = null;
+            completeReadWaiters();
+        }, applyExecutor);
+    }
+
+    private void doApply(List<RaftProto.LogEntry> entries) {
+        // contiguous data entries are handed to the state machine as one batch
+        List<RaftProto.LogEntry> run = new ArrayList<>();
+        for (RaftProto.LogEntry entry : entries) {
+            if (entry.getIndex() <= lastAppliedIndex) {
+                continue;
+            }
+            if (entry.getType() == RaftProto.EntryType.ENTRY_TYPE_DATA) {
+                run.add(entry);
+                continue;
+            }
+            if (!applyRun(run)) {
+                return;
+            }
+            run.clear();
+            onApplied(entry);
+        }
+        if (!applyRun(run)) {
+            return;
+        }
+        LOG.debug("lastAppliedIndex={}", lastAppliedIndex);
+        completeReadWaiters();
+    }
+
+    /**
+     * @return false if the state machine failed, the entries are not applied and applying stops
+     */
+    private boolean applyRun(List<RaftProto.LogEntry> run) {
+        if (run.isEmpty()) {
+            return true;
+        }
+        List<byte[]> dataList = new ArrayList<>(run.size());
+        for (RaftProto.LogEntry entry : run) {
+            dataList.add(entry.getData().toByteArray());
+        }
+        long lastIndex = run.get(run.size() - 1).getIndex();
+        try {
+            stateMachine.applyBatch(dataList, lastIndex);
+        } catch (RuntimeException ex) {
+            LOG.error("apply entries {}-{} failed, stop applying until a snapshot is loaded",
+                    run.get(0).getIndex(), lastIndex, ex);
+            applyError = ex;
+            failWaiters(ex);
+            return false;
+        }
+        for (RaftProto.LogEntry entry : run) {
+            onApplied(entry);
+        }
+        return true;
+    }
+
+    private void failWaiters(RuntimeException cause) {
+        IllegalStateException ex = new IllegalStateException("state machine failed to apply entries", cause);
+        Iterator<ProposalWaiter> iterator = proposalWaiters.values().iterator();
+        while (iterator.hasNext()) {
+            ProposalWaiter waiter = iterator.next();
+            iterator.remove();
+            waiter.future.completeExceptionally(ex);
+        }
+        Iterator<Queue<CompletableFuture<Long>>> readIterator = readWaiters.values().iterator();
+        while (readIterator.hasNext()) {
+            Queue<CompletableFuture<Long>> futures = readIterator.next();
+            readIterator.remove();
+            for (CompletableFuture<Long> future : futures) {
+                future.completeExceptionally(ex);
+            }
+        }
+    }
+
+    private void onApplied(RaftProto.LogEntry entry) {
+        lastAppliedIndex = entry.getIndex();
+        ProposalWaiter waiter = proposalWaiters.remove(entry.getIndex());
+        if (waiter != null) {
+            if (waiter.term == entry.getTerm()) {
+                waiter.future.complete(new ApplyResult(entry.getIndex(), entry.getTerm()));
+            } else {
+                waiter.future.completeExceptionally(
+                        new IllegalStateException("entry is overwritten by another leader"));
+            }
+        }
+    }
+
+    private void completeReadWaiters() {
+        Map.Entry<Long, Queue<CompletableFuture<Long>>> first;
+        while ((first = readWaiters.firstEntry()) != null && first.getKey() <= lastAppliedIndex) {
+            if (readWaiters.remove(first.getKey(), first.getValue())) {
+                for (CompletableFuture<Long> future : first.getValue()) {
+                    future.complete(lastAppliedIndex);
+                }
+            }
+        }
+    }
+}
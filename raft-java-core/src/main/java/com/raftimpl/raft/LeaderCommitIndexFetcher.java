@@ -0,0 +1,121 @@
+package com.raftimpl.raft;
+
+import com.baidu.brpc.client.RpcCallback;
+import com.raftimpl.raft.proto.RaftProto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Fetches the leader's commit index for follower reads, sharing one fetch among concurrent reads.
+ * At most one GetLeaderCommitIndex request is in flight, reads arriving meanwhile wait for it
+ * to finish and then share the next one, since an answer to a request sent before a read arrived
+ * may be older than the read.
+ */
+public class LeaderCommitIndexFetcher {
+    private static final Logger LOG = LoggerFactory.getLogger(LeaderCommitIndexFetcher.class);
+
+    private final RaftNode raftNode;
+    private final RaftOptions raftOptions;
+    // reads waiting for the next fetch
+    private List<CompletableFuture<Long>> pendingReads = new ArrayList<>();
+    private boolean fetchInFlight;
+
+    public LeaderCommitIndexFetcher(RaftNode raftNode, RaftOptions raftOptions) {
+        this.raftNode = raftNode;
+        this.raftOptions = raftOptions;
+    }
+
+    /**
+     * @return future completed with the leader's commit index, or completed exceptionally
+     * if the leader is unknown or doesn't answer within maxAwaitTimeout
+     */
+    public CompletableFuture<Long> fetch() {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        boolean startFetch;
+        synchronized (this) {
+            pendingReads.add(future);
+            startFetch = !fetchInFlight;
+            fetchInFlight = true;
+        }
+        if (startFetch) {
+            startFetch();
+        }
+        return future;
+    }
+
+    private void startFetch() {
+        final List<CompletableFuture<Long>> reads;
+        synchronized (this) {
+            reads = pendingReads;
+            pendingReads = new ArrayList<>();
+        }
+
+        final CompletableFuture<Long> fetch = new CompletableFuture<>();
+        fetch.orTimeout(raftOptions.getMaxAwaitTimeout(), TimeUnit.MILLISECONDS)
+                .whenComplete((commitIndex, ex) -> finishFetch(reads, commitIndex, ex));
+
+        Peer leader = null;
+        Lock lock = raftNode.getLock();
+        lock.lock();
+        try {
+            if (raftNode.getState() == RaftNode.NodeState.STATE_LEADER) {
+                fetch.complete(raftNode.getCommitIndex());
+                return;
+            }
+            leader = raftNode.getPeerMap().get(raftNode.getLeaderId());
+        } finally {
+            lock.unlock();
+        }
+        if (leader == null) {
+            fetch.completeExceptionally(new IllegalStateException("leader is unknown"));
+            return;
+        }
+
+        final Peer leaderPeer = leader;
+        RpcCallback<RaftProto.GetLeaderCommitIndexResponse> callback
+                = new RpcCallback<RaftProto.GetLeaderCommitIndexResponse>() {
+            @Override
+            public void success(RaftProto.GetLeaderCommitIndexResponse response) {
+                fetch.complete(response.getCommitIndex());
+            }
+
+            @Override
+            public void fail(Throwable e) {
+                LOG.warn("acquire commit index from leader[{}:{}] failed",
+                        leaderPeer.getServer().getEndpoint().getHost(),
+                        leaderPeer.getServer().getEndpoint().getPort());
+                fetch.completeExceptionally(e);
+            }
+        };
+        try {
+            leader.getRaftConsensusServiceAsync().getLeaderCommitIndex(
+                    RaftProto.GetLeaderCommitIndexRequest.newBuilder().setGroupId(raftNode.getGroupId()).build(), callback);
+        } catch (Exception ex) {
+            callback.fail(ex);
+        }
+    }
+
+    private void finishFetch(List<CompletableFuture<Long>> reads, Long commitIndex, Throwable ex) {
+        for (CompletableFuture<Long> read : reads) {
+            if (ex == null) {
+                read.complete(commitIndex);
+            } else {
+                read.completeExceptionally(ex);
+            }
+        }
+        boolean startFetch;
+        synchronized (this) {
+            startFetch = !pendingReads.isEmpty();
+            fetchInFlight = startFetch;
+        }
+        if (startFetch) {
+            raftNode.getExecutorService().submit(this::startFetch);
+        }
+    }
+}
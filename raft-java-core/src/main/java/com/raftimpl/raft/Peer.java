@@ -25,9 +25,19 @@ public class Peer {
     @Setter
     // the latest index of replicated log
     private long matchIndex;
+    @Getter
+    @Setter
+    // sends log entries to this peer while the local node is leader
+    private Replicator replicator;
+    @Getter
+    @Setter
+    // System.nanoTime at which the latest request acknowledged in the leader's term was sent, for the leader lease
+    private volatile long lastAckNanos;
     @Setter
     private volatile Boolean voteGranted;
     private volatile boolean isCatchUp;
+    // false if raftRpcClient is shared with the peers of other raft groups, see RaftGroupHost
+    private final boolean ownsRpcClient;
 
 
     public Peer(RaftProto.Server server) {
@@ -36,9 +46,31 @@ public class Peer {
                 server.getEndpoint().getHost(),
                 server.getEndpoint().getPort()));
         raftConsensusServiceAsync = BrpcProxy.getProxy(raftRpcClient, RaftConsensusServiceAsync.class);
+        ownsRpcClient = true;
+        isCatchUp = false;
+    }
+
+    /**
+     * @param raftRpcClient client to the peer's endpoint shared by all raft groups of this process
+     * @param raftConsensusServiceAsync the proxy of raftRpcClient, brpc allows only one proxy per client
+     */
+    public Peer(RaftProto.Server server, RpcClient raftRpcClient, RaftConsensusServiceAsync raftConsensusServiceAsync) {
+        this.server = server;
+        this.raftRpcClient = raftRpcClient;
+        this.raftConsensusServiceAsync = raftConsensusServiceAsync;
+        ownsRpcClient = false;
         isCatchUp = false;
     }
 
+    /**
+     * Stop the rpc client when the peer leaves the configuration, unless other groups share it
+     */
+    public void stop() {
+        if (ownsRpcClient) {
+            raftRpcClient.stop();
+        }
+    }
+
     public RpcClient createClient() {
         return new RpcClient(new Endpoint(
                 server.getEndpoint().getHost(),
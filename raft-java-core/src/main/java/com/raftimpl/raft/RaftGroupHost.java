@@ -0,0 +1,153 @@
+package com.raftimpl.raft;
+
+import com.baidu.brpc.client.BrpcProxy;
+import com.baidu.brpc.client.RpcClient;
+import com.baidu.brpc.client.instance.Endpoint;
+import com.raftimpl.raft.proto.RaftProto;
+import com.raftimpl.raft.service.RaftConsensusServiceAsync;
+import com.raftimpl.raft.util.ConfigurationUtils;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Runs many raft groups in one process, each group with its own log, snapshot and state machine
+ * under a data directory of its own.
+ * The groups share the consensus thread pool, the timer threads, a pool applying committed entries,
+ * a pool rolling log segments and one rpc client per remote endpoint, requests reach their group by group_id,
+ * see MultiRaftConsensusServiceImpl and MultiRaftClientServiceImpl.
+ */
+public class RaftGroupHost {
+    private static final Logger LOG = LoggerFactory.getLogger(RaftGroupHost.class);
+
+    private final RaftOptions raftOptions;
+    @Getter
+    private final ExecutorService executorService;
+    @Getter
+    private final ScheduledExecutorService scheduledExecutorService;
+    @Getter
+    private final ExecutorService applyExecutorService;
+    // seals rolled segments and preallocates segment files of all groups, bounds concurrent preallocation
+    @Getter
+    private final ExecutorService segmentRollerService;
+    // peers of all groups at the same "host:port" share its rpc client and proxy
+    private final ConcurrentMap<String, RpcClient> rpcClients = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RaftConsensusServiceAsync> consensusServices = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, RaftNode> groups = new ConcurrentHashMap<>();
+    private volatile boolean started;
+
+    /**
+     * @param raftOptions sizes the shared thread pools and sets leaderBalancePeriodSeconds
+     */
+    public RaftGroupHost(RaftOptions raftOptions) {
+        this.raftOptions = raftOptions;
+        this.executorService = new ThreadPoolExecutor(
+                raftOptions.getRaftConsensusThreadNum(),
+                raftOptions.getRaftConsensusThreadNum(),
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>());
+        this.scheduledExecutorService = Executors.newScheduledThreadPool(2);
+        this.applyExecutorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        this.segmentRollerService = Executors.newFixedThreadPool(2);
+    }
+
+    /**
+     * Create the node of a group, it is started by start, or right away if the host is started already.
+     * raftOptions.dataDir has to be a directory of its own for every group.
+     */
+    public RaftNode addGroup(int groupId, RaftOptions groupOptions, List<RaftProto.Server> servers,
+                             RaftProto.Server localServer, StateMachine stateMachine) {
+        RaftNode raftNode = new RaftNode(groupId, groupOptions, servers, localServer, stateMachine, this);
+        if (groups.putIfAbsent(groupId, raftNode) != null) {
+            throw new IllegalArgumentException("raft group " + groupId + " already exists");
+        }
+        if (started) {
+            raftNode.init();
+        }
+        return raftNode;
+    }
+
+    public RaftNode getGroup(int groupId) {
+        return groups.get(groupId);
+    }
+
+    public Collection<RaftNode> getGroups() {
+        return groups.values();
+    }
+
+    public void start() {
+        started = true;
+        for (RaftNode raftNode : groups.values()) {
+            raftNode.init();
+        }
+        if (raftOptions.getLeaderBalancePeriodSeconds() > 0) {
+            scheduledExecutorService.scheduleWithFixedDelay(() -> executorService.submit(this::balanceLeaders),
+                    raftOptions.getLeaderBalancePeriodSeconds(), raftOptions.getLeaderBalancePeriodSeconds(),
+                    TimeUnit.SECONDS);
+        }
+    }
+
+    Peer createPeer(RaftProto.Server server) {
+        final RaftProto.Endpoint endpoint = server.getEndpoint();
+        String key = endpoint.getHost() + ":" + endpoint.getPort();
+        RpcClient rpcClient = rpcClients.computeIfAbsent(key,
+                k -> new RpcClient(new Endpoint(endpoint.getHost(), endpoint.getPort())));
+        RaftConsensusServiceAsync consensusService = consensusServices.computeIfAbsent(key,
+                k -> BrpcProxy.getProxy(rpcClient, RaftConsensusServiceAsync.class));
+        return new Peer(server, rpcClient, consensusService);
+    }
+
+    /**
+     * Every group prefers the voter at groupId modulo the number of voters, voters sorted by id,
+     * so groups with the same voters spread their leaders evenly over them.
+     * A leader hands its group over only when the preferred leader is caught up and answered recently,
+     * a transfer to a node that is down would block the group's writes until it times out.
+     */
+    private void balanceLeaders() {
+        for (RaftNode raftNode : groups.values()) {
+            int preferredLeaderId = 0;
+            Lock lock = raftNode.getLock();
+            lock.lock();
+            try {
+                if (raftNode.getState() != RaftNode.NodeState.STATE_LEADER) {
+                    continue;
+                }
+                List<RaftProto.Server> voters = new ArrayList<>(
+                        ConfigurationUtils.getVoters(raftNode.getConfiguration()));
+                voters.sort(Comparator.comparingInt(RaftProto.Server::getServerId));
+                int serverId = voters.get(raftNode.getGroupId() % voters.size()).getServerId();
+                Peer peer = raftNode.getPeerMap().get(serverId);
+                if (serverId == raftNode.getLocalServer().getServerId() || peer == null) {
+                    continue;
+                }
+                long ackAgeNanos = System.nanoTime() - peer.getLastAckNanos();
+                if (peer.getMatchIndex() + raftOptions.getCatchupMargin() >= raftNode.getRaftLog().getLastLogIndex()
+                        && ackAgeNanos < TimeUnit.MILLISECONDS.toNanos(raftOptions.getElectionTimeoutMilliseconds())) {
+                    preferredLeaderId = serverId;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (preferredLeaderId > 0) {
+                LOG.info("transfer leadership of group {} to its preferred leader {}",
+                        raftNode.getGroupId(), preferredLeaderId);
+                raftNode.transferLeadership(preferredLeaderId);
+            }
+        }
+    }
+}
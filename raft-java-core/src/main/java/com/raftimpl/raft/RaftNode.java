@@ -11,7 +11,6 @@ import com.raftimpl.raft.util.ConfigurationUtils;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,6 +18,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -52,7 +52,25 @@ public class RaftNode {
     private static final Logger LOG = LoggerFactory.getLogger(RaftNode.class);
     private static final JsonFormat jsonFormat = new JsonFormat();
 
+    @Getter
+    private static class Proposal {
+        private final byte[] data;
+        private final RaftProto.EntryType entryType;
+        private final CompletableFuture<ApplyResult> future = new CompletableFuture<>();
+
+        Proposal(byte[] data, RaftProto.EntryType entryType) {
+            this.data = data;
+            this.entryType = entryType;
+        }
+    }
+
+    @Getter
     private final RaftOptions raftOptions;
+    // the raft group this node belongs to, 0 if the process runs a single group
+    @Getter
+    private final int groupId;
+    // shares threads and rpc clients with the other groups of this process, null if it runs a single group
+    private final RaftGroupHost host;
     @Setter
     @Getter
     private RaftProto.Configuration configuration;
@@ -78,22 +96,42 @@ public class RaftNode {
     @Setter
     @Getter
     private int leaderId;
-    // the largest commited log's index
+    // the largest commited log's index, volatile so it can be read without lock
     @Setter
     @Getter
-    private long commitIndex;
-    // the last log index that applied to state machine
-    @Setter
+    private volatile long commitIndex;
+    // the last committed index handed over to fsmCaller
+    private long lastQueuedIndex;
+    // applies committed entries to stateMachine
     @Getter
-    private volatile long lastAppliedIndex;
+    private FSMCaller fsmCaller;
+    // confirms leadership for reads, one heartbeat round for many concurrent reads
+    private ReadIndexBatcher readIndexBatcher;
+    // fetches the leader's commitIndex for follower reads, one rpc for many concurrent reads
+    private LeaderCommitIndexFetcher leaderCommitIndexFetcher;
 
     @Getter
     private final Lock lock = new ReentrantLock();
     @Getter
-    private final Condition commitIndexCondition = lock.newCondition();
-    @Getter
     private final Condition catchUpCondition = lock.newCondition();
 
+    // proposals waiting to be appended, see propose
+    private final Queue<Proposal> proposalQueue = new ConcurrentLinkedQueue<>();
+    // held by the thread appending a batch of proposals
+    private final Lock appendLock = new ReentrantLock();
+
+    // the peer leadership is being transferred to, 0 if none; proposals are refused meanwhile
+    private int transferTargetId;
+    private boolean timeoutNowSent;
+    private CompletableFuture<Boolean> transferFuture;
+    private ScheduledFuture transferScheduledFuture;
+
+    // System.nanoTime of the latest AppendEntries accepted from the leader, see hasRecentLeaderContact
+    private volatile long lastLeaderContactNanos;
+    // strongly consistent reads served inside the leader lease, and the ones falling back to a heartbeat round
+    private final AtomicLong leaseReadHitCount = new AtomicLong(0);
+    private final AtomicLong leaseReadMissCount = new AtomicLong(0);
+
     @Getter
     private ExecutorService executorService;
     private ScheduledExecutorService scheduledExecutorService;
@@ -101,6 +139,17 @@ public class RaftNode {
     private ScheduledFuture heartbeatScheduledFuture;
 
     public RaftNode(RaftOptions raftOptions, List<RaftProto.Server> servers, RaftProto.Server localServer, StateMachine stateMachine) {
+        this(0, raftOptions, servers, localServer, stateMachine, null);
+    }
+
+    /**
+     * Create a node of one of the raft groups hosted by host,
+     * raftOptions.dataDir has to be a directory of its own for every group
+     */
+    public RaftNode(int groupId, RaftOptions raftOptions, List<RaftProto.Server> servers,
+                    RaftProto.Server localServer, StateMachine stateMachine, RaftGroupHost host) {
+        this.groupId = groupId;
+        this.host = host;
         this.raftOptions = raftOptions;
         RaftProto.Configuration.Builder confBuilder = RaftProto.Configuration.newBuilder();
         for (RaftProto.Server server : servers) {
@@ -111,7 +160,8 @@ public class RaftNode {
         this.stateMachine = stateMachine;
 
         // load log and snapshot
-        raftLog = new SegmentedLog(raftOptions.getDataDir(), raftOptions.getMaxSegmentFileSize());
+        raftLog = new SegmentedLog(raftOptions.getDataDir(), raftOptions,
+                host == null ? null : host.getSegmentRollerService());
         snapshot = new Snapshot(raftOptions.getDataDir());
         snapshot.reload();
 
@@ -130,28 +180,60 @@ public class RaftNode {
         String snapshotDataDir = snapshot.getSnapshotDir() + File.separator + "data";
         stateMachine.readSnap(snapshotDataDir);
         // catch up the latest commited index
+        // contiguous data entries are replayed in batches of at most maxLogEntriesPerRequest
+        List<byte[]> dataList = new ArrayList<>();
         for (long index = snapshot.getMeta().getLastIncludedIndex() + 1; index <= commitIndex; index++) {
             RaftProto.LogEntry logEntry = raftLog.getEntry(index);
             if(logEntry.getType() == RaftProto.EntryType.ENTRY_TYPE_DATA){
-                stateMachine.applyData(logEntry.getData().toByteArray());
+                dataList.add(logEntry.getData().toByteArray());
+                if (dataList.size() >= raftOptions.getMaxLogEntriesPerRequest()) {
+                    stateMachine.applyBatch(dataList, index);
+                    dataList = new ArrayList<>();
+                }
             } else if (logEntry.getType() == RaftProto.EntryType.ENTRY_TYPE_CONFIGURATION){
+                if (!dataList.isEmpty()) {
+                    stateMachine.applyBatch(dataList, index - 1);
+                    dataList = new ArrayList<>();
+                }
                 applyConfiguration(logEntry);
             }
         }
-        lastAppliedIndex = commitIndex;
+        if (!dataList.isEmpty()) {
+            stateMachine.applyBatch(dataList, commitIndex);
+        }
+        lastQueuedIndex = commitIndex;
+        if (host == null) {
+            fsmCaller = new FSMCaller(stateMachine, commitIndex);
+        } else {
+            fsmCaller = new FSMCaller(stateMachine, commitIndex, host.getApplyExecutorService());
+        }
+        readIndexBatcher = new ReadIndexBatcher(this, raftOptions);
+        leaderCommitIndexFetcher = new LeaderCommitIndexFetcher(this, raftOptions);
     }
 
     public void init(){
         updatePeerMap();
         // init thread pool
-        executorService = new ThreadPoolExecutor(
-                raftOptions.getRaftConsensusThreadNum(),
-                raftOptions.getRaftConsensusThreadNum(),
-                60,
-                TimeUnit.SECONDS,
-                new LinkedBlockingQueue<Runnable>());
-        scheduledExecutorService = Executors.newScheduledThreadPool(2);
-        scheduledExecutorService.scheduleWithFixedDelay(this::takeSnapshot, raftOptions.getSnapshotPeriodSeconds(), raftOptions.getSnapshotPeriodSeconds(), TimeUnit.SECONDS);
+        if (host == null) {
+            executorService = new ThreadPoolExecutor(
+                    raftOptions.getRaftConsensusThreadNum(),
+                    raftOptions.getRaftConsensusThreadNum(),
+                    60,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>());
+            scheduledExecutorService = Executors.newScheduledThreadPool(2);
+        } else {
+            executorService = host.getExecutorService();
+            scheduledExecutorService = host.getScheduledExecutorService();
+        }
+        // the timer threads only hand work over, they may be shared by many groups
+        scheduledExecutorService.scheduleWithFixedDelay(() -> executorService.submit(this::takeSnapshot),
+                raftOptions.getSnapshotPeriodSeconds(), raftOptions.getSnapshotPeriodSeconds(), TimeUnit.SECONDS);
+        if (raftOptions.getCommitIndexFlushPeriodMilliseconds() > 0) {
+            scheduledExecutorService.scheduleWithFixedDelay(() -> executorService.submit(raftLog::flushMetaData),
+                    raftOptions.getCommitIndexFlushPeriodMilliseconds(),
+                    raftOptions.getCommitIndexFlushPeriodMilliseconds(), TimeUnit.MILLISECONDS);
+        }
         // start election
         resetElectionTimer();
     }
@@ -160,61 +242,150 @@ public class RaftNode {
     private void updatePeerMap() {
         for (RaftProto.Server server : configuration.getServersList()) {
             if (!peerMap.containsKey(server.getServerId()) && server.getServerId() != localServer.getServerId()) {
-                Peer peer = new Peer(server);
+                Peer peer = createPeer(server);
                 peer.setNextIndex(raftLog.getLastLogIndex() + 1);
                 peerMap.put(server.getServerId(), peer);
             }
         }
     }
 
+    public Peer createPeer(RaftProto.Server server) {
+        Peer peer = host == null ? new Peer(server) : host.createPeer(server);
+        peer.setReplicator(new Replicator(this, peer, raftOptions));
+        peer.setLastAckNanos(System.nanoTime() - getLeaseNanos());
+        return peer;
+    }
+
+    /**
+     * Replicate data and wait until it is applied, or only until it is queued if asyncWrite is set
+     * @return false if the node is not leader, or the entry is not applied within maxAwaitTimeout
+     */
     public boolean replicate(byte[] data, RaftProto.EntryType entryType) {
-        lock.lock();
-        long newLastLogIndex = 0;
+        CompletableFuture<ApplyResult> future = propose(data, entryType);
+        if (raftOptions.isAsyncWrite()) {
+            return !future.isCompletedExceptionally();
+        }
         try {
-            if (state != NodeState.STATE_LEADER) {
-                LOG.debug("I'm not the leader");
-                return false;
-            }
-            RaftProto.LogEntry logEntry = RaftProto.LogEntry.newBuilder()
-                    .setTerm(currentTerm)
-                    .setType(entryType)
-                    .setData(ByteString.copyFrom(data)).build();
-            List<RaftProto.LogEntry> entries = new ArrayList<>();
-            entries.add(logEntry);
-            newLastLogIndex = raftLog.append(entries);
-
-            for (RaftProto.Server server : configuration.getServersList()) {
-                final Peer peer = peerMap.get(server.getServerId());
-                executorService.submit(new Runnable() {
-                    @Override
-                    public void run() {
-                        appendEntries(peer);
-                    }
-                });
+            ApplyResult result = future.get();
+            LOG.debug("applied index={} term={}", result.getIndex(), result.getTerm());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            LOG.debug("replicate failed, msg={}", ex.getCause().getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Append data to the log and replicate it without waiting.
+     * The future completes when the entry is applied to the state machine, or completes exceptionally
+     * with IllegalStateException if the node is not leader or loses leadership before that,
+     * or with TimeoutException after maxAwaitTimeout.
+     * It is completed outside the raft lock.
+     */
+    public CompletableFuture<ApplyResult> propose(byte[] data, RaftProto.EntryType entryType) {
+        Proposal proposal = new Proposal(data, entryType);
+        proposal.getFuture().orTimeout(raftOptions.getMaxAwaitTimeout(), TimeUnit.MILLISECONDS);
+        proposalQueue.offer(proposal);
+        // the thread appending a batch checks the queue again after releasing appendLock,
+        // so the proposal is appended by it if we fail to get the lock
+        while (!proposalQueue.isEmpty() && appendLock.tryLock()) {
+            try {
+                appendProposals();
+            } finally {
+                appendLock.unlock();
             }
+        }
+        return proposal.getFuture();
+    }
 
-            if (raftOptions.isAsyncWrite()) {
-                return true;
+    /**
+     * Append queued proposals up to maxProposalBatchEntries or maxProposalBatchBytes as one batch,
+     * force it and start one replication round for it. Called with appendLock held.
+     */
+    private void appendProposals() {
+        List<Proposal> proposals = new ArrayList<>();
+        long batchBytes = 0;
+        Proposal proposal;
+        while (proposals.size() < raftOptions.getMaxProposalBatchEntries()
+                && (proposals.isEmpty() || batchBytes < raftOptions.getMaxProposalBatchBytes())
+                && (proposal = proposalQueue.poll()) != null) {
+            proposals.add(proposal);
+            batchBytes += proposal.getData().length;
+        }
+        if (proposals.isEmpty()) {
+            return;
+        }
+
+        long newLastLogIndex = 0;
+        String failMessage = "not leader";
+        lock.lock();
+        try {
+            if (state == NodeState.STATE_LEADER && transferTargetId != 0) {
+                failMessage = "transferring leadership";
+            } else if (state == NodeState.STATE_LEADER) {
+                List<RaftProto.LogEntry> entries = new ArrayList<>(proposals.size());
+                for (Proposal p : proposals) {
+                    entries.add(RaftProto.LogEntry.newBuilder()
+                            .setTerm(currentTerm)
+                            .setType(p.getEntryType())
+                            .setData(ByteString.copyFrom(p.getData())).build());
+                }
+                newLastLogIndex = raftLog.append(entries);
+                long index = newLastLogIndex - proposals.size();
+                for (Proposal p : proposals) {
+                    fsmCaller.addProposal(++index, currentTerm, p.getFuture());
+                }
+                if (raftOptions.isParallelLeaderWrite()) {
+                    // replicate while forcing locally, advanceCommitIndex only counts our durable index
+                    for (Peer peer : peerMap.values()) {
+                        peer.getReplicator().trigger();
+                    }
+                }
+            } else {
+                LOG.debug("I'm not the leader");
             }
+        } finally {
+            lock.unlock();
+        }
 
-            // sync wait commitIndex >= newLastLogIndex
-            long startTime = System.currentTimeMillis();
-            while (lastAppliedIndex < newLastLogIndex) {
-                if (System.currentTimeMillis() - startTime >= raftOptions.getMaxAwaitTimeout()) {
-                    break;
+        if (newLastLogIndex == 0) {
+            failProposals(proposals, failMessage);
+            return;
+        }
+        // force outside the lock so concurrent writers share one group commit
+        if (!raftLog.sync(newLastLogIndex)) {
+            LOG.warn("sync raft log failed, index={}", newLastLogIndex);
+            failProposals(proposals, "sync raft log failed");
+            return;
+        }
+        lock.lock();
+        try {
+            if (state == NodeState.STATE_LEADER) {
+                if (!raftOptions.isParallelLeaderWrite()) {
+                    // replicators already sending coalesce this into their next batch
+                    for (Peer peer : peerMap.values()) {
+                        peer.getReplicator().trigger();
+                    }
                 }
-                commitIndexCondition.await(raftOptions.getMaxAwaitTimeout(), TimeUnit.MILLISECONDS);
+                // local durable index has moved, followers may have acknowledged already
+                advanceCommitIndex();
             }
-        } catch (Exception ex) {
-            ex.printStackTrace();
         } finally {
             lock.unlock();
         }
-        LOG.debug("lastAppliedIndex={} newLastLogIndex={}", lastAppliedIndex, newLastLogIndex);
-        if (lastAppliedIndex < newLastLogIndex) {
-            return false;
+    }
+
+    private void failProposals(List<Proposal> proposals, String message) {
+        IllegalStateException ex = new IllegalStateException(message);
+        for (Proposal proposal : proposals) {
+            proposal.getFuture().completeExceptionally(ex);
         }
-        return true;
+    }
+
+    public long getLastAppliedIndex() {
+        return fsmCaller.getLastAppliedIndex();
     }
 
     public void takeSnapshot() {
@@ -233,13 +404,13 @@ public class RaftNode {
                 if (raftLog.getTotalSize() < raftOptions.getSnapshotMinLogSize()) {
                     return;
                 }
-                if (lastAppliedIndex <= snapshot.getMeta().getLastIncludedIndex()) {
+                localLastAppliedIndex = getLastAppliedIndex();
+                if (localLastAppliedIndex <= snapshot.getMeta().getLastIncludedIndex()) {
                     return;
                 }
-                localLastAppliedIndex = lastAppliedIndex;
-                if (lastAppliedIndex >= raftLog.getFirstLogIndex()
-                        && lastAppliedIndex <= raftLog.getLastLogIndex()) {
-                    lastAppliedTerm = raftLog.getEntryTerm(lastAppliedIndex);
+                if (localLastAppliedIndex >= raftLog.getFirstLogIndex()
+                        && localLastAppliedIndex <= raftLog.getLastLogIndex()) {
+                    lastAppliedTerm = raftLog.getEntryTerm(localLastAppliedIndex);
                 }
                 localConfiguration.mergeFrom(configuration);
             } finally {
@@ -255,7 +426,12 @@ public class RaftNode {
                 snapshot.updateMeta(tmpSnapshotDir, localLastAppliedIndex,
                         lastAppliedTerm, localConfiguration.build());
                 String tmpSnapshotDataDir = tmpSnapshotDir + File.separator + "data";
-                stateMachine.writeSnap(snapshot.getSnapshotDir(), tmpSnapshotDataDir, this, localLastAppliedIndex);
+                try {
+                    stateMachine.writeSnap(snapshot.getSnapshotDir(), tmpSnapshotDataDir, this, localLastAppliedIndex);
+                } catch (RuntimeException ex) {
+                    LOG.warn("write snapshot failed, keep the last snapshot", ex);
+                    return;
+                }
                 // rename tmp snapshot dir to snapshot dir
                 try {
                     File snapshotDirFile = new File(snapshot.getSnapshotDir());
@@ -324,7 +500,8 @@ public class RaftNode {
     private void startPreVote() {
         lock.lock();
         try {
-            if (!ConfigurationUtils.containsServer(configuration, localServer.getServerId())) {
+            // learners never run for election
+            if (!ConfigurationUtils.isVoter(configuration, localServer.getServerId())) {
                 resetElectionTimer();
                 return;
             }
@@ -334,7 +511,7 @@ public class RaftNode {
             lock.unlock();
         }
 
-        for (RaftProto.Server server : configuration.getServersList()) {
+        for (RaftProto.Server server : ConfigurationUtils.getVoters(configuration)) {
             if (server.getServerId() == localServer.getServerId()) {
                 continue;
             }
@@ -351,6 +528,7 @@ public class RaftNode {
         try {
             peer.setVoteGranted(null);
             requestBuilder.setServerId(localServer.getServerId())
+                    .setGroupId(groupId)
                     .setTerm(currentTerm)
                     .setLastLogIndex(raftLog.getLastLogIndex())
                     .setLastLogTerm(getLastLogTerm());
@@ -393,7 +571,8 @@ public class RaftNode {
                         LOG.info("get pre vote granted from server {} for term {}",
                                 peer.getServer().getServerId(), currentTerm);
                         int voteGrantedNum = 1;
-                        for (RaftProto.Server server : configuration.getServersList()) {
+                        List<RaftProto.Server> voters = ConfigurationUtils.getVoters(configuration);
+                        for (RaftProto.Server server : voters) {
                             if (server.getServerId() == localServer.getServerId()) {
                                 continue;
                             }
@@ -403,10 +582,10 @@ public class RaftNode {
                             }
                         }
                         LOG.info("preVoteGrantedNum={}", voteGrantedNum);
-                        if (voteGrantedNum > configuration.getServersCount() / 2) {
+                        if (voteGrantedNum > voters.size() / 2) {
                             LOG.info("get majority pre vote, serverId={} when pre vote, start vote",
                                     localServer.getServerId());
-                            startVote();
+                            startVote(false);
                         }
                     } else {
                         LOG.info("pre vote denied by server {} with term {}, my term is {}",
@@ -427,10 +606,14 @@ public class RaftNode {
         }
     }
 
-    private void startVote() {
+    /**
+     * @param leadershipTransfer the election is asked for by the leader through TimeoutNow
+     */
+    public void startVote(final boolean leadershipTransfer) {
         lock.lock();
         try {
-            if (!ConfigurationUtils.containsServer(configuration, localServer.getServerId())) {
+            // learners never run for election
+            if (!ConfigurationUtils.isVoter(configuration, localServer.getServerId())) {
                 resetElectionTimer();
                 return;
             }
@@ -439,29 +622,32 @@ public class RaftNode {
             state = NodeState.STATE_CANDIDATE;
             leaderId = 0;
             votedFor = localServer.getServerId();
+            raftLog.updateMetaData(currentTerm, votedFor, null, null);
         } finally {
             lock.unlock();
         }
 
-        for (RaftProto.Server server : configuration.getServersList()) {
+        for (RaftProto.Server server : ConfigurationUtils.getVoters(configuration)) {
             if (server.getServerId() == localServer.getServerId()) {
                 continue;
             }
             final Peer peer = peerMap.get(server.getServerId());
-            executorService.submit(() -> requestVote(peer));
+            executorService.submit(() -> requestVote(peer, leadershipTransfer));
         }
     }
 
-    private void requestVote(Peer peer) {
+    private void requestVote(Peer peer, boolean leadershipTransfer) {
         LOG.info("begin vote request");
         RaftProto.VoteRequest.Builder requestBuilder = RaftProto.VoteRequest.newBuilder();
         lock.lock();
         try {
             peer.setVoteGranted(null);
             requestBuilder.setServerId(localServer.getServerId())
+                    .setGroupId(groupId)
                     .setTerm(currentTerm)
                     .setLastLogIndex(raftLog.getLastLogIndex())
-                    .setLastLogTerm(getLastLogTerm());
+                    .setLastLogTerm(getLastLogTerm())
+                    .setLeadershipTransfer(leadershipTransfer);
         } finally {
             lock.unlock();
         }
@@ -504,7 +690,8 @@ public class RaftNode {
                         if (votedFor == localServer.getServerId()) {
                             voteGrantedNum += 1;
                         }
-                        for (RaftProto.Server server : configuration.getServersList()) {
+                        List<RaftProto.Server> voters = ConfigurationUtils.getVoters(configuration);
+                        for (RaftProto.Server server : voters) {
                             if (server.getServerId() == localServer.getServerId()) {
                                 continue;
                             }
@@ -514,7 +701,7 @@ public class RaftNode {
                             }
                         }
                         LOG.info("voteGrantedNum={}", voteGrantedNum);
-                        if (voteGrantedNum > configuration.getServersCount() / 2) {
+                        if (voteGrantedNum > voters.size() / 2) {
                             LOG.info("Got majority vote, serverId={} become leader", localServer.getServerId());
                             becomeLeader();
                         }
@@ -548,6 +735,14 @@ public class RaftNode {
             votedFor = 0;
             raftLog.updateMetaData(currentTerm, votedFor, null, null);
         }
+        if (state == NodeState.STATE_LEADER) {
+            // entries of this leader may still be committed by the next one, but can not be waited for here
+            fsmCaller.failProposals(currentTerm, "leadership lost");
+            if (transferFuture != null) {
+                LOG.info("leadership transferred, new term={}", currentTerm);
+                finishTransferLeadership(true);
+            }
+        }
         state = NodeState.STATE_FOLLOWER;
         // stop heartbeat
         if (heartbeatScheduledFuture != null && !heartbeatScheduledFuture.isDone()) {
@@ -574,14 +769,123 @@ public class RaftNode {
         }
         
         // Initialize leader replication state
-        /*
+        long expiredAckNanos = System.nanoTime() - getLeaseNanos();
         for (Peer peer : peerMap.values()) {
-            peer.setNextIndex(raftLog.getLastLogIndex() + 1);
+            peer.getReplicator().reset(raftLog.getLastLogIndex() + 1);
             peer.setMatchIndex(0L);
-        }*/
+            // acknowledgements from an earlier term don't count for this term's lease
+            peer.setLastAckNanos(expiredAckNanos);
+        }
         
         // Send initial heartbeat and schedule periodic ones
         startNewHeartbeat();
+        // entries of earlier terms are committed only along with one of this term (raft paper §8),
+        // the lease also waits for one, so propose an empty entry instead of waiting for a client write
+        executorService.submit(() -> propose(new byte[0], RaftProto.EntryType.ENTRY_TYPE_NO_OP));
+    }
+
+    /**
+     * Hand leadership over to targetServerId: refuse new proposals, bring the target's log up to date,
+     * then send it TimeoutNow so it starts an election at once instead of after an election timeout.
+     * @return future completed with true once this node steps down,
+     * or false if it is not leader, the target is invalid, or the transfer doesn't finish within electionTimeout
+     */
+    public CompletableFuture<Boolean> transferLeadership(int targetServerId) {
+        Peer target;
+        lock.lock();
+        try {
+            if (state != NodeState.STATE_LEADER || transferFuture != null
+                    || targetServerId == localServer.getServerId()
+                    || !ConfigurationUtils.isVoter(configuration, targetServerId)) {
+                LOG.warn("can't transfer leadership to server {}, state={}, transferring to={}",
+                        targetServerId, state, transferTargetId);
+                return CompletableFuture.completedFuture(false);
+            }
+            LOG.info("start transferring leadership to server {} in term {}", targetServerId, currentTerm);
+            transferTargetId = targetServerId;
+            timeoutNowSent = false;
+            transferFuture = new CompletableFuture<>();
+            transferScheduledFuture = scheduledExecutorService.schedule(() -> {
+                lock.lock();
+                try {
+                    if (transferFuture != null) {
+                        LOG.warn("transfer leadership to server {} timeout", transferTargetId);
+                        finishTransferLeadership(false);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }, raftOptions.getElectionTimeoutMilliseconds(), TimeUnit.MILLISECONDS);
+            target = peerMap.get(targetServerId);
+            checkTransferLeadership(target);
+        } finally {
+            lock.unlock();
+        }
+        target.getReplicator().trigger();
+        return transferFuture;
+    }
+
+    /**
+     * Send TimeoutNow once the transfer target has every entry of our log.
+     * Must be called in lock.
+     */
+    void checkTransferLeadership(final Peer peer) {
+        if (transferTargetId != peer.getServer().getServerId() || timeoutNowSent
+                || peer.getMatchIndex() < raftLog.getLastLogIndex()) {
+            return;
+        }
+        timeoutNowSent = true;
+        RaftProto.TimeoutNowRequest request = RaftProto.TimeoutNowRequest.newBuilder()
+                .setServerId(localServer.getServerId())
+                .setGroupId(groupId)
+                .setTerm(currentTerm).build();
+        LOG.info("server {} caught up at index {}, send TimeoutNow",
+                peer.getServer().getServerId(), peer.getMatchIndex());
+        RpcCallback<RaftProto.TimeoutNowResponse> callback = new RpcCallback<RaftProto.TimeoutNowResponse>() {
+            @Override
+            public void success(RaftProto.TimeoutNowResponse response) {
+                lock.lock();
+                try {
+                    if (response.getTerm() > currentTerm) {
+                        stepDown(response.getTerm());
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+
+            @Override
+            public void fail(Throwable e) {
+                LOG.warn("timeoutNow with peer[{}:{}] failed",
+                        peer.getServer().getEndpoint().getHost(),
+                        peer.getServer().getEndpoint().getPort());
+            }
+        };
+        try {
+            peer.getRaftConsensusServiceAsync().timeoutNow(request, callback);
+        } catch (Exception ex) {
+            callback.fail(ex);
+        }
+    }
+
+    // in lock
+    private void finishTransferLeadership(boolean success) {
+        if (transferScheduledFuture != null) {
+            transferScheduledFuture.cancel(false);
+        }
+        if (!success) {
+            // the target may still win an election which its voters joined without waiting for an
+            // election timeout, so acknowledgements collected so far can't extend the lease anymore
+            long expiredAckNanos = System.nanoTime() - getLeaseNanos();
+            for (Peer peer : peerMap.values()) {
+                peer.setLastAckNanos(expiredAckNanos);
+            }
+        }
+        CompletableFuture<Boolean> future = transferFuture;
+        transferTargetId = 0;
+        transferFuture = null;
+        transferScheduledFuture = null;
+        future.complete(success);
     }
 
     private void resetHeartbeatTimer() {
@@ -593,34 +897,20 @@ public class RaftNode {
 
     private void startNewHeartbeat() {
         LOG.debug("start new heartbeat, peers={}", peerMap.keySet());
-        for (final Peer peer : peerMap.values()) {
-            executorService.submit(() -> appendEntries(peer));
+        for (Peer peer : peerMap.values()) {
+            peer.getReplicator().heartbeat();
         }
         resetHeartbeatTimer();
     }
-    public boolean appendEntries(Peer peer) {
-        RaftProto.AppendEntriesRequest.Builder requestBuilder = RaftProto.AppendEntriesRequest.newBuilder();
-        long prevLogIndex;
-        long numEntries;
-
-        boolean isNeedInstallSnapshot = false;
-        lock.lock();
-        try {
-            long firstLogIndex = raftLog.getFirstLogIndex();
-            if (peer.getNextIndex() < firstLogIndex) {
-                isNeedInstallSnapshot = true;
-            }
-        } finally {
-            lock.unlock();
-        }
-
-        LOG.debug("is need snapshot={}, peer={}", isNeedInstallSnapshot, peer.getServer().getServerId());
-        if (isNeedInstallSnapshot) {
-            if (!installSnapshot(peer)) {
-                return false;
-            }
-        }
 
+    /**
+     * Send an empty AppendEntries request at the peer's matchIndex, used to confirm leadership.
+     * Log replication is done by the peer's {@link Replicator}.
+     * @param onAcknowledged run in the rpc callback if the peer answered without a higher term
+     */
+    public void appendEntries(final Peer peer, final Runnable onAcknowledged) {
+        final long sendNanos = System.nanoTime();
+        RaftProto.AppendEntriesRequest.Builder requestBuilder = RaftProto.AppendEntriesRequest.newBuilder();
         long lastSnapshotIndex;
         long lastSnapshotTerm;
         snapshot.getLock().lock();
@@ -633,9 +923,7 @@ public class RaftNode {
 
         lock.lock();
         try {
-            long firstLogIndex = raftLog.getFirstLogIndex();
-            Validate.isTrue(peer.getNextIndex() >= firstLogIndex);
-            prevLogIndex = peer.getNextIndex() - 1;
+            long prevLogIndex = peer.getMatchIndex();
             long prevLogTerm;
             if (prevLogIndex == 0) {
                 prevLogTerm = 0;
@@ -645,155 +933,66 @@ public class RaftNode {
                 prevLogTerm = raftLog.getEntryTerm(prevLogIndex);
             }
             requestBuilder.setServerId(localServer.getServerId());
+            requestBuilder.setGroupId(groupId);
             requestBuilder.setTerm(currentTerm);
             requestBuilder.setPrevLogTerm(prevLogTerm);
             requestBuilder.setPrevLogIndex(prevLogIndex);
-            numEntries = packEntries(peer.getNextIndex(), requestBuilder);
-            requestBuilder.setCommitIndex(Math.min(commitIndex, prevLogIndex + numEntries));
+            requestBuilder.setCommitIndex(Math.min(commitIndex, prevLogIndex));
         } finally {
             lock.unlock();
         }
 
-        RaftProto.AppendEntriesRequest request = requestBuilder.build();
-        RaftProto.AppendEntriesResponse response = peer.getRaftConsensusServiceAsync().appendEntries(request);
-
-        lock.lock();
-        try {
-            if (response == null) {
-                LOG.warn("appendEntries with peer[{}:{}] failed",
-                        peer.getServer().getEndpoint().getHost(),
-                        peer.getServer().getEndpoint().getPort());
-                if (!ConfigurationUtils.containsServer(configuration, peer.getServer().getServerId())) {
-                    peerMap.remove(peer.getServer().getServerId());
-                    peer.getRaftRpcClient().stop();
-                }
-                return false;
-            }
-            LOG.info("AppendEntries response[{}] from server {} " +
-                            "in term {} (my term is {})",
-                    response.getResCode(), peer.getServer().getServerId(),
-                    response.getTerm(), currentTerm);
-
-            if (response.getTerm() > currentTerm) {
-                stepDown(response.getTerm());
-            } else {
-                if (response.getResCode() == RaftProto.ResCode.RES_CODE_SUCCESS) {
-                    peer.setMatchIndex(prevLogIndex + numEntries);
-                    peer.setNextIndex(peer.getMatchIndex() + 1);
-                    if (ConfigurationUtils.containsServer(configuration, peer.getServer().getServerId())) {
-                        advanceCommitIndex();
-                    } else {
-                        if (raftLog.getLastLogIndex() - peer.getMatchIndex() <= raftOptions.getCatchupMargin()) {
-                            LOG.debug("peer catch up the leader");
-                            peer.setCatchUp(true);
-                            // signal the caller thread
-                            catchUpCondition.signalAll();
-                        }
-                    }
-                } else {
-                    peer.setNextIndex(response.getLastLogIndex() + 1);
-                }
-            }
-        } finally {
-            lock.unlock();
-        }
-        return true;
-    }
-
-    private long packEntries(long nextIndex, RaftProto.AppendEntriesRequest.Builder requestBuilder) {
-        long lastIndex = Math.min(raftLog.getLastLogIndex(),
-                nextIndex + raftOptions.getMaxLogEntriesPerRequest() - 1);
-        for (long index = nextIndex; index <= lastIndex; index++) {
-            RaftProto.LogEntry entry = raftLog.getEntry(index);
-            requestBuilder.addEntries(entry);
-        }
-        return lastIndex - nextIndex + 1;
-    }
-
-    private boolean installSnapshot(Peer peer) {
-        if (snapshot.getIsTakeSnap().get()) {
-            LOG.info("already in take snapshot, please send install snapshot request later");
-            return false;
-        }
-        if (!snapshot.getIsInstallSnap().compareAndSet(false, true)) {
-            LOG.info("already in install snapshot");
-            return false;
-        }
-
-        LOG.info("begin send install snapshot request to server={}", peer.getServer().getServerId());
-        boolean isSuccess = true;
-        TreeMap<String, Snapshot.SnapshotDataFile> snapshotDataFileMap = snapshot.openSnapshotDataFiles();
-        LOG.info("total snapshot files={}", snapshotDataFileMap.keySet());
-        try {
-            boolean isLastRequest = false;
-            String lastFileName = null;
-            long lastOffset = 0;
-            long lastLength = 0;
-            while (!isLastRequest) {
-                RaftProto.InstallSnapshotRequest request
-                        = buildInstallSnapshotRequest(snapshotDataFileMap, lastFileName, lastOffset, lastLength);
-                if (request == null) {
-                    LOG.warn("snapshot request == null");
-                    isSuccess = false;
-                    break;
-                }
-                if (request.getIsLast()) {
-                    isLastRequest = true;
-                }
-                LOG.info("install snapshot request, fileName={}, offset={}, size={}, isFirst={}, isLast={}",
-                        request.getFileName(), request.getOffset(), request.getData().toByteArray().length,
-                        request.getIsFirst(), request.getIsLast());
-                RaftProto.InstallSnapshotResponse response
-                        = peer.getRaftConsensusServiceAsync().installSnap(request);
-                if (response != null && response.getResCode() == RaftProto.ResCode.RES_CODE_SUCCESS) {
-                    lastFileName = request.getFileName();
-                    lastOffset = request.getOffset();
-                    lastLength = request.getData().size();
-                } else {
-                    isSuccess = false;
-                    break;
-                }
-            }
-
-            if (isSuccess) {
-                long lastIncludedIndexInSnapshot;
-                snapshot.getLock().lock();
-                try {
-                    lastIncludedIndexInSnapshot = snapshot.getMeta().getLastIncludedIndex();
-                } finally {
-                    snapshot.getLock().unlock();
-                }
-
+        RpcCallback<RaftProto.AppendEntriesResponse> callback = new RpcCallback<RaftProto.AppendEntriesResponse>() {
+            @Override
+            public void success(RaftProto.AppendEntriesResponse response) {
                 lock.lock();
                 try {
-                    peer.setNextIndex(lastIncludedIndexInSnapshot + 1);
+                    // a rejection still acknowledges us as leader of this term
+                    if (response.getTerm() > currentTerm) {
+                        stepDown(response.getTerm());
+                        return;
+                    }
+                    if (state == NodeState.STATE_LEADER && response.getTerm() == currentTerm
+                            && sendNanos - peer.getLastAckNanos() > 0) {
+                        peer.setLastAckNanos(sendNanos);
+                    }
                 } finally {
                     lock.unlock();
                 }
+                onAcknowledged.run();
             }
-        } finally {
-            snapshot.closeSnapshotDataFiles(snapshotDataFileMap);
-            snapshot.getIsInstallSnap().compareAndSet(true, false);
+
+            @Override
+            public void fail(Throwable e) {
+                LOG.warn("appendEntries with peer[{}:{}] failed",
+                        peer.getServer().getEndpoint().getHost(),
+                        peer.getServer().getEndpoint().getPort());
+            }
+        };
+        try {
+            peer.getRaftConsensusServiceAsync().appendEntries(requestBuilder.build(), callback);
+        } catch (Exception ex) {
+            callback.fail(ex);
         }
-        LOG.info("end send install snapshot request to server={}, success={}",
-                peer.getServer().getServerId(), isSuccess);
-        return isSuccess;
     }
 
-    private void advanceCommitIndex() {
-        // get quorum matchIndex
-        int peerNum = configuration.getServersList().size();
+    void advanceCommitIndex() {
+        // get quorum matchIndex, learners don't count
+        List<RaftProto.Server> voters = ConfigurationUtils.getVoters(configuration);
+        int peerNum = voters.size();
         long[] matchIndexes = new long[peerNum];
         int i = 0;
-        for (RaftProto.Server server : configuration.getServersList()) {
+        for (RaftProto.Server server : voters) {
             if (server.getServerId() != localServer.getServerId()) {
                 Peer peer = peerMap.get(server.getServerId());
                 matchIndexes[i++] = peer.getMatchIndex();
             }
         }
-        matchIndexes[i] = raftLog.getLastLogIndex();
+        // the leader only counts entries which are already durable on its own disk
+        matchIndexes[i] = raftLog.getDurableIndex();
         Arrays.sort(matchIndexes);
-        long newCommitIndex = matchIndexes[peerNum / 2];
+        // the largest index stored on a majority, also right for an even number of voters
+        long newCommitIndex = matchIndexes[(peerNum - 1) / 2];
         LOG.debug("newCommitIndex={}, oldCommitIndex={}", newCommitIndex, commitIndex);
         if (raftLog.getEntryTerm(newCommitIndex) != currentTerm) {
             LOG.debug("newCommitIndexTerm={}, currentTerm={}",
@@ -804,21 +1003,48 @@ public class RaftNode {
         if (commitIndex >= newCommitIndex) {
             return;
         }
-        long oldCommitIndex = commitIndex;
         commitIndex = newCommitIndex;
         raftLog.updateMetaData(currentTerm, null, raftLog.getFirstLogIndex(), commitIndex);
         // 同步到状态机
-        for (long index = oldCommitIndex + 1; index <= newCommitIndex; index++) {
+        applyCommitted();
+        LOG.debug("commitIndex={} lastAppliedIndex={}", commitIndex, getLastAppliedIndex());
+    }
+
+    /**
+     * A snapshot load is queued on fsmCaller, hand the committed entries after it over again.
+     * Must be called in lock.
+     */
+    public void onSnapshotLoaded(long lastIncludedIndex) {
+        lastQueuedIndex = lastIncludedIndex;
+        if (commitIndex < lastIncludedIndex) {
+            commitIndex = lastIncludedIndex;
+        }
+        applyCommitted();
+    }
+
+    /**
+     * Hand the entries committed since the last call over to fsmCaller,
+     * configuration entries are applied here since the configuration is guarded by lock.
+     * Must be called in lock after commitIndex advances.
+     */
+    public void applyCommitted() {
+        if (lastQueuedIndex >= commitIndex) {
+            return;
+        }
+        List<RaftProto.LogEntry> entries = new ArrayList<>((int) (commitIndex - lastQueuedIndex));
+        long firstIndex = Math.max(lastQueuedIndex + 1, raftLog.getFirstLogIndex());
+        for (long index = firstIndex; index <= commitIndex; index++) {
             RaftProto.LogEntry entry = raftLog.getEntry(index);
-            if (entry.getType() == RaftProto.EntryType.ENTRY_TYPE_DATA) {
-                stateMachine.applyData(entry.getData().toByteArray());
-            } else if (entry.getType() == RaftProto.EntryType.ENTRY_TYPE_CONFIGURATION) {
+            if (entry == null) {
+                continue;
+            }
+            if (entry.getType() == RaftProto.EntryType.ENTRY_TYPE_CONFIGURATION) {
                 applyConfiguration(entry);
             }
+            entries.add(entry);
         }
-        lastAppliedIndex = commitIndex;
-        LOG.debug("commitIndex={} lastAppliedIndex={}", commitIndex, lastAppliedIndex);
-        commitIndexCondition.signalAll();
+        lastQueuedIndex = commitIndex;
+        fsmCaller.apply(entries);
     }
     public long getLastLogTerm() {
         long lastLogIndex = raftLog.getLastLogIndex();
@@ -843,7 +1069,7 @@ public class RaftNode {
         }
     }
 
-    private RaftProto.InstallSnapshotRequest buildInstallSnapshotRequest(
+    RaftProto.InstallSnapshotRequest buildInstallSnapshotRequest(
             TreeMap<String, Snapshot.SnapshotDataFile> snapshotDataFileMap,
             String lastFileName, long lastOffset, long lastLength) {
         RaftProto.InstallSnapshotRequest.Builder requestBuilder = RaftProto.InstallSnapshotRequest.newBuilder();
@@ -906,6 +1132,7 @@ public class RaftNode {
         try {
             requestBuilder.setTerm(currentTerm);
             requestBuilder.setServerId(localServer.getServerId());
+            requestBuilder.setGroupId(groupId);
         } finally {
             lock.unlock();
         }
@@ -913,101 +1140,123 @@ public class RaftNode {
         return requestBuilder.build();
     }
     public boolean waitForLeaderCommitIndex() {
-        long readIndex = -1;
-        boolean callLeader = false;
-        Peer leader = null;
-
-        lock.lock();
+        // 记录Leader节点的commitIndex为readIndex
+        // 如果当前节点是Leader节点，则直接获取当前commitIndex，否则通过RPC从Leader节点获取，并发的读请求共享同一次RPC
+        long readIndex;
         try {
-            // 记录commitIndex为readIndex
-            // 如果当前节点是Leader节点，则直接获取当前commitIndex，否则通过RPC从Leader节点获取commitIndex
-            if (leaderId == localServer.getServerId()) {
-                readIndex = commitIndex;
-            } else {
-                callLeader = true;
-                leader = peerMap.get(leaderId);
-            }
-        } finally {
-            lock.unlock();
+            readIndex = leaderCommitIndexFetcher.fetch().get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException ex) {
+            return false;
         }
 
-        if (callLeader && leader != null) {
-            RaftProto.GetLeaderCommitIndexRequest request = RaftProto.GetLeaderCommitIndexRequest.newBuilder().build();
-            RaftProto.GetLeaderCommitIndexResponse response =
-                    leader.getRaftConsensusServiceAsync().getLeaderCommitIndex(request);
-            if (response == null) {
-                LOG.warn("acquire commit index from leader[{}:{}] failed",
-                        leader.getStorageServer().getEndpoint().getHost(),
-                        leader.getStorageServer().getEndpoint().getPort());
-                return false;
+        // 等待readIndex之前的日志条目被应用到复制状态机
+        return waitApplied(readIndex);
+    }
+
+    public boolean waitUntilApplied() {
+        if (raftOptions.getReadOnlyMode() == RaftOptions.ReadOnlyMode.LEASE_BASED) {
+            long leaseReadIndex = -1;
+            lock.lock();
+            try {
+                if (isLeaseValid()) {
+                    leaseReadIndex = commitIndex;
+                }
+            } finally {
+                lock.unlock();
             }
-            readIndex = response.getCommitIndex();
+            if (leaseReadIndex >= 0) {
+                leaseReadHitCount.incrementAndGet();
+                return waitApplied(leaseReadIndex);
+            }
+            leaseReadMissCount.incrementAndGet();
         }
 
-        if (readIndex == -1) {
+        // 确认当前节点仍是Leader：与并发的读请求共享一轮心跳，多数派响应后以该轮开始时的commitIndex为readIndex
+        long readIndex;
+        try {
+            readIndex = readIndexBatcher.readIndex().get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException ex) {
             return false;
         }
+        // 等待readIndex之前的日志条目被应用到复制状态机
+        return waitApplied(readIndex);
+    }
 
-        lock.lock();
-        try {
-            // 等待readIndex之前的日志条目被应用到复制状态机
-            long startTime = System.currentTimeMillis();
-            while (lastAppliedIndex < readIndex
-                    && System.currentTimeMillis() - startTime < raftOptions.getMaxAwaitTimeout()) {
-                commitIndexCondition.await(raftOptions.getMaxAwaitTimeout(), TimeUnit.MILLISECONDS);
+    /**
+     * The leader lease starts when the latest heartbeat round acknowledged by a quorum was sent,
+     * no other node can become leader within the election timeout from then.
+     * It also requires an entry of the current term to be committed, so commitIndex is up to date.
+     * Must be called in lock.
+     */
+    private boolean isLeaseValid() {
+        if (state != NodeState.STATE_LEADER || transferTargetId != 0
+                || raftLog.getEntryTerm(commitIndex) != currentTerm) {
+            return false;
+        }
+        List<Long> ackNanosList = new ArrayList<>();
+        for (RaftProto.Server server : ConfigurationUtils.getVoters(configuration)) {
+            if (server.getServerId() != localServer.getServerId()) {
+                Peer peer = peerMap.get(server.getServerId());
+                ackNanosList.add(peer.getLastAckNanos());
             }
-            return lastAppliedIndex >= readIndex;
-        } catch (InterruptedException ignore) {
-        } finally {
-            lock.unlock();
         }
-        return false;
+        // the leader itself is one vote of the quorum
+        int quorumPeers = (ackNanosList.size() + 1) / 2;
+        if (quorumPeers == 0) {
+            return true;
+        }
+        ackNanosList.sort((a, b) -> Long.signum(b - a));
+        long leaseStartNanos = ackNanosList.get(quorumPeers - 1);
+        return System.nanoTime() - leaseStartNanos < getLeaseNanos();
     }
 
-    public boolean waitUntilApplied() {
-        final CountDownLatch cdl;
-        long readIndex;
-        lock.lock();
-        try {
-            // 记录当前commitIndex为readIndex
-            // 创建CountDownLatch，值为Peer节点数的一半（向上取整，加上Leader节点本身即可超过半数）
-            readIndex = commitIndex;
-            int peerNum = configuration.getServersList().size();
-            cdl = new CountDownLatch((peerNum + 1) >> 1);
-
-            // 向所有Follower节点发送心跳包，如果得到响应就让CountDownLatch减一
-            LOG.debug("ensure leader, peers={}", peerMap.keySet());
-            for (final Peer peer : peerMap.values()) {
-                executorService.submit(new Runnable() {
-                    @Override
-                    public void run() {
-                        if (appendEntries(peer)) {
-                            cdl.countDown();
-                        }
-                    }
-                });
-            }
-        } finally {
-            lock.unlock();
+    private long getLeaseNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(raftOptions.getElectionTimeoutMilliseconds()
+                - raftOptions.getLeaseClockDriftMilliseconds());
+    }
+
+    /**
+     * In lease based read mode a node which heard from the leader within the election timeout
+     * refuses votes, otherwise a new leader could be elected while the old lease is still valid.
+     * Must be called in lock.
+     */
+    public boolean hasRecentLeaderContact() {
+        if (raftOptions.getReadOnlyMode() != RaftOptions.ReadOnlyMode.LEASE_BASED) {
+            return false;
+        }
+        if (state == NodeState.STATE_LEADER) {
+            return true;
         }
+        return leaderId != 0 && System.nanoTime() - lastLeaderContactNanos
+                < TimeUnit.MILLISECONDS.toNanos(raftOptions.getElectionTimeoutMilliseconds());
+    }
 
-        // 等待CountDownLatch减为0或超时
+    public void updateLeaderContact() {
+        lastLeaderContactNanos = System.nanoTime();
+    }
+
+    public long getLeaseReadHitCount() {
+        return leaseReadHitCount.get();
+    }
+
+    public long getLeaseReadMissCount() {
+        return leaseReadMissCount.get();
+    }
+
+    private boolean waitApplied(long readIndex) {
         try {
-            if (cdl.await(raftOptions.getMaxAwaitTimeout(), TimeUnit.MILLISECONDS)) {
-                lock.lock();
-                try {
-                    // 如果CountDownLatch在超时时间内减为0，则成功确认当前节点是Leader节点，等待readIndex之前的日志条目被应用到复制状态机
-                    long startTime = System.currentTimeMillis();
-                    while (lastAppliedIndex < readIndex
-                            && System.currentTimeMillis() - startTime < raftOptions.getMaxAwaitTimeout()) {
-                        commitIndexCondition.await(raftOptions.getMaxAwaitTimeout(), TimeUnit.MILLISECONDS);
-                    }
-                    return lastAppliedIndex >= readIndex;
-                } finally {
-                    lock.unlock();
-                }
-            }
-        } catch (InterruptedException ignore) {
+            fsmCaller.waitApplied(readIndex).get(raftOptions.getMaxAwaitTimeout(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            LOG.warn("wait for index {} to be applied timeout, lastAppliedIndex={}", readIndex, getLastAppliedIndex());
         }
         return false;
     }
@@ -6,6 +6,22 @@ import lombok.Setter;
 @Setter
 @Getter
 public class RaftOptions {
+    public enum LogSyncMode {
+        // never force log to disk, rely on the OS to flush page cache
+        NONE,
+        // appends share one force per batch, callers wait for their index to be durable
+        GROUP_COMMIT,
+        // force after every appended entry
+        PER_ENTRY
+    }
+
+    public enum ReadOnlyMode {
+        // every read confirms leadership with a heartbeat round to a quorum
+        READ_INDEX,
+        // reads inside the leader lease skip the heartbeat round, safe only while clock drift stays below the margin
+        LEASE_BASED
+    }
+
     // A follower would become a candidate if it doesn't receive any message
     // from the leader in electionTimeoutMs milliseconds
     private int electionTimeoutMilliseconds = 5000;
@@ -20,13 +36,45 @@ public class RaftOptions {
     private int maxSnapshotBytesPerRequest = 500 * 1024; // 500k
 
     private int maxLogEntriesPerRequest = 5000;
+    // AppendEntries requests sent to a peer without waiting for their responses
+    private int maxInflightAppendRequests = 8;
+
+    // concurrent proposals are appended to the leader's log together, up to this many entries or bytes
+    private int maxProposalBatchEntries = 1000;
+    private int maxProposalBatchBytes = 4 * 1024 * 1024;
 
     // single segment file size, default 100 m
     private int maxSegmentFileSize = 100 * 1000 * 1000;
+    // keep a zero filled next segment file ready in background, so rolling segment does not create files,
+    // it is prepared once the writing segment is half full
+    private boolean preallocateSegment = true;
+
+    // durability of appended log entries, an entry is only acknowledged after it is durable
+    private LogSyncMode logSyncMode = LogSyncMode.GROUP_COMMIT;
+    // leader sends new entries to followers while forcing them to its own disk,
+    // its own vote counts for an entry only once the entry is durable
+    private boolean parallelLeaderWrite = true;
+
+    // commit index is written to metadata this often, 0 to never write it since raft learns it from the leader
+    private int commitIndexFlushPeriodMilliseconds = 1000;
+
+    // heap budget for decoded log entries, the tail of the log is served from this cache
+    private long logEntryCacheBytes = 64 * 1024 * 1024;
+    // entries read from segment file together on a cache miss
+    private int logReadAheadEntries = 64;
 
     // follower and leader's last log index below catchupMargin, then they can take participate in voting and serving
     private long catchupMargin = 500;
 
+    // how a leader confirms its leadership for strongly consistent reads
+    private ReadOnlyMode readOnlyMode = ReadOnlyMode.READ_INDEX;
+    // a quorum acknowledgement extends the leader lease by the election timeout minus this margin
+    private int leaseClockDriftMilliseconds = 500;
+
+    // a process hosting many raft groups hands each group it leads to the group's preferred leader this often,
+    // which spreads the leaders over the nodes, 0 to never
+    private int leaderBalancePeriodSeconds = 30;
+
     // replicate max await time in ms
     private long maxAwaitTimeout = 1000;
 
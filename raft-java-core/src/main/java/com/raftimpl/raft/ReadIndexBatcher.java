@@ -0,0 +1,124 @@
+package com.raftimpl.raft;
+
+import com.raftimpl.raft.proto.RaftProto;
+import com.raftimpl.raft.util.ConfigurationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Confirms leadership for ReadIndex reads, sharing one heartbeat round among concurrent reads.
+ * At most one confirmation round is outstanding, reads arriving meanwhile wait for it to finish
+ * and then share the next round, so the heartbeat rate is bounded by the round trip time
+ * instead of growing with the read rate.
+ * A round records commitIndex before sending its heartbeats, once a quorum acknowledges them
+ * that commitIndex is the read index of every read in the round.
+ */
+public class ReadIndexBatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(ReadIndexBatcher.class);
+
+    private final RaftNode raftNode;
+    private final RaftOptions raftOptions;
+    // reads waiting for the next round
+    private List<CompletableFuture<Long>> pendingReads = new ArrayList<>();
+    private boolean roundInFlight;
+
+    public ReadIndexBatcher(RaftNode raftNode, RaftOptions raftOptions) {
+        this.raftNode = raftNode;
+        this.raftOptions = raftOptions;
+    }
+
+    /**
+     * @return future completed with the read index once leadership is confirmed by a quorum,
+     * or completed exceptionally if the node is not leader or no quorum answers within maxAwaitTimeout
+     */
+    public CompletableFuture<Long> readIndex() {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        boolean startRound;
+        synchronized (this) {
+            pendingReads.add(future);
+            startRound = !roundInFlight;
+            roundInFlight = true;
+        }
+        if (startRound) {
+            startRound();
+        }
+        return future;
+    }
+
+    private void startRound() {
+        final List<CompletableFuture<Long>> reads;
+        synchronized (this) {
+            reads = pendingReads;
+            pendingReads = new ArrayList<>();
+        }
+
+        long commitIndex = -1;
+        List<Peer> voters = new ArrayList<>();
+        Lock lock = raftNode.getLock();
+        lock.lock();
+        try {
+            if (raftNode.getState() == RaftNode.NodeState.STATE_LEADER) {
+                commitIndex = raftNode.getCommitIndex();
+                for (RaftProto.Server server : ConfigurationUtils.getVoters(raftNode.getConfiguration())) {
+                    if (server.getServerId() != raftNode.getLocalServer().getServerId()) {
+                        voters.add(raftNode.getPeerMap().get(server.getServerId()));
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (commitIndex < 0) {
+            finishRound(reads, null, new IllegalStateException("not leader"));
+            return;
+        }
+        final long readIndex = commitIndex;
+
+        // the leader itself is one vote of the quorum
+        final int quorumAcks = (voters.size() + 1) / 2;
+        final CompletableFuture<Long> round = new CompletableFuture<>();
+        round.orTimeout(raftOptions.getMaxAwaitTimeout(), TimeUnit.MILLISECONDS)
+                .whenComplete((index, ex) -> finishRound(reads, index, ex));
+        if (quorumAcks == 0) {
+            round.complete(readIndex);
+            return;
+        }
+        LOG.debug("confirm leadership for {} reads, readIndex={}", reads.size(), readIndex);
+        final AtomicInteger acks = new AtomicInteger(0);
+        for (Peer peer : voters) {
+            raftNode.appendEntries(peer, () -> {
+                if (acks.incrementAndGet() == quorumAcks) {
+                    round.complete(readIndex);
+                }
+            });
+        }
+    }
+
+    private void finishRound(List<CompletableFuture<Long>> reads, Long readIndex, Throwable ex) {
+        if (ex != null) {
+            LOG.warn("confirm leadership for {} reads failed, msg={}", reads.size(), ex.getMessage());
+        }
+        for (CompletableFuture<Long> read : reads) {
+            if (ex == null) {
+                read.complete(readIndex);
+            } else {
+                read.completeExceptionally(ex);
+            }
+        }
+        boolean startRound;
+        synchronized (this) {
+            startRound = !pendingReads.isEmpty();
+            roundInFlight = startRound;
+        }
+        if (startRound) {
+            raftNode.getExecutorService().submit(this::startRound);
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package com.raftimpl.raft;
+
+import com.baidu.brpc.client.RpcCallback;
+import com.raftimpl.raft.proto.RaftProto;
+import com.raftimpl.raft.storage.SegmentedLog;
+import com.raftimpl.raft.storage.Snapshot;
+import com.raftimpl.raft.util.ConfigurationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Replicates log entries from the leader to one peer.
+ * Up to maxInflightAppendRequests AppendEntries requests are kept in flight, each one starts where
+ * the previous one ends without waiting for its response, so over a long RTT link the throughput
+ * is bounded by bandwidth instead of one round trip per batch.
+ * Peer's nextIndex is the next index to send and matchIndex the last acknowledged one.
+ * A rejection or failure rewinds nextIndex and starts a new generation, the responses of requests
+ * sent in older generations are not counted as in flight anymore, their successes still move matchIndex.
+ * Until the first success and after every rewind the replicator probes with one request in flight.
+ * Triggers arriving while a replication round is queued are coalesced into that round.
+ * Requests and snapshot chunks are sent by async rpc and handled in their callbacks,
+ * so no thread waits for a slow or dead peer.
+ * All state is guarded by the raft node lock.
+ */
+public class Replicator {
+    private static final Logger LOG = LoggerFactory.getLogger(Replicator.class);
+
+    private final RaftNode raftNode;
+    private final Peer peer;
+    private final RaftOptions raftOptions;
+    private long generation;
+    private int inflightCount;
+    private boolean probing = true;
+    private boolean installingSnapshot;
+    // send an AppendEntries request even if there is no new entry
+    private volatile boolean heartbeatPending;
+    // a replication round is queued on the executor
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    public Replicator(RaftNode raftNode, Peer peer, RaftOptions raftOptions) {
+        this.raftNode = raftNode;
+        this.peer = peer;
+        this.raftOptions = raftOptions;
+    }
+
+    /**
+     * Send new entries to the peer as far as the in flight window allows
+     */
+    public void trigger() {
+        if (scheduled.compareAndSet(false, true)) {
+            raftNode.getExecutorService().submit(this::replicate);
+        }
+    }
+
+    /**
+     * Like trigger, but send an empty request if there is nothing to send
+     */
+    public void heartbeat() {
+        heartbeatPending = true;
+        trigger();
+    }
+
+    /**
+     * Forget requests in flight and probe from nextIndex, must be called with the raft node lock held
+     * @param nextIndex
+     */
+    public void reset(long nextIndex) {
+        generation++;
+        inflightCount = 0;
+        probing = true;
+        peer.setNextIndex(nextIndex);
+    }
+
+    private void replicate() {
+        scheduled.set(false);
+        long lastSnapshotIndex;
+        long lastSnapshotTerm;
+        raftNode.getSnapshot().getLock().lock();
+        try {
+            lastSnapshotIndex = raftNode.getSnapshot().getMeta().getLastIncludedIndex();
+            lastSnapshotTerm = raftNode.getSnapshot().getMeta().getLastIncludedTerm();
+        } finally {
+            raftNode.getSnapshot().getLock().unlock();
+        }
+
+        List<RaftProto.AppendEntriesRequest> requests = new ArrayList<>();
+        long requestGeneration;
+        boolean isNeedInstallSnapshot = false;
+        Lock lock = raftNode.getLock();
+        lock.lock();
+        try {
+            if (raftNode.getState() != RaftNode.NodeState.STATE_LEADER || installingSnapshot) {
+                return;
+            }
+            SegmentedLog raftLog = raftNode.getRaftLog();
+            requestGeneration = generation;
+            int maxInflight = probing ? 1 : raftOptions.getMaxInflightAppendRequests();
+            while (inflightCount < maxInflight) {
+                if (peer.getNextIndex() < raftLog.getFirstLogIndex()) {
+                    isNeedInstallSnapshot = true;
+                    installingSnapshot = true;
+                    break;
+                }
+                if (peer.getNextIndex() > raftLog.getLastLogIndex() && !heartbeatPending) {
+                    break;
+                }
+                heartbeatPending = false;
+                RaftProto.AppendEntriesRequest request = buildRequest(lastSnapshotIndex, lastSnapshotTerm);
+                peer.setNextIndex(peer.getNextIndex() + request.getEntriesCount());
+                inflightCount++;
+                requests.add(request);
+                if (request.getEntriesCount() == 0) {
+                    break;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (RaftProto.AppendEntriesRequest request : requests) {
+            try {
+                peer.getRaftConsensusServiceAsync().appendEntries(
+                        request, new AppendEntriesResponseCallback(request, requestGeneration, System.nanoTime()));
+            } catch (Exception ex) {
+                LOG.warn("send appendEntries to peer[{}:{}] failed, msg={}",
+                        peer.getServer().getEndpoint().getHost(),
+                        peer.getServer().getEndpoint().getPort(), ex.getMessage());
+                onResponse(request, requestGeneration, 0, null);
+            }
+        }
+
+        if (isNeedInstallSnapshot) {
+            LOG.debug("is need snapshot={}, peer={}", isNeedInstallSnapshot, peer.getServer().getServerId());
+            installSnapshot();
+        }
+    }
+
+    private void installSnapshot() {
+        Snapshot snapshot = raftNode.getSnapshot();
+        if (snapshot.getIsTakeSnap().get()) {
+            LOG.info("already in take snapshot, please send install snapshot request later");
+            finishInstallSnapshot(false);
+            return;
+        }
+        if (!snapshot.getIsInstallSnap().compareAndSet(false, true)) {
+            LOG.info("already in install snapshot");
+            finishInstallSnapshot(false);
+            return;
+        }
+        LOG.info("begin send install snapshot request to server={}", peer.getServer().getServerId());
+        TreeMap<String, Snapshot.SnapshotDataFile> snapshotDataFileMap = snapshot.openSnapshotDataFiles();
+        LOG.info("total snapshot files={}", snapshotDataFileMap.keySet());
+        sendSnapshotChunk(snapshotDataFileMap, null, 0, 0);
+    }
+
+    private void sendSnapshotChunk(TreeMap<String, Snapshot.SnapshotDataFile> snapshotDataFileMap,
+                                   String lastFileName, long lastOffset, long lastLength) {
+        RaftProto.InstallSnapshotRequest request = raftNode.buildInstallSnapshotRequest(
+                snapshotDataFileMap, lastFileName, lastOffset, lastLength);
+        if (request == null) {
+            LOG.warn("snapshot request == null");
+            endInstallSnapshot(snapshotDataFileMap, false);
+            return;
+        }
+        LOG.info("install snapshot request, fileName={}, offset={}, size={}, isFirst={}, isLast={}",
+                request.getFileName(), request.getOffset(), request.getData().size(),
+                request.getIsFirst(), request.getIsLast());
+        try {
+            peer.getRaftConsensusServiceAsync().installSnap(
+                    request, new InstallSnapshotResponseCallback(snapshotDataFileMap, request));
+        } catch (Exception ex) {
+            LOG.warn("send install snapshot request to server={} failed, msg={}",
+                    peer.getServer().getServerId(), ex.getMessage());
+            endInstallSnapshot(snapshotDataFileMap, false);
+        }
+    }
+
+    private void endInstallSnapshot(TreeMap<String, Snapshot.SnapshotDataFile> snapshotDataFileMap,
+                                    boolean isSuccess) {
+        Snapshot snapshot = raftNode.getSnapshot();
+        snapshot.closeSnapshotDataFiles(snapshotDataFileMap);
+        snapshot.getIsInstallSnap().compareAndSet(true, false);
+        LOG.info("end send install snapshot request to server={}, success={}",
+                peer.getServer().getServerId(), isSuccess);
+        finishInstallSnapshot(isSuccess);
+    }
+
+    private void finishInstallSnapshot(boolean isSuccess) {
+        long lastIncludedIndexInSnapshot = 0;
+        if (isSuccess) {
+            raftNode.getSnapshot().getLock().lock();
+            try {
+                lastIncludedIndexInSnapshot = raftNode.getSnapshot().getMeta().getLastIncludedIndex();
+            } finally {
+                raftNode.getSnapshot().getLock().unlock();
+            }
+        }
+        Lock lock = raftNode.getLock();
+        lock.lock();
+        try {
+            installingSnapshot = false;
+            if (isSuccess) {
+                reset(lastIncludedIndexInSnapshot + 1);
+            }
+        } finally {
+            lock.unlock();
+        }
+        // on failure the next heartbeat retries
+        if (isSuccess) {
+            trigger();
+        }
+    }
+
+    // in lock
+    private RaftProto.AppendEntriesRequest buildRequest(long lastSnapshotIndex, long lastSnapshotTerm) {
+        SegmentedLog raftLog = raftNode.getRaftLog();
+        long prevLogIndex = peer.getNextIndex() - 1;
+        long prevLogTerm;
+        if (prevLogIndex == 0) {
+            prevLogTerm = 0;
+        } else if (prevLogIndex == lastSnapshotIndex) {
+            prevLogTerm = lastSnapshotTerm;
+        } else {
+            prevLogTerm = raftLog.getEntryTerm(prevLogIndex);
+        }
+        RaftProto.AppendEntriesRequest.Builder requestBuilder = RaftProto.AppendEntriesRequest.newBuilder();
+        requestBuilder.setServerId(raftNode.getLocalServer().getServerId());
+        requestBuilder.setGroupId(raftNode.getGroupId());
+        requestBuilder.setTerm(raftNode.getCurrentTerm());
+        requestBuilder.setPrevLogTerm(prevLogTerm);
+        requestBuilder.setPrevLogIndex(prevLogIndex);
+        long lastIndex = Math.min(raftLog.getLastLogIndex(),
+                peer.getNextIndex() + raftOptions.getMaxLogEntriesPerRequest() - 1);
+        for (long index = peer.getNextIndex(); index <= lastIndex; index++) {
+            requestBuilder.addEntries(raftLog.getEntry(index));
+        }
+        requestBuilder.setCommitIndex(Math.min(raftNode.getCommitIndex(),
+                prevLogIndex + requestBuilder.getEntriesCount()));
+        return requestBuilder.build();
+    }
+
+    private void onResponse(RaftProto.AppendEntriesRequest request, long requestGeneration, long sendNanos,
+                            RaftProto.AppendEntriesResponse response) {
+        boolean continueReplicate = false;
+        Lock lock = raftNode.getLock();
+        lock.lock();
+        try {
+            boolean isCurrentGeneration = requestGeneration == generation;
+            if (isCurrentGeneration) {
+                inflightCount--;
+            }
+            if (response == null) {
+                LOG.warn("appendEntries with peer[{}:{}] failed",
+                        peer.getServer().getEndpoint().getHost(),
+                        peer.getServer().getEndpoint().getPort());
+                if (!ConfigurationUtils.containsServer(raftNode.getConfiguration(), peer.getServer().getServerId())) {
+                    raftNode.getPeerMap().remove(peer.getServer().getServerId());
+                    peer.stop();
+                } else if (isCurrentGeneration) {
+                    // requests sent after the failed one would leave a gap, send again from the acknowledged index
+                    reset(peer.getMatchIndex() + 1);
+                }
+                return;
+            }
+            LOG.debug("AppendEntries response[{}] from server {} in term {} (my term is {})",
+                    response.getResCode(), peer.getServer().getServerId(),
+                    response.getTerm(), raftNode.getCurrentTerm());
+            if (response.getTerm() > raftNode.getCurrentTerm()) {
+                raftNode.stepDown(response.getTerm());
+                return;
+            }
+            if (raftNode.getState() != RaftNode.NodeState.STATE_LEADER
+                    || request.getTerm() != raftNode.getCurrentTerm()) {
+                return;
+            }
+            // a rejection still acknowledges us as leader of this term
+            if (sendNanos - peer.getLastAckNanos() > 0) {
+                peer.setLastAckNanos(sendNanos);
+            }
+            if (response.getResCode() == RaftProto.ResCode.RES_CODE_SUCCESS) {
+                // the peer's log matches ours up to here whichever generation the request belongs to
+                long matchIndex = request.getPrevLogIndex() + request.getEntriesCount();
+                if (matchIndex > peer.getMatchIndex()) {
+                    peer.setMatchIndex(matchIndex);
+                }
+                if (peer.getNextIndex() <= matchIndex) {
+                    peer.setNextIndex(matchIndex + 1);
+                }
+                if (isCurrentGeneration) {
+                    probing = false;
+                }
+                if (ConfigurationUtils.containsServer(raftNode.getConfiguration(), peer.getServer().getServerId())) {
+                    raftNode.advanceCommitIndex();
+                    raftNode.checkTransferLeadership(peer);
+                } else if (raftNode.getRaftLog().getLastLogIndex() - peer.getMatchIndex()
+                        <= raftOptions.getCatchupMargin()) {
+                    LOG.debug("peer catch up the leader");
+                    peer.setCatchUp(true);
+                    // signal the caller thread
+                    raftNode.getCatchUpCondition().signalAll();
+                }
+                continueReplicate = true;
+            } else if (isCurrentGeneration) {
+                // the peer's log ends before prevLogIndex or conflicts at it
+                reset(Math.max(1, Math.min(getRewindIndex(raftNode.getRaftLog(), request, response),
+                        request.getPrevLogIndex())));
+                continueReplicate = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (continueReplicate) {
+            trigger();
+        }
+    }
+
+    /**
+     * The next index to send after a rejection. With the peer's conflict hints whole terms are skipped:
+     * if we have the conflicting term, resend after our last entry of it, otherwise from the peer's first entry of it.
+     * Must be called in lock.
+     */
+    static long getRewindIndex(SegmentedLog raftLog, RaftProto.AppendEntriesRequest request,
+                               RaftProto.AppendEntriesResponse response) {
+        if (!response.hasConflictIndex()) {
+            return response.getLastLogIndex() + 1;
+        }
+        long conflictTerm = response.getConflictTerm();
+        if (conflictTerm > 0) {
+            long index = raftLog.getLastIndexWithTermAtMost(conflictTerm, request.getPrevLogIndex() - 1);
+            if (index >= raftLog.getFirstLogIndex() && raftLog.getEntryTerm(index) == conflictTerm) {
+                return index + 1;
+            }
+        }
+        return response.getConflictIndex();
+    }
+
+    private class InstallSnapshotResponseCallback implements RpcCallback<RaftProto.InstallSnapshotResponse> {
+        private final TreeMap<String, Snapshot.SnapshotDataFile> snapshotDataFileMap;
+        private final RaftProto.InstallSnapshotRequest request;
+
+        InstallSnapshotResponseCallback(TreeMap<String, Snapshot.SnapshotDataFile> snapshotDataFileMap,
+                                        RaftProto.InstallSnapshotRequest request) {
+            this.snapshotDataFileMap = snapshotDataFileMap;
+            this.request = request;
+        }
+
+        @Override
+        public void success(RaftProto.InstallSnapshotResponse response) {
+            if (response != null && response.getResCode() == RaftProto.ResCode.RES_CODE_SUCCESS) {
+                if (request.getIsLast()) {
+                    endInstallSnapshot(snapshotDataFileMap, true);
+                } else {
+                    sendSnapshotChunk(snapshotDataFileMap, request.getFileName(),
+                            request.getOffset(), request.getData().size());
+                }
+                return;
+            }
+            if (response != null) {
+                Lock lock = raftNode.getLock();
+                lock.lock();
+                try {
+                    if (response.getTerm() > raftNode.getCurrentTerm()) {
+                        raftNode.stepDown(response.getTerm());
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            endInstallSnapshot(snapshotDataFileMap, false);
+        }
+
+        @Override
+        public void fail(Throwable e) {
+            LOG.warn("install snapshot to server={} failed, msg={}",
+                    peer.getServer().getServerId(), e.getMessage());
+            endInstallSnapshot(snapshotDataFileMap, false);
+        }
+    }
+
+    private class AppendEntriesResponseCallback implements RpcCallback<RaftProto.AppendEntriesResponse> {
+        private final RaftProto.AppendEntriesRequest request;
+        private final long requestGeneration;
+        private final long sendNanos;
+
+        AppendEntriesResponseCallback(RaftProto.AppendEntriesRequest request, long requestGeneration, long sendNanos) {
+            this.request = request;
+            this.requestGeneration = requestGeneration;
+            this.sendNanos = sendNanos;
+        }
+
+        @Override
+        public void success(RaftProto.AppendEntriesResponse response) {
+            onResponse(request, requestGeneration, sendNanos, response);
+        }
+
+        @Override
+        public void fail(Throwable e) {
+            onResponse(request, requestGeneration, sendNanos, null);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.raftimpl.raft;
 
+import java.util.List;
+
 public interface StateMachine {
     /**
      * 对状态机中数据进行snapshot，每个节点本地定时调用
@@ -7,6 +9,7 @@ public interface StateMachine {
      * @param tmpSnapshotDataDir 新snapshot数据目录
      * @param raftNode Raft节点
      * @param localLastAppliedIndex 已应用到复制状态机的最大日志条目索引
+     * 抛出RuntimeException时本次快照作废，保留旧snapshot
      */
     void writeSnap(String snapshotDir, String tmpSnapshotDataDir, RaftNode raftNode, long localLastAppliedIndex);
     /**
@@ -19,6 +22,17 @@ public interface StateMachine {
      * @param dataBytes 数据二进制
      */
     void applyData(byte[] dataBytes);
+    /**
+     * 将一批连续的数据应用到状态机，默认逐条调用applyData，状态机可以覆盖为一次批量写入
+     * @param entries 按日志顺序排列的数据二进制
+     * @param lastIndex 这批数据中最后一条日志条目的索引
+     * 应用失败时抛出RuntimeException，之后不再应用日志，等待这批数据的请求失败，直到加载snapshot
+     */
+    default void applyBatch(List<byte[]> entries, long lastIndex) {
+        for (byte[] dataBytes : entries) {
+            applyData(dataBytes);
+        }
+    }
     /**
      * 从状态机读取数据
      * @param dataBytes Key的数据二进制
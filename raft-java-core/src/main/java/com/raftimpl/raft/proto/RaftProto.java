@@ -112,6 +112,14 @@ public final class RaftProto {
      * <code>ENTRY_TYPE_CONFIGURATION = 1;</code>
      */
     ENTRY_TYPE_CONFIGURATION(1, 1),
+    /**
+     * <code>ENTRY_TYPE_NO_OP = 2;</code>
+     *
+     * <pre>
+     * appended by a new leader to commit an entry of its term, not applied to the state machine
+     * </pre>
+     */
+    ENTRY_TYPE_NO_OP(2, 2),
     ;
 
     /**
@@ -122,6 +130,14 @@ public final class RaftProto {
      * <code>ENTRY_TYPE_CONFIGURATION = 1;</code>
      */
     public static final int ENTRY_TYPE_CONFIGURATION_VALUE = 1;
+    /**
+     * <code>ENTRY_TYPE_NO_OP = 2;</code>
+     *
+     * <pre>
+     * appended by a new leader to commit an entry of its term, not applied to the state machine
+     * </pre>
+     */
+    public static final int ENTRY_TYPE_NO_OP_VALUE = 2;
 
 
     public final int getNumber() { return value; }
@@ -130,6 +146,7 @@ public final class RaftProto {
       switch (value) {
         case 0: return ENTRY_TYPE_DATA;
         case 1: return ENTRY_TYPE_CONFIGURATION;
+        case 2: return ENTRY_TYPE_NO_OP;
         default: return null;
       }
     }
@@ -759,6 +776,24 @@ public final class RaftProto {
      * <code>optional .raft.Endpoint endpoint = 2;</code>
      */
     com.raftimpl.raft.proto.RaftProto.EndpointOrBuilder getEndpointOrBuilder();
+
+    // optional bool is_learner = 3;
+    /**
+     * <code>optional bool is_learner = 3;</code>
+     *
+     * <pre>
+     * learner只接收日志和快照，不参与选举和提交的多数派
+     * </pre>
+     */
+    boolean hasIsLearner();
+    /**
+     * <code>optional bool is_learner = 3;</code>
+     *
+     * <pre>
+     * learner只接收日志和快照，不参与选举和提交的多数派
+     * </pre>
+     */
+    boolean getIsLearner();
   }
   /**
    * Protobuf type {@code raft.Server}
@@ -829,6 +864,11 @@ public final class RaftProto {
               bitField0_ |= 0x00000002;
               break;
             }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              isLearner_ = input.readBool();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -907,9 +947,34 @@ public final class RaftProto {
       return endpoint_;
     }
 
+    // optional bool is_learner = 3;
+    public static final int IS_LEARNER_FIELD_NUMBER = 3;
+    private boolean isLearner_;
+    /**
+     * <code>optional bool is_learner = 3;</code>
+     *
+     * <pre>
+     * learner只接收日志和快照，不参与选举和提交的多数派
+     * </pre>
+     */
+    public boolean hasIsLearner() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional bool is_learner = 3;</code>
+     *
+     * <pre>
+     * learner只接收日志和快照，不参与选举和提交的多数派
+     * </pre>
+     */
+    public boolean getIsLearner() {
+      return isLearner_;
+    }
+
     private void initFields() {
       serverId_ = 0;
       endpoint_ = com.raftimpl.raft.proto.RaftProto.Endpoint.getDefaultInstance();
+      isLearner_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -929,6 +994,9 @@ public final class RaftProto {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeMessage(2, endpoint_);
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(3, isLearner_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -946,6 +1014,10 @@ public final class RaftProto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, endpoint_);
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, isLearner_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -1071,6 +1143,8 @@ public final class RaftProto {
           endpointBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000002);
+        isLearner_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -1111,6 +1185,10 @@ public final class RaftProto {
         } else {
           result.endpoint_ = endpointBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.isLearner_ = isLearner_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1133,6 +1211,9 @@ public final class RaftProto {
         if (other.hasEndpoint()) {
           mergeEndpoint(other.getEndpoint());
         }
+        if (other.hasIsLearner()) {
+          setIsLearner(other.getIsLearner());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1310,6 +1391,55 @@ public final class RaftProto {
         return endpointBuilder_;
       }
 
+      // optional bool is_learner = 3;
+      private boolean isLearner_ ;
+      /**
+       * <code>optional bool is_learner = 3;</code>
+       *
+       * <pre>
+       * learner只接收日志和快照，不参与选举和提交的多数派
+       * </pre>
+       */
+      public boolean hasIsLearner() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional bool is_learner = 3;</code>
+       *
+       * <pre>
+       * learner只接收日志和快照，不参与选举和提交的多数派
+       * </pre>
+       */
+      public boolean getIsLearner() {
+        return isLearner_;
+      }
+      /**
+       * <code>optional bool is_learner = 3;</code>
+       *
+       * <pre>
+       * learner只接收日志和快照，不参与选举和提交的多数派
+       * </pre>
+       */
+      public Builder setIsLearner(boolean value) {
+        bitField0_ |= 0x00000004;
+        isLearner_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool is_learner = 3;</code>
+       *
+       * <pre>
+       * learner只接收日志和快照，不参与选举和提交的多数派
+       * </pre>
+       */
+      public Builder clearIsLearner() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        isLearner_ = false;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:raft.Server)
     }
 
@@ -4028,6 +4158,42 @@ public final class RaftProto {
      * </pre>
      */
     long getLastLogIndex();
+
+    // optional bool leadership_transfer = 5;
+    /**
+     * <code>optional bool leadership_transfer = 5;</code>
+     *
+     * <pre>
+     * 由领导人转移发起的选举，跟随者不因刚收到过领导人的消息而拒绝投票
+     * </pre>
+     */
+    boolean hasLeadershipTransfer();
+    /**
+     * <code>optional bool leadership_transfer = 5;</code>
+     *
+     * <pre>
+     * 由领导人转移发起的选举，跟随者不因刚收到过领导人的消息而拒绝投票
+     * </pre>
+     */
+    boolean getLeadershipTransfer();
+
+    // optional uint32 group_id = 6;
+    /**
+     * <code>optional uint32 group_id = 6;</code>
+     *
+     * <pre>
+     * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+     * </pre>
+     */
+    boolean hasGroupId();
+    /**
+     * <code>optional uint32 group_id = 6;</code>
+     *
+     * <pre>
+     * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+     * </pre>
+     */
+    int getGroupId();
   }
   /**
    * Protobuf type {@code raft.VoteRequest}
@@ -4100,6 +4266,16 @@ public final class RaftProto {
               lastLogIndex_ = input.readUInt64();
               break;
             }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              leadershipTransfer_ = input.readBool();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              groupId_ = input.readUInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4236,11 +4412,61 @@ public final class RaftProto {
       return lastLogIndex_;
     }
 
+    // optional bool leadership_transfer = 5;
+    public static final int LEADERSHIP_TRANSFER_FIELD_NUMBER = 5;
+    private boolean leadershipTransfer_;
+    /**
+     * <code>optional bool leadership_transfer = 5;</code>
+     *
+     * <pre>
+     * 由领导人转移发起的选举，跟随者不因刚收到过领导人的消息而拒绝投票
+     * </pre>
+     */
+    public boolean hasLeadershipTransfer() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional bool leadership_transfer = 5;</code>
+     *
+     * <pre>
+     * 由领导人转移发起的选举，跟随者不因刚收到过领导人的消息而拒绝投票
+     * </pre>
+     */
+    public boolean getLeadershipTransfer() {
+      return leadershipTransfer_;
+    }
+
+    // optional uint32 group_id = 6;
+    public static final int GROUP_ID_FIELD_NUMBER = 6;
+    private int groupId_;
+    /**
+     * <code>optional uint32 group_id = 6;</code>
+     *
+     * <pre>
+     * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+     * </pre>
+     */
+    public boolean hasGroupId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional uint32 group_id = 6;</code>
+     *
+     * <pre>
+     * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+     * </pre>
+     */
+    public int getGroupId() {
+      return groupId_;
+    }
+
     private void initFields() {
       serverId_ = 0;
       term_ = 0L;
       lastLogTerm_ = 0L;
       lastLogIndex_ = 0L;
+      leadershipTransfer_ = false;
+      groupId_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -4266,6 +4492,12 @@ public final class RaftProto {
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         output.writeUInt64(4, lastLogIndex_);
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBool(5, leadershipTransfer_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeUInt32(6, groupId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -4291,6 +4523,14 @@ public final class RaftProto {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt64Size(4, lastLogIndex_);
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, leadershipTransfer_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, groupId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -4415,6 +4655,10 @@ public final class RaftProto {
         bitField0_ = (bitField0_ & ~0x00000004);
         lastLogIndex_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000008);
+        leadershipTransfer_ = false;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        groupId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -4459,6 +4703,14 @@ public final class RaftProto {
           to_bitField0_ |= 0x00000008;
         }
         result.lastLogIndex_ = lastLogIndex_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.leadershipTransfer_ = leadershipTransfer_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.groupId_ = groupId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -4487,6 +4739,12 @@ public final class RaftProto {
         if (other.hasLastLogIndex()) {
           setLastLogIndex(other.getLastLogIndex());
         }
+        if (other.hasLeadershipTransfer()) {
+          setLeadershipTransfer(other.getLeadershipTransfer());
+        }
+        if (other.hasGroupId()) {
+          setGroupId(other.getGroupId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -4710,6 +4968,104 @@ public final class RaftProto {
         return this;
       }
 
+      // optional bool leadership_transfer = 5;
+      private boolean leadershipTransfer_ ;
+      /**
+       * <code>optional bool leadership_transfer = 5;</code>
+       *
+       * <pre>
+       * 由领导人转移发起的选举，跟随者不因刚收到过领导人的消息而拒绝投票
+       * </pre>
+       */
+      public boolean hasLeadershipTransfer() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional bool leadership_transfer = 5;</code>
+       *
+       * <pre>
+       * 由领导人转移发起的选举，跟随者不因刚收到过领导人的消息而拒绝投票
+       * </pre>
+       */
+      public boolean getLeadershipTransfer() {
+        return leadershipTransfer_;
+      }
+      /**
+       * <code>optional bool leadership_transfer = 5;</code>
+       *
+       * <pre>
+       * 由领导人转移发起的选举，跟随者不因刚收到过领导人的消息而拒绝投票
+       * </pre>
+       */
+      public Builder setLeadershipTransfer(boolean value) {
+        bitField0_ |= 0x00000010;
+        leadershipTransfer_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool leadership_transfer = 5;</code>
+       *
+       * <pre>
+       * 由领导人转移发起的选举，跟随者不因刚收到过领导人的消息而拒绝投票
+       * </pre>
+       */
+      public Builder clearLeadershipTransfer() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        leadershipTransfer_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional uint32 group_id = 6;
+      private int groupId_ ;
+      /**
+       * <code>optional uint32 group_id = 6;</code>
+       *
+       * <pre>
+       * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+       * </pre>
+       */
+      public boolean hasGroupId() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional uint32 group_id = 6;</code>
+       *
+       * <pre>
+       * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+       * </pre>
+       */
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>optional uint32 group_id = 6;</code>
+       *
+       * <pre>
+       * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+       * </pre>
+       */
+      public Builder setGroupId(int value) {
+        bitField0_ |= 0x00000020;
+        groupId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 group_id = 6;</code>
+       *
+       * <pre>
+       * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+       * </pre>
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:raft.VoteRequest)
     }
 
@@ -5399,6 +5755,24 @@ public final class RaftProto {
      */
     com.raftimpl.raft.proto.RaftProto.LogEntryOrBuilder getEntriesOrBuilder(
         int index);
+
+    // optional uint32 group_id = 7;
+    /**
+     * <code>optional uint32 group_id = 7;</code>
+     *
+     * <pre>
+     * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+     * </pre>
+     */
+    boolean hasGroupId();
+    /**
+     * <code>optional uint32 group_id = 7;</code>
+     *
+     * <pre>
+     * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+     * </pre>
+     */
+    int getGroupId();
   }
   /**
    * Protobuf type {@code raft.AppendEntriesRequest}
@@ -5484,6 +5858,11 @@ public final class RaftProto {
               entries_.add(input.readMessage(com.raftimpl.raft.proto.RaftProto.LogEntry.PARSER, extensionRegistry));
               break;
             }
+            case 56: {
+              bitField0_ |= 0x00000020;
+              groupId_ = input.readUInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -5703,6 +6082,30 @@ public final class RaftProto {
       return entries_.get(index);
     }
 
+    // optional uint32 group_id = 7;
+    public static final int GROUP_ID_FIELD_NUMBER = 7;
+    private int groupId_;
+    /**
+     * <code>optional uint32 group_id = 7;</code>
+     *
+     * <pre>
+     * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+     * </pre>
+     */
+    public boolean hasGroupId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional uint32 group_id = 7;</code>
+     *
+     * <pre>
+     * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+     * </pre>
+     */
+    public int getGroupId() {
+      return groupId_;
+    }
+
     private void initFields() {
       serverId_ = 0;
       term_ = 0L;
@@ -5710,6 +6113,7 @@ public final class RaftProto {
       prevLogTerm_ = 0L;
       commitIndex_ = 0L;
       entries_ = java.util.Collections.emptyList();
+      groupId_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -5741,6 +6145,9 @@ public final class RaftProto {
       for (int i = 0; i < entries_.size(); i++) {
         output.writeMessage(6, entries_.get(i));
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeUInt32(7, groupId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -5774,6 +6181,10 @@ public final class RaftProto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(6, entries_.get(i));
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(7, groupId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -5907,6 +6318,8 @@ public final class RaftProto {
         } else {
           entriesBuilder_.clear();
         }
+        groupId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -5964,6 +6377,10 @@ public final class RaftProto {
         } else {
           result.entries_ = entriesBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.groupId_ = groupId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -6021,6 +6438,9 @@ public final class RaftProto {
             }
           }
         }
+        if (other.hasGroupId()) {
+          setGroupId(other.getGroupId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -6605,6 +7025,55 @@ public final class RaftProto {
         return entriesBuilder_;
       }
 
+      // optional uint32 group_id = 7;
+      private int groupId_ ;
+      /**
+       * <code>optional uint32 group_id = 7;</code>
+       *
+       * <pre>
+       * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+       * </pre>
+       */
+      public boolean hasGroupId() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional uint32 group_id = 7;</code>
+       *
+       * <pre>
+       * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+       * </pre>
+       */
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>optional uint32 group_id = 7;</code>
+       *
+       * <pre>
+       * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+       * </pre>
+       */
+      public Builder setGroupId(int value) {
+        bitField0_ |= 0x00000040;
+        groupId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 group_id = 7;</code>
+       *
+       * <pre>
+       * raft group的 Id，一个进程运行多个raft group时据此分发请求，单个group时为0
+       * </pre>
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:raft.AppendEntriesRequest)
     }
 
@@ -6664,6 +7133,42 @@ public final class RaftProto {
      * <code>optional uint64 last_log_index = 3;</code>
      */
     long getLastLogIndex();
+
+    // optional uint64 conflict_term = 4;
+    /**
+     * <code>optional uint64 conflict_term = 4;</code>
+     *
+     * <pre>
+     * 拒绝时，跟随者在 prevLogIndex 处日志的任期号，日志过短时为0
+     * </pre>
+     */
+    boolean hasConflictTerm();
+    /**
+     * <code>optional uint64 conflict_term = 4;</code>
+     *
+     * <pre>
+     * 拒绝时，跟随者在 prevLogIndex 处日志的任期号，日志过短时为0
+     * </pre>
+     */
+    long getConflictTerm();
+
+    // optional uint64 conflict_index = 5;
+    /**
+     * <code>optional uint64 conflict_index = 5;</code>
+     *
+     * <pre>
+     * 拒绝时，跟随者日志中 conflict_term 的第一条日志索引，日志过短时为 last_log_index + 1
+     * </pre>
+     */
+    boolean hasConflictIndex();
+    /**
+     * <code>optional uint64 conflict_index = 5;</code>
+     *
+     * <pre>
+     * 拒绝时，跟随者日志中 conflict_term 的第一条日志索引，日志过短时为 last_log_index + 1
+     * </pre>
+     */
+    long getConflictIndex();
   }
   /**
    * Protobuf type {@code raft.AppendEntriesResponse}
@@ -6737,6 +7242,16 @@ public final class RaftProto {
               lastLogIndex_ = input.readUInt64();
               break;
             }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              conflictTerm_ = input.readUInt64();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              conflictIndex_ = input.readUInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -6841,10 +7356,60 @@ public final class RaftProto {
       return lastLogIndex_;
     }
 
+    // optional uint64 conflict_term = 4;
+    public static final int CONFLICT_TERM_FIELD_NUMBER = 4;
+    private long conflictTerm_;
+    /**
+     * <code>optional uint64 conflict_term = 4;</code>
+     *
+     * <pre>
+     * 拒绝时，跟随者在 prevLogIndex 处日志的任期号，日志过短时为0
+     * </pre>
+     */
+    public boolean hasConflictTerm() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional uint64 conflict_term = 4;</code>
+     *
+     * <pre>
+     * 拒绝时，跟随者在 prevLogIndex 处日志的任期号，日志过短时为0
+     * </pre>
+     */
+    public long getConflictTerm() {
+      return conflictTerm_;
+    }
+
+    // optional uint64 conflict_index = 5;
+    public static final int CONFLICT_INDEX_FIELD_NUMBER = 5;
+    private long conflictIndex_;
+    /**
+     * <code>optional uint64 conflict_index = 5;</code>
+     *
+     * <pre>
+     * 拒绝时，跟随者日志中 conflict_term 的第一条日志索引，日志过短时为 last_log_index + 1
+     * </pre>
+     */
+    public boolean hasConflictIndex() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional uint64 conflict_index = 5;</code>
+     *
+     * <pre>
+     * 拒绝时，跟随者日志中 conflict_term 的第一条日志索引，日志过短时为 last_log_index + 1
+     * </pre>
+     */
+    public long getConflictIndex() {
+      return conflictIndex_;
+    }
+
     private void initFields() {
       resCode_ = com.raftimpl.raft.proto.RaftProto.ResCode.RES_CODE_SUCCESS;
       term_ = 0L;
       lastLogIndex_ = 0L;
+      conflictTerm_ = 0L;
+      conflictIndex_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -6867,6 +7432,12 @@ public final class RaftProto {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeUInt64(3, lastLogIndex_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeUInt64(4, conflictTerm_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeUInt64(5, conflictIndex_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -6888,6 +7459,14 @@ public final class RaftProto {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt64Size(3, lastLogIndex_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, conflictTerm_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, conflictIndex_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -7010,6 +7589,10 @@ public final class RaftProto {
         bitField0_ = (bitField0_ & ~0x00000002);
         lastLogIndex_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000004);
+        conflictTerm_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        conflictIndex_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -7050,6 +7633,14 @@ public final class RaftProto {
           to_bitField0_ |= 0x00000004;
         }
         result.lastLogIndex_ = lastLogIndex_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.conflictTerm_ = conflictTerm_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.conflictIndex_ = conflictIndex_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -7075,6 +7666,12 @@ public final class RaftProto {
         if (other.hasLastLogIndex()) {
           setLastLogIndex(other.getLastLogIndex());
         }
+        if (other.hasConflictTerm()) {
+          setConflictTerm(other.getConflictTerm());
+        }
+        if (other.hasConflictIndex()) {
+          setConflictIndex(other.getConflictIndex());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -7236,6 +7833,104 @@ public final class RaftProto {
         return this;
       }
 
+      // optional uint64 conflict_term = 4;
+      private long conflictTerm_ ;
+      /**
+       * <code>optional uint64 conflict_term = 4;</code>
+       *
+       * <pre>
+       * 拒绝时，跟随者在 prevLogIndex 处日志的任期号，日志过短时为0
+       * </pre>
+       */
+      public boolean hasConflictTerm() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional uint64 conflict_term = 4;</code>
+       *
+       * <pre>
+       * 拒绝时，跟随者在 prevLogIndex 处日志的任期号，日志过短时为0
+       * </pre>
+       */
+      public long getConflictTerm() {
+        return conflictTerm_;
+      }
+      /**
+       * <code>optional uint64 conflict_term = 4;</code>
+       *
+       * <pre>
+       * 拒绝时，跟随者在 prevLogIndex 处日志的任期号，日志过短时为0
+       * </pre>
+       */
+      public Builder setConflictTerm(long value) {
+        bitField0_ |= 0x00000008;
+        conflictTerm_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 conflict_term = 4;</code>
+       *
+       * <pre>
+       * 拒绝时，跟随者在 prevLogIndex 处日志的任期号，日志过短时为0
+       * </pre>
+       */
+      public Builder clearConflictTerm() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        conflictTerm_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional uint64 conflict_index = 5;
+      private long conflictIndex_ ;
+      /**
+       * <code>optional uint64 conflict_index = 5;</code>
+       *
+       * <pre>
+       * 拒绝时，跟随者日志中 conflict_term 的第一条日志索引，日志过短时为 last_log_index + 1
+       * </pre>
+       */
+      public boolean hasConflictIndex() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional uint64 conflict_index = 5;</code>
+       *
+       * <pre>
+       * 拒绝时，跟随者日志中 conflict_term 的第一条日志索引，日志过短时为 last_log_index + 1
+       * </pre>
+       */
+      public long getConflictIndex() {
+        return conflictIndex_;
+      }
+      /**
+       * <code>optional uint64 conflict_index = 5;</code>
+       *
+       * <pre>
+       * 拒绝时，跟随者日志中 conflict_term 的第一条日志索引，日志过短时为 last_log_index + 1
+       * </pre>
+       */
+      public Builder setConflictIndex(long value) {
+        bitField0_ |= 0x00000010;
+        conflictIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 conflict_index = 5;</code>
+       *
+       * <pre>
+       * 拒绝时，跟随者日志中 conflict_term 的第一条日志索引，日志过短时为 last_log_index + 1
+       * </pre>
+       */
+      public Builder clearConflictIndex() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        conflictIndex_ = 0L;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:raft.AppendEntriesResponse)
     }
 
@@ -7338,6 +8033,16 @@ public final class RaftProto {
      * <code>optional bool is_last = 8;</code>
      */
     boolean getIsLast();
+
+    // optional uint32 group_id = 9;
+    /**
+     * <code>optional uint32 group_id = 9;</code>
+     */
+    boolean hasGroupId();
+    /**
+     * <code>optional uint32 group_id = 9;</code>
+     */
+    int getGroupId();
   }
   /**
    * Protobuf type {@code raft.InstallSnapshotRequest}
@@ -7438,6 +8143,11 @@ public final class RaftProto {
               isLast_ = input.readBool();
               break;
             }
+            case 72: {
+              bitField0_ |= 0x00000100;
+              groupId_ = input.readUInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -7639,6 +8349,22 @@ public final class RaftProto {
       return isLast_;
     }
 
+    // optional uint32 group_id = 9;
+    public static final int GROUP_ID_FIELD_NUMBER = 9;
+    private int groupId_;
+    /**
+     * <code>optional uint32 group_id = 9;</code>
+     */
+    public boolean hasGroupId() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional uint32 group_id = 9;</code>
+     */
+    public int getGroupId() {
+      return groupId_;
+    }
+
     private void initFields() {
       serverId_ = 0;
       term_ = 0L;
@@ -7648,6 +8374,7 @@ public final class RaftProto {
       data_ = com.google.protobuf.ByteString.EMPTY;
       isFirst_ = false;
       isLast_ = false;
+      groupId_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -7685,6 +8412,9 @@ public final class RaftProto {
       if (((bitField0_ & 0x00000080) == 0x00000080)) {
         output.writeBool(8, isLast_);
       }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeUInt32(9, groupId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -7726,6 +8456,10 @@ public final class RaftProto {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(8, isLast_);
       }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(9, groupId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -7863,6 +8597,8 @@ public final class RaftProto {
         bitField0_ = (bitField0_ & ~0x00000040);
         isLast_ = false;
         bitField0_ = (bitField0_ & ~0x00000080);
+        groupId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000100);
         return this;
       }
 
@@ -7927,6 +8663,10 @@ public final class RaftProto {
           to_bitField0_ |= 0x00000080;
         }
         result.isLast_ = isLast_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.groupId_ = groupId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -7969,6 +8709,9 @@ public final class RaftProto {
         if (other.hasIsLast()) {
           setIsLast(other.getIsLast());
         }
+        if (other.hasGroupId()) {
+          setGroupId(other.getGroupId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -8388,6 +9131,39 @@ public final class RaftProto {
         return this;
       }
 
+      // optional uint32 group_id = 9;
+      private int groupId_ ;
+      /**
+       * <code>optional uint32 group_id = 9;</code>
+       */
+      public boolean hasGroupId() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional uint32 group_id = 9;</code>
+       */
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>optional uint32 group_id = 9;</code>
+       */
+      public Builder setGroupId(int value) {
+        bitField0_ |= 0x00000100;
+        groupId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 group_id = 9;</code>
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:raft.InstallSnapshotRequest)
     }
 
@@ -8887,6 +9663,16 @@ public final class RaftProto {
 
   public interface GetLeaderRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint32 group_id = 1;
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    boolean hasGroupId();
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    int getGroupId();
   }
   /**
    * Protobuf type {@code raft.GetLeaderRequest}
@@ -8921,6 +9707,7 @@ public final class RaftProto {
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       initFields();
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -8938,6 +9725,11 @@ public final class RaftProto {
               }
               break;
             }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              groupId_ = input.readUInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -8977,7 +9769,25 @@ public final class RaftProto {
       return PARSER;
     }
 
+    private int bitField0_;
+    // optional uint32 group_id = 1;
+    public static final int GROUP_ID_FIELD_NUMBER = 1;
+    private int groupId_;
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    public boolean hasGroupId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    public int getGroupId() {
+      return groupId_;
+    }
+
     private void initFields() {
+      groupId_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -8991,6 +9801,9 @@ public final class RaftProto {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, groupId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -9000,6 +9813,10 @@ public final class RaftProto {
       if (size != -1) return size;
 
       size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, groupId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -9116,6 +9933,8 @@ public final class RaftProto {
 
       public Builder clear() {
         super.clear();
+        groupId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
@@ -9142,6 +9961,13 @@ public final class RaftProto {
 
       public com.raftimpl.raft.proto.RaftProto.GetLeaderRequest buildPartial() {
         com.raftimpl.raft.proto.RaftProto.GetLeaderRequest result = new com.raftimpl.raft.proto.RaftProto.GetLeaderRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.groupId_ = groupId_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -9157,6 +9983,9 @@ public final class RaftProto {
 
       public Builder mergeFrom(com.raftimpl.raft.proto.RaftProto.GetLeaderRequest other) {
         if (other == com.raftimpl.raft.proto.RaftProto.GetLeaderRequest.getDefaultInstance()) return this;
+        if (other.hasGroupId()) {
+          setGroupId(other.getGroupId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -9182,16 +10011,50 @@ public final class RaftProto {
         }
         return this;
       }
+      private int bitField0_;
 
-      // @@protoc_insertion_point(builder_scope:raft.GetLeaderRequest)
-    }
-
-    static {
-      defaultInstance = new GetLeaderRequest(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:raft.GetLeaderRequest)
+      // optional uint32 group_id = 1;
+      private int groupId_ ;
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public boolean hasGroupId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public Builder setGroupId(int value) {
+        bitField0_ |= 0x00000001;
+        groupId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:raft.GetLeaderRequest)
+    }
+
+    static {
+      defaultInstance = new GetLeaderRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:raft.GetLeaderRequest)
   }
 
   public interface GetLeaderResponseOrBuilder
@@ -9974,6 +10837,16 @@ public final class RaftProto {
      */
     com.raftimpl.raft.proto.RaftProto.ServerOrBuilder getServersOrBuilder(
         int index);
+
+    // optional uint32 group_id = 2;
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     */
+    boolean hasGroupId();
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     */
+    int getGroupId();
   }
   /**
    * Protobuf type {@code raft.AddPeersRequest}
@@ -10034,6 +10907,11 @@ public final class RaftProto {
               servers_.add(input.readMessage(com.raftimpl.raft.proto.RaftProto.Server.PARSER, extensionRegistry));
               break;
             }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              groupId_ = input.readUInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -10076,6 +10954,7 @@ public final class RaftProto {
       return PARSER;
     }
 
+    private int bitField0_;
     // repeated .raft.Server servers = 1;
     public static final int SERVERS_FIELD_NUMBER = 1;
     private java.util.List<com.raftimpl.raft.proto.RaftProto.Server> servers_;
@@ -10112,8 +10991,25 @@ public final class RaftProto {
       return servers_.get(index);
     }
 
+    // optional uint32 group_id = 2;
+    public static final int GROUP_ID_FIELD_NUMBER = 2;
+    private int groupId_;
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     */
+    public boolean hasGroupId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     */
+    public int getGroupId() {
+      return groupId_;
+    }
+
     private void initFields() {
       servers_ = java.util.Collections.emptyList();
+      groupId_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -10130,6 +11026,9 @@ public final class RaftProto {
       for (int i = 0; i < servers_.size(); i++) {
         output.writeMessage(1, servers_.get(i));
       }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(2, groupId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -10143,6 +11042,10 @@ public final class RaftProto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, servers_.get(i));
       }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, groupId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -10266,6 +11169,8 @@ public final class RaftProto {
         } else {
           serversBuilder_.clear();
         }
+        groupId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -10293,6 +11198,7 @@ public final class RaftProto {
       public com.raftimpl.raft.proto.RaftProto.AddPeersRequest buildPartial() {
         com.raftimpl.raft.proto.RaftProto.AddPeersRequest result = new com.raftimpl.raft.proto.RaftProto.AddPeersRequest(this);
         int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         if (serversBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001)) {
             servers_ = java.util.Collections.unmodifiableList(servers_);
@@ -10302,6 +11208,11 @@ public final class RaftProto {
         } else {
           result.servers_ = serversBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.groupId_ = groupId_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -10343,6 +11254,9 @@ public final class RaftProto {
             }
           }
         }
+        if (other.hasGroupId()) {
+          setGroupId(other.getGroupId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -10610,6 +11524,39 @@ public final class RaftProto {
         return serversBuilder_;
       }
 
+      // optional uint32 group_id = 2;
+      private int groupId_ ;
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       */
+      public boolean hasGroupId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       */
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       */
+      public Builder setGroupId(int value) {
+        bitField0_ |= 0x00000002;
+        groupId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:raft.AddPeersRequest)
     }
 
@@ -11209,6 +12156,16 @@ public final class RaftProto {
      */
     com.raftimpl.raft.proto.RaftProto.ServerOrBuilder getServersOrBuilder(
         int index);
+
+    // optional uint32 group_id = 2;
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     */
+    boolean hasGroupId();
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     */
+    int getGroupId();
   }
   /**
    * Protobuf type {@code raft.RemovePeersRequest}
@@ -11269,6 +12226,11 @@ public final class RaftProto {
               servers_.add(input.readMessage(com.raftimpl.raft.proto.RaftProto.Server.PARSER, extensionRegistry));
               break;
             }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              groupId_ = input.readUInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -11311,6 +12273,7 @@ public final class RaftProto {
       return PARSER;
     }
 
+    private int bitField0_;
     // repeated .raft.Server servers = 1;
     public static final int SERVERS_FIELD_NUMBER = 1;
     private java.util.List<com.raftimpl.raft.proto.RaftProto.Server> servers_;
@@ -11347,8 +12310,25 @@ public final class RaftProto {
       return servers_.get(index);
     }
 
+    // optional uint32 group_id = 2;
+    public static final int GROUP_ID_FIELD_NUMBER = 2;
+    private int groupId_;
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     */
+    public boolean hasGroupId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     */
+    public int getGroupId() {
+      return groupId_;
+    }
+
     private void initFields() {
       servers_ = java.util.Collections.emptyList();
+      groupId_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -11365,6 +12345,9 @@ public final class RaftProto {
       for (int i = 0; i < servers_.size(); i++) {
         output.writeMessage(1, servers_.get(i));
       }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(2, groupId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -11378,6 +12361,10 @@ public final class RaftProto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, servers_.get(i));
       }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, groupId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -11501,6 +12488,8 @@ public final class RaftProto {
         } else {
           serversBuilder_.clear();
         }
+        groupId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -11528,6 +12517,7 @@ public final class RaftProto {
       public com.raftimpl.raft.proto.RaftProto.RemovePeersRequest buildPartial() {
         com.raftimpl.raft.proto.RaftProto.RemovePeersRequest result = new com.raftimpl.raft.proto.RaftProto.RemovePeersRequest(this);
         int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         if (serversBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001)) {
             servers_ = java.util.Collections.unmodifiableList(servers_);
@@ -11537,6 +12527,11 @@ public final class RaftProto {
         } else {
           result.servers_ = serversBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.groupId_ = groupId_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -11578,6 +12573,9 @@ public final class RaftProto {
             }
           }
         }
+        if (other.hasGroupId()) {
+          setGroupId(other.getGroupId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -11845,6 +12843,39 @@ public final class RaftProto {
         return serversBuilder_;
       }
 
+      // optional uint32 group_id = 2;
+      private int groupId_ ;
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       */
+      public boolean hasGroupId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       */
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       */
+      public Builder setGroupId(int value) {
+        bitField0_ |= 0x00000002;
+        groupId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:raft.RemovePeersRequest)
     }
 
@@ -12419,6 +13450,16 @@ public final class RaftProto {
 
   public interface GetConfigurationRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint32 group_id = 1;
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    boolean hasGroupId();
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    int getGroupId();
   }
   /**
    * Protobuf type {@code raft.GetConfigurationRequest}
@@ -12453,6 +13494,7 @@ public final class RaftProto {
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       initFields();
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -12470,6 +13512,11 @@ public final class RaftProto {
               }
               break;
             }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              groupId_ = input.readUInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -12509,7 +13556,25 @@ public final class RaftProto {
       return PARSER;
     }
 
+    private int bitField0_;
+    // optional uint32 group_id = 1;
+    public static final int GROUP_ID_FIELD_NUMBER = 1;
+    private int groupId_;
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    public boolean hasGroupId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    public int getGroupId() {
+      return groupId_;
+    }
+
     private void initFields() {
+      groupId_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -12523,6 +13588,9 @@ public final class RaftProto {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, groupId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -12532,6 +13600,10 @@ public final class RaftProto {
       if (size != -1) return size;
 
       size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, groupId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -12648,6 +13720,8 @@ public final class RaftProto {
 
       public Builder clear() {
         super.clear();
+        groupId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
@@ -12674,6 +13748,13 @@ public final class RaftProto {
 
       public com.raftimpl.raft.proto.RaftProto.GetConfigurationRequest buildPartial() {
         com.raftimpl.raft.proto.RaftProto.GetConfigurationRequest result = new com.raftimpl.raft.proto.RaftProto.GetConfigurationRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.groupId_ = groupId_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -12689,6 +13770,9 @@ public final class RaftProto {
 
       public Builder mergeFrom(com.raftimpl.raft.proto.RaftProto.GetConfigurationRequest other) {
         if (other == com.raftimpl.raft.proto.RaftProto.GetConfigurationRequest.getDefaultInstance()) return this;
+        if (other.hasGroupId()) {
+          setGroupId(other.getGroupId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -12714,6 +13798,40 @@ public final class RaftProto {
         }
         return this;
       }
+      private int bitField0_;
+
+      // optional uint32 group_id = 1;
+      private int groupId_ ;
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public boolean hasGroupId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public Builder setGroupId(int value) {
+        bitField0_ |= 0x00000001;
+        groupId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
 
       // @@protoc_insertion_point(builder_scope:raft.GetConfigurationRequest)
     }
@@ -13843,6 +14961,16 @@ public final class RaftProto {
 
   public interface GetLeaderCommitIndexRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint32 group_id = 1;
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    boolean hasGroupId();
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    int getGroupId();
   }
   /**
    * Protobuf type {@code raft.GetLeaderCommitIndexRequest}
@@ -13877,6 +15005,7 @@ public final class RaftProto {
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       initFields();
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -13894,6 +15023,11 @@ public final class RaftProto {
               }
               break;
             }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              groupId_ = input.readUInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -13933,7 +15067,25 @@ public final class RaftProto {
       return PARSER;
     }
 
+    private int bitField0_;
+    // optional uint32 group_id = 1;
+    public static final int GROUP_ID_FIELD_NUMBER = 1;
+    private int groupId_;
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    public boolean hasGroupId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint32 group_id = 1;</code>
+     */
+    public int getGroupId() {
+      return groupId_;
+    }
+
     private void initFields() {
+      groupId_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -13947,6 +15099,9 @@ public final class RaftProto {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, groupId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -13956,6 +15111,10 @@ public final class RaftProto {
       if (size != -1) return size;
 
       size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, groupId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -14072,6 +15231,8 @@ public final class RaftProto {
 
       public Builder clear() {
         super.clear();
+        groupId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
@@ -14098,6 +15259,13 @@ public final class RaftProto {
 
       public com.raftimpl.raft.proto.RaftProto.GetLeaderCommitIndexRequest buildPartial() {
         com.raftimpl.raft.proto.RaftProto.GetLeaderCommitIndexRequest result = new com.raftimpl.raft.proto.RaftProto.GetLeaderCommitIndexRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.groupId_ = groupId_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -14113,6 +15281,9 @@ public final class RaftProto {
 
       public Builder mergeFrom(com.raftimpl.raft.proto.RaftProto.GetLeaderCommitIndexRequest other) {
         if (other == com.raftimpl.raft.proto.RaftProto.GetLeaderCommitIndexRequest.getDefaultInstance()) return this;
+        if (other.hasGroupId()) {
+          setGroupId(other.getGroupId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -14138,6 +15309,40 @@ public final class RaftProto {
         }
         return this;
       }
+      private int bitField0_;
+
+      // optional uint32 group_id = 1;
+      private int groupId_ ;
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public boolean hasGroupId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public Builder setGroupId(int value) {
+        bitField0_ |= 0x00000001;
+        groupId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 group_id = 1;</code>
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
 
       // @@protoc_insertion_point(builder_scope:raft.GetLeaderCommitIndexRequest)
     }
@@ -14546,27 +15751,2324 @@ public final class RaftProto {
     // @@protoc_insertion_point(class_scope:raft.GetLeaderCommitIndexResponse)
   }
 
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_raft_Endpoint_descriptor;
-  private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_raft_Endpoint_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_raft_Server_descriptor;
-  private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_raft_Server_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_raft_Configuration_descriptor;
-  private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_raft_Configuration_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_raft_LogMetaData_descriptor;
-  private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_raft_LogMetaData_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  public interface TimeoutNowRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint32 server_id = 1;
+    /**
+     * <code>optional uint32 server_id = 1;</code>
+     *
+     * <pre>
+     * 领导人的 Id
+     * </pre>
+     */
+    boolean hasServerId();
+    /**
+     * <code>optional uint32 server_id = 1;</code>
+     *
+     * <pre>
+     * 领导人的 Id
+     * </pre>
+     */
+    int getServerId();
+
+    // optional uint64 term = 2;
+    /**
+     * <code>optional uint64 term = 2;</code>
+     *
+     * <pre>
+     * 领导人的任期号
+     * </pre>
+     */
+    boolean hasTerm();
+    /**
+     * <code>optional uint64 term = 2;</code>
+     *
+     * <pre>
+     * 领导人的任期号
+     * </pre>
+     */
+    long getTerm();
+
+    // optional uint32 group_id = 3;
+    /**
+     * <code>optional uint32 group_id = 3;</code>
+     *
+     * <pre>
+     * raft group的 Id
+     * </pre>
+     */
+    boolean hasGroupId();
+    /**
+     * <code>optional uint32 group_id = 3;</code>
+     *
+     * <pre>
+     * raft group的 Id
+     * </pre>
+     */
+    int getGroupId();
+  }
+  /**
+   * Protobuf type {@code raft.TimeoutNowRequest}
+   */
+  public static final class TimeoutNowRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements TimeoutNowRequestOrBuilder {
+    // Use TimeoutNowRequest.newBuilder() to construct.
+    private TimeoutNowRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private TimeoutNowRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final TimeoutNowRequest defaultInstance;
+    public static TimeoutNowRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public TimeoutNowRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TimeoutNowRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              serverId_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              term_ = input.readUInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              groupId_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TimeoutNowRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TimeoutNowRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest.class, com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<TimeoutNowRequest> PARSER =
+        new com.google.protobuf.AbstractParser<TimeoutNowRequest>() {
+      public TimeoutNowRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TimeoutNowRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TimeoutNowRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional uint32 server_id = 1;
+    public static final int SERVER_ID_FIELD_NUMBER = 1;
+    private int serverId_;
+    /**
+     * <code>optional uint32 server_id = 1;</code>
+     *
+     * <pre>
+     * 领导人的 Id
+     * </pre>
+     */
+    public boolean hasServerId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint32 server_id = 1;</code>
+     *
+     * <pre>
+     * 领导人的 Id
+     * </pre>
+     */
+    public int getServerId() {
+      return serverId_;
+    }
+
+    // optional uint64 term = 2;
+    public static final int TERM_FIELD_NUMBER = 2;
+    private long term_;
+    /**
+     * <code>optional uint64 term = 2;</code>
+     *
+     * <pre>
+     * 领导人的任期号
+     * </pre>
+     */
+    public boolean hasTerm() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional uint64 term = 2;</code>
+     *
+     * <pre>
+     * 领导人的任期号
+     * </pre>
+     */
+    public long getTerm() {
+      return term_;
+    }
+
+    // optional uint32 group_id = 3;
+    public static final int GROUP_ID_FIELD_NUMBER = 3;
+    private int groupId_;
+    /**
+     * <code>optional uint32 group_id = 3;</code>
+     *
+     * <pre>
+     * raft group的 Id
+     * </pre>
+     */
+    public boolean hasGroupId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional uint32 group_id = 3;</code>
+     *
+     * <pre>
+     * raft group的 Id
+     * </pre>
+     */
+    public int getGroupId() {
+      return groupId_;
+    }
+
+    private void initFields() {
+      serverId_ = 0;
+      term_ = 0L;
+      groupId_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, serverId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, term_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt32(3, groupId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, serverId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, term_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, groupId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raft.TimeoutNowRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.proto.RaftProto.TimeoutNowRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TimeoutNowRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TimeoutNowRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest.class, com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        serverId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        term_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        groupId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TimeoutNowRequest_descriptor;
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest getDefaultInstanceForType() {
+        return com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest build() {
+        com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest buildPartial() {
+        com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest result = new com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.serverId_ = serverId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.term_ = term_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.groupId_ = groupId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest) {
+          return mergeFrom((com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest other) {
+        if (other == com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest.getDefaultInstance()) return this;
+        if (other.hasServerId()) {
+          setServerId(other.getServerId());
+        }
+        if (other.hasTerm()) {
+          setTerm(other.getTerm());
+        }
+        if (other.hasGroupId()) {
+          setGroupId(other.getGroupId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.proto.RaftProto.TimeoutNowRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional uint32 server_id = 1;
+      private int serverId_ ;
+      /**
+       * <code>optional uint32 server_id = 1;</code>
+       *
+       * <pre>
+       * 领导人的 Id
+       * </pre>
+       */
+      public boolean hasServerId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint32 server_id = 1;</code>
+       *
+       * <pre>
+       * 领导人的 Id
+       * </pre>
+       */
+      public int getServerId() {
+        return serverId_;
+      }
+      /**
+       * <code>optional uint32 server_id = 1;</code>
+       *
+       * <pre>
+       * 领导人的 Id
+       * </pre>
+       */
+      public Builder setServerId(int value) {
+        bitField0_ |= 0x00000001;
+        serverId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 server_id = 1;</code>
+       *
+       * <pre>
+       * 领导人的 Id
+       * </pre>
+       */
+      public Builder clearServerId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        serverId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional uint64 term = 2;
+      private long term_ ;
+      /**
+       * <code>optional uint64 term = 2;</code>
+       *
+       * <pre>
+       * 领导人的任期号
+       * </pre>
+       */
+      public boolean hasTerm() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint64 term = 2;</code>
+       *
+       * <pre>
+       * 领导人的任期号
+       * </pre>
+       */
+      public long getTerm() {
+        return term_;
+      }
+      /**
+       * <code>optional uint64 term = 2;</code>
+       *
+       * <pre>
+       * 领导人的任期号
+       * </pre>
+       */
+      public Builder setTerm(long value) {
+        bitField0_ |= 0x00000002;
+        term_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 term = 2;</code>
+       *
+       * <pre>
+       * 领导人的任期号
+       * </pre>
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        term_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional uint32 group_id = 3;
+      private int groupId_ ;
+      /**
+       * <code>optional uint32 group_id = 3;</code>
+       *
+       * <pre>
+       * raft group的 Id
+       * </pre>
+       */
+      public boolean hasGroupId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional uint32 group_id = 3;</code>
+       *
+       * <pre>
+       * raft group的 Id
+       * </pre>
+       */
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>optional uint32 group_id = 3;</code>
+       *
+       * <pre>
+       * raft group的 Id
+       * </pre>
+       */
+      public Builder setGroupId(int value) {
+        bitField0_ |= 0x00000004;
+        groupId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 group_id = 3;</code>
+       *
+       * <pre>
+       * raft group的 Id
+       * </pre>
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:raft.TimeoutNowRequest)
+    }
+
+    static {
+      defaultInstance = new TimeoutNowRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:raft.TimeoutNowRequest)
+  }
+
+  public interface TimeoutNowResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint64 term = 1;
+    /**
+     * <code>optional uint64 term = 1;</code>
+     *
+     * <pre>
+     * 当前任期号
+     * </pre>
+     */
+    boolean hasTerm();
+    /**
+     * <code>optional uint64 term = 1;</code>
+     *
+     * <pre>
+     * 当前任期号
+     * </pre>
+     */
+    long getTerm();
+
+    // optional bool success = 2;
+    /**
+     * <code>optional bool success = 2;</code>
+     *
+     * <pre>
+     * 接收者立即发起选举时为真
+     * </pre>
+     */
+    boolean hasSuccess();
+    /**
+     * <code>optional bool success = 2;</code>
+     *
+     * <pre>
+     * 接收者立即发起选举时为真
+     * </pre>
+     */
+    boolean getSuccess();
+  }
+  /**
+   * Protobuf type {@code raft.TimeoutNowResponse}
+   */
+  public static final class TimeoutNowResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements TimeoutNowResponseOrBuilder {
+    // Use TimeoutNowResponse.newBuilder() to construct.
+    private TimeoutNowResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private TimeoutNowResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final TimeoutNowResponse defaultInstance;
+    public static TimeoutNowResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public TimeoutNowResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TimeoutNowResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              term_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              success_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TimeoutNowResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TimeoutNowResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse.class, com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<TimeoutNowResponse> PARSER =
+        new com.google.protobuf.AbstractParser<TimeoutNowResponse>() {
+      public TimeoutNowResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TimeoutNowResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TimeoutNowResponse> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional uint64 term = 1;
+    public static final int TERM_FIELD_NUMBER = 1;
+    private long term_;
+    /**
+     * <code>optional uint64 term = 1;</code>
+     *
+     * <pre>
+     * 当前任期号
+     * </pre>
+     */
+    public boolean hasTerm() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint64 term = 1;</code>
+     *
+     * <pre>
+     * 当前任期号
+     * </pre>
+     */
+    public long getTerm() {
+      return term_;
+    }
+
+    // optional bool success = 2;
+    public static final int SUCCESS_FIELD_NUMBER = 2;
+    private boolean success_;
+    /**
+     * <code>optional bool success = 2;</code>
+     *
+     * <pre>
+     * 接收者立即发起选举时为真
+     * </pre>
+     */
+    public boolean hasSuccess() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bool success = 2;</code>
+     *
+     * <pre>
+     * 接收者立即发起选举时为真
+     * </pre>
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    private void initFields() {
+      term_ = 0L;
+      success_ = false;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, term_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, success_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, term_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, success_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raft.TimeoutNowResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.proto.RaftProto.TimeoutNowResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TimeoutNowResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TimeoutNowResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse.class, com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        term_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        success_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TimeoutNowResponse_descriptor;
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse getDefaultInstanceForType() {
+        return com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse build() {
+        com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse buildPartial() {
+        com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse result = new com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.term_ = term_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.success_ = success_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse) {
+          return mergeFrom((com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse other) {
+        if (other == com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse.getDefaultInstance()) return this;
+        if (other.hasTerm()) {
+          setTerm(other.getTerm());
+        }
+        if (other.hasSuccess()) {
+          setSuccess(other.getSuccess());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.proto.RaftProto.TimeoutNowResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional uint64 term = 1;
+      private long term_ ;
+      /**
+       * <code>optional uint64 term = 1;</code>
+       *
+       * <pre>
+       * 当前任期号
+       * </pre>
+       */
+      public boolean hasTerm() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint64 term = 1;</code>
+       *
+       * <pre>
+       * 当前任期号
+       * </pre>
+       */
+      public long getTerm() {
+        return term_;
+      }
+      /**
+       * <code>optional uint64 term = 1;</code>
+       *
+       * <pre>
+       * 当前任期号
+       * </pre>
+       */
+      public Builder setTerm(long value) {
+        bitField0_ |= 0x00000001;
+        term_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 term = 1;</code>
+       *
+       * <pre>
+       * 当前任期号
+       * </pre>
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        term_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional bool success = 2;
+      private boolean success_ ;
+      /**
+       * <code>optional bool success = 2;</code>
+       *
+       * <pre>
+       * 接收者立即发起选举时为真
+       * </pre>
+       */
+      public boolean hasSuccess() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bool success = 2;</code>
+       *
+       * <pre>
+       * 接收者立即发起选举时为真
+       * </pre>
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>optional bool success = 2;</code>
+       *
+       * <pre>
+       * 接收者立即发起选举时为真
+       * </pre>
+       */
+      public Builder setSuccess(boolean value) {
+        bitField0_ |= 0x00000002;
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool success = 2;</code>
+       *
+       * <pre>
+       * 接收者立即发起选举时为真
+       * </pre>
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:raft.TimeoutNowResponse)
+    }
+
+    static {
+      defaultInstance = new TimeoutNowResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:raft.TimeoutNowResponse)
+  }
+
+  public interface TransferLeadershipRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint32 server_id = 1;
+    /**
+     * <code>optional uint32 server_id = 1;</code>
+     *
+     * <pre>
+     * 领导权转移的目标节点 Id
+     * </pre>
+     */
+    boolean hasServerId();
+    /**
+     * <code>optional uint32 server_id = 1;</code>
+     *
+     * <pre>
+     * 领导权转移的目标节点 Id
+     * </pre>
+     */
+    int getServerId();
+
+    // optional uint32 group_id = 2;
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     *
+     * <pre>
+     * raft group的 Id
+     * </pre>
+     */
+    boolean hasGroupId();
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     *
+     * <pre>
+     * raft group的 Id
+     * </pre>
+     */
+    int getGroupId();
+  }
+  /**
+   * Protobuf type {@code raft.TransferLeadershipRequest}
+   */
+  public static final class TransferLeadershipRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements TransferLeadershipRequestOrBuilder {
+    // Use TransferLeadershipRequest.newBuilder() to construct.
+    private TransferLeadershipRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private TransferLeadershipRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final TransferLeadershipRequest defaultInstance;
+    public static TransferLeadershipRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public TransferLeadershipRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TransferLeadershipRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              serverId_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              groupId_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TransferLeadershipRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TransferLeadershipRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest.class, com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<TransferLeadershipRequest> PARSER =
+        new com.google.protobuf.AbstractParser<TransferLeadershipRequest>() {
+      public TransferLeadershipRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TransferLeadershipRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TransferLeadershipRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional uint32 server_id = 1;
+    public static final int SERVER_ID_FIELD_NUMBER = 1;
+    private int serverId_;
+    /**
+     * <code>optional uint32 server_id = 1;</code>
+     *
+     * <pre>
+     * 领导权转移的目标节点 Id
+     * </pre>
+     */
+    public boolean hasServerId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint32 server_id = 1;</code>
+     *
+     * <pre>
+     * 领导权转移的目标节点 Id
+     * </pre>
+     */
+    public int getServerId() {
+      return serverId_;
+    }
+
+    // optional uint32 group_id = 2;
+    public static final int GROUP_ID_FIELD_NUMBER = 2;
+    private int groupId_;
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     *
+     * <pre>
+     * raft group的 Id
+     * </pre>
+     */
+    public boolean hasGroupId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional uint32 group_id = 2;</code>
+     *
+     * <pre>
+     * raft group的 Id
+     * </pre>
+     */
+    public int getGroupId() {
+      return groupId_;
+    }
+
+    private void initFields() {
+      serverId_ = 0;
+      groupId_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, serverId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt32(2, groupId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, serverId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, groupId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raft.TransferLeadershipRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TransferLeadershipRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TransferLeadershipRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest.class, com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        serverId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        groupId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TransferLeadershipRequest_descriptor;
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest getDefaultInstanceForType() {
+        return com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest build() {
+        com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest buildPartial() {
+        com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest result = new com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.serverId_ = serverId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.groupId_ = groupId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest) {
+          return mergeFrom((com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest other) {
+        if (other == com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest.getDefaultInstance()) return this;
+        if (other.hasServerId()) {
+          setServerId(other.getServerId());
+        }
+        if (other.hasGroupId()) {
+          setGroupId(other.getGroupId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.proto.RaftProto.TransferLeadershipRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional uint32 server_id = 1;
+      private int serverId_ ;
+      /**
+       * <code>optional uint32 server_id = 1;</code>
+       *
+       * <pre>
+       * 领导权转移的目标节点 Id
+       * </pre>
+       */
+      public boolean hasServerId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint32 server_id = 1;</code>
+       *
+       * <pre>
+       * 领导权转移的目标节点 Id
+       * </pre>
+       */
+      public int getServerId() {
+        return serverId_;
+      }
+      /**
+       * <code>optional uint32 server_id = 1;</code>
+       *
+       * <pre>
+       * 领导权转移的目标节点 Id
+       * </pre>
+       */
+      public Builder setServerId(int value) {
+        bitField0_ |= 0x00000001;
+        serverId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 server_id = 1;</code>
+       *
+       * <pre>
+       * 领导权转移的目标节点 Id
+       * </pre>
+       */
+      public Builder clearServerId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        serverId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional uint32 group_id = 2;
+      private int groupId_ ;
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       *
+       * <pre>
+       * raft group的 Id
+       * </pre>
+       */
+      public boolean hasGroupId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       *
+       * <pre>
+       * raft group的 Id
+       * </pre>
+       */
+      public int getGroupId() {
+        return groupId_;
+      }
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       *
+       * <pre>
+       * raft group的 Id
+       * </pre>
+       */
+      public Builder setGroupId(int value) {
+        bitField0_ |= 0x00000002;
+        groupId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 group_id = 2;</code>
+       *
+       * <pre>
+       * raft group的 Id
+       * </pre>
+       */
+      public Builder clearGroupId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        groupId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:raft.TransferLeadershipRequest)
+    }
+
+    static {
+      defaultInstance = new TransferLeadershipRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:raft.TransferLeadershipRequest)
+  }
+
+  public interface TransferLeadershipResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .raft.ResCode res_code = 1;
+    /**
+     * <code>optional .raft.ResCode res_code = 1;</code>
+     */
+    boolean hasResCode();
+    /**
+     * <code>optional .raft.ResCode res_code = 1;</code>
+     */
+    com.raftimpl.raft.proto.RaftProto.ResCode getResCode();
+
+    // optional string res_msg = 2;
+    /**
+     * <code>optional string res_msg = 2;</code>
+     */
+    boolean hasResMsg();
+    /**
+     * <code>optional string res_msg = 2;</code>
+     */
+    java.lang.String getResMsg();
+    /**
+     * <code>optional string res_msg = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getResMsgBytes();
+  }
+  /**
+   * Protobuf type {@code raft.TransferLeadershipResponse}
+   */
+  public static final class TransferLeadershipResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements TransferLeadershipResponseOrBuilder {
+    // Use TransferLeadershipResponse.newBuilder() to construct.
+    private TransferLeadershipResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private TransferLeadershipResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final TransferLeadershipResponse defaultInstance;
+    public static TransferLeadershipResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public TransferLeadershipResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TransferLeadershipResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              com.raftimpl.raft.proto.RaftProto.ResCode value = com.raftimpl.raft.proto.RaftProto.ResCode.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                resCode_ = value;
+              }
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              resMsg_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TransferLeadershipResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TransferLeadershipResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse.class, com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<TransferLeadershipResponse> PARSER =
+        new com.google.protobuf.AbstractParser<TransferLeadershipResponse>() {
+      public TransferLeadershipResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TransferLeadershipResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TransferLeadershipResponse> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional .raft.ResCode res_code = 1;
+    public static final int RES_CODE_FIELD_NUMBER = 1;
+    private com.raftimpl.raft.proto.RaftProto.ResCode resCode_;
+    /**
+     * <code>optional .raft.ResCode res_code = 1;</code>
+     */
+    public boolean hasResCode() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .raft.ResCode res_code = 1;</code>
+     */
+    public com.raftimpl.raft.proto.RaftProto.ResCode getResCode() {
+      return resCode_;
+    }
+
+    // optional string res_msg = 2;
+    public static final int RES_MSG_FIELD_NUMBER = 2;
+    private java.lang.Object resMsg_;
+    /**
+     * <code>optional string res_msg = 2;</code>
+     */
+    public boolean hasResMsg() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string res_msg = 2;</code>
+     */
+    public java.lang.String getResMsg() {
+      java.lang.Object ref = resMsg_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          resMsg_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string res_msg = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getResMsgBytes() {
+      java.lang.Object ref = resMsg_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        resMsg_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      resCode_ = com.raftimpl.raft.proto.RaftProto.ResCode.RES_CODE_SUCCESS;
+      resMsg_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, resCode_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getResMsgBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, resCode_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getResMsgBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code raft.TransferLeadershipResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TransferLeadershipResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TransferLeadershipResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse.class, com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse.Builder.class);
+      }
+
+      // Construct using com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        resCode_ = com.raftimpl.raft.proto.RaftProto.ResCode.RES_CODE_SUCCESS;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        resMsg_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.raftimpl.raft.proto.RaftProto.internal_static_raft_TransferLeadershipResponse_descriptor;
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse getDefaultInstanceForType() {
+        return com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse.getDefaultInstance();
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse build() {
+        com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse buildPartial() {
+        com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse result = new com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.resCode_ = resCode_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.resMsg_ = resMsg_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse) {
+          return mergeFrom((com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse other) {
+        if (other == com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse.getDefaultInstance()) return this;
+        if (other.hasResCode()) {
+          setResCode(other.getResCode());
+        }
+        if (other.hasResMsg()) {
+          bitField0_ |= 0x00000002;
+          resMsg_ = other.resMsg_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.raftimpl.raft.proto.RaftProto.TransferLeadershipResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional .raft.ResCode res_code = 1;
+      private com.raftimpl.raft.proto.RaftProto.ResCode resCode_ = com.raftimpl.raft.proto.RaftProto.ResCode.RES_CODE_SUCCESS;
+      /**
+       * <code>optional .raft.ResCode res_code = 1;</code>
+       */
+      public boolean hasResCode() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .raft.ResCode res_code = 1;</code>
+       */
+      public com.raftimpl.raft.proto.RaftProto.ResCode getResCode() {
+        return resCode_;
+      }
+      /**
+       * <code>optional .raft.ResCode res_code = 1;</code>
+       */
+      public Builder setResCode(com.raftimpl.raft.proto.RaftProto.ResCode value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        resCode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .raft.ResCode res_code = 1;</code>
+       */
+      public Builder clearResCode() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        resCode_ = com.raftimpl.raft.proto.RaftProto.ResCode.RES_CODE_SUCCESS;
+        onChanged();
+        return this;
+      }
+
+      // optional string res_msg = 2;
+      private java.lang.Object resMsg_ = "";
+      /**
+       * <code>optional string res_msg = 2;</code>
+       */
+      public boolean hasResMsg() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string res_msg = 2;</code>
+       */
+      public java.lang.String getResMsg() {
+        java.lang.Object ref = resMsg_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          resMsg_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string res_msg = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getResMsgBytes() {
+        java.lang.Object ref = resMsg_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          resMsg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string res_msg = 2;</code>
+       */
+      public Builder setResMsg(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        resMsg_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string res_msg = 2;</code>
+       */
+      public Builder clearResMsg() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        resMsg_ = getDefaultInstance().getResMsg();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string res_msg = 2;</code>
+       */
+      public Builder setResMsgBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        resMsg_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:raft.TransferLeadershipResponse)
+    }
+
+    static {
+      defaultInstance = new TransferLeadershipResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:raft.TransferLeadershipResponse)
+  }
+
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_raft_Endpoint_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_raft_Endpoint_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_raft_Server_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_raft_Server_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_raft_Configuration_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_raft_Configuration_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_raft_LogMetaData_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_raft_LogMetaData_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
     internal_static_raft_SnapshotMetaData_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
@@ -14656,6 +18158,26 @@ public final class RaftProto {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_raft_GetLeaderCommitIndexResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_raft_TimeoutNowRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_raft_TimeoutNowRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_raft_TimeoutNowResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_raft_TimeoutNowResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_raft_TransferLeadershipRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_raft_TransferLeadershipRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_raft_TransferLeadershipResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_raft_TransferLeadershipResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -14665,56 +18187,69 @@ public final class RaftProto {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n)com/raftimpl/raft/proto/raft.pr" +
-      "oto\022\004raft\"&\n\010Endpoint\022\014\n\004host\030\001 \001(\t\022\014\n\004p" +
-      "ort\030\002 \001(\r\"=\n\006Server\022\021\n\tserver_id\030\001 \001(\r\022 " +
-      "\n\010endpoint\030\002 \001(\0132\016.raft.Endpoint\".\n\rConf" +
-      "iguration\022\035\n\007servers\030\001 \003(\0132\014.raft.Server" +
-      "\"e\n\013LogMetaData\022\024\n\014current_term\030\001 \001(\004\022\021\n" +
-      "\tvoted_for\030\002 \001(\r\022\027\n\017first_log_index\030\003 \001(" +
-      "\004\022\024\n\014commit_index\030\004 \001(\004\"w\n\020SnapshotMetaD" +
-      "ata\022\033\n\023last_included_index\030\001 \001(\004\022\032\n\022last" +
-      "_included_term\030\002 \001(\004\022*\n\rconfiguration\030\003 ",
-      "\001(\0132\023.raft.Configuration\"T\n\010LogEntry\022\014\n\004" +
-      "term\030\001 \001(\004\022\r\n\005index\030\002 \001(\004\022\035\n\004type\030\003 \001(\0162" +
-      "\017.raft.EntryType\022\014\n\004data\030\004 \001(\014\"]\n\013VoteRe" +
-      "quest\022\021\n\tserver_id\030\001 \001(\r\022\014\n\004term\030\002 \001(\004\022\025" +
-      "\n\rlast_log_term\030\003 \001(\004\022\026\n\016last_log_index\030" +
-      "\004 \001(\004\"-\n\014VoteResponse\022\014\n\004term\030\001 \001(\004\022\017\n\007g" +
-      "ranted\030\002 \001(\010\"\235\001\n\024AppendEntriesRequest\022\021\n" +
-      "\tserver_id\030\001 \001(\r\022\014\n\004term\030\002 \001(\004\022\026\n\016prev_l" +
-      "og_index\030\003 \001(\004\022\025\n\rprev_log_term\030\004 \001(\004\022\024\n" +
-      "\014commit_index\030\005 \001(\004\022\037\n\007entries\030\006 \003(\0132\016.r",
-      "aft.LogEntry\"^\n\025AppendEntriesResponse\022\037\n" +
+      "\n\"com/raftimpl/raft/proto/raft.proto\022\004ra" +
+      "ft\"&\n\010Endpoint\022\014\n\004host\030\001 \001(\t\022\014\n\004port\030\002 \001" +
+      "(\r\"Q\n\006Server\022\021\n\tserver_id\030\001 \001(\r\022 \n\010endpo" +
+      "int\030\002 \001(\0132\016.raft.Endpoint\022\022\n\nis_learner\030" +
+      "\003 \001(\010\".\n\rConfiguration\022\035\n\007servers\030\001 \003(\0132" +
+      "\014.raft.Server\"e\n\013LogMetaData\022\024\n\014current_" +
+      "term\030\001 \001(\004\022\021\n\tvoted_for\030\002 \001(\r\022\027\n\017first_l" +
+      "og_index\030\003 \001(\004\022\024\n\014commit_index\030\004 \001(\004\"w\n\020" +
+      "SnapshotMetaData\022\033\n\023last_included_index\030" +
+      "\001 \001(\004\022\032\n\022last_included_term\030\002 \001(\004\022*\n\rcon",
+      "figuration\030\003 \001(\0132\023.raft.Configuration\"T\n" +
+      "\010LogEntry\022\014\n\004term\030\001 \001(\004\022\r\n\005index\030\002 \001(\004\022\035" +
+      "\n\004type\030\003 \001(\0162\017.raft.EntryType\022\014\n\004data\030\004 " +
+      "\001(\014\"\214\001\n\013VoteRequest\022\021\n\tserver_id\030\001 \001(\r\022\014" +
+      "\n\004term\030\002 \001(\004\022\025\n\rlast_log_term\030\003 \001(\004\022\026\n\016l" +
+      "ast_log_index\030\004 \001(\004\022\033\n\023leadership_transf" +
+      "er\030\005 \001(\010\022\020\n\010group_id\030\006 \001(\r\"-\n\014VoteRespon" +
+      "se\022\014\n\004term\030\001 \001(\004\022\017\n\007granted\030\002 \001(\010\"\257\001\n\024Ap" +
+      "pendEntriesRequest\022\021\n\tserver_id\030\001 \001(\r\022\014\n" +
+      "\004term\030\002 \001(\004\022\026\n\016prev_log_index\030\003 \001(\004\022\025\n\rp",
+      "rev_log_term\030\004 \001(\004\022\024\n\014commit_index\030\005 \001(\004" +
+      "\022\037\n\007entries\030\006 \003(\0132\016.raft.LogEntry\022\020\n\010gro" +
+      "up_id\030\007 \001(\r\"\215\001\n\025AppendEntriesResponse\022\037\n" +
       "\010res_code\030\001 \001(\0162\r.raft.ResCode\022\014\n\004term\030\002" +
-      " \001(\004\022\026\n\016last_log_index\030\003 \001(\004\"\301\001\n\026Install" +
-      "SnapshotRequest\022\021\n\tserver_id\030\001 \001(\r\022\014\n\004te" +
-      "rm\030\002 \001(\004\0222\n\022snapshot_meta_data\030\003 \001(\0132\026.r" +
-      "aft.SnapshotMetaData\022\021\n\tfile_name\030\004 \001(\t\022" +
-      "\016\n\006offset\030\005 \001(\004\022\014\n\004data\030\006 \001(\014\022\020\n\010is_firs" +
-      "t\030\007 \001(\010\022\017\n\007is_last\030\010 \001(\010\"H\n\027InstallSnaps" +
-      "hotResponse\022\037\n\010res_code\030\001 \001(\0162\r.raft.Res" +
-      "Code\022\014\n\004term\030\002 \001(\004\"\022\n\020GetLeaderRequest\"e",
-      "\n\021GetLeaderResponse\022\037\n\010res_code\030\001 \001(\0162\r." +
-      "raft.ResCode\022\017\n\007res_msg\030\002 \001(\t\022\036\n\006leader\030" +
-      "\003 \001(\0132\016.raft.Endpoint\"0\n\017AddPeersRequest" +
-      "\022\035\n\007servers\030\001 \003(\0132\014.raft.Server\"D\n\020AddPe" +
-      "ersResponse\022\037\n\010res_code\030\001 \001(\0162\r.raft.Res" +
-      "Code\022\017\n\007res_msg\030\002 \001(\t\"3\n\022RemovePeersRequ" +
-      "est\022\035\n\007servers\030\001 \003(\0132\014.raft.Server\"G\n\023Re" +
-      "movePeersResponse\022\037\n\010res_code\030\001 \001(\0162\r.ra" +
-      "ft.ResCode\022\017\n\007res_msg\030\002 \001(\t\"\031\n\027GetConfig" +
-      "urationRequest\"\211\001\n\030GetConfigurationRespo",
-      "nse\022\037\n\010res_code\030\001 \001(\0162\r.raft.ResCode\022\017\n\007" +
-      "res_msg\030\002 \001(\t\022\034\n\006leader\030\003 \001(\0132\014.raft.Ser" +
-      "ver\022\035\n\007servers\030\004 \003(\0132\014.raft.Server\"\035\n\033Ge" +
-      "tLeaderCommitIndexRequest\"4\n\034GetLeaderCo" +
-      "mmitIndexResponse\022\024\n\014commit_index\030\001 \001(\004*" +
-      "K\n\007ResCode\022\024\n\020RES_CODE_SUCCESS\020\000\022\021\n\rRES_" +
-      "CODE_FAIL\020\001\022\027\n\023RES_CODE_NOT_LEADER\020\002*>\n\t" +
-      "EntryType\022\023\n\017ENTRY_TYPE_DATA\020\000\022\034\n\030ENTRY_" +
-      "TYPE_CONFIGURATION\020\001B+\n\036com.rafti" +
-      "mpl.raft.protoB\tRaftProto"
+      " \001(\004\022\026\n\016last_log_index\030\003 \001(\004\022\025\n\rconflict" +
+      "_term\030\004 \001(\004\022\026\n\016conflict_index\030\005 \001(\004\"\323\001\n\026" +
+      "InstallSnapshotRequest\022\021\n\tserver_id\030\001 \001(" +
+      "\r\022\014\n\004term\030\002 \001(\004\0222\n\022snapshot_meta_data\030\003 " +
+      "\001(\0132\026.raft.SnapshotMetaData\022\021\n\tfile_name" +
+      "\030\004 \001(\t\022\016\n\006offset\030\005 \001(\004\022\014\n\004data\030\006 \001(\014\022\020\n\010",
+      "is_first\030\007 \001(\010\022\017\n\007is_last\030\010 \001(\010\022\020\n\010group" +
+      "_id\030\t \001(\r\"H\n\027InstallSnapshotResponse\022\037\n\010" +
+      "res_code\030\001 \001(\0162\r.raft.ResCode\022\014\n\004term\030\002 " +
+      "\001(\004\"$\n\020GetLeaderRequest\022\020\n\010group_id\030\001 \001(" +
+      "\r\"e\n\021GetLeaderResponse\022\037\n\010res_code\030\001 \001(\016" +
+      "2\r.raft.ResCode\022\017\n\007res_msg\030\002 \001(\t\022\036\n\006lead" +
+      "er\030\003 \001(\0132\016.raft.Endpoint\"B\n\017AddPeersRequ" +
+      "est\022\035\n\007servers\030\001 \003(\0132\014.raft.Server\022\020\n\010gr" +
+      "oup_id\030\002 \001(\r\"D\n\020AddPeersResponse\022\037\n\010res_" +
+      "code\030\001 \001(\0162\r.raft.ResCode\022\017\n\007res_msg\030\002 \001",
+      "(\t\"E\n\022RemovePeersRequest\022\035\n\007servers\030\001 \003(" +
+      "\0132\014.raft.Server\022\020\n\010group_id\030\002 \001(\r\"G\n\023Rem" +
+      "ovePeersResponse\022\037\n\010res_code\030\001 \001(\0162\r.raf" +
+      "t.ResCode\022\017\n\007res_msg\030\002 \001(\t\"+\n\027GetConfigu" +
+      "rationRequest\022\020\n\010group_id\030\001 \001(\r\"\211\001\n\030GetC" +
+      "onfigurationResponse\022\037\n\010res_code\030\001 \001(\0162\r" +
+      ".raft.ResCode\022\017\n\007res_msg\030\002 \001(\t\022\034\n\006leader" +
+      "\030\003 \001(\0132\014.raft.Server\022\035\n\007servers\030\004 \003(\0132\014." +
+      "raft.Server\"/\n\033GetLeaderCommitIndexReque" +
+      "st\022\020\n\010group_id\030\001 \001(\r\"4\n\034GetLeaderCommitI",
+      "ndexResponse\022\024\n\014commit_index\030\001 \001(\004\"F\n\021Ti" +
+      "meoutNowRequest\022\021\n\tserver_id\030\001 \001(\r\022\014\n\004te" +
+      "rm\030\002 \001(\004\022\020\n\010group_id\030\003 \001(\r\"3\n\022TimeoutNow" +
+      "Response\022\014\n\004term\030\001 \001(\004\022\017\n\007success\030\002 \001(\010\"" +
+      "@\n\031TransferLeadershipRequest\022\021\n\tserver_i" +
+      "d\030\001 \001(\r\022\020\n\010group_id\030\002 \001(\r\"N\n\032TransferLea" +
+      "dershipResponse\022\037\n\010res_code\030\001 \001(\0162\r.raft" +
+      ".ResCode\022\017\n\007res_msg\030\002 \001(\t*K\n\007ResCode\022\024\n\020" +
+      "RES_CODE_SUCCESS\020\000\022\021\n\rRES_CODE_FAIL\020\001\022\027\n" +
+      "\023RES_CODE_NOT_LEADER\020\002*T\n\tEntryType\022\023\n\017E",
+      "NTRY_TYPE_DATA\020\000\022\034\n\030ENTRY_TYPE_CONFIGURA" +
+      "TION\020\001\022\024\n\020ENTRY_TYPE_NO_OP\020\002B$\n\027com.raft" +
+      "impl.raft.protoB\tRaftProto"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -14732,7 +18267,7 @@ public final class RaftProto {
           internal_static_raft_Server_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_raft_Server_descriptor,
-              new java.lang.String[] { "ServerId", "Endpoint", });
+              new java.lang.String[] { "ServerId", "Endpoint", "IsLearner", });
           internal_static_raft_Configuration_descriptor =
             getDescriptor().getMessageTypes().get(2);
           internal_static_raft_Configuration_fieldAccessorTable = new
@@ -14762,7 +18297,7 @@ public final class RaftProto {
           internal_static_raft_VoteRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_raft_VoteRequest_descriptor,
-              new java.lang.String[] { "ServerId", "Term", "LastLogTerm", "LastLogIndex", });
+              new java.lang.String[] { "ServerId", "Term", "LastLogTerm", "LastLogIndex", "LeadershipTransfer", "GroupId", });
           internal_static_raft_VoteResponse_descriptor =
             getDescriptor().getMessageTypes().get(7);
           internal_static_raft_VoteResponse_fieldAccessorTable = new
@@ -14774,19 +18309,19 @@ public final class RaftProto {
           internal_static_raft_AppendEntriesRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_raft_AppendEntriesRequest_descriptor,
-              new java.lang.String[] { "ServerId", "Term", "PrevLogIndex", "PrevLogTerm", "CommitIndex", "Entries", });
+              new java.lang.String[] { "ServerId", "Term", "PrevLogIndex", "PrevLogTerm", "CommitIndex", "Entries", "GroupId", });
           internal_static_raft_AppendEntriesResponse_descriptor =
             getDescriptor().getMessageTypes().get(9);
           internal_static_raft_AppendEntriesResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_raft_AppendEntriesResponse_descriptor,
-              new java.lang.String[] { "ResCode", "Term", "LastLogIndex", });
+              new java.lang.String[] { "ResCode", "Term", "LastLogIndex", "ConflictTerm", "ConflictIndex", });
           internal_static_raft_InstallSnapshotRequest_descriptor =
             getDescriptor().getMessageTypes().get(10);
           internal_static_raft_InstallSnapshotRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_raft_InstallSnapshotRequest_descriptor,
-              new java.lang.String[] { "ServerId", "Term", "SnapshotMetaData", "FileName", "Offset", "Data", "IsFirst", "IsLast", });
+              new java.lang.String[] { "ServerId", "Term", "SnapshotMetaData", "FileName", "Offset", "Data", "IsFirst", "IsLast", "GroupId", });
           internal_static_raft_InstallSnapshotResponse_descriptor =
             getDescriptor().getMessageTypes().get(11);
           internal_static_raft_InstallSnapshotResponse_fieldAccessorTable = new
@@ -14798,7 +18333,7 @@ public final class RaftProto {
           internal_static_raft_GetLeaderRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_raft_GetLeaderRequest_descriptor,
-              new java.lang.String[] { });
+              new java.lang.String[] { "GroupId", });
           internal_static_raft_GetLeaderResponse_descriptor =
             getDescriptor().getMessageTypes().get(13);
           internal_static_raft_GetLeaderResponse_fieldAccessorTable = new
@@ -14810,7 +18345,7 @@ public final class RaftProto {
           internal_static_raft_AddPeersRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_raft_AddPeersRequest_descriptor,
-              new java.lang.String[] { "Servers", });
+              new java.lang.String[] { "Servers", "GroupId", });
           internal_static_raft_AddPeersResponse_descriptor =
             getDescriptor().getMessageTypes().get(15);
           internal_static_raft_AddPeersResponse_fieldAccessorTable = new
@@ -14822,7 +18357,7 @@ public final class RaftProto {
           internal_static_raft_RemovePeersRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_raft_RemovePeersRequest_descriptor,
-              new java.lang.String[] { "Servers", });
+              new java.lang.String[] { "Servers", "GroupId", });
           internal_static_raft_RemovePeersResponse_descriptor =
             getDescriptor().getMessageTypes().get(17);
           internal_static_raft_RemovePeersResponse_fieldAccessorTable = new
@@ -14834,7 +18369,7 @@ public final class RaftProto {
           internal_static_raft_GetConfigurationRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_raft_GetConfigurationRequest_descriptor,
-              new java.lang.String[] { });
+              new java.lang.String[] { "GroupId", });
           internal_static_raft_GetConfigurationResponse_descriptor =
             getDescriptor().getMessageTypes().get(19);
           internal_static_raft_GetConfigurationResponse_fieldAccessorTable = new
@@ -14846,13 +18381,37 @@ public final class RaftProto {
           internal_static_raft_GetLeaderCommitIndexRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_raft_GetLeaderCommitIndexRequest_descriptor,
-              new java.lang.String[] { });
+              new java.lang.String[] { "GroupId", });
           internal_static_raft_GetLeaderCommitIndexResponse_descriptor =
             getDescriptor().getMessageTypes().get(21);
           internal_static_raft_GetLeaderCommitIndexResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_raft_GetLeaderCommitIndexResponse_descriptor,
               new java.lang.String[] { "CommitIndex", });
+          internal_static_raft_TimeoutNowRequest_descriptor =
+            getDescriptor().getMessageTypes().get(22);
+          internal_static_raft_TimeoutNowRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_raft_TimeoutNowRequest_descriptor,
+              new java.lang.String[] { "ServerId", "Term", "GroupId", });
+          internal_static_raft_TimeoutNowResponse_descriptor =
+            getDescriptor().getMessageTypes().get(23);
+          internal_static_raft_TimeoutNowResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_raft_TimeoutNowResponse_descriptor,
+              new java.lang.String[] { "Term", "Success", });
+          internal_static_raft_TransferLeadershipRequest_descriptor =
+            getDescriptor().getMessageTypes().get(24);
+          internal_static_raft_TransferLeadershipRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_raft_TransferLeadershipRequest_descriptor,
+              new java.lang.String[] { "ServerId", "GroupId", });
+          internal_static_raft_TransferLeadershipResponse_descriptor =
+            getDescriptor().getMessageTypes().get(25);
+          internal_static_raft_TransferLeadershipResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_raft_TransferLeadershipResponse_descriptor,
+              new java.lang.String[] { "ResCode", "ResMsg", });
           return null;
         }
       };
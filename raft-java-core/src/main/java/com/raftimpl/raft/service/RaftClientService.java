@@ -30,4 +30,11 @@ public interface RaftClientService {
      * @return result code
      */
     RaftProto.RemovePeersResponse removeStoragePeers(RaftProto.RemovePeersRequest request);
+
+    /**
+     * Hand leadership over to the given peer, used before restarting the leader
+     * @param request
+     * @return result code
+     */
+    RaftProto.TransferLeadershipResponse transferLeadership(RaftProto.TransferLeadershipRequest request);
 }
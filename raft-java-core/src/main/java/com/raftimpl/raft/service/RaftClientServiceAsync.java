@@ -20,4 +20,8 @@ public interface RaftClientServiceAsync extends RaftClientService {
     Future<RaftProto.RemovePeersResponse> removeStoragePeers(
             RaftProto.RemovePeersRequest request,
             RpcCallback<RaftProto.RemovePeersResponse> callback);
+
+    Future<RaftProto.TransferLeadershipResponse> transferLeadership(
+            RaftProto.TransferLeadershipRequest request,
+            RpcCallback<RaftProto.TransferLeadershipResponse> callback);
 }
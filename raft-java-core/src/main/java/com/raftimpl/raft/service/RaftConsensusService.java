@@ -8,4 +8,5 @@ public interface RaftConsensusService {
     RaftProto.AppendEntriesResponse appendEntries(RaftProto.AppendEntriesRequest request);
     RaftProto.InstallSnapshotResponse installSnap(RaftProto.InstallSnapshotRequest request);
     RaftProto.GetLeaderCommitIndexResponse getLeaderCommitIndex(RaftProto.GetLeaderCommitIndexRequest request);
+    RaftProto.TimeoutNowResponse timeoutNow(RaftProto.TimeoutNowRequest request);
 }
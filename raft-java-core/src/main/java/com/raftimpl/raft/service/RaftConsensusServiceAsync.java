@@ -17,4 +17,10 @@ public interface RaftConsensusServiceAsync extends RaftConsensusService {
     Future<RaftProto.InstallSnapshotResponse> installSnap(
             RaftProto.InstallSnapshotRequest request,
             RpcCallback<RaftProto.InstallSnapshotResponse> callback);
+    Future<RaftProto.GetLeaderCommitIndexResponse> getLeaderCommitIndex(
+            RaftProto.GetLeaderCommitIndexRequest request,
+            RpcCallback<RaftProto.GetLeaderCommitIndexResponse> callback);
+    Future<RaftProto.TimeoutNowResponse> timeoutNow(
+            RaftProto.TimeoutNowRequest request,
+            RpcCallback<RaftProto.TimeoutNowResponse> callback);
 }
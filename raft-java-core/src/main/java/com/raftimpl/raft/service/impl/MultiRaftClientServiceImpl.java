@@ -0,0 +1,86 @@
+package com.raftimpl.raft.service.impl;
+
+import com.raftimpl.raft.RaftGroupHost;
+import com.raftimpl.raft.RaftNode;
+import com.raftimpl.raft.proto.RaftProto;
+import com.raftimpl.raft.service.RaftClientService;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registered once per process hosting many raft groups, hands each request to its group by group_id
+ */
+public class MultiRaftClientServiceImpl implements RaftClientService {
+    private static final String UNKNOWN_GROUP = "raft group is not hosted here";
+
+    private final RaftGroupHost host;
+    private final ConcurrentMap<Integer, RaftClientServiceImpl> services = new ConcurrentHashMap<>();
+
+    public MultiRaftClientServiceImpl(RaftGroupHost host) {
+        this.host = host;
+    }
+
+    @Override
+    public RaftProto.GetLeaderResponse getNowLeader(RaftProto.GetLeaderRequest request) {
+        RaftClientServiceImpl service = getService(request.getGroupId());
+        if (service == null) {
+            return RaftProto.GetLeaderResponse.newBuilder()
+                    .setResCode(RaftProto.ResCode.RES_CODE_FAIL).setResMsg(UNKNOWN_GROUP).build();
+        }
+        return service.getNowLeader(request);
+    }
+
+    @Override
+    public RaftProto.GetConfigurationResponse getConfig(RaftProto.GetConfigurationRequest request) {
+        RaftClientServiceImpl service = getService(request.getGroupId());
+        if (service == null) {
+            return RaftProto.GetConfigurationResponse.newBuilder()
+                    .setResCode(RaftProto.ResCode.RES_CODE_FAIL).setResMsg(UNKNOWN_GROUP).build();
+        }
+        return service.getConfig(request);
+    }
+
+    @Override
+    public RaftProto.AddPeersResponse addStoragePeers(RaftProto.AddPeersRequest request) {
+        RaftClientServiceImpl service = getService(request.getGroupId());
+        if (service == null) {
+            return RaftProto.AddPeersResponse.newBuilder()
+                    .setResCode(RaftProto.ResCode.RES_CODE_FAIL).setResMsg(UNKNOWN_GROUP).build();
+        }
+        return service.addStoragePeers(request);
+    }
+
+    @Override
+    public RaftProto.RemovePeersResponse removeStoragePeers(RaftProto.RemovePeersRequest request) {
+        RaftClientServiceImpl service = getService(request.getGroupId());
+        if (service == null) {
+            return RaftProto.RemovePeersResponse.newBuilder()
+                    .setResCode(RaftProto.ResCode.RES_CODE_FAIL).setResMsg(UNKNOWN_GROUP).build();
+        }
+        return service.removeStoragePeers(request);
+    }
+
+    @Override
+    public RaftProto.TransferLeadershipResponse transferLeadership(RaftProto.TransferLeadershipRequest request) {
+        RaftClientServiceImpl service = getService(request.getGroupId());
+        if (service == null) {
+            return RaftProto.TransferLeadershipResponse.newBuilder()
+                    .setResCode(RaftProto.ResCode.RES_CODE_FAIL).setResMsg(UNKNOWN_GROUP).build();
+        }
+        return service.transferLeadership(request);
+    }
+
+    private RaftClientServiceImpl getService(int groupId) {
+        RaftClientServiceImpl service = services.get(groupId);
+        if (service == null) {
+            RaftNode raftNode = host.getGroup(groupId);
+            if (raftNode == null) {
+                return null;
+            }
+            services.putIfAbsent(groupId, new RaftClientServiceImpl(raftNode));
+            service = services.get(groupId);
+        }
+        return service;
+    }
+}
@@ -0,0 +1,68 @@
+package com.raftimpl.raft.service.impl;
+
+import com.raftimpl.raft.RaftGroupHost;
+import com.raftimpl.raft.RaftNode;
+import com.raftimpl.raft.proto.RaftProto;
+import com.raftimpl.raft.service.RaftConsensusService;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registered once per process hosting many raft groups, hands each request to its group by group_id
+ */
+public class MultiRaftConsensusServiceImpl implements RaftConsensusService {
+
+    private final RaftGroupHost host;
+    private final ConcurrentMap<Integer, RaftConsensusServiceImpl> services = new ConcurrentHashMap<>();
+
+    public MultiRaftConsensusServiceImpl(RaftGroupHost host) {
+        this.host = host;
+    }
+
+    @Override
+    public RaftProto.VoteResponse preVote(RaftProto.VoteRequest request) {
+        return getService(request.getGroupId()).preVote(request);
+    }
+
+    @Override
+    public RaftProto.VoteResponse requestVote(RaftProto.VoteRequest request) {
+        return getService(request.getGroupId()).requestVote(request);
+    }
+
+    @Override
+    public RaftProto.AppendEntriesResponse appendEntries(RaftProto.AppendEntriesRequest request) {
+        return getService(request.getGroupId()).appendEntries(request);
+    }
+
+    @Override
+    public RaftProto.InstallSnapshotResponse installSnap(RaftProto.InstallSnapshotRequest request) {
+        return getService(request.getGroupId()).installSnap(request);
+    }
+
+    @Override
+    public RaftProto.GetLeaderCommitIndexResponse getLeaderCommitIndex(RaftProto.GetLeaderCommitIndexRequest request) {
+        return getService(request.getGroupId()).getLeaderCommitIndex(request);
+    }
+
+    @Override
+    public RaftProto.TimeoutNowResponse timeoutNow(RaftProto.TimeoutNowRequest request) {
+        return getService(request.getGroupId()).timeoutNow(request);
+    }
+
+    /**
+     * @throws RuntimeException if the group is not hosted here, the caller sees the rpc fail
+     */
+    private RaftConsensusServiceImpl getService(int groupId) {
+        RaftConsensusServiceImpl service = services.get(groupId);
+        if (service == null) {
+            RaftNode raftNode = host.getGroup(groupId);
+            if (raftNode == null) {
+                throw new RuntimeException("raft group " + groupId + " is not hosted here");
+            }
+            services.putIfAbsent(groupId, new RaftConsensusServiceImpl(raftNode));
+            service = services.get(groupId);
+        }
+        return service;
+    }
+}
@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 public class RaftClientServiceImpl implements RaftClientService {
     private static final Logger LOG = LoggerFactory.getLogger(RaftClientServiceImpl.class);
@@ -80,8 +81,14 @@ public class RaftClientServiceImpl implements RaftClientService {
     public RaftProto.AddPeersResponse addStoragePeers(RaftProto.AddPeersRequest request) {
         RaftProto.AddPeersResponse.Builder responseBuilder = RaftProto.AddPeersResponse.newBuilder();
         responseBuilder.setResCode(RaftProto.ResCode.RES_CODE_FAIL);
-        if (request.getServersCount() == 0
-                || request.getServersCount() % 2 != 0) {
+        // learners don't change the quorum, so only the voters have to come in multiples of 2
+        int voterNum = 0;
+        for (RaftProto.Server server : request.getServersList()) {
+            if (!server.getIsLearner()) {
+                voterNum++;
+            }
+        }
+        if (request.getServersCount() == 0 || voterNum % 2 != 0) {
             LOG.warn("added server's size can only multiple of 2");
             responseBuilder.setResMsg("added server's size can only multiple of 2");
             return responseBuilder.build();
@@ -95,16 +102,11 @@ public class RaftClientServiceImpl implements RaftClientService {
         }
         List<Peer> requestPeers = new ArrayList<>(request.getServersCount());
         for (RaftProto.Server server : request.getServersList()) {
-            final Peer peer = new Peer(server);
+            final Peer peer = raftNode.createPeer(server);
             peer.setNextIndex(1);
             requestPeers.add(peer);
             raftNode.getPeerMap().putIfAbsent(server.getServerId(), peer);
-            raftNode.getExecutorService().submit(new Runnable() {
-                @Override
-                public void run() {
-                    raftNode.appendEntries(peer);
-                }
-            });
+            peer.getReplicator().trigger();
         }
 
         int catchUpNum = 0;
@@ -150,7 +152,7 @@ public class RaftClientServiceImpl implements RaftClientService {
             raftNode.getLock().lock();
             try {
                 for (Peer peer : requestPeers) {
-                    peer.getRaftRpcClient().stop();
+                    peer.stop();
                     raftNode.getPeerMap().remove(peer.getServer().getServerId());
                 }
             } finally {
@@ -170,24 +172,31 @@ public class RaftClientServiceImpl implements RaftClientService {
         RaftProto.RemovePeersResponse.Builder responseBuilder = RaftProto.RemovePeersResponse.newBuilder();
         responseBuilder.setResCode(RaftProto.ResCode.RES_CODE_FAIL);
 
-        if (request.getServersCount() == 0
-                || request.getServersCount() % 2 != 0) {
-            LOG.warn("removed server's size can only multiple of 2");
+        if (request.getServersCount() == 0) {
             responseBuilder.setResMsg("removed server's size can only multiple of 2");
             return responseBuilder.build();
         }
 
-        // check request peers exist
+        // check request peers exist, learners don't change the quorum, so only the voters have to come in multiples of 2
+        int voterNum = 0;
         raftNode.getLock().lock();
         try {
             for (RaftProto.Server server : request.getServersList()) {
                 if (!ConfigurationUtils.containsServer(raftNode.getConfiguration(), server.getServerId())) {
                     return responseBuilder.build();
                 }
+                if (ConfigurationUtils.isVoter(raftNode.getConfiguration(), server.getServerId())) {
+                    voterNum++;
+                }
             }
         } finally {
             raftNode.getLock().unlock();
         }
+        if (voterNum % 2 != 0) {
+            LOG.warn("removed server's size can only multiple of 2");
+            responseBuilder.setResMsg("removed server's size can only multiple of 2");
+            return responseBuilder.build();
+        }
 
         raftNode.getLock().lock();
         RaftProto.Configuration newConfiguration;
@@ -211,4 +220,32 @@ public class RaftClientServiceImpl implements RaftClientService {
         return responseBuilder.build();
     }
 
+    @Override
+    public RaftProto.TransferLeadershipResponse transferLeadership(RaftProto.TransferLeadershipRequest request) {
+        RaftProto.TransferLeadershipResponse.Builder responseBuilder = RaftProto.TransferLeadershipResponse.newBuilder();
+        responseBuilder.setResCode(RaftProto.ResCode.RES_CODE_FAIL);
+        raftNode.getLock().lock();
+        try {
+            if (raftNode.getState() != RaftNode.NodeState.STATE_LEADER) {
+                responseBuilder.setResCode(RaftProto.ResCode.RES_CODE_NOT_LEADER);
+                return responseBuilder.build();
+            }
+        } finally {
+            raftNode.getLock().unlock();
+        }
+        try {
+            // the transfer gives up by itself after an election timeout
+            if (raftNode.transferLeadership(request.getServerId()).get()) {
+                responseBuilder.setResCode(RaftProto.ResCode.RES_CODE_SUCCESS);
+            } else {
+                responseBuilder.setResMsg("transfer leadership failed");
+            }
+        } catch (InterruptedException | ExecutionException ex) {
+            responseBuilder.setResMsg(ex.getMessage());
+        }
+        RaftProto.TransferLeadershipResponse response = responseBuilder.build();
+        LOG.info("transferLeadership request={} resCode={}",
+                jsonFormat.printToString(request), response.getResCode());
+        return response;
+    }
 }
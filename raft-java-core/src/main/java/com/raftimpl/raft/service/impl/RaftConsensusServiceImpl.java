@@ -15,6 +15,8 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import com.raftimpl.raft.util.RaftFileUtils;
 
@@ -37,12 +39,17 @@ public class RaftConsensusServiceImpl implements RaftConsensusService {
             RaftProto.VoteResponse.Builder responseBuilder = RaftProto.VoteResponse.newBuilder();
             responseBuilder.setGranted(false);
             responseBuilder.setTerm(raftNode.getCurrentTerm());
-            if (!ConfigurationUtils.containsServer(raftNode.getConfiguration(), request.getServerId())) {
+            if (!ConfigurationUtils.isVoter(raftNode.getConfiguration(), request.getServerId())) {
                 return responseBuilder.build();
             }
             if (request.getTerm() < raftNode.getCurrentTerm()) {
                 return responseBuilder.build();
             }
+            if (raftNode.hasRecentLeaderContact()) {
+                LOG.info("reject vote request from server {}, the leader lease may still be valid",
+                        request.getServerId());
+                return responseBuilder.build();
+            }
             boolean isLogOk = request.getLastLogTerm() > raftNode.getLastLogTerm()
                     || (request.getLastLogTerm() == raftNode.getLastLogTerm()
                     && request.getLastLogIndex() >= raftNode.getRaftLog().getLastLogIndex());
@@ -69,12 +76,18 @@ public class RaftConsensusServiceImpl implements RaftConsensusService {
             RaftProto.VoteResponse.Builder responseBuilder = RaftProto.VoteResponse.newBuilder();
             responseBuilder.setGranted(false);
             responseBuilder.setTerm(raftNode.getCurrentTerm());
-            if (!ConfigurationUtils.containsServer(raftNode.getConfiguration(), request.getServerId())) {
+            if (!ConfigurationUtils.isVoter(raftNode.getConfiguration(), request.getServerId())) {
                 return responseBuilder.build();
             }
             if (request.getTerm() < raftNode.getCurrentTerm()) {
                 return responseBuilder.build();
             }
+            // an election asked for by the leader itself doesn't disrupt it
+            if (!request.getLeadershipTransfer() && raftNode.hasRecentLeaderContact()) {
+                LOG.info("reject vote request from server {}, the leader lease may still be valid",
+                        request.getServerId());
+                return responseBuilder.build();
+            }
             if (request.getTerm() > raftNode.getCurrentTerm()) {
                 raftNode.stepDown(request.getTerm());
             }
@@ -100,6 +113,8 @@ public class RaftConsensusServiceImpl implements RaftConsensusService {
 
     @Override
     public RaftProto.AppendEntriesResponse appendEntries(RaftProto.AppendEntriesRequest request) {
+        long syncIndex;
+        RaftProto.AppendEntriesResponse response;
         raftNode.getLock().lock();
         try {
             RaftProto.AppendEntriesResponse.Builder responseBuilder
@@ -126,11 +141,14 @@ public class RaftConsensusServiceImpl implements RaftConsensusService {
                 responseBuilder.setTerm(request.getTerm() + 1);
                 return responseBuilder.build();
             }
+            raftNode.updateLeaderContact();
 
             if (request.getPrevLogIndex() > raftNode.getRaftLog().getLastLogIndex()) {
                 LOG.info("Rejecting AppendEntries RPC would leave gap, " +
                                 "request prevLogIndex={}, my lastLogIndex={}",
                         request.getPrevLogIndex(), raftNode.getRaftLog().getLastLogIndex());
+                responseBuilder.setConflictTerm(0);
+                responseBuilder.setConflictIndex(raftNode.getRaftLog().getLastLogIndex() + 1);
                 return responseBuilder.build();
             }
             if (request.getPrevLogIndex() >= raftNode.getRaftLog().getFirstLogIndex()
@@ -142,6 +160,11 @@ public class RaftConsensusServiceImpl implements RaftConsensusService {
                         raftNode.getRaftLog().getEntryTerm(request.getPrevLogIndex()));
                 Validate.isTrue(request.getPrevLogIndex() > 0);
                 responseBuilder.setLastLogIndex(request.getPrevLogIndex() - 1);
+                // let the leader skip the whole conflicting term instead of one entry per round trip
+                long conflictTerm = raftNode.getRaftLog().getEntryTerm(request.getPrevLogIndex());
+                responseBuilder.setConflictTerm(conflictTerm);
+                responseBuilder.setConflictIndex(raftNode.getRaftLog().getLastIndexWithTermAtMost(
+                        conflictTerm - 1, request.getPrevLogIndex()) + 1);
                 return responseBuilder.build();
             }
 
@@ -152,41 +175,50 @@ public class RaftConsensusServiceImpl implements RaftConsensusService {
                 responseBuilder.setTerm(raftNode.getCurrentTerm());
                 responseBuilder.setLastLogIndex(raftNode.getRaftLog().getLastLogIndex());
                 advanceCommitIndex(request);
-                return responseBuilder.build();
-            }
-
-            responseBuilder.setResCode(RaftProto.ResCode.RES_CODE_SUCCESS);
-            List<RaftProto.LogEntry> entries = new ArrayList<>();
-            long index = request.getPrevLogIndex();
-            for (RaftProto.LogEntry entry : request.getEntriesList()) {
-                index++;
-                if (index < raftNode.getRaftLog().getFirstLogIndex()) {
-                    continue;
-                }
-                if (raftNode.getRaftLog().getLastLogIndex() >= index) {
-                    if (raftNode.getRaftLog().getEntryTerm(index) == entry.getTerm()) {
+                // the leader takes the success as a match up to prevLogIndex, which may cover entries
+                // appended by a concurrent request that has not forced them yet
+                syncIndex = request.getPrevLogIndex();
+            } else {
+                responseBuilder.setResCode(RaftProto.ResCode.RES_CODE_SUCCESS);
+                List<RaftProto.LogEntry> entries = new ArrayList<>();
+                long index = request.getPrevLogIndex();
+                for (RaftProto.LogEntry entry : request.getEntriesList()) {
+                    index++;
+                    if (index < raftNode.getRaftLog().getFirstLogIndex()) {
                         continue;
                     }
-                    // truncate segment log from index
-                    long lastIndexKept = index - 1;
-                    raftNode.getRaftLog().truncateSuffix(lastIndexKept);
+                    if (raftNode.getRaftLog().getLastLogIndex() >= index) {
+                        if (raftNode.getRaftLog().getEntryTerm(index) == entry.getTerm()) {
+                            continue;
+                        }
+                        // truncate segment log from index
+                        long lastIndexKept = index - 1;
+                        raftNode.getRaftLog().truncateSuffix(lastIndexKept);
+                    }
+                    entries.add(entry);
                 }
-                entries.add(entry);
-            }
-            raftNode.getRaftLog().append(entries);
-//            raftNode.getRaftLog().updateMetaData(raftNode.getCurrentTerm(),
-//                    null, raftNode.getRaftLog().getFirstLogIndex());
-            responseBuilder.setLastLogIndex(raftNode.getRaftLog().getLastLogIndex());
+                raftNode.getRaftLog().append(entries);
+//                raftNode.getRaftLog().updateMetaData(raftNode.getCurrentTerm(),
+//                        null, raftNode.getRaftLog().getFirstLogIndex());
+                responseBuilder.setLastLogIndex(raftNode.getRaftLog().getLastLogIndex());
 
-            advanceCommitIndex(request);
-            LOG.info("AppendEntries request from server {} " +
-                            "in term {} (my term is {}), entryCount={} resCode={}",
-                    request.getServerId(), request.getTerm(), raftNode.getCurrentTerm(),
-                    request.getEntriesCount(), responseBuilder.getResCode());
-            return responseBuilder.build();
+                advanceCommitIndex(request);
+                LOG.info("AppendEntries request from server {} " +
+                                "in term {} (my term is {}), entryCount={} resCode={}",
+                        request.getServerId(), request.getTerm(), raftNode.getCurrentTerm(),
+                        request.getEntriesCount(), responseBuilder.getResCode());
+                syncIndex = raftNode.getRaftLog().getLastLogIndex();
+            }
+            response = responseBuilder.build();
         } finally {
             raftNode.getLock().unlock();
         }
+        // acknowledge only durable entries, appends from concurrent requests share one force
+        if (!raftNode.getRaftLog().sync(syncIndex)) {
+            return RaftProto.AppendEntriesResponse.newBuilder(response)
+                    .setResCode(RaftProto.ResCode.RES_CODE_FAIL).build();
+        }
+        return response;
     }
 
     @Override
@@ -277,10 +309,6 @@ public class RaftConsensusServiceImpl implements RaftConsensusService {
         }
 
         if (request.getIsLast() && responseBuilder.getResCode() == RaftProto.ResCode.RES_CODE_SUCCESS) {
-            // apply state machine
-            // TODO: make this async
-            String snapshotDataDir = raftNode.getSnapshot().getSnapshotDir() + File.separator + "data";
-            raftNode.getStateMachine().readSnap(snapshotDataDir);
             long lastSnapshotIndex;
             // reload snapshot
             raftNode.getSnapshot().getLock().lock();
@@ -290,14 +318,27 @@ public class RaftConsensusServiceImpl implements RaftConsensusService {
             } finally {
                 raftNode.getSnapshot().getLock().unlock();
             }
-
-            // discard old log entries
+            // queue the load in lock so no committed entry is handed to the apply thread between,
+            // but wait for it outside, the apply thread may need the lock to drain the entries before it
+            String snapshotDataDir = raftNode.getSnapshot().getSnapshotDir() + File.separator + "data";
+            CompletableFuture<Void> loadFuture;
             raftNode.getLock().lock();
             try {
+                loadFuture = raftNode.getFsmCaller().loadSnapshot(snapshotDataDir, lastSnapshotIndex);
+                // discard old log entries
                 raftNode.getRaftLog().truncatePrefix(lastSnapshotIndex + 1);
+                raftNode.onSnapshotLoaded(lastSnapshotIndex);
             } finally {
                 raftNode.getLock().unlock();
             }
+            // keep taking snapshots off until the state machine holds this one
+            try {
+                loadFuture.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                LOG.error("load snapshot {} failed", snapshotDataDir, ex.getCause());
+            }
             LOG.info("end accept install snapshot request from serverId={}", request.getServerId());
         }
 
@@ -311,37 +352,46 @@ public class RaftConsensusServiceImpl implements RaftConsensusService {
     private void advanceCommitIndex(RaftProto.AppendEntriesRequest request) {
         long newCommitIndex = Math.min(request.getCommitIndex(),
                 request.getPrevLogIndex() + request.getEntriesCount());
+        // pipelined requests may arrive out of order and heartbeats carry a commitIndex capped at prevLogIndex,
+        // commitIndex never goes back
+        if (newCommitIndex <= raftNode.getCommitIndex()) {
+            return;
+        }
         raftNode.setCommitIndex(newCommitIndex);
         raftNode.getRaftLog().updateMetaData(null,null, null, newCommitIndex);
-        if (raftNode.getLastAppliedIndex() < raftNode.getCommitIndex()) {
-            // apply state machine
-            for (long index = raftNode.getLastAppliedIndex() + 1;
-                 index <= raftNode.getCommitIndex(); index++) {
-                RaftProto.LogEntry entry = raftNode.getRaftLog().getEntry(index);
-                if (entry != null) {
-                    if (entry.getType() == RaftProto.EntryType.ENTRY_TYPE_DATA) {
-                        raftNode.getStateMachine().applyData(entry.getData().toByteArray());
-                    } else if (entry.getType() == RaftProto.EntryType.ENTRY_TYPE_CONFIGURATION) {
-                        raftNode.applyConfiguration(entry);
-                    }
-                }
-                raftNode.setLastAppliedIndex(index);
-            }
-        }
-        // 在Follower-Read（Read Index）下，Follower会进入等待条件，等待日志应用到复制状态机，因此需要唤醒等待线程
-        raftNode.getCommitIndexCondition().signalAll();
+        // apply state machine
+        // 在Follower-Read（Read Index）下，Follower等待日志应用到复制状态机，由apply线程唤醒
+        raftNode.applyCommitted();
     }
     @Override
-    public RaftProto.GetLeaderCommitIndexResponse getLeaderCommitIndex(RaftProto.GetLeaderCommitIndexRequest request) {
-        RaftProto.GetLeaderCommitIndexResponse.Builder responseBuilder = RaftProto.GetLeaderCommitIndexResponse.newBuilder();
+    public RaftProto.TimeoutNowResponse timeoutNow(RaftProto.TimeoutNowRequest request) {
+        RaftProto.TimeoutNowResponse.Builder responseBuilder = RaftProto.TimeoutNowResponse.newBuilder();
         raftNode.getLock().lock();
-        long commitIndex;
         try {
-            commitIndex = raftNode.getCommitIndex();
+            responseBuilder.setTerm(raftNode.getCurrentTerm());
+            responseBuilder.setSuccess(false);
+            if (request.getTerm() != raftNode.getCurrentTerm()
+                    || raftNode.getState() != RaftNode.NodeState.STATE_FOLLOWER
+                    || raftNode.getLeaderId() != request.getServerId()) {
+                LOG.info("ignore TimeoutNow from server {} in term {}, my term is {}",
+                        request.getServerId(), request.getTerm(), raftNode.getCurrentTerm());
+                return responseBuilder.build();
+            }
+            responseBuilder.setSuccess(true);
         } finally {
             raftNode.getLock().unlock();
         }
-        responseBuilder.setCommitIndex(commitIndex);
+        LOG.info("TimeoutNow from leader {} in term {}, start election at once",
+                request.getServerId(), request.getTerm());
+        raftNode.getExecutorService().submit(() -> raftNode.startVote(true));
+        return responseBuilder.build();
+    }
+
+    @Override
+    public RaftProto.GetLeaderCommitIndexResponse getLeaderCommitIndex(RaftProto.GetLeaderCommitIndexRequest request) {
+        RaftProto.GetLeaderCommitIndexResponse.Builder responseBuilder = RaftProto.GetLeaderCommitIndexResponse.newBuilder();
+        // commitIndex is published as volatile, no need to wait for the lock
+        responseBuilder.setCommitIndex(raftNode.getCommitIndex());
         return responseBuilder.build();
     }
 }
@@ -0,0 +1,115 @@
+package com.raftimpl.raft.storage;
+
+import com.raftimpl.raft.proto.RaftProto;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Byte budgeted cache of decoded log entries, keyed by log index.
+ * New entries are put when appended, so the tail of the log is served from memory;
+ * least recently used entries are evicted once the budget is exceeded
+ * and read back from segment files with read-ahead when a slow follower needs them.
+ */
+public class LogEntryCache {
+    private final long maxBytes;
+    // access ordered, the eldest entry is the coldest one
+    private final LinkedHashMap<Long, RaftProto.LogEntry> entries = new LinkedHashMap<>(1024, 0.75f, true);
+    private long currentBytes;
+
+    private final AtomicLong hitCount = new AtomicLong(0);
+    private final AtomicLong missCount = new AtomicLong(0);
+    private final AtomicLong evictionCount = new AtomicLong(0);
+
+    public LogEntryCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized RaftProto.LogEntry get(long index) {
+        RaftProto.LogEntry entry = entries.get(index);
+        if (entry == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return entry;
+    }
+
+    public synchronized void put(RaftProto.LogEntry entry) {
+        int entrySize = entry.getSerializedSize();
+        if (entrySize > maxBytes) {
+            return;
+        }
+        RaftProto.LogEntry oldEntry = entries.put(entry.getIndex(), entry);
+        if (oldEntry != null) {
+            currentBytes -= oldEntry.getSerializedSize();
+        }
+        currentBytes += entrySize;
+        Iterator<Map.Entry<Long, RaftProto.LogEntry>> iterator = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && iterator.hasNext()) {
+            currentBytes -= iterator.next().getValue().getSerializedSize();
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drop entries with index less than firstIndex
+     */
+    public synchronized void removePrefix(long firstIndex) {
+        Iterator<Map.Entry<Long, RaftProto.LogEntry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, RaftProto.LogEntry> entry = iterator.next();
+            if (entry.getKey() < firstIndex) {
+                currentBytes -= entry.getValue().getSerializedSize();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Drop entries with index greater than lastIndex
+     */
+    public synchronized void removeSuffix(long lastIndex) {
+        Iterator<Map.Entry<Long, RaftProto.LogEntry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, RaftProto.LogEntry> entry = iterator.next();
+            if (entry.getKey() > lastIndex) {
+                currentBytes -= entry.getValue().getSerializedSize();
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LogEntryCache{entries=%d, bytes=%d/%d, hit=%d, miss=%d, eviction=%d}",
+                getEntryCount(), getCurrentBytes(), maxBytes, getHitCount(), getMissCount(), getEvictionCount());
+    }
+}
@@ -0,0 +1,201 @@
+package com.raftimpl.raft.storage;
+
+import com.raftimpl.raft.proto.RaftProto;
+import com.raftimpl.raft.util.RaftFileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Log metadata kept in a fixed size file of two slots, written alternately,
+ * so a torn write only breaks the slot being written and the other one still holds the previous state.
+ * Slot format: magic, version, sequence, currentTerm, votedFor, firstLogIndex, commitIndex,
+ * crc32c of the previous bytes. The valid slot with the larger sequence is the current one.
+ * currentTerm, votedFor and firstLogIndex are forced to disk as soon as they change,
+ * commitIndex is only kept in memory until the next write or {@link #flush()},
+ * a stale commitIndex is safe since raft learns it again from the leader.
+ * A write forces the previous unforced one before overwriting the other slot,
+ * so the slot it overwrites is never the only durable one.
+ */
+public class MetaDataFile {
+    private static final Logger LOG = LoggerFactory.getLogger(MetaDataFile.class);
+    private static final int MAGIC = 0x524D4554; // "RMET"
+    private static final int VERSION = 1;
+    private static final int SLOT_SIZE = 64;
+    private static final int SLOT_DATA_SIZE = 4 + 4 + 8 + 8 + 4 + 8 + 8;
+
+    private final String fileName;
+    private final RandomAccessFile randomAccessFile;
+    private final ByteBuffer slotBuffer = ByteBuffer.allocate(SLOT_SIZE);
+    private long sequence;
+    private volatile long currentTerm;
+    private volatile int votedFor;
+    private volatile long firstLogIndex;
+    private volatile long commitIndex;
+    // commitIndex changed since the last write
+    private boolean dirty;
+    // the last write is not forced yet
+    private boolean unforced;
+
+    public MetaDataFile(String fileName) {
+        this.fileName = fileName;
+        try {
+            this.randomAccessFile = new RandomAccessFile(fileName, "rw");
+        } catch (IOException ex) {
+            LOG.error("open meta file {} failed, msg={}", fileName, ex.getMessage());
+            throw new RuntimeException("open meta file error");
+        }
+    }
+
+    /**
+     * Load the current slot
+     * @return false if the file has no valid slot, e.g. it is just created
+     */
+    public synchronized boolean load() {
+        ByteBuffer buffer = ByteBuffer.allocate(SLOT_SIZE * 2);
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    break;
+                }
+            }
+        } catch (IOException ex) {
+            LOG.warn("read meta file {} failed, msg={}", fileName, ex.getMessage());
+            return false;
+        }
+        boolean loaded = false;
+        for (int slot = 0; slot < 2; slot++) {
+            int position = slot * SLOT_SIZE;
+            if (buffer.position() < position + SLOT_DATA_SIZE + 4) {
+                break;
+            }
+            int crc32c = buffer.getInt(position + SLOT_DATA_SIZE);
+            if (buffer.getInt(position) != MAGIC || buffer.getInt(position + 4) != VERSION
+                    || crc32c != (int) RaftFileUtils.getCRC32C(buffer.array(), position, SLOT_DATA_SIZE)) {
+                LOG.info("slot {} of meta file {} is not valid", slot, fileName);
+                continue;
+            }
+            long slotSequence = buffer.getLong(position + 8);
+            if (loaded && slotSequence <= sequence) {
+                continue;
+            }
+            sequence = slotSequence;
+            currentTerm = buffer.getLong(position + 16);
+            votedFor = buffer.getInt(position + 24);
+            firstLogIndex = buffer.getLong(position + 28);
+            commitIndex = buffer.getLong(position + 36);
+            loaded = true;
+        }
+        return loaded;
+    }
+
+    /**
+     * Replace all fields and force them to disk, used to initialize the file
+     */
+    public synchronized void reset(RaftProto.LogMetaData metaData) {
+        currentTerm = metaData.getCurrentTerm();
+        votedFor = metaData.getVotedFor();
+        firstLogIndex = metaData.getFirstLogIndex();
+        commitIndex = metaData.getCommitIndex();
+        write(true);
+    }
+
+    /**
+     * Update the given fields, null means unchanged
+     */
+    public synchronized void update(Long currentTerm, Integer votedFor, Long firstLogIndex, Long commitIndex) {
+        boolean changed = false;
+        if (currentTerm != null && currentTerm != this.currentTerm) {
+            this.currentTerm = currentTerm;
+            changed = true;
+        }
+        if (votedFor != null && votedFor != this.votedFor) {
+            this.votedFor = votedFor;
+            changed = true;
+        }
+        if (firstLogIndex != null && firstLogIndex != this.firstLogIndex) {
+            this.firstLogIndex = firstLogIndex;
+            changed = true;
+        }
+        if (commitIndex != null && commitIndex != this.commitIndex) {
+            this.commitIndex = commitIndex;
+            dirty = true;
+        }
+        if (changed) {
+            write(true);
+            LOG.info("new segment meta info, currentTerm={}, votedFor={}, firstLogIndex={}",
+                    this.currentTerm, this.votedFor, this.firstLogIndex);
+        }
+    }
+
+    /**
+     * Write commitIndex if it changed since the last write, without forcing it
+     */
+    public synchronized void flush() {
+        if (dirty) {
+            write(false);
+        }
+    }
+
+    private void write(boolean force) {
+        sequence++;
+        slotBuffer.clear();
+        slotBuffer.putInt(MAGIC);
+        slotBuffer.putInt(VERSION);
+        slotBuffer.putLong(sequence);
+        slotBuffer.putLong(currentTerm);
+        slotBuffer.putInt(votedFor);
+        slotBuffer.putLong(firstLogIndex);
+        slotBuffer.putLong(commitIndex);
+        slotBuffer.putInt((int) RaftFileUtils.getCRC32C(slotBuffer.array(), 0, SLOT_DATA_SIZE));
+        slotBuffer.clear();
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            if (unforced) {
+                channel.force(false);
+            }
+            long position = (sequence % 2) * SLOT_SIZE;
+            while (slotBuffer.hasRemaining()) {
+                channel.write(slotBuffer, position + slotBuffer.position());
+            }
+            if (force) {
+                channel.force(false);
+            }
+            unforced = !force;
+            dirty = false;
+        } catch (IOException ex) {
+            LOG.error("write meta file {} failed, msg={}", fileName, ex.getMessage());
+            throw new RuntimeException("write meta file error");
+        }
+    }
+
+    public long getCurrentTerm() {
+        return currentTerm;
+    }
+
+    public int getVotedFor() {
+        return votedFor;
+    }
+
+    public long getFirstLogIndex() {
+        return firstLogIndex;
+    }
+
+    public long getCommitIndex() {
+        return commitIndex;
+    }
+
+    public RaftProto.LogMetaData toProto() {
+        return RaftProto.LogMetaData.newBuilder()
+                .setCurrentTerm(currentTerm)
+                .setVotedFor(votedFor)
+                .setFirstLogIndex(firstLogIndex)
+                .setCommitIndex(commitIndex)
+                .build();
+    }
+}
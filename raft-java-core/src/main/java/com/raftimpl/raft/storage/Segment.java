@@ -1,33 +1,112 @@
 package com.raftimpl.raft.storage;
 
 import com.raftimpl.raft.proto.RaftProto;
+import com.raftimpl.raft.util.RaftFileUtils;
+import com.raftimpl.raft.util.RecordReader;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Setter
 @Getter
 public class Segment {
-    public static class Record {
-        public long offset;
-        public RaftProto.LogEntry entry; // contains term, index, entry_type and data
-        public Record(long offset, RaftProto.LogEntry entry) {
-            this.offset = offset;
-            this.entry = entry;
-        }
-    }
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    // read buffers larger than this are not kept for reuse
+    private static final int MAX_READ_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<ByteBuffer> READ_BUFFER_HOLDER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(READ_BUFFER_SIZE));
 
     private boolean canWrite;
     private long startIndex;
     private long endIndex;
+    // logical size, a preallocated segment file is longer than this
     private long fileSize;
-    private String fileName;
+    // fileName and mappedBuffer are set by the roller thread when it seals the segment
+    private volatile String fileName;
     private RandomAccessFile randomAccessFile;
-    private List<Record> entries = new ArrayList<>();
+    // read only mapping of a sealed segment, null while the segment is still writable
+    private volatile MappedByteBuffer mappedBuffer;
+    // offset of each record (crc, length, entry) in segment file and term of its entry,
+    // the first entryCount slots are used
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long[] terms = new long[INITIAL_CAPACITY];
+    @Setter(AccessLevel.NONE)
+    private int entryCount;
+
+    public void addRecord(long offset, long term) {
+        if (entryCount == offsets.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, entryCount * 2);
+            offsets = Arrays.copyOf(offsets, capacity);
+            terms = Arrays.copyOf(terms, capacity);
+        }
+        offsets[entryCount] = offset;
+        terms[entryCount] = term;
+        entryCount++;
+    }
+
+    /**
+     * Keep the first count records and drop the rest
+     * @param count
+     */
+    public void truncateRecords(int count) {
+        entryCount = Math.min(entryCount, count);
+    }
+
+    /**
+     * Replace the records with the ones loaded from a sidecar index file
+     * @param offsets
+     * @param terms
+     * @param count
+     */
+    public void loadRecords(long[] offsets, long[] terms, int count) {
+        this.offsets = offsets;
+        this.terms = terms;
+        this.entryCount = count;
+    }
+
+    public long getRecordOffset(int indexInSegment) {
+        return offsets[indexInSegment];
+    }
+
+    public long getRecordTerm(int indexInSegment) {
+        return terms[indexInSegment];
+    }
+
+    /**
+     * Get term of entry at given index from the index, without reading the entry
+     * @param index
+     * @return term, or 0 if index is out of range
+     */
+    public long getEntryTerm(long index) {
+        if (startIndex == 0  || endIndex == 0) {
+            return 0;
+        }
+        if (index < startIndex || index > endIndex) {
+            return 0;
+        }
+        return terms[(int) (index - startIndex)];
+    }
 
+    /**
+     * Decode the entry at given index from the segment file.
+     * Sealed segments are read from the mapped buffer, the open segment by positional read
+     * into the thread's reusable buffer, so no entry payload is kept on heap and no buffer is allocated per read.
+     * @param index
+     * @return entry, or null if index is out of range or the record is broken
+     */
     public RaftProto.LogEntry getEntry(long index) {
         if (startIndex == 0  || endIndex == 0) {
             return null;
@@ -35,8 +114,108 @@ public class Segment {
         if (index < startIndex || index > endIndex) {
             return null;
         }
-        int indexInList = (int) (index - startIndex);
-        return entries.get(indexInList).entry;
+        int indexInSegment = (int) (index - startIndex);
+        MappedByteBuffer mapped = mappedBuffer;
+        if (mapped != null) {
+            ByteBuffer buffer = mapped.duplicate();
+            buffer.position((int) offsets[indexInSegment]);
+            return RaftFileUtils.readProtoFromBuffer(buffer, RaftProto.LogEntry.PARSER);
+        }
+        RecordReader<RaftProto.LogEntry> reader = openReader(indexInSegment, indexInSegment);
+        try {
+            return reader.next();
+        } catch (IOException ex) {
+            return null;
+        } finally {
+            releaseReader(reader);
+        }
+    }
+
+    /**
+     * Decode up to maxCount entries starting at fromIndex, stopping at the end of the segment.
+     * Records of the open segment are fetched into a reusable buffer, usually with a single positional read.
+     * @param fromIndex
+     * @param maxCount
+     * @return entries in index order, empty if fromIndex is out of range or a record is broken
+     */
+    public List<RaftProto.LogEntry> getEntries(long fromIndex, int maxCount) {
+        List<RaftProto.LogEntry> result = new ArrayList<>();
+        if (startIndex == 0  || endIndex == 0) {
+            return result;
+        }
+        if (fromIndex < startIndex || fromIndex > endIndex) {
+            return result;
+        }
+        int from = (int) (fromIndex - startIndex);
+        int to = (int) Math.min(endIndex - startIndex, from + (long) maxCount - 1);
+        MappedByteBuffer mapped = mappedBuffer;
+        if (mapped != null) {
+            ByteBuffer buffer = mapped.duplicate();
+            buffer.position((int) offsets[from]);
+            for (int i = from; i <= to; i++) {
+                RaftProto.LogEntry entry = RaftFileUtils.readProtoFromBuffer(buffer, RaftProto.LogEntry.PARSER);
+                if (entry == null) {
+                    break;
+                }
+                result.add(entry);
+            }
+            return result;
+        }
+        RecordReader<RaftProto.LogEntry> reader = openReader(from, to);
+        try {
+            for (int i = from; i <= to; i++) {
+                RaftProto.LogEntry entry = reader.next();
+                if (entry == null) {
+                    break;
+                }
+                result.add(entry);
+            }
+        } catch (IOException ex) {
+            return result;
+        } finally {
+            releaseReader(reader);
+        }
+        return result;
+    }
+
+    /**
+     * Reader of the records from..to of the open segment, on the thread's reusable buffer
+     */
+    private RecordReader<RaftProto.LogEntry> openReader(int from, int to) {
+        long endOffset = to + 1 < entryCount ? offsets[to + 1] : fileSize;
+        return new RecordReader<>(RaftProto.LogEntry.PARSER,
+                randomAccessFile.getChannel(), offsets[from], endOffset, READ_BUFFER_HOLDER.get());
+    }
+
+    private static void releaseReader(RecordReader<RaftProto.LogEntry> reader) {
+        // a buffer grown for a large record is kept unless it is too large
+        if (reader.getBuffer().capacity() <= MAX_READ_BUFFER_SIZE) {
+            READ_BUFFER_HOLDER.set(reader.getBuffer());
+        }
+    }
+
+    /**
+     * Read term of a serialized LogEntry without parsing the whole message.
+     * term is field 1 and written first, so it is the leading varint of the data.
+     * @param data buffer holding serialized LogEntry, position is not changed
+     * @param position start of the serialized LogEntry
+     * @param length length of the serialized LogEntry
+     * @return term, or -1 if the data does not start with term
+     */
+    public static long readTerm(ByteBuffer data, int position, int length) {
+        if (length <= 0 || data.get(position) != 0x08) {
+            return -1;
+        }
+        long term = 0;
+        int end = position + length;
+        for (int shift = 0, i = position + 1; shift < 64 && i < end; shift += 7, i++) {
+            byte b = data.get(i);
+            term |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return term;
+            }
+        }
+        return -1;
     }
 
 }
@@ -0,0 +1,143 @@
+package com.raftimpl.raft.storage;
+
+import com.raftimpl.raft.util.RaftFileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sidecar index of a sealed segment, named as segment file name plus ".idx".
+ * It holds the offset and term of every record and a checksum of the whole segment file,
+ * so a sealed segment can be trusted after one checksum pass instead of scanning every record.
+ * File format: magic, version, startIndex, endIndex, fileSize, segment checksum, count,
+ * offsets[count], terms[count], crc32c of all the previous bytes.
+ * Version 1 used crc32, such index files are rejected and rewritten after scanning their segments.
+ */
+public class SegmentIndexFile {
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+    private static final int MAGIC = 0x52494458; // "RIDX"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 8 + 4;
+    private static final String SUFFIX = ".idx";
+
+    public static void write(String indexDir, Segment segment, long segmentChecksum) {
+        int count = segment.getEntryCount();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + count * 16 + 8);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putLong(segment.getStartIndex());
+        buffer.putLong(segment.getEndIndex());
+        buffer.putLong(segment.getFileSize());
+        buffer.putLong(segmentChecksum);
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            buffer.putLong(segment.getRecordOffset(i));
+        }
+        for (int i = 0; i < count; i++) {
+            buffer.putLong(segment.getRecordTerm(i));
+        }
+        buffer.putLong(RaftFileUtils.getCRC32C(buffer.array(), 0, buffer.position()));
+
+        File dir = new File(indexDir);
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+        Path indexPath = new File(indexDir, segment.getFileName() + SUFFIX).toPath();
+        Path tmpPath = new File(indexDir, segment.getFileName() + SUFFIX + ".tmp").toPath();
+        try {
+            // force the content before the rename and the rename after it,
+            // a crash must not leave a renamed index whose content never reached the disk
+            buffer.flip();
+            try (FileChannel channel = FileChannel.open(tmpPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(tmpPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            forceDirectory(dir.toPath());
+        } catch (IOException ex) {
+            // the segment is still readable without its index, it will be scanned on next startup
+            LOG.warn("write segment index {} failed, msg={}", indexPath, ex.getMessage());
+        }
+    }
+
+    private static void forceDirectory(Path dirPath) {
+        try (FileChannel channel = FileChannel.open(dirPath, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ex) {
+            // not every platform can open a directory, the index is checked against its segment on load anyway
+            LOG.debug("force directory {} failed, msg={}", dirPath, ex.getMessage());
+        }
+    }
+
+    /**
+     * Load offsets and terms of a sealed segment from its index file.
+     * @param indexDir
+     * @param segment sealed segment with start index, end index, file size and mapped buffer set
+     * @return false if the index is missing, broken or does not match the segment file
+     */
+    public static boolean load(String indexDir, Segment segment) {
+        File indexFile = new File(indexDir, segment.getFileName() + SUFFIX);
+        if (!indexFile.exists()) {
+            return false;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile.toPath()));
+            if (buffer.remaining() < HEADER_SIZE + 8) {
+                LOG.warn("segment index {} is truncated", indexFile);
+                return false;
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                LOG.warn("segment index {} has unknown format", indexFile);
+                return false;
+            }
+            long crc32cFromFile = buffer.getLong(buffer.limit() - 8);
+            if (crc32cFromFile != RaftFileUtils.getCRC32C(buffer.array(), 0, buffer.limit() - 8)) {
+                LOG.warn("segment index {} crc32c check failed", indexFile);
+                return false;
+            }
+            long startIndex = buffer.getLong();
+            long endIndex = buffer.getLong();
+            long fileSize = buffer.getLong();
+            long segmentChecksum = buffer.getLong();
+            int count = buffer.getInt();
+            if (startIndex != segment.getStartIndex() || endIndex != segment.getEndIndex()
+                    || fileSize != segment.getFileSize() || count != endIndex - startIndex + 1
+                    || buffer.remaining() != count * 16 + 8) {
+                LOG.warn("segment index {} does not match segment file", indexFile);
+                return false;
+            }
+            if (segmentChecksum != RaftFileUtils.getCRC32C(segment.getMappedBuffer().duplicate())) {
+                LOG.warn("segment {} checksum does not match its index", segment.getFileName());
+                return false;
+            }
+            long[] offsets = new long[count];
+            long[] terms = new long[count];
+            buffer.asLongBuffer().get(offsets);
+            buffer.position(buffer.position() + count * 8);
+            buffer.asLongBuffer().get(terms);
+            segment.loadRecords(offsets, terms, count);
+            return true;
+        } catch (IOException ex) {
+            LOG.warn("read segment index {} failed, msg={}", indexFile, ex.getMessage());
+            return false;
+        }
+    }
+
+    public static void delete(String indexDir, String segmentFileName) {
+        File indexFile = new File(indexDir, segmentFileName + SUFFIX);
+        if (indexFile.exists() && !indexFile.delete()) {
+            LOG.warn("delete segment index {} failed", indexFile);
+        }
+    }
+}
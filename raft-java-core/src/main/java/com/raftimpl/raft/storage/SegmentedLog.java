@@ -1,7 +1,9 @@
 package com.raftimpl.raft.storage;
 
+import com.raftimpl.raft.RaftOptions;
 import com.raftimpl.raft.proto.RaftProto;
 import com.raftimpl.raft.util.RaftFileUtils;
+import com.raftimpl.raft.util.SerialExecutor;
 import lombok.Getter;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -10,50 +12,126 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class SegmentedLog {
     private static final Logger LOG = LoggerFactory.getLogger(SegmentedLog.class);
+    private static final int PREALLOCATE_CHUNK_SIZE = 1024 * 1024;
 
     private final String logDir;
     private final String logDataDir;
+    // sidecar index files of sealed segments
+    private final String logIndexDir;
     private final int maxSegmentFileSize;
+    private final RaftOptions.LogSyncMode syncMode;
+    private final int readAheadEntries;
+    private final boolean preallocateSegment;
+    // zero filled file in logDir, renamed to the next open segment when rolling
+    private final String preallocatedFileName;
     @Getter
-    private RaftProto.LogMetaData metaData;
+    private final LogEntryCache entryCache;
+    // current_term, voted_for, first_log_index and commit_index
+    private final MetaDataFile metaDataFile;
     private final TreeMap<Long, Segment> startLogIndexSegmentMap = new TreeMap<>();
-    private volatile AtomicLong totalSize;
+    private final AtomicLong totalSize = new AtomicLong(0);
+    // the last index written to segment file and the last index known to be on disk
+    private volatile long writtenIndex;
+    private volatile long durableIndex;
+    // segment being appended, the syncer forces it without holding the raft node lock
+    private volatile Segment writingSegment;
+    // only one thread forces at a time, threads waiting here are covered by its force
+    private final Lock syncLock = new ReentrantLock();
+    // seals rolled segments and preallocates the next segment file off the write path, one task at a time
+    private final Executor rollerExecutor;
+    private final AtomicReference<RandomAccessFile> preallocatedFile = new AtomicReference<>();
+    private final AtomicBoolean preallocating = new AtomicBoolean(false);
+    // rolled segments not forced by their seal task yet, the syncer forces them as well
+    private final Queue<Segment> unsealedSegments = new ConcurrentLinkedQueue<>();
 
-    public SegmentedLog(String raftDataDir, int maxSegmentFileSize) {
+    public SegmentedLog(String raftDataDir, RaftOptions raftOptions) {
+        this(raftDataDir, raftOptions, null);
+    }
+
+    /**
+     * @param sharedRollerExecutor pool shared by the raft groups of this process, null for a thread of its own
+     */
+    public SegmentedLog(String raftDataDir, RaftOptions raftOptions, Executor sharedRollerExecutor) {
         this.logDir = raftDataDir + File.separator + "logs";
         this.logDataDir = logDir + File.separator + "data";
-        this.maxSegmentFileSize = maxSegmentFileSize;
+        this.logIndexDir = logDir + File.separator + "index";
+        this.maxSegmentFileSize = raftOptions.getMaxSegmentFileSize();
+        this.syncMode = raftOptions.getLogSyncMode();
+        this.readAheadEntries = raftOptions.getLogReadAheadEntries();
+        this.entryCache = new LogEntryCache(raftOptions.getLogEntryCacheBytes());
+        this.preallocateSegment = raftOptions.isPreallocateSegment();
+        this.preallocatedFileName = logDir + File.separator + "segment.prealloc";
+        if (sharedRollerExecutor == null) {
+            this.rollerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "segment-roller");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.rollerExecutor = new SerialExecutor(sharedRollerExecutor);
+        }
         File file = new File(logDataDir);
         if (!file.exists()) {
             file.mkdirs();
         }
-        readSegments();
-        for (Segment segment : startLogIndexSegmentMap.values()) {
-            this.loadSegmentData(segment);
-        }
+        List<Segment> segments = readSegments();
+        loadSegments(segments);
         // get current_term, voted_for, first_log_index, commit_index from metadata file
-        metaData = this.readMetaData();
-        if (metaData == null) {
-            if (!startLogIndexSegmentMap.isEmpty()) {
-                LOG.error("No readable metadata file but found segments in {}", logDir);
-                throw new RuntimeException("No readable metadata file but found segments");
+        metaDataFile = new MetaDataFile(logDir + File.separator + "metadata.slots");
+        if (!metaDataFile.load()) {
+            // older versions keep metadata as a single record file, move it to the slot file once
+            RaftProto.LogMetaData metaData = this.readMetaData();
+            if (metaData == null) {
+                if (!startLogIndexSegmentMap.isEmpty()) {
+                    LOG.error("No readable metadata file but found segments in {}", logDir);
+                    throw new RuntimeException("No readable metadata file but found segments");
+                }
+                metaData = RaftProto.LogMetaData.newBuilder().setFirstLogIndex(1).build();
             }
-            metaData = RaftProto.LogMetaData.newBuilder().setFirstLogIndex(1).build();
+            metaDataFile.reset(metaData);
+            new File(logDir + File.separator + "metadata").delete();
+        }
+        if (!startLogIndexSegmentMap.isEmpty()) {
+            writingSegment = startLogIndexSegmentMap.lastEntry().getValue();
         }
+        writtenIndex = getLastLogIndex();
+        durableIndex = writtenIndex;
+        // a preallocated file left by last run is not trusted to be fully zero filled,
+        // the next one is preallocated once the writing segment is half full, so idle logs take no space
+        new File(preallocatedFileName).delete();
     }
 
     /**
      * read segments from folder, segments are named as "open-" "startIndex-endIndex"
-     * and put to map in k-V form as "start index" : segment
+     * @return segments opened but not loaded yet
      */
-    public void readSegments(){
+    public List<Segment> readSegments(){
+        List<Segment> segments = new ArrayList<>();
         try {
             List<String> fileNames = RaftFileUtils.getSortedFilesInDirectory(logDataDir, logDataDir);
             for (String fileName : fileNames) {
@@ -81,54 +159,229 @@ public class SegmentedLog {
 
                 segment.setRandomAccessFile(RaftFileUtils.openFile(logDataDir, fileName, "rw"));
                 segment.setFileSize(segment.getRandomAccessFile().length());
-                startLogIndexSegmentMap.put(segment.getStartIndex(), segment);
+                totalSize.getAndAdd(segment.getFileSize());
+                segments.add(segment);
             }
         } catch (IOException e) {
             LOG.warn("readSegments exception:", e);
             throw new RuntimeException("open segment file error");
         }
+        return segments;
+    }
+
+    /**
+     * Segments are independent files, so they are verified and indexed in parallel,
+     * then put to map in k-V form as "start index" : segment and checked to be continuous.
+     * @param segments
+     */
+    private void loadSegments(List<Segment> segments) {
+        if (segments.isEmpty()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        ForkJoinPool pool = new ForkJoinPool(Math.min(segments.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(segments.size());
+            for (Segment segment : segments) {
+                tasks.add(pool.submit(() -> loadSegmentData(segment)));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException | ExecutionException ex) {
+            LOG.error("load segments exception:", ex);
+            throw new RuntimeException("read segment log failed");
+        } finally {
+            pool.shutdown();
+        }
+
+        for (Segment segment : segments) {
+            startLogIndexSegmentMap.put(segment.getStartIndex(), segment);
+        }
+        recoverOpenSegments();
+        Segment prevSegment = null;
+        for (Segment segment : startLogIndexSegmentMap.values()) {
+            if (prevSegment != null) {
+                if (prevSegment.isCanWrite()) {
+                    LOG.error("open segment {} is followed by segment {}",
+                            prevSegment.getFileName(), segment.getFileName());
+                    throw new RuntimeException("segments are not continuous");
+                }
+                if (prevSegment.getEndIndex() + 1 != segment.getStartIndex()) {
+                    LOG.error("segment {} is not continuous with segment {}",
+                            prevSegment.getFileName(), segment.getFileName());
+                    throw new RuntimeException("segments are not continuous");
+                }
+            }
+            prevSegment = segment;
+        }
+        LOG.info("load {} segments in {} ms", segments.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Crash before the first entry is written to a new segment leaves an empty open segment,
+     * crash before the roller seals a rolled segment leaves more than one open segment.
+     * Drop the empty ones and seal all but the last one.
+     */
+    private void recoverOpenSegments() {
+        Iterator<Segment> iterator = startLogIndexSegmentMap.values().iterator();
+        while (iterator.hasNext()) {
+            Segment segment = iterator.next();
+            if (segment.isCanWrite() && segment.getEntryCount() == 0) {
+                LOG.info("delete empty open segment {}", segment.getFileName());
+                RaftFileUtils.closeFile(segment.getRandomAccessFile());
+                new File(logDataDir + File.separator + segment.getFileName()).delete();
+                totalSize.getAndAdd(-segment.getFileSize());
+                iterator.remove();
+            }
+        }
+        if (startLogIndexSegmentMap.isEmpty()) {
+            return;
+        }
+        Segment lastSegment = startLogIndexSegmentMap.lastEntry().getValue();
+        for (Segment segment : startLogIndexSegmentMap.values()) {
+            if (segment.isCanWrite() && segment != lastSegment) {
+                LOG.info("seal open segment {} left by last run", segment.getFileName());
+                segment.setCanWrite(false);
+                try {
+                    sealSegment(segment);
+                } catch (IOException ex) {
+                    LOG.error("seal segment {} exception:", segment.getFileName(), ex);
+                    throw new RuntimeException("read segment log failed");
+                }
+            }
+        }
     }
 
     /**
-     * set up entries list and reset startIndex and endIndex for segment
+     * set up the offset and term index and reset endIndex for segment.
+     * Only record headers and the leading term of each entry are read,
+     * entries are decoded on demand by {@link Segment#getEntry(long)};
+     * crc of every record is checked when scanning, a sealed segment is indexed only if all its records pass,
+     * since later startups trust the index and its checksum over the data instead of the records.
+     * The scan stops at a zero filled header, the logical end of a preallocated file,
+     * and fileSize is set to that end.
      * @param segment
      */
     public void loadSegmentData(Segment segment) {
-        RandomAccessFile randomAccessFile = segment.getRandomAccessFile();
         long totalLength = segment.getFileSize();
+        MappedByteBuffer mappedBuffer = RaftFileUtils.mapFile(segment.getRandomAccessFile(), totalLength);
+        if (!segment.isCanWrite()) {
+            segment.setMappedBuffer(mappedBuffer);
+            // a sealed segment matching its index only needs one checksum pass
+            if (SegmentIndexFile.load(logIndexDir, segment)) {
+                return;
+            }
+            LOG.info("no valid index for segment {}, scan it", segment.getFileName());
+        }
+        ByteBuffer buffer = mappedBuffer.duplicate();
         long offset = 0;
+        // false if the scan stopped at a broken record rather than zero filled space
+        boolean cleanEnd = true;
         while (offset < totalLength) {
-            // read log entry from segment, which is the message part in segment file
-            RaftProto.LogEntry entry = RaftFileUtils.readProtoFromFile(randomAccessFile, RaftProto.LogEntry.class);
-            if (entry == null) {
-                throw new RuntimeException("read segment log failed");
+            int position = (int) offset;
+            if (RaftFileUtils.isZeroHeader(buffer, position)) {
+                break;
+            }
+            // v1 and v2 records may be mixed in a segment written before and after upgrade
+            int headerSize = RaftFileUtils.recordHeaderSize(buffer, position);
+            if (headerSize < 0 || totalLength - offset < headerSize) {
+                checkBrokenRecord(segment, offset);
+                cleanEnd = false;
+                break;
+            }
+            int dataLen = RaftFileUtils.recordDataLength(buffer, position, headerSize);
+            if (dataLen < 0 || totalLength - offset - headerSize < dataLen) {
+                checkBrokenRecord(segment, offset);
+                cleanEnd = false;
+                break;
+            }
+            if (!RaftFileUtils.checkRecord(buffer, position, headerSize, dataLen)) {
+                checkBrokenRecord(segment, offset);
+                cleanEnd = false;
+                break;
+            }
+            long term = Segment.readTerm(buffer, position + headerSize, dataLen);
+            if (term < 0) {
+                RaftProto.LogEntry entry = RaftFileUtils.parseRecord(
+                        buffer, position, headerSize, dataLen, RaftProto.LogEntry.PARSER);
+                if (entry == null) {
+                    checkBrokenRecord(segment, offset);
+                    cleanEnd = false;
+                    break;
+                }
+                term = entry.getTerm();
             }
             // put record to segment object
-            segment.getEntries().add(new Segment.Record(offset, entry));
+            segment.addRecord(offset, term);
+            offset += headerSize + dataLen;
+        }
+        try {
+            if (offset < totalLength) {
+                // zero filled space is kept for the open segment to write into,
+                // a broken tail is cut so stale bytes are never taken as records
+                if (!segment.isCanWrite() || !cleanEnd) {
+                    segment.getRandomAccessFile().getChannel().truncate(offset);
+                }
+                if (!segment.isCanWrite()) {
+                    segment.setMappedBuffer(RaftFileUtils.mapFile(segment.getRandomAccessFile(), offset));
+                }
+                totalSize.getAndAdd(offset - totalLength);
+                segment.setFileSize(offset);
+            }
+        } catch (IOException e) {
+            LOG.error("truncate segment {} meet exception, msg={}", segment.getFileName(), e.getMessage());
+            throw new RuntimeException("read segment log failed");
+        }
+        int entrySize = segment.getEntryCount();
+        if (segment.isCanWrite()) {
+            if (entrySize > 0) {
+                segment.setEndIndex(segment.getStartIndex() + entrySize - 1);
+            }
             try {
-                // update offset
-                offset = randomAccessFile.getFilePointer();
+                // new entries are appended at the logical end of the open segment
+                segment.getRandomAccessFile().seek(segment.getFileSize());
             } catch (IOException e) {
                 LOG.error("read segment meet exception, msg={}", e.getMessage());
                 throw new RuntimeException("file not found");
             }
+        } else {
+            if (segment.getEndIndex() - segment.getStartIndex() + 1 != entrySize) {
+                LOG.error("segment {} expect {} entries but found {}", segment.getFileName(),
+                        segment.getEndIndex() - segment.getStartIndex() + 1, entrySize);
+                throw new RuntimeException("read segment log failed");
+            }
+            writeSegmentIndex(segment);
         }
-        int entrySize = segment.getEntries().size();
-        if (entrySize > 0) {
-            segment.setStartIndex(segment.getEntries().get(0).entry.getIndex());
-            segment.setEndIndex(segment.getEntries().get(entrySize - 1).entry.getIndex());
+    }
+
+    /**
+     * A broken record is the torn tail of an interrupted write in the open segment,
+     * while sealed segments were complete when sealed.
+     */
+    private static void checkBrokenRecord(Segment segment, long offset) {
+        if (!segment.isCanWrite()) {
+            LOG.error("broken record in sealed segment {} at offset {}", segment.getFileName(), offset);
+            throw new RuntimeException("read segment log failed");
         }
+        LOG.warn("broken record in open segment {} at offset {}, take it as the end of segment",
+                segment.getFileName(), offset);
+    }
+
+    private void writeSegmentIndex(Segment segment) {
+        long checksum = RaftFileUtils.getCRC32C(segment.getMappedBuffer().duplicate());
+        SegmentIndexFile.write(logIndexDir, segment, checksum);
     }
 
     /**
-     * get current_term, voted_for, first_log_index, commit_index from metadata file
+     * get current_term, voted_for, first_log_index, commit_index from metadata file of older versions
      * @return metadata
      */
     public RaftProto.LogMetaData readMetaData() {
         String fileName = logDir + File.separator + "metadata";
         File file = new File(fileName);
         try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
-            return RaftFileUtils.readProtoFromFile(randomAccessFile, RaftProto.LogMetaData.class);
+            return RaftFileUtils.readProtoFromFile(randomAccessFile, RaftProto.LogMetaData.PARSER);
         }catch (IOException e) {
             LOG.warn("meta file not exist, name={}", fileName);
             return null;
@@ -151,8 +404,20 @@ public class SegmentedLog {
         if (startLogIndexSegmentMap.isEmpty()) {
             return null;
         }
+        RaftProto.LogEntry entry = entryCache.get(index);
+        if (entry != null) {
+            return entry;
+        }
+        // cache miss is usually a slow follower reading sequentially, so read ahead for its next requests
         Segment segment = startLogIndexSegmentMap.floorEntry(index).getValue();
-        return segment.getEntry(index);
+        List<RaftProto.LogEntry> entries = segment.getEntries(index, readAheadEntries);
+        if (entries.isEmpty()) {
+            return null;
+        }
+        for (RaftProto.LogEntry readEntry : entries) {
+            entryCache.put(readEntry);
+        }
+        return entries.get(0);
     }
 
     /**
@@ -161,11 +426,37 @@ public class SegmentedLog {
      * @return term
      */
     public long getEntryTerm(long index) {
-        RaftProto.LogEntry entry = getEntry(index);
-        if (entry == null) {
+        long firstLogIndex = getFirstLogIndex();
+        long lastLogIndex = getLastLogIndex();
+        if (index == 0 || index < firstLogIndex || index > lastLogIndex) {
             return 0;
         }
-        return entry.getTerm();
+        if (startLogIndexSegmentMap.isEmpty()) {
+            return 0;
+        }
+        Segment segment = startLogIndexSegmentMap.floorEntry(index).getValue();
+        return segment.getEntryTerm(index);
+    }
+
+    /**
+     * Binary search the last entry in [firstLogIndex, maxIndex] whose term is not greater than term,
+     * terms never decrease along the log
+     * @return the index found, or firstLogIndex - 1 if every entry has a greater term
+     */
+    public long getLastIndexWithTermAtMost(long term, long maxIndex) {
+        long low = getFirstLogIndex();
+        long high = Math.min(maxIndex, getLastLogIndex());
+        long result = low - 1;
+        while (low <= high) {
+            long mid = low + (high - low) / 2;
+            if (getEntryTerm(mid) <= term) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
     }
 
     /**
@@ -181,7 +472,7 @@ public class SegmentedLog {
     }
 
     public long getFirstLogIndex() {
-        return metaData.getFirstLogIndex();
+        return metaDataFile.getFirstLogIndex();
     }
 
     /**
@@ -223,36 +514,24 @@ public class SegmentedLog {
                         isNeedNewSegmentFile = true;
                     } else if (segment.getFileSize() + entrySize >= maxSegmentFileSize) {
                         isNeedNewSegmentFile = true;
-                        // Change the segment's name and set it close
-                        segment.getRandomAccessFile().close();
+                        // stop writing the segment, the roller renames and indexes it
                         segment.setCanWrite(false);
-                        String newFileName = String.format("%020d-%020d",
-                                segment.getStartIndex(), segment.getEndIndex());
-                        String newFullFileName = logDataDir + File.separator + newFileName;
-                        File newFile = new File(newFullFileName);
-                        String oldFullFileName = logDataDir + File.separator + segment.getFileName();
-                        File oldFile = new File(oldFullFileName);
-                        FileUtils.moveFile(oldFile, newFile);
-                        segment.setFileName(newFileName);
-                        segment.setRandomAccessFile(RaftFileUtils.openFile(logDataDir, newFileName, "r"));
+                        unsealedSegments.add(segment);
+                        rollerExecutor.execute(() -> sealSegmentQuietly(segment));
                     }
                 }
                 // create new segment file
                 Segment newSegment;
                 if (isNeedNewSegmentFile) {
                     String newSegmentFileName = String.format("open-%d", newLastLogIndex);
-                    String newFullFileName = logDataDir + File.separator + newSegmentFileName;
-                    File newSegmentFile = new File(newFullFileName);
-                    if (!newSegmentFile.exists()) {
-                        newSegmentFile.createNewFile();
-                    }
                     Segment segment = new Segment();
                     segment.setCanWrite(true);
                     segment.setStartIndex(newLastLogIndex);
                     segment.setEndIndex(0);
                     segment.setFileName(newSegmentFileName);
-                    segment.setRandomAccessFile(RaftFileUtils.openFile(logDataDir, newSegmentFileName, "rw"));
+                    segment.setRandomAccessFile(openNewSegmentFile(newSegmentFileName));
                     newSegment = segment;
+                    writingSegment = segment;
                 } else {
                     newSegment = startLogIndexSegmentMap.lastEntry().getValue();
                 }
@@ -263,12 +542,18 @@ public class SegmentedLog {
                 }
                 // set segment end index as the entry's latest index
                 newSegment.setEndIndex(entry.getIndex());
-                // add new record with current file offset and entry
-                newSegment.getEntries().add(new Segment.Record(
-                        newSegment.getRandomAccessFile().getFilePointer(), entry));
+                // add new record with current file offset and entry term
+                newSegment.addRecord(newSegment.getRandomAccessFile().getFilePointer(), entry.getTerm());
                 // write entry to segment file
                 RaftFileUtils.writeProtoToFile(newSegment.getRandomAccessFile(), entry);
-                newSegment.setFileSize(newSegment.getRandomAccessFile().length());
+                if (syncMode == RaftOptions.LogSyncMode.PER_ENTRY) {
+                    newSegment.getRandomAccessFile().getChannel().force(false);
+                }
+                newSegment.setFileSize(newSegment.getRandomAccessFile().getFilePointer());
+                if (newSegment.getFileSize() >= maxSegmentFileSize / 2) {
+                    preallocateNextSegment();
+                }
+                entryCache.put(entry);
                 if (!startLogIndexSegmentMap.containsKey(newSegment.getStartIndex())) {
                     startLogIndexSegmentMap.put(newSegment.getStartIndex(), newSegment);
                 }
@@ -277,9 +562,177 @@ public class SegmentedLog {
                 throw new RuntimeException("append raft log exception, msg=" + ex.getMessage());
             }
         }
+        writtenIndex = newLastLogIndex;
+        if (syncMode != RaftOptions.LogSyncMode.GROUP_COMMIT) {
+            durableIndex = newLastLogIndex;
+        }
         return newLastLogIndex;
     }
 
+    /**
+     * Take the preallocated file as the new segment file if it is ready, it is renamed only
+     * and stays open, otherwise create an empty file.
+     * @param fileName
+     * @return file opened for writing from the beginning
+     */
+    private RandomAccessFile openNewSegmentFile(String fileName) throws IOException {
+        File newFile = new File(logDataDir + File.separator + fileName);
+        RandomAccessFile preallocated = preallocatedFile.getAndSet(null);
+        if (preallocated != null) {
+            try {
+                Files.move(new File(preallocatedFileName).toPath(), newFile.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE);
+                return preallocated;
+            } catch (IOException ex) {
+                LOG.warn("rename preallocated file to {} failed, msg={}", fileName, ex.getMessage());
+                RaftFileUtils.closeFile(preallocated);
+            }
+        }
+        if (!newFile.exists()) {
+            newFile.createNewFile();
+        }
+        return RaftFileUtils.openFile(logDataDir, fileName, "rw");
+    }
+
+    private void preallocateNextSegment() {
+        if (!preallocateSegment || preallocatedFile.get() != null || !preallocating.compareAndSet(false, true)) {
+            return;
+        }
+        rollerExecutor.execute(() -> {
+            try {
+                preallocatedFile.set(preallocateFile());
+            } catch (IOException ex) {
+                LOG.warn("preallocate segment file failed, msg={}", ex.getMessage());
+            } finally {
+                preallocating.set(false);
+            }
+        });
+    }
+
+    /**
+     * Fill a file with zero and force it, so writing into it later neither allocates blocks
+     * nor changes file size, and a crash leaves zero after the last record.
+     */
+    private RandomAccessFile preallocateFile() throws IOException {
+        long startTime = System.currentTimeMillis();
+        RandomAccessFile randomAccessFile = new RandomAccessFile(preallocatedFileName, "rw");
+        try {
+            randomAccessFile.setLength(0);
+            byte[] zeros = new byte[PREALLOCATE_CHUNK_SIZE];
+            long remaining = maxSegmentFileSize;
+            while (remaining > 0) {
+                int length = (int) Math.min(remaining, zeros.length);
+                randomAccessFile.write(zeros, 0, length);
+                remaining -= length;
+            }
+            randomAccessFile.getChannel().force(true);
+            randomAccessFile.seek(0);
+        } catch (IOException ex) {
+            RaftFileUtils.closeFile(randomAccessFile);
+            throw ex;
+        }
+        LOG.debug("preallocate segment file in {} ms", System.currentTimeMillis() - startTime);
+        return randomAccessFile;
+    }
+
+    private void sealSegmentQuietly(Segment segment) {
+        synchronized (segment) {
+            // a truncation has taken the segment over
+            if (!unsealedSegments.contains(segment)) {
+                return;
+            }
+            try {
+                sealSegment(segment);
+            } catch (IOException ex) {
+                LOG.error("seal segment {} exception:", segment.getFileName(), ex);
+            }
+        }
+    }
+
+    /**
+     * Truncation deletes or rewrites a segment only after calling this, so its seal task,
+     * queued behind other roller tasks, finds it taken over and does nothing.
+     * Waits only if the segment is being sealed right now, never for the roller's queue,
+     * since truncation runs in the raft node lock.
+     */
+    private void cancelSeal(Segment segment) {
+        synchronized (segment) {
+            unsealedSegments.remove(segment);
+        }
+    }
+
+    /**
+     * Cut the preallocated space of a segment that is not written anymore, force it,
+     * rename it as "startIndex-endIndex", map it and write its index.
+     * The file stays open, so readers of the segment are not disturbed.
+     * @param segment
+     */
+    private void sealSegment(Segment segment) throws IOException {
+        FileChannel fileChannel = segment.getRandomAccessFile().getChannel();
+        fileChannel.truncate(segment.getFileSize());
+        if (syncMode != RaftOptions.LogSyncMode.NONE) {
+            fileChannel.force(false);
+        }
+        unsealedSegments.remove(segment);
+        String newFileName = String.format("%020d-%020d", segment.getStartIndex(), segment.getEndIndex());
+        File oldFile = new File(logDataDir + File.separator + segment.getFileName());
+        File newFile = new File(logDataDir + File.separator + newFileName);
+        FileUtils.moveFile(oldFile, newFile);
+        segment.setFileName(newFileName);
+        segment.setMappedBuffer(RaftFileUtils.mapFile(segment.getRandomAccessFile(), segment.getFileSize()));
+        writeSegmentIndex(segment);
+    }
+
+    /**
+     * Wait until entries up to index are on disk. In group commit mode the first waiter forces
+     * the segment for everything written so far, and the waiters queued behind it find their
+     * index already durable, so concurrent appends share one force.
+     * Must be called without holding the raft node lock.
+     * @param index
+     * @return false if the entries were truncated before being forced or force failed
+     */
+    public boolean sync(long index) {
+        if (durableIndex >= index) {
+            return true;
+        }
+        if (syncMode != RaftOptions.LogSyncMode.GROUP_COMMIT) {
+            return false;
+        }
+        syncLock.lock();
+        try {
+            while (durableIndex < index) {
+                long targetIndex = writtenIndex;
+                if (targetIndex < index) {
+                    LOG.warn("entries are truncated before sync, index={}, writtenIndex={}", index, targetIndex);
+                    return false;
+                }
+                // read writingSegment before unsealedSegments, a rolled segment is queued
+                // before the new one is published, so no segment holding entries is missed
+                Segment segment = writingSegment;
+                try {
+                    for (Segment unsealedSegment : unsealedSegments) {
+                        unsealedSegment.getRandomAccessFile().getChannel().force(false);
+                    }
+                    segment.getRandomAccessFile().getChannel().force(false);
+                    durableIndex = targetIndex;
+                } catch (ClosedChannelException ex) {
+                    // a rolled segment is deleted by prefix truncation, its entries are in the snapshot, retry
+                    LOG.debug("segment is closed while syncing");
+                }
+            }
+            return true;
+        } catch (IOException ex) {
+            LOG.error("sync raft log exception, msg={}", ex.getMessage());
+            return false;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public long getDurableIndex() {
+        return durableIndex;
+    }
+
     public void truncatePrefix(long newFirstIndex) {
         if (newFirstIndex <= getFirstLogIndex()) {
             return;
@@ -291,10 +744,12 @@ public class SegmentedLog {
                 break;
             }
             if (newFirstIndex > segment.getEndIndex()) {
+                cancelSeal(segment);
                 File oldFile = new File(logDataDir + File.separator + segment.getFileName());
                 try {
                     RaftFileUtils.closeFile(segment.getRandomAccessFile());
                     FileUtils.forceDelete(oldFile);
+                    SegmentIndexFile.delete(logIndexDir, segment.getFileName());
                     totalSize.getAndAdd(-segment.getFileSize());
                     startLogIndexSegmentMap.remove(segment.getStartIndex());
                 } catch (Exception ex2) {
@@ -310,7 +765,16 @@ public class SegmentedLog {
         } else {
             newActualFirstIndex = startLogIndexSegmentMap.firstKey();
         }
+        entryCache.removePrefix(newActualFirstIndex);
         updateMetaData(null, null, newActualFirstIndex, null);
+        // entries before the first index are covered by the snapshot, so they count as durable
+        syncLock.lock();
+        try {
+            writtenIndex = Math.max(writtenIndex, getLastLogIndex());
+            durableIndex = Math.max(durableIndex, newActualFirstIndex - 1);
+        } finally {
+            syncLock.unlock();
+        }
         LOG.info("Truncating log from old first index {} to new first index {}",
                 oldFirstIndex, newActualFirstIndex);
     }
@@ -321,37 +785,68 @@ public class SegmentedLog {
         }
         LOG.info("Truncating log from old end index {} to new end index {}",
                 getLastLogIndex(), newEndIndex);
+        // keep the syncer from publishing a durable index beyond the truncated end
+        syncLock.lock();
+        try {
+            truncateSegments(newEndIndex);
+            entryCache.removeSuffix(newEndIndex);
+            writtenIndex = getLastLogIndex();
+            durableIndex = Math.min(durableIndex, writtenIndex);
+            if (!startLogIndexSegmentMap.isEmpty()) {
+                writingSegment = startLogIndexSegmentMap.lastEntry().getValue();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void truncateSegments(long newEndIndex) {
         while (!startLogIndexSegmentMap.isEmpty()) {
             Segment segment = startLogIndexSegmentMap.lastEntry().getValue();
             try {
                 if (newEndIndex == segment.getEndIndex()) {
                     break;
-                } else if (newEndIndex < segment.getStartIndex()) {
+                }
+                cancelSeal(segment);
+                if (newEndIndex < segment.getStartIndex()) {
                     totalSize.getAndAdd(-segment.getFileSize());
                     // delete file
                     segment.getRandomAccessFile().close();
                     String fullFileName = logDataDir + File.separator + segment.getFileName();
                     FileUtils.forceDelete(new File(fullFileName));
+                    SegmentIndexFile.delete(logIndexDir, segment.getFileName());
                     startLogIndexSegmentMap.remove(segment.getStartIndex());
                 } else if (newEndIndex < segment.getEndIndex()) {
                     int i = (int) (newEndIndex + 1 - segment.getStartIndex());
                     segment.setEndIndex(newEndIndex);
-                    long newFileSize = segment.getEntries().get(i).offset;
+                    long newFileSize = segment.getRecordOffset(i);
                     totalSize.getAndAdd(-(segment.getFileSize() - newFileSize));
                     segment.setFileSize(newFileSize);
-                    segment.getEntries().removeAll(
-                            segment.getEntries().subList(i, segment.getEntries().size()));
+                    segment.truncateRecords(i);
                     FileChannel fileChannel = segment.getRandomAccessFile().getChannel();
                     fileChannel.truncate(segment.getFileSize());
-                    fileChannel.close();
-                    segment.getRandomAccessFile().close();
-                    String oldFullFileName = logDataDir + File.separator + segment.getFileName();
-                    String newFileName = String.format("%020d-%020d",
-                            segment.getStartIndex(), segment.getEndIndex());
-                    segment.setFileName(newFileName);
-                    String newFullFileName = logDataDir + File.separator + segment.getFileName();
-                    new File(oldFullFileName).renameTo(new File(newFullFileName));
-                    segment.setRandomAccessFile(RaftFileUtils.openFile(logDataDir, segment.getFileName(), "rw"));
+                    if (segment.isCanWrite()) {
+                        // keep writing the open segment from the new end
+                        segment.getRandomAccessFile().seek(segment.getFileSize());
+                    } else {
+                        // its seal task is cancelled, so the segment is sealed here
+                        if (syncMode != RaftOptions.LogSyncMode.NONE) {
+                            fileChannel.force(false);
+                        }
+                        fileChannel.close();
+                        segment.getRandomAccessFile().close();
+                        String oldFullFileName = logDataDir + File.separator + segment.getFileName();
+                        SegmentIndexFile.delete(logIndexDir, segment.getFileName());
+                        String newFileName = String.format("%020d-%020d",
+                                segment.getStartIndex(), segment.getEndIndex());
+                        segment.setFileName(newFileName);
+                        String newFullFileName = logDataDir + File.separator + segment.getFileName();
+                        new File(oldFullFileName).renameTo(new File(newFullFileName));
+                        segment.setRandomAccessFile(RaftFileUtils.openFile(logDataDir, segment.getFileName(), "rw"));
+                        segment.setMappedBuffer(RaftFileUtils.mapFile(
+                                segment.getRandomAccessFile(), segment.getFileSize()));
+                        writeSegmentIndex(segment);
+                    }
                 }
             } catch (IOException ex) {
                 LOG.warn("io exception, msg={}", ex.getMessage());
@@ -359,38 +854,28 @@ public class SegmentedLog {
         }
     }
 
+    public RaftProto.LogMetaData getMetaData() {
+        return metaDataFile.toProto();
+    }
+
     /**
-     * upate current term, voted for, first log index and commit index to metadata
+     * upate current term, voted for, first log index and commit index to metadata.
+     * Changed term, vote or first log index is forced to disk before returning,
+     * commit index is written later by {@link #flushMetaData()}, so a heartbeat writes nothing.
      * @param currentTerm
      * @param votedFor
      * @param firstLogIndex
      * @param commitIndex
      */
     public void updateMetaData(Long currentTerm, Integer votedFor, Long firstLogIndex, Long commitIndex) {
-        RaftProto.LogMetaData.Builder builder = RaftProto.LogMetaData.newBuilder(this.metaData);
-        if (currentTerm != null) {
-            builder.setCurrentTerm(currentTerm);
-        }
-        if (votedFor != null) {
-            builder.setVotedFor(votedFor);
-        }
-        if (firstLogIndex != null) {
-            builder.setFirstLogIndex(firstLogIndex);
-        }
-        if (commitIndex != null) {
-            builder.setCommitIndex(commitIndex);
-        }
-        this.metaData = builder.build();
+        metaDataFile.update(currentTerm, votedFor, firstLogIndex, commitIndex);
+    }
 
-        String fileName = logDir + File.separator + "metadata";
-        File file = new File(fileName);
-        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
-            RaftFileUtils.writeProtoToFile(randomAccessFile, metaData);
-            LOG.info("new segment meta info, currentTerm={}, votedFor={}, firstLogIndex={}",
-                    metaData.getCurrentTerm(), metaData.getVotedFor(), metaData.getFirstLogIndex());
-        } catch (IOException ex) {
-            LOG.warn("meta file not exist, name={}", fileName);
-        }
+    /**
+     * Write commit index to metadata if it changed, called periodically
+     */
+    public void flushMetaData() {
+        metaDataFile.flush();
     }
 
     public long getTotalSize() {
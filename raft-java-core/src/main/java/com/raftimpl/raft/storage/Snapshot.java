@@ -86,7 +86,7 @@ public class Snapshot {
         File file = new File(fileName);
         try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
             RaftProto.SnapshotMetaData metadata = RaftFileUtils.readProtoFromFile(
-                    randomAccessFile, RaftProto.SnapshotMetaData.class);
+                    randomAccessFile, RaftProto.SnapshotMetaData.PARSER);
             return metadata;
         } catch (IOException ex) {
             LOG.warn("meta file not exist, name={}", fileName);
@@ -2,6 +2,7 @@ package com.raftimpl.raft.util;
 
 import com.raftimpl.raft.proto.RaftProto;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class ConfigurationUtils {
@@ -21,6 +22,31 @@ public class ConfigurationUtils {
         return false;
     }
 
+    /**
+     * Check if the serverId is a voter of configuration, learners are not
+     * @param configuration
+     * @param serverId
+     * @return true if it is a voter
+     */
+    public static boolean isVoter(RaftProto.Configuration configuration, int serverId) {
+        RaftProto.Server server = getServer(configuration, serverId);
+        return server != null && !server.getIsLearner();
+    }
+
+    /**
+     * @param configuration
+     * @return the servers which vote in elections and count for commit, learners excluded
+     */
+    public static List<RaftProto.Server> getVoters(RaftProto.Configuration configuration) {
+        List<RaftProto.Server> voters = new ArrayList<>(configuration.getServersCount());
+        for (RaftProto.Server server : configuration.getServersList()) {
+            if (!server.getIsLearner()) {
+                voters.add(server);
+            }
+        }
+        return voters;
+    }
+
     public static RaftProto.Configuration removeServers(
             RaftProto.Configuration configuration, List<RaftProto.Server> servers) {
         RaftProto.Configuration.Builder confBuilder = RaftProto.Configuration.newBuilder();
@@ -1,18 +1,39 @@
 package com.raftimpl.raft.util;
 
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
-import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
 
 public class RaftFileUtils {
     private static final Logger LOG = LoggerFactory.getLogger(RaftFileUtils.class);
+    // v1 record: crc32(long) + dataLen(int) + data, crc32 takes the low 4 bytes so a v1 record starts with 0
+    public static final int RECORD_V1_HEADER_SIZE = 12;
+    // v2 record: version(byte) + dataLen(int) + crc32c(int) of version, dataLen and data
+    public static final byte RECORD_V2 = (byte) 0xC2;
+    public static final int RECORD_V2_HEADER_SIZE = 9;
+    // records larger than this are encoded or parsed with one-off buffers instead of the thread local ones
+    private static final int MAX_CACHED_BUFFER_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<CRC32> CRC32_HOLDER = ThreadLocal.withInitial(CRC32::new);
+    private static final ThreadLocal<CRC32C> CRC32C_HOLDER = ThreadLocal.withInitial(CRC32C::new);
+    private static final ThreadLocal<ByteBuffer> WRITE_BUFFER_HOLDER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(4096));
+    // records in direct buffers are copied here to be parsed, protobuf parsers only take arrays
+    private static final ThreadLocal<byte[]> PARSE_ARRAY_HOLDER = ThreadLocal.withInitial(() -> new byte[4096]);
 
     public static List<String> getSortedFilesInDirectory(String dirName, String rootDirName) throws IOException {
         List<String> fileList = new ArrayList<>();
@@ -77,52 +98,269 @@ public class RaftFileUtils {
         }
     }
 
-    public static <T extends Message> T readProtoFromFile(RandomAccessFile raf, Class<T> clazz) {
+    /**
+     * Read one record at the file pointer, the file pointer is moved to the end of the record.
+     */
+    public static <T extends Message> T readProtoFromFile(RandomAccessFile raf, Parser<T> parser) {
         try {
-            long crc32FromFile = raf.readLong();
-            int dataLen = raf.readInt();
-            int hasReadLen = (Long.SIZE + Integer.SIZE) / Byte.SIZE;
-            if (raf.length() - hasReadLen < dataLen) {
-                LOG.warn("file remainLength < dataLen");
+            long position = raf.getFilePointer();
+            ByteBuffer record = readRecord(raf.getChannel(), position);
+            if (record == null) {
                 return null;
             }
-            byte[] data = new byte[dataLen];
-            int readLen = raf.read(data);
-            if (readLen != dataLen) {
-                LOG.warn("readLen != dataLen");
-                return null;
+            raf.seek(position + record.remaining());
+            return readProtoFromBuffer(record, parser);
+        } catch (IOException ex) {
+            LOG.warn("readProtoFromFile meet exception, {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Read one record of either version starting at the buffer's current position,
+     * used for mapped segment files. The buffer position is moved to the end of the record.
+     */
+    public static <T extends Message> T readProtoFromBuffer(ByteBuffer buffer, Parser<T> parser) {
+        int position = buffer.position();
+        int headerSize = recordHeaderSize(buffer, position);
+        if (headerSize < 0 || buffer.remaining() < headerSize) {
+            LOG.warn("buffer remainLength < headerLen");
+            return null;
+        }
+        int dataLen = recordDataLength(buffer, position, headerSize);
+        if (dataLen < 0 || buffer.remaining() - headerSize < dataLen) {
+            LOG.warn("buffer remainLength < dataLen");
+            return null;
+        }
+        T message = parseRecord(buffer, position, headerSize, dataLen, parser);
+        if (message != null) {
+            buffer.position(position + headerSize + dataLen);
+        }
+        return message;
+    }
+
+    /**
+     * Read the header and data of the record at given position
+     * @return buffer holding the whole record, null if the file ends before the record does
+     */
+    private static ByteBuffer readRecord(FileChannel channel, long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_V1_HEADER_SIZE);
+        // a short v2 record at the end of file may be smaller than a v1 header
+        readFully(channel, header, position);
+        header.flip();
+        int headerSize = recordHeaderSize(header, 0);
+        if (headerSize < 0 || header.remaining() < headerSize) {
+            LOG.warn("file remainLength < headerLen");
+            return null;
+        }
+        int dataLen = recordDataLength(header, 0, headerSize);
+        if (dataLen < 0) {
+            LOG.warn("invalid dataLen={}", dataLen);
+            return null;
+        }
+        ByteBuffer record = ByteBuffer.allocate(headerSize + dataLen);
+        header.limit(Math.min(header.limit(), record.capacity()));
+        record.put(header);
+        if (!readFully(channel, record, position + record.position())) {
+            LOG.warn("file remainLength < dataLen");
+            return null;
+        }
+        record.flip();
+        return record;
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int readLen = channel.read(buffer, position);
+            if (readLen < 0) {
+                return false;
             }
-            long crc32FromData = getCRC32(data);
-            if (crc32FromFile != crc32FromData) {
-                LOG.warn("crc32 check failed");
-                return null;
+            position += readLen;
+        }
+        return true;
+    }
+
+    /**
+     * Verify checksum of a complete record and decode its data, the buffer position and limit are not changed.
+     * Data of heap buffers is parsed in place, others are copied to a thread local array first.
+     * @return message, or null if checksum mismatches or data is not a valid message
+     */
+    public static <T extends Message> T parseRecord(ByteBuffer buffer, int position, int headerSize,
+                                                    int dataLen, Parser<T> parser) {
+        if (!checkRecord(buffer, position, headerSize, dataLen)) {
+            LOG.warn("record checksum check failed");
+            return null;
+        }
+        try {
+            if (buffer.hasArray()) {
+                return parser.parseFrom(buffer.array(), buffer.arrayOffset() + position + headerSize, dataLen);
             }
-            Method method = clazz.getMethod("parseFrom", byte[].class);
-            T message = (T) method.invoke(clazz, data);
-            return message;
-        } catch (Exception ex) {
-            LOG.warn("readProtoFromFile meet exception, {}", ex.getMessage());
+            byte[] array = PARSE_ARRAY_HOLDER.get();
+            if (array.length < dataLen) {
+                array = new byte[Math.max(dataLen, array.length * 2)];
+                if (array.length <= MAX_CACHED_BUFFER_SIZE) {
+                    PARSE_ARRAY_HOLDER.set(array);
+                }
+            }
+            ByteBuffer data = buffer.duplicate();
+            data.position(position + headerSize);
+            data.get(array, 0, dataLen);
+            return parser.parseFrom(array, 0, dataLen);
+        } catch (InvalidProtocolBufferException ex) {
+            LOG.warn("parse record meet exception, {}", ex.getMessage());
             return null;
         }
     }
 
+    /**
+     * Header size of the record at given position, decided by its first byte
+     * @return header size, or -1 if the record is of unknown version
+     */
+    public static int recordHeaderSize(ByteBuffer buffer, int position) {
+        if (position >= buffer.limit()) {
+            return -1;
+        }
+        byte version = buffer.get(position);
+        if (version == 0) {
+            return RECORD_V1_HEADER_SIZE;
+        } else if (version == RECORD_V2) {
+            return RECORD_V2_HEADER_SIZE;
+        }
+        return -1;
+    }
+
+    public static int recordDataLength(ByteBuffer buffer, int position, int headerSize) {
+        if (headerSize == RECORD_V1_HEADER_SIZE) {
+            return buffer.getInt(position + 8);
+        }
+        return buffer.getInt(position + 1);
+    }
+
+    /**
+     * Whether the bytes at position are zero as far as a header goes,
+     * which is the unwritten space of a preallocated file rather than a record.
+     */
+    public static boolean isZeroHeader(ByteBuffer buffer, int position) {
+        int end = Math.min(buffer.limit(), position + RECORD_V1_HEADER_SIZE);
+        for (int i = position; i < end; i++) {
+            if (buffer.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verify checksum of a complete record, the buffer position and limit are not changed
+     */
+    public static boolean checkRecord(ByteBuffer buffer, int position, int headerSize, int dataLen) {
+        if (headerSize == RECORD_V1_HEADER_SIZE) {
+            CRC32 crc32 = CRC32_HOLDER.get();
+            crc32.reset();
+            update(crc32, buffer, position + headerSize, dataLen);
+            return crc32.getValue() == buffer.getLong(position);
+        }
+        CRC32C crc32c = CRC32C_HOLDER.get();
+        crc32c.reset();
+        update(crc32c, buffer, position, 5);
+        update(crc32c, buffer, position + headerSize, dataLen);
+        return (int) crc32c.getValue() == buffer.getInt(position + 5);
+    }
+
+    private static void update(Checksum checksum, ByteBuffer buffer, int position, int length) {
+        int oldPosition = buffer.position();
+        int oldLimit = buffer.limit();
+        buffer.limit(position + length);
+        buffer.position(position);
+        checksum.update(buffer);
+        buffer.limit(oldLimit);
+        buffer.position(oldPosition);
+    }
+
+    /**
+     * Map the first size bytes of the file read only.
+     */
+    public static MappedByteBuffer mapFile(RandomAccessFile raf, long size) {
+        try {
+            return raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException ex) {
+            LOG.warn("map file error, msg={}", ex.getMessage());
+            throw new RuntimeException("map file error");
+        }
+    }
+
+    /**
+     * Write message as a v2 record at the file pointer with a single write
+     */
     public static  <T extends Message> void writeProtoToFile(RandomAccessFile raf, T message) {
-        byte[] messageBytes = message.toByteArray();
-        long crc32 = getCRC32(messageBytes);
         try {
-            raf.writeLong(crc32);
-            raf.writeInt(messageBytes.length);
-            raf.write(messageBytes);
+            ByteBuffer record = encodeRecord(message);
+            FileChannel channel = raf.getChannel();
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
         } catch (IOException ex) {
             LOG.warn("write proto to file error, msg={}", ex.getMessage());
             throw new RuntimeException("write proto to file error");
         }
     }
 
+    /**
+     * Encode message as a v2 record into the thread local write buffer,
+     * the returned buffer is only valid until the next call in the same thread.
+     */
+    private static ByteBuffer encodeRecord(Message message) throws IOException {
+        int dataLen = message.getSerializedSize();
+        int recordLen = RECORD_V2_HEADER_SIZE + dataLen;
+        ByteBuffer buffer = WRITE_BUFFER_HOLDER.get();
+        if (buffer.capacity() < recordLen) {
+            buffer = ByteBuffer.allocate(Math.max(recordLen, buffer.capacity() * 2));
+            if (buffer.capacity() <= MAX_CACHED_BUFFER_SIZE) {
+                WRITE_BUFFER_HOLDER.set(buffer);
+            }
+        }
+        byte[] array = buffer.array();
+        CodedOutputStream output = CodedOutputStream.newInstance(array, RECORD_V2_HEADER_SIZE, dataLen);
+        message.writeTo(output);
+        output.checkNoSpaceLeft();
+        buffer.clear();
+        buffer.put(0, RECORD_V2);
+        buffer.putInt(1, dataLen);
+        CRC32C crc32c = CRC32C_HOLDER.get();
+        crc32c.reset();
+        crc32c.update(array, 0, 5);
+        crc32c.update(array, RECORD_V2_HEADER_SIZE, dataLen);
+        buffer.putInt(5, (int) crc32c.getValue());
+        buffer.limit(recordLen);
+        return buffer;
+    }
+
     public static long getCRC32(byte[] data) {
-        CRC32 crc32 = new CRC32();
-        crc32.update(data);
+        return getCRC32(data, 0, data.length);
+    }
+
+    public static long getCRC32(byte[] data, int offset, int length) {
+        CRC32 crc32 = CRC32_HOLDER.get();
+        crc32.reset();
+        crc32.update(data, offset, length);
         return crc32.getValue();
     }
 
+    public static long getCRC32C(byte[] data, int offset, int length) {
+        CRC32C crc32c = CRC32C_HOLDER.get();
+        crc32c.reset();
+        crc32c.update(data, offset, length);
+        return crc32c.getValue();
+    }
+
+    /**
+     * crc32c of the remaining bytes of buffer, the buffer position is moved to its limit
+     */
+    public static long getCRC32C(ByteBuffer buffer) {
+        CRC32C crc32c = CRC32C_HOLDER.get();
+        crc32c.reset();
+        crc32c.update(buffer);
+        return crc32c.getValue();
+    }
+
 }
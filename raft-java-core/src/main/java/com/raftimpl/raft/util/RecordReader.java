@@ -0,0 +1,117 @@
+package com.raftimpl.raft.util;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Sequential reader of records of either version in a file.
+ * Records are read into a reusable buffer as many as it holds per read,
+ * and decoded by the message's parser, so no buffer is allocated per record.
+ * Not thread safe.
+ * @param <T> message type of the records
+ */
+public class RecordReader<T extends Message> {
+    private final Parser<T> parser;
+    private final FileChannel channel;
+    // records are read up to this file position
+    private final long endPosition;
+    // holds file content from bufferPosition, between 0 and its limit
+    private ByteBuffer buffer;
+    private long bufferPosition;
+    // file position of the next record
+    private long position;
+
+    /**
+     * @param parser parser of the message, e.g. RaftProto.LogEntry.PARSER
+     * @param channel file to read, read by position so the channel position is not changed
+     * @param position file position of the first record
+     * @param endPosition file position to stop reading at, Long.MAX_VALUE to read to the end of file
+     * @param buffer heap buffer to reuse, it is replaced by a larger one if a record does not fit,
+     *               see {@link #getBuffer()}
+     */
+    public RecordReader(Parser<T> parser, FileChannel channel, long position, long endPosition, ByteBuffer buffer) {
+        this.parser = parser;
+        this.channel = channel;
+        this.position = position;
+        this.endPosition = endPosition;
+        this.buffer = buffer;
+        this.buffer.clear();
+        this.buffer.limit(0);
+        this.bufferPosition = position;
+    }
+
+    /**
+     * Read the next record
+     * @return message, or null at the end position, end of file or a broken record
+     */
+    public T next() throws IOException {
+        if (position >= endPosition || !fill(1)) {
+            return null;
+        }
+        int offset = (int) (position - bufferPosition);
+        int headerSize = RaftFileUtils.recordHeaderSize(buffer, offset);
+        if (headerSize < 0 || !fill(headerSize)) {
+            return null;
+        }
+        offset = (int) (position - bufferPosition);
+        int dataLen = RaftFileUtils.recordDataLength(buffer, offset, headerSize);
+        if (dataLen < 0 || !fill(headerSize + dataLen)) {
+            return null;
+        }
+        offset = (int) (position - bufferPosition);
+        T message = RaftFileUtils.parseRecord(buffer, offset, headerSize, dataLen, parser);
+        if (message != null) {
+            position += headerSize + dataLen;
+        }
+        return message;
+    }
+
+    /**
+     * @return file position of the next record, the end of the last record read
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Make sure the buffer holds length bytes from position, moving the unread bytes
+     * to the front of the buffer and reading as many bytes as it takes.
+     * @return false if the file or end position is reached first
+     */
+    private boolean fill(int length) throws IOException {
+        int offset = (int) (position - bufferPosition);
+        if (buffer.limit() - offset >= length) {
+            return true;
+        }
+        if (endPosition - position < length) {
+            return false;
+        }
+        if (buffer.capacity() < length) {
+            ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+            buffer.position(offset);
+            newBuffer.put(buffer);
+            buffer = newBuffer;
+        } else {
+            buffer.position(offset);
+            buffer.compact();
+        }
+        bufferPosition = position;
+        buffer.limit((int) Math.min(buffer.capacity(), endPosition - bufferPosition));
+        while (buffer.position() < length) {
+            int readLen = channel.read(buffer, bufferPosition + buffer.position());
+            if (readLen < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.limit() >= length;
+    }
+}
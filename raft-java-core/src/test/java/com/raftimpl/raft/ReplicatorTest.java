@@ -0,0 +1,64 @@
+package com.raftimpl.raft;
+
+import com.raftimpl.raft.proto.RaftProto;
+import com.raftimpl.raft.storage.SegmentedLog;
+import com.raftimpl.raft.storage.SegmentedLogTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReplicatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static RaftProto.AppendEntriesRequest request(long prevLogIndex) {
+        return RaftProto.AppendEntriesRequest.newBuilder().setPrevLogIndex(prevLogIndex).build();
+    }
+
+    private static RaftProto.AppendEntriesResponse rejected(long conflictTerm, long conflictIndex) {
+        return RaftProto.AppendEntriesResponse.newBuilder()
+                .setResCode(RaftProto.ResCode.RES_CODE_FAIL)
+                .setConflictTerm(conflictTerm)
+                .setConflictIndex(conflictIndex)
+                .build();
+    }
+
+    @Test
+    public void testRewindWithoutConflictHint() {
+        // the leader's log has terms 1 1 1 2 2 4 4 4 4 5 7 7
+        SegmentedLog raftLog = SegmentedLogTest.newLog(tempDir);
+        RaftProto.AppendEntriesResponse response = RaftProto.AppendEntriesResponse.newBuilder()
+                .setResCode(RaftProto.ResCode.RES_CODE_FAIL)
+                .setLastLogIndex(4)
+                .build();
+        assertEquals(5, Replicator.getRewindIndex(raftLog, request(12), response));
+    }
+
+    @Test
+    public void testRewindAfterOurLastEntryOfConflictTerm() {
+        SegmentedLog raftLog = SegmentedLogTest.newLog(tempDir);
+        // the peer has term 4 from index 6 up to prevLogIndex 11, we end term 4 at index 9
+        assertEquals(10, Replicator.getRewindIndex(raftLog, request(11), rejected(4, 6)));
+        // the peer has term 2 from index 4 at prevLogIndex 6
+        assertEquals(6, Replicator.getRewindIndex(raftLog, request(6), rejected(2, 4)));
+    }
+
+    @Test
+    public void testRewindToPeerFirstEntryOfUnknownTerm() {
+        SegmentedLog raftLog = SegmentedLogTest.newLog(tempDir);
+        // we have no entry of term 3 or 6
+        assertEquals(5, Replicator.getRewindIndex(raftLog, request(8), rejected(3, 5)));
+        assertEquals(11, Replicator.getRewindIndex(raftLog, request(12), rejected(6, 11)));
+    }
+
+    @Test
+    public void testRewindWhenPeerLogIsShort() {
+        SegmentedLog raftLog = SegmentedLogTest.newLog(tempDir);
+        // a peer whose log ends before prevLogIndex answers conflict term 0 and its last index + 1
+        assertEquals(8, Replicator.getRewindIndex(raftLog, request(12), rejected(0, 8)));
+    }
+}
@@ -0,0 +1,115 @@
+package com.raftimpl.raft.storage;
+
+import com.google.protobuf.ByteString;
+import com.raftimpl.raft.proto.RaftProto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogEntryCacheTest {
+
+    private static RaftProto.LogEntry entry(long index, int dataSize) {
+        return RaftProto.LogEntry.newBuilder()
+                .setTerm(1)
+                .setIndex(index)
+                .setType(RaftProto.EntryType.ENTRY_TYPE_DATA)
+                .setData(ByteString.copyFrom(new byte[dataSize]))
+                .build();
+    }
+
+    @Test
+    public void testEvictWithinBudget() {
+        int entrySize = entry(1, 90).getSerializedSize();
+        LogEntryCache cache = new LogEntryCache(entrySize * 4);
+        for (long index = 1; index <= 10; index++) {
+            cache.put(entry(index, 90));
+            assertTrue(cache.getCurrentBytes() <= cache.getMaxBytes());
+        }
+        assertEquals(4, cache.getEntryCount());
+        assertEquals(entrySize * 4, cache.getCurrentBytes());
+        assertEquals(6, cache.getEvictionCount());
+        for (long index = 1; index <= 6; index++) {
+            assertNull(cache.get(index));
+        }
+        for (long index = 7; index <= 10; index++) {
+            assertEquals(index, cache.get(index).getIndex());
+        }
+        assertEquals(4, cache.getHitCount());
+        assertEquals(6, cache.getMissCount());
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        int entrySize = entry(1, 90).getSerializedSize();
+        LogEntryCache cache = new LogEntryCache(entrySize * 3);
+        cache.put(entry(1, 90));
+        cache.put(entry(2, 90));
+        cache.put(entry(3, 90));
+        // a slow follower reading index 1 keeps it warm
+        assertNotNull(cache.get(1));
+        cache.put(entry(4, 90));
+        assertNotNull(cache.get(1));
+        assertNull(cache.get(2));
+        assertNotNull(cache.get(3));
+        assertNotNull(cache.get(4));
+    }
+
+    @Test
+    public void testLargeEntryEvictsSeveral() {
+        int smallSize = entry(1, 10).getSerializedSize();
+        LogEntryCache cache = new LogEntryCache(smallSize * 5);
+        for (long index = 1; index <= 5; index++) {
+            cache.put(entry(index, 10));
+        }
+        RaftProto.LogEntry large = entry(6, smallSize * 3);
+        assertTrue(large.getSerializedSize() <= cache.getMaxBytes());
+        cache.put(large);
+        assertTrue(cache.getCurrentBytes() <= cache.getMaxBytes());
+        assertNotNull(cache.get(6));
+        assertNull(cache.get(1));
+        assertNull(cache.get(2));
+        assertNull(cache.get(3));
+    }
+
+    @Test
+    public void testEntryOverBudgetIsNotCached() {
+        LogEntryCache cache = new LogEntryCache(100);
+        cache.put(entry(1, 10));
+        cache.put(entry(2, 200));
+        assertNull(cache.get(2));
+        assertNotNull(cache.get(1));
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testReplaceEntry() {
+        LogEntryCache cache = new LogEntryCache(1000);
+        cache.put(entry(1, 10));
+        cache.put(entry(1, 50));
+        assertEquals(1, cache.getEntryCount());
+        assertEquals(entry(1, 50).getSerializedSize(), cache.getCurrentBytes());
+    }
+
+    @Test
+    public void testRemovePrefixAndSuffix() {
+        int entrySize = entry(1, 20).getSerializedSize();
+        LogEntryCache cache = new LogEntryCache(entrySize * 100);
+        for (long index = 1; index <= 10; index++) {
+            cache.put(entry(index, 20));
+        }
+        cache.removePrefix(4);
+        assertEquals(7, cache.getEntryCount());
+        assertEquals(entrySize * 7, cache.getCurrentBytes());
+        assertNull(cache.get(3));
+        cache.removeSuffix(8);
+        assertEquals(5, cache.getEntryCount());
+        assertEquals(entrySize * 5, cache.getCurrentBytes());
+        assertNull(cache.get(9));
+        assertNotNull(cache.get(4));
+        assertNotNull(cache.get(8));
+        assertEquals(0, cache.getEvictionCount());
+    }
+}
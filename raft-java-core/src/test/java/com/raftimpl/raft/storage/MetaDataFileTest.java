@@ -0,0 +1,129 @@
+package com.raftimpl.raft.storage;
+
+import com.raftimpl.raft.proto.RaftProto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetaDataFileTest {
+    private static final int SLOT_SIZE = 64;
+
+    @TempDir
+    Path tempDir;
+
+    private String fileName() {
+        return tempDir.resolve("metadata.slots").toString();
+    }
+
+    private MetaDataFile reload() {
+        MetaDataFile metaDataFile = new MetaDataFile(fileName());
+        assertTrue(metaDataFile.load());
+        return metaDataFile;
+    }
+
+    /**
+     * Break one byte of a slot, like a write torn by a crash
+     */
+    private void tearSlot(int slot) throws Exception {
+        try (RandomAccessFile raf = new RandomAccessFile(fileName(), "rw")) {
+            long position = slot * SLOT_SIZE + 20;
+            raf.seek(position);
+            int value = raf.read();
+            raf.seek(position);
+            raf.write(value ^ 0xFF);
+        }
+    }
+
+    private MetaDataFile initialized() {
+        MetaDataFile metaDataFile = new MetaDataFile(fileName());
+        assertFalse(metaDataFile.load());
+        metaDataFile.reset(RaftProto.LogMetaData.newBuilder()
+                .setCurrentTerm(1)
+                .setVotedFor(2)
+                .setFirstLogIndex(1)
+                .setCommitIndex(0)
+                .build());
+        return metaDataFile;
+    }
+
+    @Test
+    public void testResetAndLoad() {
+        initialized();
+        MetaDataFile metaDataFile = reload();
+        assertEquals(1, metaDataFile.getCurrentTerm());
+        assertEquals(2, metaDataFile.getVotedFor());
+        assertEquals(1, metaDataFile.getFirstLogIndex());
+        assertEquals(0, metaDataFile.getCommitIndex());
+        assertEquals(2 * SLOT_SIZE, new File(fileName()).length());
+    }
+
+    @Test
+    public void testLatestSlotWins() {
+        MetaDataFile metaDataFile = initialized();
+        for (long term = 2; term <= 5; term++) {
+            metaDataFile.update(term, (int) term, null, null);
+            MetaDataFile loaded = reload();
+            assertEquals(term, loaded.getCurrentTerm());
+            assertEquals(term, loaded.getVotedFor());
+        }
+    }
+
+    @Test
+    public void testTornLatestSlotFallsBackToPrevious() throws Exception {
+        // reset writes sequence 1 to slot 1, the update writes sequence 2 to slot 0
+        MetaDataFile metaDataFile = initialized();
+        metaDataFile.update(7L, 3, null, null);
+        tearSlot(0);
+        MetaDataFile loaded = reload();
+        assertEquals(1, loaded.getCurrentTerm());
+        assertEquals(2, loaded.getVotedFor());
+
+        // the next write goes to the other slot, keeping the one just loaded
+        loaded.update(8L, 4, null, null);
+        loaded = reload();
+        assertEquals(8, loaded.getCurrentTerm());
+        assertEquals(4, loaded.getVotedFor());
+    }
+
+    @Test
+    public void testTornOlderSlotIsIgnored() throws Exception {
+        MetaDataFile metaDataFile = initialized();
+        metaDataFile.update(7L, 3, null, null);
+        tearSlot(1);
+        MetaDataFile loaded = reload();
+        assertEquals(7, loaded.getCurrentTerm());
+        assertEquals(3, loaded.getVotedFor());
+    }
+
+    @Test
+    public void testBothSlotsTorn() throws Exception {
+        MetaDataFile metaDataFile = initialized();
+        metaDataFile.update(7L, 3, null, null);
+        tearSlot(0);
+        tearSlot(1);
+        assertFalse(new MetaDataFile(fileName()).load());
+    }
+
+    @Test
+    public void testCommitIndexIsWrittenOnFlush() {
+        MetaDataFile metaDataFile = initialized();
+        metaDataFile.update(null, null, null, 10L);
+        assertEquals(10, metaDataFile.getCommitIndex());
+        assertEquals(0, reload().getCommitIndex());
+
+        metaDataFile.flush();
+        assertEquals(10, reload().getCommitIndex());
+
+        metaDataFile.update(null, null, 5L, 12L);
+        MetaDataFile loaded = reload();
+        assertEquals(5, loaded.getFirstLogIndex());
+        assertEquals(12, loaded.getCommitIndex());
+    }
+}
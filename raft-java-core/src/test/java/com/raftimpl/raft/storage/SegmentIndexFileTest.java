@@ -0,0 +1,153 @@
+package com.raftimpl.raft.storage;
+
+import com.google.protobuf.ByteString;
+import com.raftimpl.raft.proto.RaftProto;
+import com.raftimpl.raft.util.RaftFileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentIndexFileTest {
+    private static final long START_INDEX = 101;
+    private static final int COUNT = 30;
+
+    @TempDir
+    Path tempDir;
+
+    private String indexDir;
+    private RandomAccessFile segmentFile;
+    private Segment segment;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        indexDir = tempDir.resolve("index").toString();
+        String fileName = String.format("%020d-%020d", START_INDEX, START_INDEX + COUNT - 1);
+        segmentFile = new RandomAccessFile(tempDir.resolve(fileName).toFile(), "rw");
+        segment = new Segment();
+        segment.setFileName(fileName);
+        segment.setRandomAccessFile(segmentFile);
+        segment.setStartIndex(START_INDEX);
+        segment.setEndIndex(START_INDEX + COUNT - 1);
+        for (int i = 0; i < COUNT; i++) {
+            long term = 1 + i / 10;
+            segment.addRecord(segmentFile.getFilePointer(), term);
+            RaftFileUtils.writeProtoToFile(segmentFile, RaftProto.LogEntry.newBuilder()
+                    .setTerm(term)
+                    .setIndex(START_INDEX + i)
+                    .setType(RaftProto.EntryType.ENTRY_TYPE_DATA)
+                    .setData(ByteString.copyFromUtf8("value" + i))
+                    .build());
+        }
+        segment.setFileSize(segmentFile.length());
+        segment.setMappedBuffer(RaftFileUtils.mapFile(segmentFile, segment.getFileSize()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RaftFileUtils.closeFile(segmentFile);
+    }
+
+    private void writeIndex() {
+        SegmentIndexFile.write(indexDir, segment, RaftFileUtils.getCRC32C(segment.getMappedBuffer().duplicate()));
+    }
+
+    /**
+     * A segment as it is read from disk on startup, without records
+     */
+    private Segment reopenedSegment() {
+        Segment reopened = new Segment();
+        reopened.setFileName(segment.getFileName());
+        reopened.setRandomAccessFile(segmentFile);
+        reopened.setStartIndex(segment.getStartIndex());
+        reopened.setEndIndex(segment.getEndIndex());
+        reopened.setFileSize(segment.getFileSize());
+        reopened.setMappedBuffer(RaftFileUtils.mapFile(segmentFile, segment.getFileSize()));
+        return reopened;
+    }
+
+    private File indexFile() {
+        return new File(indexDir, segment.getFileName() + ".idx");
+    }
+
+    @Test
+    public void testWriteAndLoad() {
+        writeIndex();
+        assertTrue(indexFile().exists());
+        assertFalse(new File(indexDir, segment.getFileName() + ".idx.tmp").exists());
+
+        Segment reopened = reopenedSegment();
+        assertTrue(SegmentIndexFile.load(indexDir, reopened));
+        assertEquals(COUNT, reopened.getEntryCount());
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(segment.getRecordOffset(i), reopened.getRecordOffset(i));
+            assertEquals(segment.getRecordTerm(i), reopened.getRecordTerm(i));
+        }
+        assertEquals(3, reopened.getEntryTerm(START_INDEX + COUNT - 1));
+        assertEquals(START_INDEX + 7, reopened.getEntry(START_INDEX + 7).getIndex());
+    }
+
+    @Test
+    public void testMissingIndex() {
+        assertFalse(SegmentIndexFile.load(indexDir, reopenedSegment()));
+        writeIndex();
+        SegmentIndexFile.delete(indexDir, segment.getFileName());
+        assertFalse(indexFile().exists());
+        assertFalse(SegmentIndexFile.load(indexDir, reopenedSegment()));
+    }
+
+    @Test
+    public void testRejectIndexOfOtherRange() {
+        writeIndex();
+        Segment reopened = reopenedSegment();
+        reopened.setEndIndex(segment.getEndIndex() - 1);
+        assertFalse(SegmentIndexFile.load(indexDir, reopened));
+        assertEquals(0, reopened.getEntryCount());
+    }
+
+    @Test
+    public void testRejectIndexOfOtherFileSize() throws Exception {
+        writeIndex();
+        segmentFile.setLength(segment.getFileSize() + 100);
+        Segment reopened = reopenedSegment();
+        reopened.setFileSize(segmentFile.length());
+        assertFalse(SegmentIndexFile.load(indexDir, reopened));
+    }
+
+    @Test
+    public void testRejectChangedSegmentContent() throws Exception {
+        writeIndex();
+        segmentFile.seek(segment.getFileSize() - 1);
+        int value = segmentFile.read();
+        segmentFile.seek(segment.getFileSize() - 1);
+        segmentFile.write(value ^ 0x01);
+        assertFalse(SegmentIndexFile.load(indexDir, reopenedSegment()));
+    }
+
+    @Test
+    public void testRejectCorruptedIndex() throws Exception {
+        writeIndex();
+        byte[] content = Files.readAllBytes(indexFile().toPath());
+        content[content.length / 2] ^= 0x01;
+        Files.write(indexFile().toPath(), content);
+        assertFalse(SegmentIndexFile.load(indexDir, reopenedSegment()));
+
+        content[content.length / 2] ^= 0x01;
+        Files.write(indexFile().toPath(), content);
+        assertTrue(SegmentIndexFile.load(indexDir, reopenedSegment()));
+
+        byte[] truncated = new byte[content.length - 8];
+        System.arraycopy(content, 0, truncated, 0, truncated.length);
+        Files.write(indexFile().toPath(), truncated);
+        assertFalse(SegmentIndexFile.load(indexDir, reopenedSegment()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.raftimpl.raft.storage;
+
+import com.google.protobuf.ByteString;
+import com.raftimpl.raft.RaftOptions;
+import com.raftimpl.raft.proto.RaftProto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentedLogTest {
+    // term of the entry at index i + 1
+    public static final long[] TERMS = {1, 1, 1, 2, 2, 4, 4, 4, 4, 5, 7, 7};
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * A log with entries of TERMS spread over several segments,
+     * rolled segments are sealed in the appending thread so nothing writes to dir after the test
+     */
+    public static SegmentedLog newLog(Path dir) {
+        RaftOptions raftOptions = new RaftOptions();
+        raftOptions.setMaxSegmentFileSize(100);
+        raftOptions.setLogSyncMode(RaftOptions.LogSyncMode.NONE);
+        SegmentedLog raftLog = new SegmentedLog(dir.toString(), raftOptions, Runnable::run);
+        for (long term : TERMS) {
+            List<RaftProto.LogEntry> entries = new ArrayList<>();
+            entries.add(RaftProto.LogEntry.newBuilder()
+                    .setTerm(term)
+                    .setType(RaftProto.EntryType.ENTRY_TYPE_DATA)
+                    .setData(ByteString.copyFromUtf8("value of term " + term))
+                    .build());
+            raftLog.append(entries);
+        }
+        return raftLog;
+    }
+
+    @Test
+    public void testGetLastIndexWithTermAtMost() {
+        SegmentedLog raftLog = newLog(tempDir);
+        assertEquals(TERMS.length, raftLog.getLastLogIndex());
+        long lastIndex = raftLog.getLastLogIndex();
+
+        assertEquals(3, raftLog.getLastIndexWithTermAtMost(1, lastIndex));
+        assertEquals(5, raftLog.getLastIndexWithTermAtMost(2, lastIndex));
+        // no entry of term 3, the last one of an earlier term is found
+        assertEquals(5, raftLog.getLastIndexWithTermAtMost(3, lastIndex));
+        assertEquals(9, raftLog.getLastIndexWithTermAtMost(4, lastIndex));
+        assertEquals(10, raftLog.getLastIndexWithTermAtMost(6, lastIndex));
+        assertEquals(12, raftLog.getLastIndexWithTermAtMost(7, lastIndex));
+        assertEquals(12, raftLog.getLastIndexWithTermAtMost(9, lastIndex));
+    }
+
+    @Test
+    public void testGetLastIndexWithTermAtMostBounded() {
+        SegmentedLog raftLog = newLog(tempDir);
+        assertEquals(7, raftLog.getLastIndexWithTermAtMost(4, 7));
+        assertEquals(7, raftLog.getLastIndexWithTermAtMost(9, 7));
+        assertEquals(12, raftLog.getLastIndexWithTermAtMost(9, 100));
+        // every entry has a greater term, or the range is empty
+        assertEquals(0, raftLog.getLastIndexWithTermAtMost(0, 12));
+        assertEquals(0, raftLog.getLastIndexWithTermAtMost(4, 0));
+    }
+
+    @Test
+    public void testGetLastIndexWithTermAtMostAfterPrefixTruncated() {
+        SegmentedLog raftLog = newLog(tempDir);
+        raftLog.truncatePrefix(6);
+        long firstIndex = raftLog.getFirstLogIndex();
+        // segments are dropped as a whole, so some entries before index 6 may remain
+        assertTrue(firstIndex > 1 && firstIndex <= 6);
+        assertEquals(firstIndex - 1, raftLog.getLastIndexWithTermAtMost(0, 12));
+        assertEquals(9, raftLog.getLastIndexWithTermAtMost(4, 12));
+        assertEquals(11, raftLog.getLastIndexWithTermAtMost(7, 11));
+    }
+}
@@ -0,0 +1,156 @@
+package com.raftimpl.raft.util;
+
+import com.google.protobuf.ByteString;
+import com.raftimpl.raft.proto.RaftProto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RaftFileUtilsTest {
+
+    @TempDir
+    Path tempDir;
+
+    static RaftProto.LogEntry entry(long index, String data) {
+        return RaftProto.LogEntry.newBuilder()
+                .setTerm(3)
+                .setIndex(index)
+                .setType(RaftProto.EntryType.ENTRY_TYPE_DATA)
+                .setData(ByteString.copyFromUtf8(data))
+                .build();
+    }
+
+    /**
+     * Encode message as a v1 record: crc32 of data, data length, data
+     */
+    static byte[] v1Record(RaftProto.LogEntry entry) {
+        byte[] data = entry.toByteArray();
+        ByteBuffer buffer = ByteBuffer.allocate(RaftFileUtils.RECORD_V1_HEADER_SIZE + data.length);
+        buffer.putLong(RaftFileUtils.getCRC32(data));
+        buffer.putInt(data.length);
+        buffer.put(data);
+        return buffer.array();
+    }
+
+    private File writeRecords(RaftProto.LogEntry... entries) throws Exception {
+        File file = tempDir.resolve("records").toFile();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            for (RaftProto.LogEntry entry : entries) {
+                RaftFileUtils.writeProtoToFile(raf, entry);
+            }
+        }
+        return file;
+    }
+
+    @Test
+    public void testWriteAndReadV2Record() throws Exception {
+        RaftProto.LogEntry first = entry(1, "a");
+        RaftProto.LogEntry second = entry(2, "bb");
+        File file = writeRecords(first, second);
+        assertEquals(2 * RaftFileUtils.RECORD_V2_HEADER_SIZE + first.getSerializedSize() + second.getSerializedSize(),
+                file.length());
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            assertEquals(first, RaftFileUtils.readProtoFromFile(raf, RaftProto.LogEntry.PARSER));
+            assertEquals(second, RaftFileUtils.readProtoFromFile(raf, RaftProto.LogEntry.PARSER));
+            assertEquals(file.length(), raf.getFilePointer());
+            assertNull(RaftFileUtils.readProtoFromFile(raf, RaftProto.LogEntry.PARSER));
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        assertEquals(RaftFileUtils.RECORD_V2, buffer.get(0));
+        assertEquals(RaftFileUtils.RECORD_V2_HEADER_SIZE, RaftFileUtils.recordHeaderSize(buffer, 0));
+        assertEquals(first.getSerializedSize(),
+                RaftFileUtils.recordDataLength(buffer, 0, RaftFileUtils.RECORD_V2_HEADER_SIZE));
+        assertEquals(first, RaftFileUtils.readProtoFromBuffer(buffer, RaftProto.LogEntry.PARSER));
+        assertEquals(second, RaftFileUtils.readProtoFromBuffer(buffer, RaftProto.LogEntry.PARSER));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testReadMixedV1AndV2Records() throws Exception {
+        RaftProto.LogEntry first = entry(1, "written before upgrade");
+        RaftProto.LogEntry second = entry(2, "written after upgrade");
+        File file = tempDir.resolve("mixed").toFile();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.write(v1Record(first));
+            RaftFileUtils.writeProtoToFile(raf, second);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        assertEquals(RaftFileUtils.RECORD_V1_HEADER_SIZE, RaftFileUtils.recordHeaderSize(buffer, 0));
+        assertEquals(first, RaftFileUtils.readProtoFromBuffer(buffer, RaftProto.LogEntry.PARSER));
+        assertEquals(second, RaftFileUtils.readProtoFromBuffer(buffer, RaftProto.LogEntry.PARSER));
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            assertEquals(first, RaftFileUtils.readProtoFromFile(raf, RaftProto.LogEntry.PARSER));
+            assertEquals(second, RaftFileUtils.readProtoFromFile(raf, RaftProto.LogEntry.PARSER));
+        }
+    }
+
+    @Test
+    public void testCorruptedRecordIsRejected() throws Exception {
+        RaftProto.LogEntry v2Entry = entry(1, "payload");
+        byte[] v2 = Files.readAllBytes(writeRecords(v2Entry).toPath());
+        byte[] v1 = v1Record(v2Entry);
+        for (byte[] record : new byte[][]{v2, v1}) {
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            int headerSize = RaftFileUtils.recordHeaderSize(buffer, 0);
+            int dataLen = RaftFileUtils.recordDataLength(buffer, 0, headerSize);
+            assertTrue(RaftFileUtils.checkRecord(buffer, 0, headerSize, dataLen));
+
+            record[record.length - 1] ^= 0x01;
+            assertFalse(RaftFileUtils.checkRecord(buffer, 0, headerSize, dataLen));
+            assertNull(RaftFileUtils.readProtoFromBuffer(buffer, RaftProto.LogEntry.PARSER));
+            assertEquals(0, buffer.position());
+        }
+    }
+
+    @Test
+    public void testCorruptedV2LengthIsRejected() throws Exception {
+        RaftProto.LogEntry first = entry(1, "payload");
+        byte[] record = Files.readAllBytes(writeRecords(first, entry(2, "next")).toPath());
+        // the v2 checksum covers the header, a shorter length still fits in the buffer
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        buffer.putInt(1, first.getSerializedSize() - 1);
+        assertNull(RaftFileUtils.readProtoFromBuffer(buffer, RaftProto.LogEntry.PARSER));
+    }
+
+    @Test
+    public void testUnknownVersionAndTruncatedRecord() throws Exception {
+        File file = writeRecords(entry(1, "payload"));
+        byte[] record = Files.readAllBytes(file.toPath());
+
+        ByteBuffer unknown = ByteBuffer.wrap(record.clone());
+        unknown.put(0, (byte) 0x7F);
+        assertEquals(-1, RaftFileUtils.recordHeaderSize(unknown, 0));
+        assertNull(RaftFileUtils.readProtoFromBuffer(unknown, RaftProto.LogEntry.PARSER));
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(record.length - 1);
+            assertNull(RaftFileUtils.readProtoFromFile(raf, RaftProto.LogEntry.PARSER));
+            assertEquals(0, raf.getFilePointer());
+        }
+        ByteBuffer truncated = ByteBuffer.wrap(record, 0, record.length - 1).slice();
+        assertNull(RaftFileUtils.readProtoFromBuffer(truncated, RaftProto.LogEntry.PARSER));
+    }
+
+    @Test
+    public void testZeroHeader() {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        assertTrue(RaftFileUtils.isZeroHeader(buffer, 0));
+        assertTrue(RaftFileUtils.isZeroHeader(buffer, 28));
+        buffer.put(5, (byte) 1);
+        assertFalse(RaftFileUtils.isZeroHeader(buffer, 0));
+    }
+}
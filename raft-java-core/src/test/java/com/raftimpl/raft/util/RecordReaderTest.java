@@ -0,0 +1,125 @@
+package com.raftimpl.raft.util;
+
+import com.raftimpl.raft.proto.RaftProto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecordReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<RaftProto.LogEntry> entries = new ArrayList<>();
+    // file position of each record, followed by the file length
+    private final List<Long> offsets = new ArrayList<>();
+
+    private RandomAccessFile writeRecords(int count) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(tempDir.resolve("records").toFile(), "rw");
+        for (int i = 1; i <= count; i++) {
+            StringBuilder data = new StringBuilder();
+            for (int k = 0; k < i * 7; k++) {
+                data.append((char) ('a' + k % 26));
+            }
+            RaftProto.LogEntry entry = RaftFileUtilsTest.entry(i, data.toString());
+            offsets.add(raf.getFilePointer());
+            if (i % 3 == 0) {
+                raf.write(RaftFileUtilsTest.v1Record(entry));
+            } else {
+                RaftFileUtils.writeProtoToFile(raf, entry);
+            }
+            entries.add(entry);
+        }
+        offsets.add(raf.getFilePointer());
+        return raf;
+    }
+
+    @Test
+    public void testReadAllRecords() throws Exception {
+        try (RandomAccessFile raf = writeRecords(20)) {
+            long channelPosition = raf.getChannel().position();
+            ByteBuffer buffer = ByteBuffer.allocate(4096);
+            RecordReader<RaftProto.LogEntry> reader = new RecordReader<>(RaftProto.LogEntry.PARSER,
+                    raf.getChannel(), 0, Long.MAX_VALUE, buffer);
+            for (int i = 0; i < entries.size(); i++) {
+                assertEquals(entries.get(i), reader.next());
+                assertEquals((long) offsets.get(i + 1), reader.getPosition());
+            }
+            assertNull(reader.next());
+            assertEquals(raf.length(), reader.getPosition());
+            assertSame(buffer, reader.getBuffer());
+            assertEquals(channelPosition, raf.getChannel().position());
+        }
+    }
+
+    @Test
+    public void testBufferGrowsForLargeRecord() throws Exception {
+        try (RandomAccessFile raf = writeRecords(20)) {
+            ByteBuffer buffer = ByteBuffer.allocate(16);
+            RecordReader<RaftProto.LogEntry> reader = new RecordReader<>(RaftProto.LogEntry.PARSER,
+                    raf.getChannel(), 0, Long.MAX_VALUE, buffer);
+            for (RaftProto.LogEntry entry : entries) {
+                assertEquals(entry, reader.next());
+            }
+            assertNull(reader.next());
+            assertTrue(reader.getBuffer().capacity() > 16);
+        }
+    }
+
+    @Test
+    public void testReadRange() throws Exception {
+        try (RandomAccessFile raf = writeRecords(20)) {
+            RecordReader<RaftProto.LogEntry> reader = new RecordReader<>(RaftProto.LogEntry.PARSER,
+                    raf.getChannel(), offsets.get(5), offsets.get(9), ByteBuffer.allocate(64));
+            for (int i = 5; i < 9; i++) {
+                assertEquals(entries.get(i), reader.next());
+            }
+            assertNull(reader.next());
+            assertEquals((long) offsets.get(9), reader.getPosition());
+        }
+    }
+
+    @Test
+    public void testStopAtBrokenRecord() throws Exception {
+        try (RandomAccessFile raf = writeRecords(10)) {
+            // flip the last data byte of the fifth record
+            long brokenPosition = offsets.get(5) - 1;
+            raf.seek(brokenPosition);
+            int value = raf.read();
+            raf.seek(brokenPosition);
+            raf.write(value ^ 0x01);
+
+            RecordReader<RaftProto.LogEntry> reader = new RecordReader<>(RaftProto.LogEntry.PARSER,
+                    raf.getChannel(), 0, Long.MAX_VALUE, ByteBuffer.allocate(4096));
+            for (int i = 0; i < 4; i++) {
+                assertEquals(entries.get(i), reader.next());
+            }
+            assertNull(reader.next());
+            assertEquals((long) offsets.get(4), reader.getPosition());
+        }
+    }
+
+    @Test
+    public void testStopAtTruncatedRecord() throws Exception {
+        try (RandomAccessFile raf = writeRecords(10)) {
+            raf.setLength(raf.length() - 1);
+            RecordReader<RaftProto.LogEntry> reader = new RecordReader<>(RaftProto.LogEntry.PARSER,
+                    raf.getChannel(), 0, Long.MAX_VALUE, ByteBuffer.allocate(32));
+            for (int i = 0; i < 9; i++) {
+                assertEquals(entries.get(i), reader.next());
+            }
+            assertNull(reader.next());
+            assertEquals((long) offsets.get(9), reader.getPosition());
+        }
+    }
+}